@@ -46,6 +46,7 @@ import com.redhat.contentspec.client.config.ZanataServerConfiguration;
 import com.redhat.contentspec.client.constants.ConfigConstants;
 import com.redhat.contentspec.client.constants.Constants;
 import com.redhat.contentspec.client.utils.ClientUtilities;
+import com.redhat.contentspec.client.utils.ConcurrentRESTManager;
 import com.redhat.contentspec.client.utils.LoggingUtilities;
 
 @SuppressWarnings("unused")
@@ -243,7 +244,7 @@ public class Client implements BaseCommand, ShutdownAbleApp
 			JCommander.getConsole().println("");
 			
 			// Create the REST Manager
-			restManager = new RESTManager(command.getSkynetServerUrl());
+			restManager = new ConcurrentRESTManager(command.getSkynetServerUrl());
 			
 			// Good point to check for a shutdown
 			if (isAppShuttingDown())
@@ -726,6 +727,44 @@ public class Client implements BaseCommand, ShutdownAbleApp
 			return false;
 		}
 		
+		// Read in the cache locations
+		if (!configReader.getRootNode().getChildren("cache").isEmpty() && configReader.getProperty("cache.images") != null
+				&& !configReader.getProperty("cache.images").equals(""))
+		{
+			clientConfig.setImageCacheDirectory(ClientUtilities.validateDirLocation(configReader.getProperty("cache.images").toString()));
+		}
+		else
+		{
+			clientConfig.setImageCacheDirectory(Constants.DEFAULT_IMAGE_CACHE_LOCATION);
+		}
+		if (!configReader.getRootNode().getChildren("cache").isEmpty() && configReader.getProperty("cache.rest") != null
+				&& !configReader.getProperty("cache.rest").equals(""))
+		{
+			clientConfig.setRESTCacheDirectory(ClientUtilities.validateDirLocation(configReader.getProperty("cache.rest").toString()));
+		}
+		else
+		{
+			clientConfig.setRESTCacheDirectory(Constants.DEFAULT_REST_CACHE_LOCATION);
+		}
+		
+		// Read in the REST cache size, which is specified in megabytes
+		long restCacheMaxSize = Constants.DEFAULT_REST_CACHE_MAX_SIZE;
+		if (!configReader.getRootNode().getChildren("cache").isEmpty() && configReader.getProperty("cache.rest..maxsize") != null
+				&& !configReader.getProperty("cache.rest..maxsize").equals(""))
+		{
+			final String maxSize = configReader.getProperty("cache.rest..maxsize").toString();
+			try
+			{
+				restCacheMaxSize = Long.parseLong(maxSize.trim());
+			}
+			catch (NumberFormatException e)
+			{
+				command.printError(String.format(Constants.ERROR_INVALID_REST_CACHE_SIZE_MSG, maxSize), false);
+				return false;
+			}
+		}
+		clientConfig.setRESTCacheMaxSize(restCacheMaxSize * 1024 * 1024);
+		
 		// Read in the publishing information
 		if (!configReader.getRootNode().getChildren("publish").isEmpty())
 		{
@@ -1,18 +1,26 @@
 package com.redhat.contentspec.client.commands;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
+import org.jboss.pressgang.ccms.contentspec.ContentSpec;
+import org.jboss.pressgang.ccms.contentspec.SpecTopic;
 import org.jboss.pressgang.ccms.contentspec.constants.CSConstants;
 import org.jboss.pressgang.ccms.contentspec.rest.RESTManager;
 import org.jboss.pressgang.ccms.contentspec.rest.RESTReader;
 import org.jboss.pressgang.ccms.contentspec.utils.logging.ErrorLoggerManager;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTTopicV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.RESTUserV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.base.RESTBaseTopicV1;
 import org.jboss.pressgang.ccms.utils.common.CollectionUtilities;
@@ -29,6 +37,7 @@ import com.beust.jcommander.converters.CommaParameterSplitter;
 import com.beust.jcommander.internal.Maps;
 import com.google.common.collect.Lists;
 import com.redhat.contentspec.builder.ContentSpecBuilder;
+import com.redhat.contentspec.builder.utils.ThreadingUtilities;
 import com.redhat.contentspec.client.commands.base.BaseCommandImpl;
 import com.redhat.contentspec.client.config.ClientConfiguration;
 import com.redhat.contentspec.client.config.ContentSpecConfiguration;
@@ -38,7 +47,9 @@ import com.redhat.contentspec.client.validator.OverrideValidator;
 import com.redhat.contentspec.processor.ContentSpecParser;
 import com.redhat.contentspec.processor.ContentSpecProcessor;
 import com.redhat.contentspec.processor.structures.ProcessingOptions;
+import com.redhat.contentspec.processor.structures.TopicRepository;
 import com.redhat.contentspec.structures.CSDocbookBuildingOptions;
+import com.redhat.contentspec.structures.TopicSource;
 import com.redhat.j2koji.exceptions.KojiException;
 
 @Parameters(commandDescription = "Build a Content Specification from the server")
@@ -83,6 +94,9 @@ public class BuildCommand extends BaseCommandImpl
 	@Parameter(names = Constants.LOCALE_LONG_PARAM, description = "What locale to build the content spec for.", metaVar = "<LOCALE>")
 	private String locale = null;
 	
+	@Parameter(names = Constants.LOCALES_LONG_PARAM, splitter = CommaParameterSplitter.class, metaVar = "<LOCALE>[,<LOCALE>,...]", description = "What locales to build the content spec for. Each locale is saved to its own file.")
+	private List<String> locales = new ArrayList<String>();
+	
 	@Parameter(names = Constants.FETCH_PUBSNUM_LONG_PARAM, description = "Fetch the pubsnumber directly from " + Constants.KOJI_NAME + ".")
 	protected Boolean fetchPubsnum = false;
 	
@@ -115,9 +129,16 @@ public class BuildCommand extends BaseCommandImpl
 	
 	@Parameter(names = {Constants.REV_MESSAGE_LONG_PARAM, Constants.REV_MESSAGE_SHORT_PARAM}, description = "Add a message for the revision history.")
 	private List<String> messages = Lists.newArrayList();
+	
+	@Parameter(names = Constants.THREADS_LONG_PARAM, description = "The number of threads to use when processing topics.", metaVar = "<NUMBER>")
+	private Integer threads = 1;
+	
+	@Parameter(names = Constants.INCREMENTAL_LONG_PARAM, description = "Reuse the topics that haven't changed since the last incremental build.")
+	private Boolean incremental = false;
 
 	private ContentSpecProcessor csp = null;
 	private ContentSpecBuilder builder = null;
+	private final List<ContentSpecBuilder> localeBuilders = Collections.synchronizedList(new ArrayList<ContentSpecBuilder>());
 	
 	public BuildCommand(final JCommander parser, final ContentSpecConfiguration cspConfig, final ClientConfiguration clientConfig)
 	{
@@ -243,6 +264,31 @@ public class BuildCommand extends BaseCommandImpl
 		this.locale = locale;
 	}
 
+	public List<String> getLocales()
+	{
+		return locales;
+	}
+
+	public void setLocales(final List<String> locales)
+	{
+		this.locales = locales;
+	}
+	
+	/**
+	 * Gets the locale that the content spec should be processed with. When building multiple locales the first locale is
+	 * used, so that the topics are downloaded with their translations and can be reused by every locale.
+	 * 
+	 * @return The locale to process the content spec with, or null if the content spec isn't being translated.
+	 */
+	protected String getProcessingLocale()
+	{
+		if (locale != null)
+		{
+			return locale;
+		}
+		return locales == null || locales.isEmpty() ? null : locales.get(0);
+	}
+
 	public Boolean getFetchPubsnum()
 	{
 		return fetchPubsnum;
@@ -353,6 +399,26 @@ public class BuildCommand extends BaseCommandImpl
         this.messages = messages;
     }
 
+    public Integer getThreads()
+    {
+        return threads;
+    }
+
+    public void setThreads(final Integer threads)
+    {
+        this.threads = threads;
+    }
+
+    public Boolean getIncremental()
+    {
+        return incremental;
+    }
+
+    public void setIncremental(final Boolean incremental)
+    {
+        this.incremental = incremental;
+    }
+
     public CSDocbookBuildingOptions getBuildOptions()
 	{
 		// Fix up the values for overrides so file names are expanded
@@ -374,6 +440,10 @@ public class BuildCommand extends BaseCommandImpl
 		buildOptions.setDraft(draft);
 		buildOptions.setPublicanShowRemarks(showRemarks);
 		buildOptions.setRevisionMessages(messages);
+		buildOptions.setThreadCount(threads);
+		buildOptions.setImageCacheDirectory(clientConfig.getImageCacheDirectory());
+		buildOptions.setRESTCacheDirectory(clientConfig.getRESTCacheDirectory());
+		buildOptions.setRESTCacheMaxSize(clientConfig.getRESTCacheMaxSize());
 		
 		return buildOptions;
 	}
@@ -384,7 +454,7 @@ public class BuildCommand extends BaseCommandImpl
 		final String contentSpec;
 		if (id.matches("^\\d+$"))
 		{
-			final RESTBaseTopicV1 contentSpecTopic = reader.getPostContentSpecById(Integer.parseInt(id), revision, locale != null);
+			final RESTBaseTopicV1 contentSpecTopic = reader.getPostContentSpecById(Integer.parseInt(id), revision, getProcessingLocale() != null);
 			
 			if (contentSpecTopic == null || contentSpecTopic.getXml() == null)
 			{
@@ -486,6 +556,19 @@ public class BuildCommand extends BaseCommandImpl
 			printError(Constants.ERROR_MULTIPLE_ID_MSG, false);
 			shutdown(Constants.EXIT_ARGUMENT_ERROR);
 		}
+		
+		// Check that only one way of specifying the locale was used
+		if (locale != null && locales != null && !locales.isEmpty())
+		{
+			printError(Constants.ERROR_LOCALE_AND_LOCALES_MSG, false);
+			shutdown(Constants.EXIT_ARGUMENT_ERROR);
+		}
+		
+		// Only build each locale once, even if it was specified more than once
+		if (locales != null)
+		{
+			locales = new ArrayList<String>(new LinkedHashSet<String>(locales));
+		}
 
 		// Good point to check for a shutdown
 		if (isAppShuttingDown())
@@ -554,27 +637,73 @@ public class BuildCommand extends BaseCommandImpl
 		// Setup the zanata details incase some were overridden via the command line
 		setupZanataOptions();
 		
-		// Build the Content Specification
-		byte[] builderOutput = null;
+		// Create the output file
+		String outputDir = "";
+		if (buildingFromConfig)
+		{
+			outputDir = (cspConfig.getRootOutputDirectory() == null || cspConfig.getRootOutputDirectory().equals("") ? "" : (fileName + File.separator)) + Constants.DEFAULT_CONFIG_ZIP_LOCATION;
+			fileName += "-publican.zip";
+		} 
+		else
+		{
+			fileName += ".zip";
+		}
+		
+		// Create the output file based on the command line params and content spec
+		final File outputFile = getOutputFile(outputDir, fileName);
+		
+		// Build each locale from the content spec that has already been validated
+		if (locales != null && !locales.isEmpty())
+		{
+			buildLocales(restManager, user, contentSpec, outputFile, buildingFromConfig, startTime);
+			return;
+		}
+		
+		// Setup the build options, storing the build manifest next to the output file for incremental builds
+		final CSDocbookBuildingOptions buildOptions = getBuildOptions();
+		if (incremental)
+		{
+			buildOptions.setBuildManifestFile(outputFile.getAbsolutePath().replaceFirst("\\.zip$", "") + Constants.BUILD_MANIFEST_EXTENSION);
+		}
+		
+		// Build the Content Specification, streaming the zip straight to a temporary file
+		File builderOutput = null;
+		boolean built = false;
 		try
 		{
-			builder = new ContentSpecBuilder(restManager);
+			builderOutput = File.createTempFile(Constants.PROGRAM_NAME, ".zip");
+			builderOutput.deleteOnExit();
+			
+			builder = createBuilder(restManager);
+			
 			if (locale == null)
 			{
-			    builderOutput = builder.buildBook(csp.getContentSpec(), user, getBuildOptions());
+			    built = builder.buildBook(csp.getContentSpec(), user, buildOptions, new FileOutputStream(builderOutput));
 			}
 			else
 			{
-			    builderOutput = builder.buildTranslatedBook(csp.getContentSpec(), locale, user, getBuildOptions(), cspConfig.getZanataDetails());
+			    built = builder.buildTranslatedBook(csp.getContentSpec(), locale, user, buildOptions, cspConfig.getZanataDetails(),
+			    		new FileOutputStream(builderOutput));
 			}
 		}
 		catch (Exception e)
 		{
 		    JCommander.getConsole().println(ExceptionUtilities.getStackTrace(e));
+		    if (builderOutput != null)
+		    	builderOutput.delete();
 			printError(Constants.ERROR_INTERNAL_ERROR, false);
 			shutdown(Constants.EXIT_INTERNAL_SERVER_ERROR);
 		}
 		
+		// The builder was shutdown before the book could be finished
+		if (!built)
+		{
+			if (builderOutput != null)
+				builderOutput.delete();
+			shutdown.set(true);
+			return;
+		}
+		
 		// Print the success messages
 		long elapsedTime = System.currentTimeMillis() - startTime;
 		JCommander.getConsole().println(String.format(Constants.ZIP_SAVED_ERRORS_MSG, builder.getNumErrors(), builder.getNumWarnings()) + (builder.getNumErrors() == 0 && builder.getNumWarnings() == 0 ? " - Flawless Victory!" : ""));
@@ -583,21 +712,6 @@ public class BuildCommand extends BaseCommandImpl
 			JCommander.getConsole().println(String.format(Constants.EXEC_TIME_MSG, elapsedTime));
 		}
 		
-		// Create the output file
-		String outputDir = "";
-		if (buildingFromConfig)
-		{
-			outputDir = (cspConfig.getRootOutputDirectory() == null || cspConfig.getRootOutputDirectory().equals("") ? "" : (fileName + File.separator)) + Constants.DEFAULT_CONFIG_ZIP_LOCATION;
-			fileName += "-publican.zip";
-		} 
-		else
-		{
-			fileName += ".zip";
-		}
-		
-		// Create the output file based on the command line params and content spec
-		final File outputFile = getOutputFile(outputDir, fileName);
-		
 		// Make sure the directories exist
 		if (outputFile.isDirectory())
 		{
@@ -616,7 +730,29 @@ public class BuildCommand extends BaseCommandImpl
 	protected boolean validateContentSpec(final RESTManager restManager, final ErrorLoggerManager elm,
 			final RESTUserV1 user, final String contentSpec)
 	{
-		// Setup the processing options
+		// Validate and parse the Content Specification
+		csp = new ContentSpecProcessor(restManager, elm, getProcessingOptions());
+		boolean success = false;
+		try
+		{
+			success = csp.processContentSpec(contentSpec, user, ContentSpecParser.ParsingMode.EITHER, getProcessingLocale());
+		}
+		catch (Exception e)
+		{
+			JCommander.getConsole().println(elm.generateLogs());
+			shutdown(Constants.EXIT_FAILURE);
+		}
+		
+		return success;
+	}
+	
+	/**
+	 * Gets the options to use when processing the content spec, based on the command line parameters.
+	 * 
+	 * @return The processing options.
+	 */
+	protected ProcessingOptions getProcessingOptions()
+	{
 		final ProcessingOptions processingOptions = new ProcessingOptions();
 		processingOptions.setPermissiveMode(permissive);
 		processingOptions.setValidating(true);
@@ -624,6 +760,10 @@ public class BuildCommand extends BaseCommandImpl
 		processingOptions.setAllowNewTopics(false);
 		processingOptions.setRevision(revision);
 		processingOptions.setUpdateRevisions(update);
+		if (threads != null)
+		{
+		    processingOptions.setThreadCount(threads);
+		}
 		if (revision != null)
 		{
 		    processingOptions.setAddRevisions(true);
@@ -631,20 +771,276 @@ public class BuildCommand extends BaseCommandImpl
 		if (allowEmptyLevels)
 			processingOptions.setAllowEmptyLevels(true);
 		
-		// Validate and parse the Content Specification
-		csp = new ContentSpecProcessor(restManager, elm, processingOptions);
-		boolean success = false;
+		return processingOptions;
+	}
+	
+	/**
+	 * Creates a builder that reuses the topics that were downloaded when the content spec was validated.
+	 * 
+	 * @param restManager The manager for the REST connection.
+	 * @return The new builder.
+	 * @throws Exception Thrown if the builder couldn't be created.
+	 */
+	protected ContentSpecBuilder createBuilder(final RESTManager restManager) throws Exception
+	{
+		final ContentSpecBuilder contentSpecBuilder = new ContentSpecBuilder(restManager);
+		
+		final TopicRepository topicRepository = csp.getTopicRepository();
+		contentSpecBuilder.setTopicSource(new TopicSource()
+		{
+			@Override
+			public RESTTopicV1 getTopic(final Integer topicId, final Integer revision, final boolean expandTranslations)
+			{
+				return topicRepository.getTopic(topicId, revision, expandTranslations);
+			}
+		});
+		
+		return contentSpecBuilder;
+	}
+	
+	/**
+	 * Builds the content spec for each of the locales specified on the command line, saving each locale to its own file. The
+	 * content spec has only been validated for the first locale. The builder modifies the content spec and the topics while
+	 * building, so each of the other locales gets its own copy of the content spec, parsed from the same source and given the
+	 * details that were found during validation, and every locale builds from its own copies of the downloaded topics. The
+	 * locales are then built at the same time, sharing the number of threads specified on the command line between them.
+	 * 
+	 * @param restManager The manager for the REST connection.
+	 * @param user The user who requested the build.
+	 * @param contentSpec The content spec that is being built.
+	 * @param outputFile The file that the book would be saved to if only one locale was being built.
+	 * @param buildingFromConfig If the book is being built from a csprocessor.cfg file.
+	 * @param startTime The time that the build command started.
+	 */
+	protected void buildLocales(final RESTManager restManager, final RESTUserV1 user, final String contentSpec,
+			final File outputFile, final boolean buildingFromConfig, final long startTime)
+	{
+		final int numThreads = threads == null || threads < 1 ? 1 : threads;
+		final int numLocaleThreads = Math.min(numThreads, locales.size());
+		final int numBuilderThreads = Math.max(1, numThreads / numLocaleThreads);
+		
+		List<File> builderOutputs = null;
 		try
 		{
-			success = csp.processContentSpec(contentSpec, user, ContentSpecParser.ParsingMode.EITHER, locale);
+			// Setup each locale on this thread first, so that the constants are only downloaded once
+			final List<Callable<File>> tasks = new ArrayList<Callable<File>>();
+			ContentSpecBuilder firstBuilder = null;
+			for (int i = 0; i < locales.size(); i++)
+			{
+				final String buildLocale = locales.get(i);
+				final ContentSpec localeContentSpec = i == 0 ? csp.getContentSpec() : getLocaleContentSpec(restManager, user,
+						contentSpec, buildLocale);
+				
+				// The content spec failed to parse or the build was shutdown
+				if (localeContentSpec == null || isAppShuttingDown())
+				{
+					shutdown.set(true);
+					return;
+				}
+				
+				final ContentSpecBuilder localeBuilder = firstBuilder == null ? new ContentSpecBuilder(restManager)
+						: new ContentSpecBuilder(firstBuilder);
+				if (firstBuilder == null)
+				{
+					firstBuilder = localeBuilder;
+				}
+				localeBuilder.setTopicSource(createLocaleTopicSource());
+				localeBuilders.add(localeBuilder);
+				
+				final File localeOutputFile = getLocaleOutputFile(outputFile, buildLocale);
+				tasks.add(new Callable<File>()
+				{
+					@Override
+					public File call() throws Exception
+					{
+						return buildLocale(localeBuilder, user, localeContentSpec, buildLocale, localeOutputFile, numBuilderThreads);
+					}
+				});
+			}
+			
+			builderOutputs = ThreadingUtilities.invokeAll(tasks, numLocaleThreads);
 		}
 		catch (Exception e)
 		{
-			JCommander.getConsole().println(elm.generateLogs());
-			shutdown(Constants.EXIT_FAILURE);
+			final Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+			JCommander.getConsole().println(ExceptionUtilities.getStackTrace(cause));
+			printError(Constants.ERROR_INTERNAL_ERROR, false);
+			shutdown(Constants.EXIT_INTERNAL_SERVER_ERROR);
+			return;
 		}
 		
-		return success;
+		// One of the builders was shutdown before its book could be finished
+		if (builderOutputs.contains(null))
+		{
+			for (final File output : builderOutputs)
+			{
+				if (output != null)
+					output.delete();
+			}
+			shutdown.set(true);
+			return;
+		}
+		
+		// Print the success messages
+		long elapsedTime = System.currentTimeMillis() - startTime;
+		for (int i = 0; i < locales.size(); i++)
+		{
+			final ContentSpecBuilder localeBuilder = localeBuilders.get(i);
+			JCommander.getConsole().println(String.format(Constants.LOCALE_ZIP_SAVED_ERRORS_MSG, locales.get(i), localeBuilder.getNumErrors(),
+					localeBuilder.getNumWarnings()));
+		}
+		if (executionTime)
+		{
+			JCommander.getConsole().println(String.format(Constants.EXEC_TIME_MSG, elapsedTime));
+		}
+		
+		// Save the build output for each locale
+		for (int i = 0; i < locales.size(); i++)
+		{
+			final File localeOutputFile = getLocaleOutputFile(outputFile, locales.get(i));
+			if (localeOutputFile.getParentFile() != null)
+				localeOutputFile.getParentFile().mkdirs();
+			
+			saveBuildToFile(builderOutputs.get(i), localeOutputFile, buildingFromConfig);
+		}
+	}
+	
+	/**
+	 * Creates a copy of the validated content spec for a locale, by parsing the content spec again and copying the details
+	 * that were set while the content spec was validated. The copy isn't validated again, as it is parsed from the same
+	 * source and uses the same topics.
+	 * 
+	 * @param restManager The manager for the REST connection.
+	 * @param user The user who requested the build.
+	 * @param contentSpec The content spec that is being built.
+	 * @param buildLocale The locale that the copy will be built for.
+	 * @return The copy of the content spec, or null if it couldn't be parsed.
+	 * @throws Exception Thrown if an unexpected error occurred while parsing the content spec.
+	 */
+	protected ContentSpec getLocaleContentSpec(final RESTManager restManager, final RESTUserV1 user, final String contentSpec,
+			final String buildLocale) throws Exception
+	{
+		final ErrorLoggerManager localeElm = new ErrorLoggerManager();
+		final ContentSpecParser parser = new ContentSpecParser(localeElm, restManager);
+		if (!parser.parse(contentSpec, user, ContentSpecParser.ParsingMode.EITHER, true))
+		{
+			JCommander.getConsole().println(localeElm.generateLogs());
+			printError(String.format(Constants.ERROR_LOCALE_BUILD_FAILED_MSG, buildLocale), false);
+			shutdown(Constants.EXIT_TOPIC_INVALID);
+			return null;
+		}
+		
+		final ContentSpec validatedContentSpec = csp.getContentSpec();
+		final ContentSpec localeContentSpec = parser.getContentSpec();
+		localeContentSpec.setLocale(buildLocale);
+		localeContentSpec.setRevision(validatedContentSpec.getRevision());
+		localeContentSpec.setPubsNumber(validatedContentSpec.getPubsNumber());
+		
+		// Copy the revisions and titles that the validator set for each topic
+		final Map<String, SpecTopic> validatedSpecTopics = csp.getSpecTopics();
+		for (final Entry<String, SpecTopic> entry : parser.getSpecTopics().entrySet())
+		{
+			final SpecTopic validatedSpecTopic = validatedSpecTopics.get(entry.getKey());
+			if (validatedSpecTopic != null)
+			{
+				entry.getValue().setRevision(validatedSpecTopic.getRevision());
+				entry.getValue().setTitle(validatedSpecTopic.getTitle());
+			}
+		}
+		
+		return localeContentSpec;
+	}
+	
+	/**
+	 * Creates a source of topics for a locale's builder. The topics come from the ones that were downloaded when the content
+	 * spec was validated, but each call returns a new copy, since the builders modify their topics and the locales are built
+	 * at the same time.
+	 * 
+	 * @return The source of topics.
+	 */
+	protected TopicSource createLocaleTopicSource()
+	{
+		final TopicRepository topicRepository = csp.getTopicRepository();
+		return new TopicSource()
+		{
+			@Override
+			public RESTTopicV1 getTopic(final Integer topicId, final Integer revision, final boolean expandTranslations)
+			{
+				final RESTTopicV1 topic = topicRepository.getTopic(topicId, revision, expandTranslations);
+				return topic == null ? null : topic.clone(true);
+			}
+		};
+	}
+	
+	/**
+	 * Builds the content spec for a single locale into a temporary file.
+	 * 
+	 * @param localeBuilder The builder to build the locale with.
+	 * @param user The user who requested the build.
+	 * @param localeContentSpec The locale's own copy of the validated content spec.
+	 * @param buildLocale The locale to build.
+	 * @param localeOutputFile The file that the locale will be saved to.
+	 * @param numThreads The number of threads the builder should use.
+	 * @return The temporary file that the locale was built into, or null if the build was shutdown.
+	 * @throws Exception Thrown if an unexpected error occurred while building the locale.
+	 */
+	protected File buildLocale(final ContentSpecBuilder localeBuilder, final RESTUserV1 user, final ContentSpec localeContentSpec,
+			final String buildLocale, final File localeOutputFile, final int numThreads) throws Exception
+	{
+		// Setup the build options, storing the build manifest next to the output file for incremental builds
+		final CSDocbookBuildingOptions buildOptions = getBuildOptions();
+		buildOptions.setThreadCount(numThreads);
+		if (incremental)
+		{
+			buildOptions.setBuildManifestFile(localeOutputFile.getAbsolutePath().replaceFirst("\\.zip$", "") + Constants.BUILD_MANIFEST_EXTENSION);
+		}
+		
+		final File builderOutput = File.createTempFile(Constants.PROGRAM_NAME, ".zip");
+		builderOutput.deleteOnExit();
+		
+		final FileOutputStream fos = new FileOutputStream(builderOutput);
+		boolean built = false;
+		try
+		{
+			built = localeBuilder.buildTranslatedBook(localeContentSpec, buildLocale, user, buildOptions,
+					cspConfig.getZanataDetails(), fos);
+		}
+		finally
+		{
+			fos.close();
+			
+			// Remove the partial book if the build was shutdown or failed
+			if (!built)
+			{
+				builderOutput.delete();
+			}
+		}
+		
+		return built ? builderOutput : null;
+	}
+	
+	/**
+	 * Gets the file that a locale should be saved to when building multiple locales, by adding the locale to the end of the
+	 * file name.
+	 * 
+	 * @param outputFile The file that the book would be saved to if only one locale was being built.
+	 * @param buildLocale The locale being built.
+	 * @return The file to save the locale to.
+	 */
+	protected File getLocaleOutputFile(final File outputFile, final String buildLocale)
+	{
+		final String fileName = outputFile.getName();
+		final String localeFileName;
+		if (fileName.endsWith(".zip"))
+		{
+			localeFileName = fileName.substring(0, fileName.length() - 4) + "-" + buildLocale + ".zip";
+		}
+		else
+		{
+			localeFileName = fileName + "-" + buildLocale;
+		}
+		
+		return new File(outputFile.getParentFile(), localeFileName);
 	}
 	
 	/**
@@ -689,7 +1085,15 @@ public class BuildCommand extends BaseCommandImpl
 		}
 	}
 	
-	protected void saveBuildToFile(final byte[] buildZip, final File outputFile, final boolean buildingFromConfig)
+	/**
+	 * Moves the built zip file to its final location, asking the user
+	 * if an existing file should be overwritten.
+	 * 
+	 * @param buildZip The temporary file that the book was built into.
+	 * @param outputFile The file the book should be saved as.
+	 * @param buildingFromConfig If the book is being built from a csprocessor.cfg file.
+	 */
+	protected void saveBuildToFile(final File buildZip, final File outputFile, final boolean buildingFromConfig)
 	{
 		String answer = "y";
 		// Check if the file exists. If it does then check if the file should be overwritten
@@ -716,10 +1120,13 @@ public class BuildCommand extends BaseCommandImpl
 		{
 			if (answer.equalsIgnoreCase("y") || answer.equalsIgnoreCase("yes"))
 			{
-				final FileOutputStream fos = new FileOutputStream(outputFile);
-				fos.write(buildZip);
-				fos.flush();
-				fos.close();
+				// Try to just rename the file first, as it is much cheaper than copying the file
+				if (outputFile.exists())
+					outputFile.delete();
+				if (!buildZip.renameTo(outputFile))
+				{
+					copyFile(buildZip, outputFile);
+				}
 				JCommander.getConsole().println(String.format(Constants.OUTPUT_SAVED_MSG, outputFile.getAbsolutePath()));
 			}
 			else
@@ -732,6 +1139,44 @@ public class BuildCommand extends BaseCommandImpl
 			printError(Constants.ERROR_FAILED_SAVING, false);
 			shutdown(Constants.EXIT_FAILURE);
 		}
+		finally
+		{
+			buildZip.delete();
+		}
+	}
+
+	/**
+	 * Copies a file from one location to another.
+	 * 
+	 * @param source The file to be copied.
+	 * @param destination The location to copy the file to.
+	 * @throws IOException Thrown if the file can't be read or written.
+	 */
+	private void copyFile(final File source, final File destination) throws IOException
+	{
+		final FileInputStream fis = new FileInputStream(source);
+		try
+		{
+			final FileOutputStream fos = new FileOutputStream(destination);
+			try
+			{
+				final byte[] buffer = new byte[8192];
+				int length;
+				while ((length = fis.read(buffer)) != -1)
+				{
+					fos.write(buffer, 0, length);
+				}
+				fos.flush();
+			}
+			finally
+			{
+				fos.close();
+			}
+		}
+		finally
+		{
+			fis.close();
+		}
 	}
 
 	@Override
@@ -768,6 +1213,17 @@ public class BuildCommand extends BaseCommandImpl
 		{
 			builder.shutdown();
 		}
+		
+		synchronized (localeBuilders)
+		{
+			for (final ContentSpecBuilder localeBuilder : localeBuilders)
+			{
+				if (localeBuilder != null)
+				{
+					localeBuilder.shutdown();
+				}
+			}
+		}
 	}
 
 	@Override
@@ -816,7 +1272,7 @@ public class BuildCommand extends BaseCommandImpl
 		 * Check the Zanata server url and Project/Version to ensure that it
 		 * exists if the user wants to insert editor links for translations.
 		 */
-		if (insertEditorLinks && locale != null)
+		if (insertEditorLinks && getProcessingLocale() != null)
 		{
 			setupZanataOptions();
 			
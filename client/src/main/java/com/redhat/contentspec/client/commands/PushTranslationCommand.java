@@ -1,11 +1,15 @@
 package com.redhat.contentspec.client.commands;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jboss.pressgang.ccms.contentspec.ContentSpec;
 import org.jboss.pressgang.ccms.contentspec.rest.RESTManager;
@@ -18,6 +22,7 @@ import org.jboss.pressgang.ccms.rest.v1.entities.RESTTopicV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.RESTTranslatedTopicV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.RESTUserV1;
 import org.jboss.pressgang.ccms.utils.common.CollectionUtilities;
+import org.jboss.pressgang.ccms.utils.common.ExceptionUtilities;
 import org.jboss.pressgang.ccms.utils.common.HashUtilities;
 import org.jboss.pressgang.ccms.utils.common.XMLUtilities;
 import org.jboss.pressgang.ccms.utils.structures.Pair;
@@ -40,6 +45,8 @@ import com.redhat.contentspec.client.config.ClientConfiguration;
 import com.redhat.contentspec.client.config.ContentSpecConfiguration;
 import com.redhat.contentspec.client.constants.Constants;
 import com.redhat.contentspec.client.utils.ClientUtilities;
+import com.redhat.contentspec.client.utils.RateLimiter;
+import com.redhat.contentspec.client.utils.ZanataPushCheckpoint;
 import com.redhat.contentspec.processor.ContentSpecParser.ParsingMode;
 import com.redhat.contentspec.processor.ContentSpecProcessor;
 import com.redhat.contentspec.processor.structures.ProcessingOptions;
@@ -59,6 +66,12 @@ public class PushTranslationCommand extends BaseCommandImpl
 	@Parameter(names = Constants.ZANATA_PROJECT_VERSION_LONG_PARAM, description = "The zanata project version to be associated with the Content Specification.")
 	private String zanataVersion = null;
 	
+	@Parameter(names = Constants.THREADS_LONG_PARAM, description = "The number of topics to push to zanata at the same time.", metaVar = "<NUMBER>")
+	private Integer threads = Constants.DEFAULT_ZANATA_PUSH_THREADS;
+	
+	@Parameter(names = Constants.RATE_LIMIT_LONG_PARAM, description = "The maximum number of requests per second to send to zanata. Use 0 for no limit.", metaVar = "<NUMBER>")
+	private Integer rateLimit = Constants.DEFAULT_ZANATA_RATE_LIMIT;
+	
 	private ContentSpecProcessor csp;
 	
 	public PushTranslationCommand(final JCommander parser, final ContentSpecConfiguration cspConfig, final ClientConfiguration clientConfig)
@@ -106,6 +119,26 @@ public class PushTranslationCommand extends BaseCommandImpl
 		this.zanataVersion = zanataVersion;
 	}
 
+	public Integer getThreads()
+	{
+		return threads;
+	}
+
+	public void setThreads(final Integer threads)
+	{
+		this.threads = threads;
+	}
+
+	public Integer getRateLimit()
+	{
+		return rateLimit;
+	}
+
+	public void setRateLimit(final Integer rateLimit)
+	{
+		this.rateLimit = rateLimit;
+	}
+
 	@Override
 	public void printHelp()
 	{
@@ -351,36 +384,79 @@ public class PushTranslationCommand extends BaseCommandImpl
 	
 	protected boolean pushCSTopicsToZanata(final RESTManager restManager, final RESTTopicCollectionV1 topics, final RESTTopicV1 contentSpecTopic, final ContentSpec contentSpec)
 	{
-		final Map<RESTTopicV1, Document> topicToDoc = new HashMap<RESTTopicV1, Document>();
-		boolean error = false;
-		final ZanataInterface zanataInterface = new ZanataInterface();
+		final ZanataDetails zanataDetails = cspConfig.getZanataDetails();
+		final ZanataPushCheckpoint checkpoint = new ZanataPushCheckpoint(getCheckpointFile(zanataDetails, contentSpecTopic));
+		final RateLimiter rateLimiter = new RateLimiter(rateLimit == null ? 0 : rateLimit);
+		final int numThreads = threads == null || threads < 1 ? 1 : threads;
 		
-		// Convert all the topics to DOM Documents first so we know if any are invalid
-		final List<RESTTopicV1> topicItems = topics.returnItems();
-		for (final RESTTopicV1 topic : topicItems)
+		// Each thread uses its own connection to zanata
+		final ThreadLocal<ZanataInterface> zanataInterfaces = new ThreadLocal<ZanataInterface>()
 		{
-			/*
-			 * make sure the section title is the same as the
-			 * topic title
-			 */
-			Document doc = null;
-			try
+			@Override
+			protected ZanataInterface initialValue()
 			{
-				doc = XMLUtilities.convertStringToDocument(topic.getXml());
+				return new ZanataInterface();
 			}
-			catch (Exception e)
+		};
+		
+		// Skip the topics that were pushed by a previous attempt that was interrupted
+		final List<RESTTopicV1> topicItems = new ArrayList<RESTTopicV1>();
+		for (final RESTTopicV1 topic : topics.returnItems())
+		{
+			if (!checkpoint.isCompleted(getZanataId(topic)))
+			{
+				topicItems.add(topic);
+			}
+		}
+		final int skippedTopicCount = topics.returnItems().size() - topicItems.size();
+		final boolean contentSpecPushed = checkpoint.isCompleted(getZanataId(contentSpecTopic));
+		
+		final List<String> messages = new ArrayList<String>();
+		final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		try
+		{
+			/*
+			 * Convert all the topics to DOM Documents and extract the translatable strings first so we know if any are invalid.
+			 * The strings are extracted concurrently, as it's the slowest part of preparing the topics.
+			 */
+			final List<Future<Resource>> resourceFutures = new ArrayList<Future<Resource>>();
+			for (final RESTTopicV1 topic : topicItems)
 			{
-				// Do Nothing as we handle the error below.
+				resourceFutures.add(executor.submit(new Callable<Resource>()
+				{
+					@Override
+					public Resource call()
+					{
+						return createTopicResource(topic);
+					}
+				}));
 			}
 			
-			if (doc == null)
+			boolean error = false;
+			final List<Resource> resources = new ArrayList<Resource>();
+			for (int i = 0; i < topicItems.size(); i++)
 			{
-				JCommander.getConsole().println("ERROR: Topic ID " + topic.getId() + ", Revison " + topic.getRevision() + " does not have valid XML");
-				error = true;
+				final RESTTopicV1 topic = topicItems.get(i);
+				final Resource resource = resourceFutures.get(i).get();
+				if (resource == null)
+				{
+					JCommander.getConsole().println("ERROR: Topic ID " + topic.getId() + ", Revison " + topic.getRevision() + " does not have valid XML");
+					error = true;
+				}
+				resources.add(resource);
+				
+				// Good point to check for a shutdown
+				if (isAppShuttingDown())
+				{
+					shutdown.set(true);
+					return false;
+				}
 			}
-			else
+			
+			// Return if creating the documents failed
+			if (error)
 			{
-				topicToDoc.put(topic, doc);
+				return false;
 			}
 			
 			// Good point to check for a shutdown
@@ -389,181 +465,322 @@ public class PushTranslationCommand extends BaseCommandImpl
 				shutdown.set(true);
 				return false;
 			}
-		}
-		
-		// Return if creating the documents failed
-		if (error)
-		{
-			return false;
-		}
-		
-		// Good point to check for a shutdown
-		if (isAppShuttingDown())
-		{
-			shutdown.set(true);
-			return false;
-		}
-		
-		final float total = topics.getItems().size() + 1;
-		float current = 0;
-		final int showPercent = 5;
-		int lastPercent = 0;
-		
-		JCommander.getConsole().println("You are about to push " + ((int)total) + " topics to zanata. Continue? (Yes/No)");
-		String answer = JCommander.getConsole().readLine();
-		
-		final List<String> messages = new ArrayList<String>();
-		
-		if (answer.equalsIgnoreCase("yes") || answer.equalsIgnoreCase("y"))
-		{
-			JCommander.getConsole().println("Starting to push topics to zanata...");
 			
-			// Loop through each topic and upload it to zanata
-			for (final Entry<RESTTopicV1, Document> topicEntry : topicToDoc.entrySet())
+			final float total = topicItems.size() + (contentSpecPushed ? 0 : 1);
+			float current = 0;
+			final int showPercent = 5;
+			int lastPercent = 0;
+			
+			if (skippedTopicCount > 0 || contentSpecPushed)
 			{
-				++current;
-				final int percent = Math.round(current / total * 100);
-				if (percent - lastPercent >= showPercent)
-				{
-					lastPercent = percent;
-					JCommander.getConsole().println("\tPushing topics to zanata " + percent + "% Done");
-				}
-				
-				final RESTTopicV1 topic = topicEntry.getKey();
-				final Document doc = topicEntry.getValue();
-				final String zanataId = topic.getId() + "-" + topic.getRevision();
+				JCommander.getConsole().println(String.format(Constants.ZANATA_PUSH_RESUME_MSG, skippedTopicCount));
+			}
+			JCommander.getConsole().println("You are about to push " + ((int)total) + " topics to zanata. Continue? (Yes/No)");
+			String answer = JCommander.getConsole().readLine();
+			
+			if (answer.equalsIgnoreCase("yes") || answer.equalsIgnoreCase("y"))
+			{
+				JCommander.getConsole().println("Starting to push topics to zanata...");
 				
-				/*
-				 * deleting existing resources is useful for debugging,
-				 * but not for production
-				 */
-				final boolean zanataFileExists = zanataInterface.getZanataResourceExists(zanataId);
-
-				if (!zanataFileExists)
+				// Upload the topics to zanata concurrently
+				final List<Future<String>> pushFutures = new ArrayList<Future<String>>();
+				for (int i = 0; i < topicItems.size(); i++)
 				{
-					final boolean translatedTopicExists = restManager.getReader().getTranslatedTopicByTopicId(topic.getId(), topic.getRevision(), topic.getLocale()) != null;
-					
-					final Resource resource = new Resource();
-	
-					resource.setContentType(ContentType.TextPlain);
-					resource.setLang(LocaleId.fromJavaName(topic.getLocale()));
-					resource.setName(zanataId);
-					resource.setRevision(1);
-					resource.setType(ResourceType.FILE);
-	
-					final List<StringToNodeCollection> translatableStrings = XMLUtilities.getTranslatableStringsV2(doc, false);
-
-					for (final StringToNodeCollection translatableStringData : translatableStrings)
+					final RESTTopicV1 topic = topicItems.get(i);
+					final Resource resource = resources.get(i);
+					pushFutures.add(executor.submit(new Callable<String>()
 					{
-						final String translatableString = translatableStringData.getTranslationString();
-						if (!translatableString.trim().isEmpty())
-						{										
-							final TextFlow textFlow = new TextFlow();
-							textFlow.setContent(translatableString);
-							textFlow.setLang(LocaleId.fromJavaName(topic.getLocale()));
-							textFlow.setId(createZanataUniqueId(topic, translatableString));
-							textFlow.setRevision(1);
-
-							resource.getTextFlows().add(textFlow);
+						@Override
+						public String call() throws Exception
+						{
+							// Check if the app should be shutdown
+							if (isAppShuttingDown()) return null;
+							
+							return pushTopicToZanata(restManager, zanataInterfaces.get(), rateLimiter, checkpoint, topic, resource);
 						}
-					}
-
-					if (!zanataInterface.createFile(resource))
+					}));
+				}
+				
+				for (final Future<String> pushFuture : pushFutures)
+				{
+					final String message = pushFuture.get();
+					if (message != null)
 					{
-						messages.add("Topic ID " + topic.getId() + ", Revision " + topic.getRevision() + " failed to be created in Zanata.");
+						messages.add(message);
 					}
-					else if (!translatedTopicExists)
+					
+					++current;
+					final int percent = Math.round(current / total * 100);
+					if (percent - lastPercent >= showPercent)
 					{
-						final RESTTranslatedTopicV1 translatedTopic = createTranslatedTopic(contentSpecTopic);
-						try
-						{
-							restManager.getRESTClient().createJSONTranslatedTopic("", translatedTopic);
-						}
-						catch (Exception e)
-						{
-							/*
-							 * Do nothing here as it shouldn't fail. If it does then it'll be created 
-							 * by the sync service anyways.
-							 */
-						}
+						lastPercent = percent;
+						JCommander.getConsole().println("\tPushing topics to zanata " + percent + "% Done");
 					}
 				}
-				else
+				
+				// Good point to check for a shutdown
+				if (isAppShuttingDown())
 				{
-					messages.add("Topic ID " + topic.getId() + ", Revision " + topic.getRevision() + " already exists - Skipping.");
+					shutdown.set(true);
+					return false;
 				}
-			}
-			// Upload the content specification to zanata
-			final String zanataId = contentSpecTopic.getId() + "-" + contentSpecTopic.getRevision();
-			final boolean zanataFileExists = zanataInterface.getZanataResourceExists(zanataId);
-
-			if (!zanataFileExists)
-			{
-				final boolean translatedTopicExists = restManager.getReader().getTranslatedContentSpecById(contentSpecTopic.getId(), contentSpecTopic.getRevision(), contentSpecTopic.getLocale()) != null;
 				
-				final Resource resource = new Resource();
-	
-				resource.setContentType(ContentType.TextPlain);
-				resource.setLang(LocaleId.fromJavaName(contentSpecTopic.getLocale()));
-				resource.setName(contentSpecTopic.getId() + "-" + contentSpecTopic.getRevision());
-				resource.setRevision(1);
-				resource.setType(ResourceType.FILE);
-	
-				final List<StringToCSNodeCollection> translatableStrings = ContentSpecUtilities.getTranslatableStrings(contentSpec, false);
-	
-				for (final StringToCSNodeCollection translatableStringData : translatableStrings)
+				// Upload the content specification to zanata
+				if (!contentSpecPushed)
 				{
-					final String translatableString = translatableStringData.getTranslationString();
-					if (!translatableString.trim().isEmpty())
-					{										
-						final TextFlow textFlow = new TextFlow();
-						textFlow.setContent(translatableString);
-						textFlow.setLang(LocaleId.fromJavaName(contentSpecTopic.getLocale()));
-						textFlow.setId(createZanataUniqueId(contentSpecTopic, translatableString));
-						textFlow.setRevision(1);
-
-						resource.getTextFlows().add(textFlow);
+					final String message = pushContentSpecToZanata(restManager, zanataInterfaces.get(), rateLimiter, checkpoint,
+							contentSpecTopic, contentSpec);
+					if (message != null)
+					{
+						messages.add(message);
 					}
 				}
-
-				if (!zanataInterface.createFile(resource))
+				
+				// Everything was pushed, so there's nothing left to resume
+				boolean allPushed = checkpoint.isCompleted(getZanataId(contentSpecTopic));
+				for (final RESTTopicV1 topic : topics.returnItems())
 				{
-					messages.add("Content Spec ID " + contentSpecTopic.getId() + ", Revision " + contentSpecTopic.getRevision() + " failed to be created in Zanata.");
+					allPushed = allPushed && checkpoint.isCompleted(getZanataId(topic));
 				}
-				else if (!translatedTopicExists)
+				if (allPushed)
 				{
-					// Save the translated topic
-					final RESTTranslatedTopicV1 translatedTopic = createTranslatedTopic(contentSpecTopic);
-					try
-					{
-						restManager.getRESTClient().createJSONTranslatedTopic("", translatedTopic);
-					}
-					catch (Exception e)
-					{
-						/*
-						 * Do nothing here as it shouldn't fail. If it does then it'll be created 
-						 * by the sync service anyways.
-						 */
-					}
+					checkpoint.delete();
 				}
 			}
-			else
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			shutdown.set(true);
+			return false;
+		}
+		catch (ExecutionException e)
+		{
+			JCommander.getConsole().println(ExceptionUtilities.getStackTrace(e.getCause()));
+			return false;
+		}
+		finally
+		{
+			executor.shutdownNow();
+			
+			// Print the info/error messages
+			if (messages.size() > 0)
 			{
-				messages.add("Content Spec ID " + contentSpecTopic.getId() + ", Revision " + contentSpecTopic.getRevision() + " already exists - Skipping.");
+				JCommander.getConsole().println("Output:");
+				for (final String message : messages)
+				{
+					JCommander.getConsole().println("\t" + message);
+				}
 			}
 		}
 		
-		// Print the info/error messages
-		if (messages.size() > 0)
+		return true;
+	}
+	
+	/**
+	 * Converts a topic to a DOM Document and creates the Zanata resource that holds its translatable strings.
+	 * 
+	 * @param topic The topic to create the resource for.
+	 * @return The Zanata resource, or null if the topic doesn't have valid XML.
+	 */
+	protected Resource createTopicResource(final RESTTopicV1 topic)
+	{
+		Document doc = null;
+		try
+		{
+			doc = XMLUtilities.convertStringToDocument(topic.getXml());
+		}
+		catch (Exception e)
+		{
+			// Do Nothing as we handle the error below.
+		}
+		
+		if (doc == null) return null;
+		
+		final Resource resource = new Resource();
+		
+		resource.setContentType(ContentType.TextPlain);
+		resource.setLang(LocaleId.fromJavaName(topic.getLocale()));
+		resource.setName(getZanataId(topic));
+		resource.setRevision(1);
+		resource.setType(ResourceType.FILE);
+		
+		final List<StringToNodeCollection> translatableStrings = XMLUtilities.getTranslatableStringsV2(doc, false);
+		
+		for (final StringToNodeCollection translatableStringData : translatableStrings)
+		{
+			final String translatableString = translatableStringData.getTranslationString();
+			if (!translatableString.trim().isEmpty())
+			{
+				final TextFlow textFlow = new TextFlow();
+				textFlow.setContent(translatableString);
+				textFlow.setLang(LocaleId.fromJavaName(topic.getLocale()));
+				textFlow.setId(createZanataUniqueId(topic, translatableString));
+				textFlow.setRevision(1);
+				
+				resource.getTextFlows().add(textFlow);
+			}
+		}
+		
+		return resource;
+	}
+	
+	/**
+	 * Pushes a topic to Zanata, if it doesn't already exist, and creates the translated topic for it.
+	 * 
+	 * @param restManager The manager for the REST connection.
+	 * @param zanataInterface The interface to the Zanata server.
+	 * @param rateLimiter The limiter for the requests sent to the Zanata server.
+	 * @param checkpoint The record of the resources that have been pushed.
+	 * @param topic The topic to push.
+	 * @param resource The Zanata resource for the topic.
+	 * @return A message to display to the user, or null if there is nothing to display.
+	 * @throws InterruptedException Thrown if the thread is interrupted while waiting for the rate limiter.
+	 * @throws IOException Thrown if the topic couldn't be recorded in the checkpoint file.
+	 */
+	protected String pushTopicToZanata(final RESTManager restManager, final ZanataInterface zanataInterface, final RateLimiter rateLimiter,
+			final ZanataPushCheckpoint checkpoint, final RESTTopicV1 topic, final Resource resource) throws InterruptedException, IOException
+	{
+		final String zanataId = getZanataId(topic);
+		
+		/*
+		 * deleting existing resources is useful for debugging,
+		 * but not for production
+		 */
+		rateLimiter.acquire();
+		final boolean zanataFileExists = zanataInterface.getZanataResourceExists(zanataId);
+		
+		if (zanataFileExists)
+		{
+			checkpoint.markCompleted(zanataId);
+			return "Topic ID " + topic.getId() + ", Revision " + topic.getRevision() + " already exists - Skipping.";
+		}
+		
+		final boolean translatedTopicExists = restManager.getReader().getTranslatedTopicByTopicId(topic.getId(), topic.getRevision(), topic.getLocale()) != null;
+		
+		rateLimiter.acquire();
+		if (!zanataInterface.createFile(resource))
+		{
+			return "Topic ID " + topic.getId() + ", Revision " + topic.getRevision() + " failed to be created in Zanata.";
+		}
+		else if (!translatedTopicExists)
 		{
-			JCommander.getConsole().println("Output:");
-			for (final String message : messages)
+			final RESTTranslatedTopicV1 translatedTopic = createTranslatedTopic(topic);
+			try
 			{
-				JCommander.getConsole().println("\t" + message);
+				restManager.getRESTClient().createJSONTranslatedTopic("", translatedTopic);
+			}
+			catch (Exception e)
+			{
+				/*
+				 * Do nothing here as it shouldn't fail. If it does then it'll be created 
+				 * by the sync service anyways.
+				 */
 			}
 		}
+		
+		checkpoint.markCompleted(zanataId);
+		return null;
+	}
+	
+	/**
+	 * Pushes the content specification to Zanata, if it doesn't already exist, and creates the translated content spec for it.
+	 * 
+	 * @param restManager The manager for the REST connection.
+	 * @param zanataInterface The interface to the Zanata server.
+	 * @param rateLimiter The limiter for the requests sent to the Zanata server.
+	 * @param checkpoint The record of the resources that have been pushed.
+	 * @param contentSpecTopic The topic that holds the content specification.
+	 * @param contentSpec The processed content specification.
+	 * @return A message to display to the user, or null if there is nothing to display.
+	 * @throws InterruptedException Thrown if the thread is interrupted while waiting for the rate limiter.
+	 * @throws IOException Thrown if the content spec couldn't be recorded in the checkpoint file.
+	 */
+	protected String pushContentSpecToZanata(final RESTManager restManager, final ZanataInterface zanataInterface, final RateLimiter rateLimiter,
+			final ZanataPushCheckpoint checkpoint, final RESTTopicV1 contentSpecTopic, final ContentSpec contentSpec) throws InterruptedException, IOException
+	{
+		final String zanataId = getZanataId(contentSpecTopic);
+		
+		rateLimiter.acquire();
+		final boolean zanataFileExists = zanataInterface.getZanataResourceExists(zanataId);
+
+		if (zanataFileExists)
+		{
+			checkpoint.markCompleted(zanataId);
+			return "Content Spec ID " + contentSpecTopic.getId() + ", Revision " + contentSpecTopic.getRevision() + " already exists - Skipping.";
+		}
+		
+		final boolean translatedTopicExists = restManager.getReader().getTranslatedContentSpecById(contentSpecTopic.getId(), contentSpecTopic.getRevision(), contentSpecTopic.getLocale()) != null;
+		
+		final Resource resource = new Resource();
+
+		resource.setContentType(ContentType.TextPlain);
+		resource.setLang(LocaleId.fromJavaName(contentSpecTopic.getLocale()));
+		resource.setName(zanataId);
+		resource.setRevision(1);
+		resource.setType(ResourceType.FILE);
+
+		final List<StringToCSNodeCollection> translatableStrings = ContentSpecUtilities.getTranslatableStrings(contentSpec, false);
 
-		return !error;
+		for (final StringToCSNodeCollection translatableStringData : translatableStrings)
+		{
+			final String translatableString = translatableStringData.getTranslationString();
+			if (!translatableString.trim().isEmpty())
+			{										
+				final TextFlow textFlow = new TextFlow();
+				textFlow.setContent(translatableString);
+				textFlow.setLang(LocaleId.fromJavaName(contentSpecTopic.getLocale()));
+				textFlow.setId(createZanataUniqueId(contentSpecTopic, translatableString));
+				textFlow.setRevision(1);
+
+				resource.getTextFlows().add(textFlow);
+			}
+		}
+
+		rateLimiter.acquire();
+		if (!zanataInterface.createFile(resource))
+		{
+			return "Content Spec ID " + contentSpecTopic.getId() + ", Revision " + contentSpecTopic.getRevision() + " failed to be created in Zanata.";
+		}
+		else if (!translatedTopicExists)
+		{
+			// Save the translated topic
+			final RESTTranslatedTopicV1 translatedTopic = createTranslatedTopic(contentSpecTopic);
+			try
+			{
+				restManager.getRESTClient().createJSONTranslatedTopic("", translatedTopic);
+			}
+			catch (Exception e)
+			{
+				/*
+				 * Do nothing here as it shouldn't fail. If it does then it'll be created 
+				 * by the sync service anyways.
+				 */
+			}
+		}
+		
+		checkpoint.markCompleted(zanataId);
+		return null;
+	}
+	
+	/**
+	 * Gets the checkpoint file for pushing a content specification to a Zanata project version.
+	 * 
+	 * @param zanataDetails The details of the Zanata server, project and version.
+	 * @param contentSpecTopic The topic that holds the content specification.
+	 * @return The checkpoint file.
+	 */
+	protected File getCheckpointFile(final ZanataDetails zanataDetails, final RESTTopicV1 contentSpecTopic)
+	{
+		final String zanataHash = HashUtilities.generateMD5(zanataDetails.getServer() + "\u0000" + zanataDetails.getProject()
+				+ "\u0000" + zanataDetails.getVersion());
+		return new File(Constants.DEFAULT_ZANATA_CHECKPOINT_LOCATION, zanataHash + "-" + getZanataId(contentSpecTopic)
+				+ Constants.ZANATA_CHECKPOINT_EXTENSION);
+	}
+	
+	private static String getZanataId(final RESTTopicV1 topic)
+	{
+		return topic.getId() + "-" + topic.getRevision();
 	}
 	
 	private static String createZanataUniqueId(final RESTTopicV1 topic, final String text)
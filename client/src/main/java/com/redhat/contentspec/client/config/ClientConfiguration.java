@@ -11,6 +11,9 @@ public class ClientConfiguration
 	private String publicanCommonContentDirectory = null;
 	private String kojiHubUrl = null;
 	private String publishCommand = null;
+	private String imageCacheDirectory = null;
+	private String restCacheDirectory = null;
+	private Long restCacheMaxSize = null;
 	
 	private String defaultZanataProject = null;
 	private String defaultZanataVersion = null;
@@ -117,4 +120,34 @@ public class ClientConfiguration
 	{
 		this.publicanCommonContentDirectory = publicanCommonContentDirectory;
 	}
+
+	public String getImageCacheDirectory()
+	{
+		return imageCacheDirectory;
+	}
+
+	public void setImageCacheDirectory(final String imageCacheDirectory)
+	{
+		this.imageCacheDirectory = imageCacheDirectory;
+	}
+
+	public String getRESTCacheDirectory()
+	{
+		return restCacheDirectory;
+	}
+
+	public void setRESTCacheDirectory(final String restCacheDirectory)
+	{
+		this.restCacheDirectory = restCacheDirectory;
+	}
+
+	public Long getRESTCacheMaxSize()
+	{
+		return restCacheMaxSize;
+	}
+
+	public void setRESTCacheMaxSize(final Long restCacheMaxSize)
+	{
+		this.restCacheMaxSize = restCacheMaxSize;
+	}
 }
@@ -40,5 +40,11 @@ public class ConfigConstants
 			// Create the default translation options
 			"[publish]\n" +
 			"koji.huburl=" + Constants.DEFAULT_KOJIHUB_URL + "\n" +
-			"command=" + Constants.DEFAULT_PUBLISH_COMMAND + "\n\n";
+			"command=" + Constants.DEFAULT_PUBLISH_COMMAND + "\n\n" +
+			
+			// Create the cache options
+			"[cache]\n" +
+			"images=" + Constants.DEFAULT_IMAGE_CACHE_LOCATION + "\n" +
+			"rest=" + Constants.DEFAULT_REST_CACHE_LOCATION + "\n" +
+			"rest.maxsize=" + Constants.DEFAULT_REST_CACHE_MAX_SIZE + "\n\n";
 }
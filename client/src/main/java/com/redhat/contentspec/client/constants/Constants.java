@@ -18,6 +18,13 @@ public class Constants
 	public static final String DEFAULT_PUBLICAN_OPTIONS = "--langs=en-US --formats=html-single";
 	public static final String DEFAULT_PUBLICAN_FORMAT= "html-single";
 	public static final String DEFAULT_SNAPSHOT_LOCATION = "snapshots";
+	public static final String BUILD_MANIFEST_EXTENSION = ".manifest";
+	public static final String DEFAULT_CACHE_LOCATION = HOME_LOCATION + "/.cache/" + PROGRAM_NAME + "/";
+	public static final String DEFAULT_IMAGE_CACHE_LOCATION = DEFAULT_CACHE_LOCATION + "images/";
+	public static final String DEFAULT_REST_CACHE_LOCATION = DEFAULT_CACHE_LOCATION + "rest/";
+	public static final long DEFAULT_REST_CACHE_MAX_SIZE = 256;
+	public static final String DEFAULT_ZANATA_CHECKPOINT_LOCATION = DEFAULT_CACHE_LOCATION + "zanata/";
+	public static final String ZANATA_CHECKPOINT_EXTENSION = ".checkpoint";
 	public static final String FILENAME_EXTENSION = "contentspec";
 	
 	// Options that need configuring for a build
@@ -33,6 +40,8 @@ public class Constants
 	
 	// Zanata Constants
 	public static final String DEFAULT_ZANATA_PROJECT = "skynet-topics";
+	public static final int DEFAULT_ZANATA_PUSH_THREADS = 4;
+	public static final int DEFAULT_ZANATA_RATE_LIMIT = 10;
 	public static final String DEFAULT_ZANATA_VERSION = "1";
 
 	// Server based settings
@@ -107,6 +116,8 @@ public class Constants
 	public static final String ERROR_NO_SERVER_FOUND_MSG			= "No credentials are setup for the \"%s\" server specified in the csprocessor.cfg file. Please setup the server in your csprocessor.ini configuration file.";
 	public static final String ERROR_NO_ID_MSG						= "No ID was specified by the command line or a csprocessor.cfg file.";
 	public static final String ERROR_MULTIPLE_ID_MSG				= "Multiple ID's specified. Please only specify one ID.";
+	public static final String ERROR_LOCALE_AND_LOCALES_MSG			= "Both " + LOCALE_LONG_PARAM + " and " + LOCALES_LONG_PARAM + " were specified. Please only specify one of them.";
+	public static final String ERROR_LOCALE_BUILD_FAILED_MSG		= "The Content Specification failed to build for the \"%s\" locale.";
 	public static final String ERROR_FAILED_CREATING_CONFIG_MSG		= "Failed to create the default configuration file.";
 	public static final String ERROR_OUT_OF_DATE_MSG				= "The local copy of the Content Specification is out of date. Please use \"csprocessor pull\" to download the latest copy.";
 	public static final String ERROR_LOCAL_COPY_UPDATED_MSG			= "The local copy of the Content Specification has been updated and is out of sync with the server. Please use \"csprocessor push\" to update the server copy.";
@@ -124,9 +135,11 @@ public class Constants
 	public static final String ERROR_ZANATA_PUSH_FAILED_MSG			= "Pushing topics to zanata failed.";
 	public static final String ERROR_INVALID_ZANATA_CONFIG_MSG		= "No Zanata Project exists for the \"%s\" project at version \"%s\" from: %s";
 	public static final String ERROR_FAILED_LOAD_XML_PROPS_MSG		= "Failed to load the formatting XML Element Properties.";
+	public static final String ERROR_INVALID_REST_CACHE_SIZE_MSG	= "The REST cache maximum size \"%s\" is invalid. Please specify the size in megabytes.";
 	
 	// Info Messages
 	public static final String ZIP_SAVED_ERRORS_MSG			= "Content Specification successfully built with %s Errors and %s Warnings";
+	public static final String LOCALE_ZIP_SAVED_ERRORS_MSG	= "Content Specification successfully built for %s with %s Errors and %s Warnings";
 	public static final String EXEC_TIME_MSG				= "Request processed in %dms";
 	public static final String OUTPUT_SAVED_MSG 			= "Output saved to: %s";
 	public static final String SUCCESSFUL_PUSH_MSG			= "Content Specification ID: %d\nRevision: %d";
@@ -143,6 +156,7 @@ public class Constants
 	public static final String CSP_COMPLETION_MSG			= "Total Number of Topics: %d\nNumber of Topics with XML: %d\nPercentage Complete: %.2f%%";
 	public static final String SUCCESSFUL_PUBLISH_MSG		= "Content Specification successfully published.";
 	public static final String SUCCESSFUL_ZANATA_PUSH_MSG	= "Topics successfully pushed to Zanata for translation.";
+	public static final String ZANATA_PUSH_RESUME_MSG		= "Resuming a previous push. %s topics have already been pushed to Zanata and will be skipped.";
 	
 	// Start Messages
 	public static final String STARTING_ASSEMBLE_MSG		= "Starting to assemble...";
@@ -241,6 +255,7 @@ public class Constants
 	public static final String EMPTY_LEVELS_LONG_PARAM = "--empty-levels";
 
 	public static final String LOCALE_LONG_PARAM = "--lang";
+	public static final String LOCALES_LONG_PARAM = "--langs";
 
 	public static final String EDITOR_LINKS_LONG_PARAM = "--editor-links";
 
@@ -271,4 +286,10 @@ public class Constants
 	
 	public static final String REV_MESSAGE_LONG_PARAM = "--rev-message";
 	public static final String REV_MESSAGE_SHORT_PARAM = "-m";
+	
+	public static final String THREADS_LONG_PARAM = "--threads";
+	
+	public static final String RATE_LIMIT_LONG_PARAM = "--rate-limit";
+	
+	public static final String INCREMENTAL_LONG_PARAM = "--incremental";
 }
@@ -0,0 +1,59 @@
+package com.redhat.contentspec.client.utils;
+
+import org.jboss.pressgang.ccms.contentspec.rest.RESTManager;
+import org.jboss.pressgang.ccms.contentspec.rest.RESTReader;
+import org.jboss.pressgang.ccms.contentspec.rest.RESTWriter;
+import org.jboss.pressgang.ccms.rest.v1.jaxrsinterfaces.RESTInterfaceV1;
+
+/**
+ * A RESTManager that can be shared by the worker threads of a build, push or validation. The RESTReader caches entities in
+ * plain maps and the REST client only manages a single connection, so neither can be called by more than one thread at a
+ * time. Instead each thread other than the one that created the manager is given its own RESTManager for the same server,
+ * which is created the first time the thread calls the REST Interface. This lets the worker threads send their requests to
+ * the server at the same time.
+ */
+public class ConcurrentRESTManager extends RESTManager
+{
+	private final Thread ownerThread;
+	private final ThreadLocal<RESTManager> threadManagers;
+
+	/**
+	 * @param serverUrl The URL of the REST Interface.
+	 */
+	public ConcurrentRESTManager(final String serverUrl)
+	{
+		super(serverUrl);
+		ownerThread = Thread.currentThread();
+		threadManagers = new ThreadLocal<RESTManager>()
+		{
+			@Override
+			protected RESTManager initialValue()
+			{
+				return new RESTManager(serverUrl);
+			}
+		};
+	}
+
+	@Override
+	public RESTReader getReader()
+	{
+		return isOwnerThread() ? super.getReader() : threadManagers.get().getReader();
+	}
+
+	@Override
+	public RESTWriter getWriter()
+	{
+		return isOwnerThread() ? super.getWriter() : threadManagers.get().getWriter();
+	}
+
+	@Override
+	public RESTInterfaceV1 getRESTClient()
+	{
+		return isOwnerThread() ? super.getRESTClient() : threadManagers.get().getRESTClient();
+	}
+
+	private boolean isOwnerThread()
+	{
+		return Thread.currentThread() == ownerThread;
+	}
+}
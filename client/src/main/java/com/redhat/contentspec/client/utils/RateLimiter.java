@@ -0,0 +1,49 @@
+package com.redhat.contentspec.client.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate that requests are sent to a server, by spacing the requests out evenly. The limiter can be shared by
+ * multiple threads.
+ */
+public class RateLimiter
+{
+	private final long interval;
+	private long nextRequestTime;
+	
+	/**
+	 * @param requestsPerSecond The maximum number of requests per second. If zero or less, then requests aren't limited.
+	 */
+	public RateLimiter(final int requestsPerSecond)
+	{
+		interval = requestsPerSecond <= 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+		nextRequestTime = System.nanoTime();
+	}
+	
+	/**
+	 * Waits until the next request can be sent.
+	 * 
+	 * @throws InterruptedException Thrown if the thread is interrupted while waiting.
+	 */
+	public void acquire() throws InterruptedException
+	{
+		if (interval == 0) return;
+		
+		final long waitTime;
+		synchronized (this)
+		{
+			final long now = System.nanoTime();
+			if (nextRequestTime < now)
+			{
+				nextRequestTime = now;
+			}
+			waitTime = nextRequestTime - now;
+			nextRequestTime += interval;
+		}
+		
+		if (waitTime > 0)
+		{
+			TimeUnit.NANOSECONDS.sleep(waitTime);
+		}
+	}
+}
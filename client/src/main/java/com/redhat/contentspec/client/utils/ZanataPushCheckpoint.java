@@ -0,0 +1,143 @@
+package com.redhat.contentspec.client.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A record of the Zanata resources that have been pushed for a content specification, so that a push that is interrupted
+ * can carry on from where it stopped. Each resource ID is written to the checkpoint file on its own line as soon as it has
+ * been pushed. A line that was only partly written when the push was interrupted is ignored.
+ */
+public class ZanataPushCheckpoint
+{
+	private final File file;
+	private final Set<String> completed = Collections.synchronizedSet(new HashSet<String>());
+	
+	/**
+	 * @param file The checkpoint file. Any resources recorded in an existing file are loaded.
+	 */
+	public ZanataPushCheckpoint(final File file)
+	{
+		this.file = file;
+		
+		final String content = readCheckpointFile();
+		if (content != null)
+		{
+			final String[] lines = content.split("\n", -1);
+			
+			// The last entry is either empty or a line that wasn't finished, so it's skipped
+			for (int i = 0; i < lines.length - 1; i++)
+			{
+				final String zanataId = lines[i].trim();
+				if (!zanataId.isEmpty())
+				{
+					completed.add(zanataId);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param zanataId The ID of the Zanata resource.
+	 * @return True if the resource has already been pushed, otherwise false.
+	 */
+	public boolean isCompleted(final String zanataId)
+	{
+		return completed.contains(zanataId);
+	}
+	
+	/**
+	 * @return The number of resources that have been pushed.
+	 */
+	public int getCompletedCount()
+	{
+		return completed.size();
+	}
+	
+	/**
+	 * Records that a resource has been pushed.
+	 * 
+	 * @param zanataId The ID of the Zanata resource.
+	 * @throws IOException Thrown if the resource couldn't be written to the checkpoint file.
+	 */
+	public synchronized void markCompleted(final String zanataId) throws IOException
+	{
+		if (completed.contains(zanataId)) return;
+		
+		if (file.getParentFile() != null)
+		{
+			file.getParentFile().mkdirs();
+		}
+		
+		final Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8");
+		try
+		{
+			writer.write(zanataId + "\n");
+		}
+		finally
+		{
+			writer.close();
+		}
+		
+		// Only record the resource once it's in the checkpoint file, so a failed write isn't treated as pushed
+		completed.add(zanataId);
+	}
+	
+	/**
+	 * Removes the checkpoint file, once everything has been pushed.
+	 */
+	public void delete()
+	{
+		completed.clear();
+		file.delete();
+	}
+	
+	public File getFile()
+	{
+		return file;
+	}
+	
+	/**
+	 * Reads the checkpoint file exactly as it was written, so that an unfinished last line can be detected.
+	 * 
+	 * @return The content of the checkpoint file, or null if it doesn't exist or couldn't be read.
+	 */
+	private String readCheckpointFile()
+	{
+		if (!file.isFile()) return null;
+		
+		try
+		{
+			final InputStream is = new FileInputStream(file);
+			try
+			{
+				final ByteArrayOutputStream content = new ByteArrayOutputStream();
+				final byte[] buffer = new byte[4096];
+				int read;
+				while ((read = is.read(buffer)) != -1)
+				{
+					content.write(buffer, 0, read);
+				}
+				return content.toString("UTF-8");
+			}
+			finally
+			{
+				is.close();
+			}
+		}
+		catch (IOException e)
+		{
+			// Start the push again from the beginning, as the resources that exist in Zanata will be skipped anyway
+			return null;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.redhat.contentspec.client.tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.redhat.contentspec.client.utils.ZanataPushCheckpoint;
+
+public class ZanataPushCheckpointTestCase
+{
+
+	@Test
+	public void testResume() throws IOException
+	{
+		final File file = File.createTempFile("zanata", ".checkpoint");
+		assertTrue(file.delete());
+		file.deleteOnExit();
+
+		final ZanataPushCheckpoint checkpoint = new ZanataPushCheckpoint(file);
+		assertEquals(0, checkpoint.getCompletedCount());
+		checkpoint.markCompleted("12-345");
+		checkpoint.markCompleted("13-346");
+		checkpoint.markCompleted("12-345");
+
+		// A new checkpoint should carry on from the resources that were already pushed
+		final ZanataPushCheckpoint resumedCheckpoint = new ZanataPushCheckpoint(file);
+		assertEquals(2, resumedCheckpoint.getCompletedCount());
+		assertTrue(resumedCheckpoint.isCompleted("12-345"));
+		assertTrue(resumedCheckpoint.isCompleted("13-346"));
+		assertFalse(resumedCheckpoint.isCompleted("14-347"));
+
+		resumedCheckpoint.delete();
+		assertFalse(file.exists());
+	}
+
+	@Test
+	public void testUnfinishedLineIsIgnored() throws IOException
+	{
+		final File file = File.createTempFile("zanata", ".checkpoint");
+		file.deleteOnExit();
+
+		// Simulate a push that was interrupted while writing the last resource
+		final FileOutputStream fos = new FileOutputStream(file);
+		fos.write("12-345\n13-34".getBytes("UTF-8"));
+		fos.close();
+
+		final ZanataPushCheckpoint checkpoint = new ZanataPushCheckpoint(file);
+		assertEquals(1, checkpoint.getCompletedCount());
+		assertTrue(checkpoint.isCompleted("12-345"));
+		assertFalse(checkpoint.isCompleted("13-34"));
+
+		checkpoint.delete();
+	}
+
+	@Test
+	public void testFailedWriteIsNotRecorded() throws IOException
+	{
+		// A directory can't be opened as the checkpoint file, so recording a resource will fail
+		final File dir = File.createTempFile("zanata", ".checkpoint");
+		assertTrue(dir.delete());
+		assertTrue(dir.mkdir());
+		dir.deleteOnExit();
+
+		final ZanataPushCheckpoint checkpoint = new ZanataPushCheckpoint(dir);
+		try
+		{
+			checkpoint.markCompleted("12-345");
+			fail("Recording a resource in a directory should fail");
+		}
+		catch (IOException e)
+		{
+			// Expected
+		}
+		assertFalse(checkpoint.isCompleted("12-345"));
+		assertEquals(0, checkpoint.getCompletedCount());
+
+		dir.delete();
+	}
+}
@@ -1,6 +1,7 @@
 package com.redhat.contentspec.builder;
 
-import java.util.HashMap;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.pressgang.ccms.contentspec.ContentSpec;
@@ -13,17 +14,19 @@ import org.jboss.pressgang.ccms.rest.v1.collections.RESTTranslatedTopicCollectio
 import org.jboss.pressgang.ccms.rest.v1.collections.items.RESTTopicCollectionItemV1;
 import org.jboss.pressgang.ccms.rest.v1.collections.items.RESTTranslatedTopicCollectionItemV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.RESTBlobConstantV1;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTStringConstantV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.RESTTopicV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.RESTTranslatedTopicV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.RESTUserV1;
 import org.jboss.pressgang.ccms.rest.v1.exceptions.InternalProcessingException;
 import org.jboss.pressgang.ccms.rest.v1.exceptions.InvalidParameterException;
-import org.jboss.pressgang.ccms.utils.common.ZipUtilities;
 import org.jboss.pressgang.ccms.utils.constants.CommonConstants;
 import org.jboss.pressgang.ccms.zanata.ZanataDetails;
 
 import com.redhat.contentspec.builder.exception.BuilderCreationException;
+import com.redhat.contentspec.builder.output.ZipOutputSink;
 import com.redhat.contentspec.structures.CSDocbookBuildingOptions;
+import com.redhat.contentspec.structures.TopicSource;
 
 /**
  *
@@ -40,8 +43,13 @@ public class ContentSpecBuilder implements ShutdownAbleApp
 	@SuppressWarnings("unused")
 	private final RESTReader reader;
 	private final RESTBlobConstantV1 rocbookdtd;
+	private final RESTStringConstantV1 errorEmptyTopic;
+	private final RESTStringConstantV1 errorInvalidInjectionTopic;
+	private final RESTStringConstantV1 errorInvalidValidationTopic;
+	private final RESTStringConstantV1 xmlElementsProperties;
 	private final RESTManager restManager;
 	private DocbookBuilder<?, ?, ?> docbookBuilder;
+	private TopicSource topicSource;
 
 	public ContentSpecBuilder(final RESTManager restManager)
 			throws InvalidParameterException, InternalProcessingException
@@ -49,13 +57,39 @@ public class ContentSpecBuilder implements ShutdownAbleApp
 		this.restManager = restManager;
 		reader = restManager.getReader();
 		this.rocbookdtd = restManager.getRESTClient().getJSONBlobConstant(DocbookBuilderConstants.ROCBOOK_DTD_BLOB_ID, "");
+		this.errorEmptyTopic = restManager.getRESTClient().getJSONStringConstant(DocbookBuilderConstants.CSP_EMPTY_TOPIC_ERROR_XML_ID, "");
+		this.errorInvalidInjectionTopic = restManager.getRESTClient().getJSONStringConstant(
+				DocbookBuilderConstants.CSP_INVALID_INJECTION_TOPIC_ERROR_XML_ID, "");
+		this.errorInvalidValidationTopic = restManager.getRESTClient().getJSONStringConstant(
+				DocbookBuilderConstants.CSP_INVALID_VALIDATION_TOPIC_ERROR_XML_ID, "");
+		this.xmlElementsProperties = restManager.getRESTClient().getJSONStringConstant(CommonConstants.XML_ELEMENTS_STRING_CONSTANT_ID, "");
+	}
+
+	/**
+	 * Creates a builder that shares the constants downloaded by another builder, so that several books can be built at the
+	 * same time without downloading the constants for each of them.
+	 *
+	 * @param builder The builder to share the constants with.
+	 */
+	public ContentSpecBuilder(final ContentSpecBuilder builder)
+	{
+		this.restManager = builder.restManager;
+		reader = builder.reader;
+		this.rocbookdtd = builder.rocbookdtd;
+		this.errorEmptyTopic = builder.errorEmptyTopic;
+		this.errorInvalidInjectionTopic = builder.errorInvalidInjectionTopic;
+		this.errorInvalidValidationTopic = builder.errorInvalidValidationTopic;
+		this.xmlElementsProperties = builder.xmlElementsProperties;
 	}
 
 	@Override
 	public void shutdown()
 	{
 		isShuttingDown.set(true);
-		docbookBuilder.shutdown();
+		if (docbookBuilder != null)
+		{
+			docbookBuilder.shutdown();
+		}
 	}
 
 	@Override
@@ -74,6 +108,17 @@ public class ContentSpecBuilder implements ShutdownAbleApp
 		return docbookBuilder == null ? 0 : docbookBuilder.getNumErrors();
 	}
 
+	/**
+	 * Sets the source of topics that have already been downloaded, such as the topics downloaded while the content
+	 * specification was validated. Builds will use these topics instead of downloading them again.
+	 *
+	 * @param topicSource The source of downloaded topics, or null if builds should download every topic.
+	 */
+	public void setTopicSource(final TopicSource topicSource)
+	{
+		this.topicSource = topicSource;
+	}
+
 	/**
 	 * Builds a book into a zip file for the passed Content Specification.
 	 *
@@ -92,6 +137,32 @@ public class ContentSpecBuilder implements ShutdownAbleApp
 	public byte[] buildBook(final ContentSpec contentSpec, final RESTUserV1 requester,
 			final CSDocbookBuildingOptions builderOptions)
 			throws Exception
+	{
+		final ByteArrayOutputStream zipFile = new ByteArrayOutputStream();
+		return buildBook(contentSpec, requester, builderOptions, zipFile) ? zipFile.toByteArray() : null;
+	}
+	
+	/**
+	 * Builds a book for the passed Content Specification and streams it as a zip file
+	 * to an output stream. The output stream is closed once the book has been built.
+	 *
+	 * @param contentSpec
+	 * 					The content specification that is to be built. It
+	 * 					should have already been validated, if not errors
+	 * 					may occur.
+	 * @param requester
+	 * 					The user who requested the book to be built.
+	 * @param builderOptions
+	 * 					The set of options what are to be when building the
+	 * 					book.
+	 * @param outputStream
+	 * 					The stream to write the zip file to.
+	 * @return True if the book was built, or false if the build was shutdown.
+	 * @throws Exception Any unexpected errors that occur during building.
+	 */
+	public boolean buildBook(final ContentSpec contentSpec, final RESTUserV1 requester,
+			final CSDocbookBuildingOptions builderOptions, final OutputStream outputStream)
+			throws Exception
 	{
 		if (contentSpec == null)
 		{
@@ -102,21 +173,21 @@ public class ContentSpecBuilder implements ShutdownAbleApp
 			throw new BuilderCreationException("A user must be specified as the user who requested the build.");
 		}
 
-		docbookBuilder = new DocbookBuilder<RESTTopicV1, RESTTopicCollectionV1, RESTTopicCollectionItemV1>(restManager, rocbookdtd, CommonConstants.DEFAULT_LOCALE);
-
-		final HashMap<String, byte[]> files = docbookBuilder.buildBook(contentSpec, requester, builderOptions, null);
+		docbookBuilder = new DocbookBuilder<RESTTopicV1, RESTTopicCollectionV1, RESTTopicCollectionItemV1>(restManager, rocbookdtd,
+				errorEmptyTopic, errorInvalidInjectionTopic, errorInvalidValidationTopic, xmlElementsProperties,
+				CommonConstants.DEFAULT_LOCALE, null);
+		docbookBuilder.setTopicSource(topicSource);
 
-		// Create the zip file
-		byte[] zipFile = null;
+		// Stream the files straight into the zip file
+		final ZipOutputSink zipSink = new ZipOutputSink(outputStream);
 		try
 		{
-			zipFile = ZipUtilities.createZip(files);
+			return docbookBuilder.buildBook(contentSpec, requester, builderOptions, null, new ZanataDetails(), zipSink);
 		}
-		catch (final Exception e)
+		finally
 		{
-			e.printStackTrace();
+			zipSink.close();
 		}
-		return zipFile;
 	}
 	
 	/**
@@ -140,6 +211,36 @@ public class ContentSpecBuilder implements ShutdownAbleApp
      */
     public byte[] buildTranslatedBook(final ContentSpec contentSpec, final String locale,
             final RESTUserV1 requester, final CSDocbookBuildingOptions builderOptions, final ZanataDetails zanataDetails) throws Exception
+    {
+        final ByteArrayOutputStream zipFile = new ByteArrayOutputStream();
+        return buildTranslatedBook(contentSpec, locale, requester, builderOptions, zanataDetails, zipFile) ? zipFile.toByteArray() : null;
+    }
+    
+	/**
+     * Builds a translated book for the passed Content Specification and streams it as a
+     * zip file to an output stream. The output stream is closed once the book has been built.
+     *
+     * @param contentSpec
+     *                  The content specification that is to be built. It
+     *                  should have already been validated, if not errors
+     *                  may occur.
+	 * @param locale The locale the book is to be built for.
+	 * @param requester
+     *                  The user who requested the book to be built.
+	 * @param builderOptions
+     *                  The set of options what are to be when building the
+     *                  book.
+	 * @param zanataDetails
+     *                  The Zanata details to be used when editor links are
+     *                  turned on.
+	 * @param outputStream
+     *                  The stream to write the zip file to.
+	 * @return True if the book was built, or false if the build was shutdown.
+     * @throws Exception Any unexpected errors that occur during building.
+     */
+    public boolean buildTranslatedBook(final ContentSpec contentSpec, final String locale,
+            final RESTUserV1 requester, final CSDocbookBuildingOptions builderOptions, final ZanataDetails zanataDetails,
+            final OutputStream outputStream) throws Exception
     {
         if (contentSpec == null)
         {
@@ -150,20 +251,20 @@ public class ContentSpecBuilder implements ShutdownAbleApp
             throw new BuilderCreationException("A user must be specified as the user who requested the build.");
         }
 
-        docbookBuilder = new DocbookBuilder<RESTTranslatedTopicV1, RESTTranslatedTopicCollectionV1, RESTTranslatedTopicCollectionItemV1>(restManager, rocbookdtd, CommonConstants.DEFAULT_LOCALE, locale);
-
-        final HashMap<String, byte[]> files = docbookBuilder.buildBook(contentSpec, requester, builderOptions, null, zanataDetails);
+        docbookBuilder = new DocbookBuilder<RESTTranslatedTopicV1, RESTTranslatedTopicCollectionV1, RESTTranslatedTopicCollectionItemV1>(restManager, rocbookdtd,
+                errorEmptyTopic, errorInvalidInjectionTopic, errorInvalidValidationTopic, xmlElementsProperties,
+                CommonConstants.DEFAULT_LOCALE, locale);
+        docbookBuilder.setTopicSource(topicSource);
 
-        // Create the zip file
-        byte[] zipFile = null;
+        // Stream the files straight into the zip file
+        final ZipOutputSink zipSink = new ZipOutputSink(outputStream);
         try
         {
-            zipFile = ZipUtilities.createZip(files);
+            return docbookBuilder.buildBook(contentSpec, requester, builderOptions, null, zanataDetails, zipSink);
         }
-        catch (final Exception e)
+        finally
         {
-            e.printStackTrace();
+            zipSink.close();
         }
-        return zipFile;
     }
-}
\ No newline at end of file
+}
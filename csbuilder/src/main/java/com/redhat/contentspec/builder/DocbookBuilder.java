@@ -11,11 +11,16 @@ import java.net.URLEncoder;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +28,13 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
 import org.codehaus.jackson.map.ObjectMapper;
@@ -37,14 +48,12 @@ import org.jboss.pressgang.ccms.contentspec.enums.BookType;
 import org.jboss.pressgang.ccms.contentspec.enums.LevelType;
 import org.jboss.pressgang.ccms.contentspec.interfaces.ShutdownAbleApp;
 import org.jboss.pressgang.ccms.contentspec.rest.RESTManager;
-import org.jboss.pressgang.ccms.contentspec.rest.RESTReader;
 import org.jboss.pressgang.ccms.contentspec.sort.AuthorInformationComparator;
 import org.jboss.pressgang.ccms.contentspec.utils.ContentSpecUtilities;
 import org.jboss.pressgang.ccms.docbook.constants.DocbookBuilderConstants;
 import org.jboss.pressgang.ccms.docbook.processing.XMLPreProcessor;
 import org.jboss.pressgang.ccms.docbook.structures.TocTopicDatabase;
 import org.jboss.pressgang.ccms.docbook.structures.TopicErrorData;
-import org.jboss.pressgang.ccms.docbook.structures.TopicErrorDatabase;
 import org.jboss.pressgang.ccms.docbook.structures.TopicImageData;
 import org.jboss.pressgang.ccms.docbook.structures.TopicErrorDatabase.ErrorLevel;
 import org.jboss.pressgang.ccms.docbook.structures.TopicErrorDatabase.ErrorType;
@@ -78,6 +87,7 @@ import org.jboss.pressgang.ccms.utils.common.CollectionUtilities;
 import org.jboss.pressgang.ccms.utils.common.DocBookUtilities;
 import org.jboss.pressgang.ccms.utils.common.ExceptionUtilities;
 import org.jboss.pressgang.ccms.utils.common.FileUtilities;
+import org.jboss.pressgang.ccms.utils.common.HashUtilities;
 import org.jboss.pressgang.ccms.utils.common.StringUtilities;
 import org.jboss.pressgang.ccms.utils.common.XMLUtilities;
 import org.jboss.pressgang.ccms.utils.constants.CommonConstants;
@@ -94,11 +104,24 @@ import org.xml.sax.SAXException;
 import com.redhat.contentspec.builder.constants.BuilderConstants;
 import com.redhat.contentspec.builder.exception.BuildProcessingException;
 import com.redhat.contentspec.builder.exception.BuilderCreationException;
+import com.redhat.contentspec.builder.output.BookOutputSink;
+import com.redhat.contentspec.builder.output.InMemoryOutputSink;
+import com.redhat.contentspec.builder.utils.AuthorInformationCache;
+import com.redhat.contentspec.builder.utils.BookTemplate;
 import com.redhat.contentspec.builder.utils.DocbookBuildUtilities;
+import com.redhat.contentspec.builder.utils.ImageCache;
+import com.redhat.contentspec.builder.utils.RESTEntityCache;
 import com.redhat.contentspec.builder.utils.ReportUtilities;
 import com.redhat.contentspec.builder.utils.SAXXMLValidator;
+import com.redhat.contentspec.builder.utils.ThreadingUtilities;
+import com.redhat.contentspec.structures.BuildManifest;
 import com.redhat.contentspec.structures.CSDocbookBuildingOptions;
+import com.redhat.contentspec.structures.ConcurrentTopicErrorDatabase;
+import com.redhat.contentspec.structures.ConcurrentTopicErrorDatabase.BufferedMessage;
+import com.redhat.contentspec.structures.IdAttributeRegistry;
+import com.redhat.contentspec.structures.SharedTopicDocument;
 import com.redhat.contentspec.structures.SpecDatabase;
+import com.redhat.contentspec.structures.TopicSource;
 
 public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBaseCollectionV1<T, U, V>, V extends RESTBaseCollectionItemV1<T, U, V>>
         implements ShutdownAbleApp {
@@ -107,6 +130,16 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
             CSConstants.TECHNOLOGY_CATEGORY_ID, CSConstants.RELEASE_CATEGORY_ID, CSConstants.SEO_METADATA_CATEGORY_ID,
             CSConstants.COMMON_NAME_CATEGORY_ID, CSConstants.CONCERN_CATEGORY_ID, CSConstants.CONTENT_TYPE_CATEGORY_ID,
             CSConstants.PROGRAMMING_LANGUAGE_CATEGORY_ID);
+    private static final String TOPIC_CACHE_TYPE = "topic";
+    private static final String BLOB_CONSTANT_CACHE_TYPE = "blobconstant";
+    /**
+     * The number of latest topics to download in each request when the downloads are run concurrently, so that the topics can
+     * be parsed as they arrive.
+     */
+    private static final int TOPIC_DOWNLOAD_BATCH_SIZE = 50;
+
+    /** The compiled templates for the standard book files, keyed by the string constant ID, revision and placeholders. */
+    private static final Map<String, BookTemplate> compiledTemplates = new ConcurrentHashMap<String, BookTemplate>();
 
     private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
     private final AtomicBoolean shutdown = new AtomicBoolean(false);
@@ -115,7 +148,6 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     private final List<String> inlineElements;
     private final List<String> contentsInlineElements;
 
-    private final RESTReader reader;
     private final RESTManager restManager;
     private final RESTBlobConstantV1 rocbookdtd;
     private final String defaultLocale;
@@ -163,7 +195,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     /**
      * Holds the compiler errors that form the Errors.xml file in the compiled docbook.
      */
-    private TopicErrorDatabase<T> errorDatabase;;
+    private ConcurrentTopicErrorDatabase<T> errorDatabase;
 
     /**
      * Holds the SpecTopics and their XML that exist within the content specification.
@@ -178,6 +210,21 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     /** The Topic class to be used for building. (RESTTranslatedTopicV1 or RESTTopicV1) */
     private Class<T> clazz;
 
+    /** The manifest of processed topics from the previous build, or null if the build isn't incremental. */
+    private BuildManifest buildManifest;
+    /** A hash of the book wide inputs that affect how every spec topic is processed. */
+    private String buildManifestContextHash;
+    /** The parsed topic documents that are shared by the spec topics until the spec topics are processed. */
+    private Map<Integer, SharedTopicDocument> sharedTopicDocuments;
+    /** The persistent cache for immutable entities downloaded from the REST Interface. */
+    private RESTEntityCache restEntityCache;
+    /** The author information for the writers assigned to the topics. */
+    private AuthorInformationCache authorInformationCache;
+    /** The topics that were downloaded before the build started, or null if there are none. */
+    private TopicSource topicSource;
+    /** The string constants that have been downloaded for the current build. */
+    private final Map<Integer, RESTStringConstantV1> stringConstants = new ConcurrentHashMap<Integer, RESTStringConstantV1>();
+
     public DocbookBuilder(final RESTManager restManager, final RESTBlobConstantV1 rocbookDtd, final String defaultLocale)
             throws InvalidParameterException, InternalProcessingException, BuilderCreationException {
         this(restManager, rocbookDtd, defaultLocale, null);
@@ -186,17 +233,40 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     public DocbookBuilder(final RESTManager restManager, final RESTBlobConstantV1 rocbookDtd, final String defaultLocale,
             final String translationLocale) throws InvalidParameterException, InternalProcessingException,
             BuilderCreationException {
-        reader = restManager.getReader();
+        this(restManager, rocbookDtd,
+                restManager.getRESTClient().getJSONStringConstant(DocbookBuilderConstants.CSP_EMPTY_TOPIC_ERROR_XML_ID, ""),
+                restManager.getRESTClient().getJSONStringConstant(
+                        DocbookBuilderConstants.CSP_INVALID_INJECTION_TOPIC_ERROR_XML_ID, ""),
+                restManager.getRESTClient().getJSONStringConstant(
+                        DocbookBuilderConstants.CSP_INVALID_VALIDATION_TOPIC_ERROR_XML_ID, ""),
+                restManager.getRESTClient().getJSONStringConstant(CommonConstants.XML_ELEMENTS_STRING_CONSTANT_ID, ""),
+                defaultLocale, translationLocale);
+    }
+
+    /**
+     * Creates a builder using constants that have already been downloaded, so that a builder can be created without calling
+     * the REST Interface.
+     * 
+     * @param restManager The manager used to call the REST Interface during a build.
+     * @param rocbookDtd The blob constant that holds the Rocbook DTD.
+     * @param errorEmptyTopic The error template for a topic with no content.
+     * @param errorInvalidInjectionTopic The error template for a topic with invalid injection references.
+     * @param errorInvalidValidationTopic The error template for a topic that failed validation.
+     * @param xmlElementsProperties The formatting XML element properties file.
+     * @param defaultLocale The default locale of the topics.
+     * @param translationLocale The locale to build the book in, or null if the book isn't a translation.
+     * @throws BuilderCreationException Thrown if the XML element properties can't be read.
+     */
+    protected DocbookBuilder(final RESTManager restManager, final RESTBlobConstantV1 rocbookDtd,
+            final RESTStringConstantV1 errorEmptyTopic, final RESTStringConstantV1 errorInvalidInjectionTopic,
+            final RESTStringConstantV1 errorInvalidValidationTopic, final RESTStringConstantV1 xmlElementsProperties,
+            final String defaultLocale, final String translationLocale) throws BuilderCreationException {
         this.restManager = restManager;
-        this.rocbookdtd = restManager.getRESTClient().getJSONBlobConstant(DocbookBuilderConstants.ROCBOOK_DTD_BLOB_ID, "");
-        this.errorEmptyTopic = restManager.getRESTClient().getJSONStringConstant(
-                DocbookBuilderConstants.CSP_EMPTY_TOPIC_ERROR_XML_ID, "");
-        this.errorInvalidInjectionTopic = restManager.getRESTClient().getJSONStringConstant(
-                DocbookBuilderConstants.CSP_INVALID_INJECTION_TOPIC_ERROR_XML_ID, "");
-        this.errorInvalidValidationTopic = restManager.getRESTClient().getJSONStringConstant(
-                DocbookBuilderConstants.CSP_INVALID_VALIDATION_TOPIC_ERROR_XML_ID, "");
-        this.xmlElementsProperties = restManager.getRESTClient().getJSONStringConstant(
-                CommonConstants.XML_ELEMENTS_STRING_CONSTANT_ID, "");
+        this.rocbookdtd = rocbookDtd;
+        this.errorEmptyTopic = errorEmptyTopic;
+        this.errorInvalidInjectionTopic = errorInvalidInjectionTopic;
+        this.errorInvalidValidationTopic = errorInvalidValidationTopic;
+        this.xmlElementsProperties = xmlElementsProperties;
 
         this.defaultLocale = defaultLocale;
         this.translationLocale = translationLocale;
@@ -261,6 +331,15 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         return numErrors;
     }
 
+    /**
+     * Sets the source of topics that have already been downloaded, so that the build doesn't need to download them again.
+     * 
+     * @param topicSource The source of downloaded topics, or null if the build should download every topic.
+     */
+    public void setTopicSource(final TopicSource topicSource) {
+        this.topicSource = topicSource;
+    }
+
     /**
      * Builds a Docbook Formatted Book using a Content Specification to define the structure and contents of the book.
      * 
@@ -287,23 +366,48 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * @param requester The user who requested the build.
      * @param buildingOptions The options to be used when building.
      * @param searchTagsUrl The search URL that lists the topics (used mainly from skynet builds).
+     * @param zanataDetails The Zanata server details to be used when building links to Zanata.
      * @return Returns a mapping of file names/locations to files. This HashMap can be used to build a ZIP archive.
      * @throws BuildProcessingException Thrown if an unexpected Error occurs during processing. eg. A template file doesn't
      *         contain valid XML.
      * @throws BuilderCreationException Thrown if the builder is unable to start due to incorrect passed variables.
      * @throws Exception Any other unexpected errors.
      */
-    @SuppressWarnings("unchecked")
     public HashMap<String, byte[]> buildBook(final ContentSpec contentSpec, final RESTUserV1 requester,
             final CSDocbookBuildingOptions buildingOptions, final String searchTagsUrl, final ZanataDetails zanataDetails)
             throws BuilderCreationException, BuildProcessingException, Exception {
+        final InMemoryOutputSink files = new InMemoryOutputSink();
+        return buildBook(contentSpec, requester, buildingOptions, searchTagsUrl, zanataDetails, files) ? files.getFiles()
+                : null;
+    }
+
+    /**
+     * Builds a Docbook Formatted Book using a Content Specification to define the structure and contents of the book. Each
+     * file is written to the output sink as soon as it has been built. The sink isn't closed once the book has been built.
+     * 
+     * @param contentSpec The content specification to build from.
+     * @param requester The user who requested the build.
+     * @param buildingOptions The options to be used when building.
+     * @param searchTagsUrl The search URL that lists the topics (used mainly from skynet builds).
+     * @param zanataDetails The Zanata server details to be used when building links to Zanata.
+     * @param files The output sink that the book files should be written to.
+     * @return True if the book was built, or false if a shutdown was requested.
+     * @throws BuildProcessingException Thrown if an unexpected Error occurs during processing. eg. A template file doesn't
+     *         contain valid XML.
+     * @throws BuilderCreationException Thrown if the builder is unable to start due to incorrect passed variables.
+     * @throws Exception Any other unexpected errors.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean buildBook(final ContentSpec contentSpec, final RESTUserV1 requester,
+            final CSDocbookBuildingOptions buildingOptions, final String searchTagsUrl, final ZanataDetails zanataDetails,
+            final BookOutputSink files) throws BuilderCreationException, BuildProcessingException, Exception {
         if (contentSpec == null) {
             throw new BuilderCreationException("No content specification specified. Unable to build from nothing!");
         }
 
         this.zanataDetails = zanataDetails;
 
-        errorDatabase = new TopicErrorDatabase<T>();
+        errorDatabase = new ConcurrentTopicErrorDatabase<T>();
         specDatabase = new SpecDatabase();
 
         if (contentSpec.getLocale() == null || contentSpec.getLocale().equals(defaultLocale)) {
@@ -378,10 +482,25 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
             injectionOptions.addStrictTopicTypes(contentSpec.getInjectionOptions().getStrictTopicTypes());
         }
 
+        // Load the manifest from the last build if this is an incremental build
+        if (buildingOptions.getBuildManifestFile() != null) {
+            buildManifest = new BuildManifest(new File(buildingOptions.getBuildManifestFile()));
+        } else {
+            buildManifest = null;
+        }
+
+        // Setup the cache for immutable REST entities
+        restEntityCache = new RESTEntityCache(buildingOptions.getRESTCacheDirectory(),
+                buildingOptions.getRESTCacheMaxSize() == null ? 0 : buildingOptions.getRESTCacheMaxSize());
+        authorInformationCache = new AuthorInformationCache(restManager, restEntityCache);
+
+        // String constants can be changed between builds, so they are downloaded again for each build
+        stringConstants.clear();
+
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
             shutdown.set(true);
-            return null;
+            return false;
         }
 
         // Get the translations
@@ -392,16 +511,16 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
             shutdown.set(true);
-            return null;
+            return false;
         }
 
-        final Map<Integer, Set<String>> usedIdAttributes = new HashMap<Integer, Set<String>>();
+        final IdAttributeRegistry usedIdAttributes = new IdAttributeRegistry();
         final boolean fixedUrlsSuccess = doPopulateDatabasePass(contentSpec, usedIdAttributes);
 
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
             shutdown.set(true);
-            return null;
+            return false;
         }
 
         /*
@@ -409,9 +528,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
          * used by topics, section and chapters. Then add any id's that were found in the topics.
          */
         final Set<String> bookIdAttributes = specDatabase.getIdAttributes(fixedUrlsSuccess);
-        for (final Entry<Integer, Set<String>> entry : usedIdAttributes.entrySet()) {
-            bookIdAttributes.addAll(entry.getValue());
-        }
+        bookIdAttributes.addAll(usedIdAttributes.getAllIdAttributes());
         validateTopicLinks(bookIdAttributes, fixedUrlsSuccess);
 
         // second topic pass to set the ids and process injections
@@ -420,7 +537,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
             shutdown.set(true);
-            return null;
+            return false;
         }
 
         /* Process the images in the topics */
@@ -429,10 +546,30 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
             shutdown.set(true);
-            return null;
+            return false;
+        }
+
+        if (!doBuildZipPass(contentSpec, requester, fixedUrlsSuccess, files)) {
+            return false;
         }
 
-        return doBuildZipPass(contentSpec, requester, fixedUrlsSuccess);
+        if (restEntityCache.isEnabled()) {
+            log.info("REST cache: " + restEntityCache.getHits() + " hits, " + restEntityCache.getMisses() + " misses");
+        }
+
+        // Save the processed topics so the next incremental build can reuse them
+        if (buildManifest != null) {
+            log.info("Incremental build: " + buildManifest.getHits() + " topics reused, " + buildManifest.getMisses()
+                    + " topics processed");
+            try {
+                buildManifest.save();
+            } catch (IOException e) {
+                log.error("Failed to save the build manifest. " + e.getMessage());
+                log.debug(ExceptionUtilities.getStackTrace(e));
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -441,8 +578,8 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * @param contentSpec The Content Spec to get and replace the translations for.
      */
     protected void pullTranslations(final ContentSpec contentSpec) {
-        final RESTTranslatedTopicStringCollectionV1 translatedStrings = reader.getTranslatedTopicStringsByTopicId(
-                contentSpec.getId(), contentSpec.getRevision(), translationLocale);
+        final RESTTranslatedTopicStringCollectionV1 translatedStrings = restManager.getReader()
+                .getTranslatedTopicStringsByTopicId(contentSpec.getId(), contentSpec.getRevision(), translationLocale);
 
         if (translatedStrings != null && translatedStrings.getItems() != null) {
             final Map<String, String> translations = new HashMap<String, String>();
@@ -522,12 +659,12 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * topics to each SpecTopic.
      * 
      * @param contentSpec The content spec to populate the database from.
-     * @param usedIdAttributes The set of Used ID Attributes that should be added to.
+     * @param usedIdAttributes The registry of Used ID Attributes that should be added to.
      * @return True if the database was populated successfully otherwise false.
      * @throws BuildProcessingException
      */
     @SuppressWarnings("unchecked")
-    private boolean doPopulateDatabasePass(final ContentSpec contentSpec, final Map<Integer, Set<String>> usedIdAttributes)
+    private boolean doPopulateDatabasePass(final ContentSpec contentSpec, final IdAttributeRegistry usedIdAttributes)
             throws BuildProcessingException {
         log.info("Doing " + locale + " Populate Database Pass");
 
@@ -548,33 +685,23 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         }
 
         final U topics;
+        final List<TopicPassResult> parsedTopics;
         final boolean fixedUrlsSuccess;
         if (contentSpec.getLocale() == null || contentSpec.getLocale().equals(defaultLocale)) {
-            final RESTTopicCollectionV1 allTopics = new RESTTopicCollectionV1();
-
-            /* Ensure that the collection doesn't equal null */
-            final RESTTopicCollectionV1 latestTopics = reader.getTopicsByIds(CollectionUtilities.toArrayList(topicIds),
-                    false);
-            
-            /* Add any latest topics to the "all" topic collection */
-            if (latestTopics != null) {
-                final List<RESTTopicV1> topicItems = latestTopics.returnItems();
-                for (final RESTTopicV1 topic : topicItems) {
-                    allTopics.addItem(topic);
-                }
-            }
-
             /*
-             * Fetch each topic that is a revision separately since this functionality isn't offered by the REST API.
+             * Download the latest topics and the topic revisions, and parse the topics XML as each download arrives so that
+             * the parsing overlaps with the network requests.
              */
-            for (final Pair<Integer, Integer> topicToRevision : topicRevisions) {
-                final RESTTopicV1 topicRevision = reader.getTopicById(topicToRevision.getFirst(), topicToRevision.getSecond());
-                if (topicRevision != null) {
-                    allTopics.addItem(topicRevision);
-                }
+            final DownloadedTopics downloadedTopics = downloadAndParseTopics(topicIds, topicRevisions);
+            final RESTTopicCollectionV1 latestTopics = downloadedTopics.getLatestTopics();
+            parsedTopics = downloadedTopics.getParsedTopics();
+
+            // Check if the app should be shutdown
+            if (isShuttingDown.get()) {
+                return false;
             }
 
-            if (latestTopics != null && latestTopics.getItems() != null) {
+            if (latestTopics.getItems() != null && !latestTopics.getItems().isEmpty()) {
                 /*
                  * assign fixed urls property tags to the topics. If fixedUrlsSuccess is true, the id of the topic sections,
                  * xref injection points and file names in the zip file will be taken from the fixed url property tag,
@@ -585,7 +712,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 fixedUrlsSuccess = true;
             }
 
-            topics = (U) allTopics;
+            topics = (U) downloadedTopics.getAllTopics();
         } else {
             /*
              * Translations should reference an existing historical topic with the fixed urls set, so we assume this to be the
@@ -595,6 +722,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
 
             /* set the topics variable now all initialisation is done */
             topics = (U) getTranslatedTopics(contentSpec, topicIds, topicRevisions);
+            parsedTopics = null;
         }
 
         // Check if the app should be shutdown
@@ -611,7 +739,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         }
 
         /* Pass the topics to make sure they are valid */
-        doTopicPass(topics, fixedUrlsSuccess, usedIdAttributes);
+        doTopicPass(topics, parsedTopics, fixedUrlsSuccess, usedIdAttributes);
 
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
@@ -637,20 +765,25 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * @param topicIds A Set of topic id's that are to be used to get the latest translations.
      * @param topicRevisions A Set of topic id's to revisions, used to get translations closest to specific revisions.
      * @return A collection of TranslatedTopics or null if a shutdown was requested.
+     * @throws BuildProcessingException
      */
     private RESTTranslatedTopicCollectionV1 getTranslatedTopics(final ContentSpec contentSpec, final Set<Integer> topicIds,
-            final Set<Pair<Integer, Integer>> topicRevisions) {
+            final Set<Pair<Integer, Integer>> topicRevisions) throws BuildProcessingException {
         final RESTTranslatedTopicCollectionV1 translatedTopics = new RESTTranslatedTopicCollectionV1();
 
         /* Ensure that the collection doesn't equal null */
-        final RESTTopicCollectionV1 topicCollection = reader.getTopicsByIds(CollectionUtilities.toArrayList(topicIds), true);
+        final RESTTopicCollectionV1 topicCollection = getLatestTopics(CollectionUtilities.toArrayList(topicIds), true);
 
         /*
          * Populate the dummy topic ids using the latest topics. We will remove the topics that exist a little later.
          */
         final Set<Integer> dummyTopicIds = new HashSet<Integer>(topicIds);
 
-        /* Remove any topic ids for translated topics that were found */
+        /*
+         * Find the translated topics that should be used for the latest topics. The translated topics are downloaded together
+         * once the translated topics for the revisions have also been found.
+         */
+        final Map<Integer, Integer> latestTranslatedTopicIds = new LinkedHashMap<Integer, Integer>();
         if (topicCollection != null && topicCollection.getItems() != null) {
             final List<RESTTopicV1> topics = topicCollection.returnItems();
             for (final RESTTopicV1 topic : topics) {
@@ -659,65 +792,73 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                     return null;
                 }
 
-                // Get the matching latest translated topic and pushed translated topics
-                final Pair<RESTTranslatedTopicV1, RESTTranslatedTopicV1> lastestTranslations = getLatestTranslations(topic,
-                        null);
-                final RESTTranslatedTopicV1 latestTranslatedTopic = lastestTranslations.getFirst();
-                final RESTTranslatedTopicV1 latestPushedTranslatedTopic = lastestTranslations.getSecond();
-
-                // If the latest translation and latest pushed topic matches, then use that if not a dummy topic should be
-                // created
-                if (latestTranslatedTopic != null && latestPushedTranslatedTopic != null
-                        && latestPushedTranslatedTopic.getTopicRevision().equals(latestTranslatedTopic.getTopicRevision())) {
-                    final RESTTranslatedTopicV1 translatedTopic = reader.getTranslatedTopicById(latestTranslatedTopic.getId());
-                    if (translatedTopic != null) {
-                        dummyTopicIds.remove(topic.getId());
-                        translatedTopics.addItem(translatedTopic);
-                    }
+                final Integer translatedTopicId = getMatchingTranslatedTopicId(topic, null);
+                if (translatedTopicId != null) {
+                    latestTranslatedTopicIds.put(topic.getId(), translatedTopicId);
                 }
             }
         }
 
+        final List<Pair<Integer, Integer>> topicRevisionsList = topicRevisions == null ? new ArrayList<Pair<Integer, Integer>>()
+                : new ArrayList<Pair<Integer, Integer>>(topicRevisions);
+        final Map<Pair<Integer, Integer>, Integer> revisionTranslatedTopicIds = new HashMap<Pair<Integer, Integer>, Integer>();
         final Set<Pair<Integer, Integer>> dummyTopicRevisionIds = new HashSet<Pair<Integer, Integer>>();
-        if (topicRevisions != null) {
+        if (!topicRevisionsList.isEmpty()) {
             /*
-             * Fetch each topic that is a revision separately since this functionality isn't offered by the REST API.
+             * Fetch the topics that are revisions. This functionality isn't offered in bulk by the REST API, so the revisions
+             * are fetched concurrently instead.
              */
-            for (final Pair<Integer, Integer> topicToRevision : topicRevisions) {
+            final List<RESTTopicV1> revisionTopics = getTopicRevisions(topicRevisionsList, true);
+            for (int i = 0; i < topicRevisionsList.size(); i++) {
                 // Check if the app should be shutdown
                 if (isShuttingDown.get()) {
                     return null;
                 }
 
-                final RESTTopicV1 topic = reader.getTopicById(topicToRevision.getFirst(), topicToRevision.getSecond(), true);
-
-                if (topic != null) {
-                    // Get the matching latest translated topic and pushed translated topics
-                    final Pair<RESTTranslatedTopicV1, RESTTranslatedTopicV1> lastestTranslations = getLatestTranslations(topic,
-                            topicToRevision.getSecond());
-                    final RESTTranslatedTopicV1 latestTranslatedTopic = lastestTranslations.getFirst();
-                    final RESTTranslatedTopicV1 latestPushedTranslatedTopic = lastestTranslations.getSecond();
+                final Pair<Integer, Integer> topicToRevision = topicRevisionsList.get(i);
+                final RESTTopicV1 topic = revisionTopics.get(i);
 
-                    // If the latest translation and latest pushed topic matches, then use that if not a dummy topic should be
-                    // created
-                    if (latestTranslatedTopic != null && latestPushedTranslatedTopic != null
-                            && latestPushedTranslatedTopic.getTopicRevision().equals(latestTranslatedTopic.getTopicRevision())) {
-                        final RESTTranslatedTopicV1 translatedTopic = reader.getTranslatedTopicById(latestTranslatedTopic
-                                .getId());
-                        if (translatedTopic != null) {
-                            translatedTopics.addItem(translatedTopic);
-                        } else {
-                            dummyTopicRevisionIds.add(topicToRevision);
-                        }
-                    } else {
-                        dummyTopicRevisionIds.add(topicToRevision);
-                    }
+                final Integer translatedTopicId = topic == null ? null : getMatchingTranslatedTopicId(topic,
+                        topicToRevision.getSecond());
+                if (translatedTopicId != null) {
+                    revisionTranslatedTopicIds.put(topicToRevision, translatedTopicId);
                 } else {
                     dummyTopicRevisionIds.add(topicToRevision);
                 }
             }
         }
 
+        /* Download all of the translated topics at once */
+        final Set<Integer> translatedTopicIds = new HashSet<Integer>(latestTranslatedTopicIds.values());
+        translatedTopicIds.addAll(revisionTranslatedTopicIds.values());
+        final Map<Integer, RESTTranslatedTopicV1> downloadedTranslatedTopics = getTranslatedTopicsByIds(translatedTopicIds);
+
+        // Check if the app should be shutdown
+        if (isShuttingDown.get()) {
+            return null;
+        }
+
+        /* Remove any topic ids for translated topics that were found */
+        for (final Entry<Integer, Integer> entry : latestTranslatedTopicIds.entrySet()) {
+            final RESTTranslatedTopicV1 translatedTopic = downloadedTranslatedTopics.get(entry.getValue());
+            if (translatedTopic != null) {
+                dummyTopicIds.remove(entry.getKey());
+                translatedTopics.addItem(translatedTopic);
+            }
+        }
+
+        for (final Pair<Integer, Integer> topicToRevision : topicRevisionsList) {
+            final Integer translatedTopicId = revisionTranslatedTopicIds.get(topicToRevision);
+            if (translatedTopicId == null) continue;
+
+            final RESTTranslatedTopicV1 translatedTopic = downloadedTranslatedTopics.get(translatedTopicId);
+            if (translatedTopic != null) {
+                translatedTopics.addItem(translatedTopic);
+            } else {
+                dummyTopicRevisionIds.add(topicToRevision);
+            }
+        }
+
         /* Create the dummy translated topics */
         if (!dummyTopicIds.isEmpty() || !dummyTopicRevisionIds.isEmpty()) {
             populateDummyTranslatedTopicsPass(translatedTopics, dummyTopicIds, dummyTopicRevisionIds);
@@ -726,6 +867,403 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         return translatedTopics;
     }
 
+    /**
+     * Gets the ID of the translated topic that should be used for a topic. A translated topic is only used when the latest
+     * translation matches the latest revision that was pushed for translation.
+     * 
+     * @param topic The topic, with its translations expanded.
+     * @param rev The revision to find the translation for, or null for the latest translation.
+     * @return The ID of the translated topic to use, or null if a dummy translated topic should be used instead.
+     */
+    private Integer getMatchingTranslatedTopicId(final RESTTopicV1 topic, final Integer rev) {
+        // Get the matching latest translated topic and pushed translated topics
+        final Pair<RESTTranslatedTopicV1, RESTTranslatedTopicV1> lastestTranslations = getLatestTranslations(topic, rev);
+        final RESTTranslatedTopicV1 latestTranslatedTopic = lastestTranslations.getFirst();
+        final RESTTranslatedTopicV1 latestPushedTranslatedTopic = lastestTranslations.getSecond();
+
+        // If the latest translation and latest pushed topic matches, then use that if not a dummy topic should be created
+        if (latestTranslatedTopic != null && latestPushedTranslatedTopic != null
+                && latestPushedTranslatedTopic.getTopicRevision().equals(latestTranslatedTopic.getTopicRevision())) {
+            return latestTranslatedTopic.getId();
+        }
+
+        return null;
+    }
+
+    /**
+     * Downloads a set of translated topics from the REST Interface. The REST API doesn't offer a way to fetch multiple
+     * translated topics by their ID in one request, so the translated topics are split into batches that are downloaded
+     * concurrently using the number of threads specified by the building options.
+     * 
+     * @param translatedTopicIds The IDs of the translated topics to download.
+     * @return A map of the translated topic IDs to the downloaded translated topics. The value will be null if a translated
+     *         topic couldn't be found.
+     * @throws BuildProcessingException
+     */
+    protected Map<Integer, RESTTranslatedTopicV1> getTranslatedTopicsByIds(final Collection<Integer> translatedTopicIds)
+            throws BuildProcessingException {
+        final List<Integer> translatedTopicIdList = new ArrayList<Integer>(new HashSet<Integer>(translatedTopicIds));
+        final List<Callable<Map<Integer, RESTTranslatedTopicV1>>> tasks = new ArrayList<Callable<Map<Integer, RESTTranslatedTopicV1>>>();
+        for (int i = 0; i < translatedTopicIdList.size(); i += TOPIC_DOWNLOAD_BATCH_SIZE) {
+            final List<Integer> batchIds = translatedTopicIdList.subList(i,
+                    Math.min(i + TOPIC_DOWNLOAD_BATCH_SIZE, translatedTopicIdList.size()));
+            tasks.add(new Callable<Map<Integer, RESTTranslatedTopicV1>>() {
+                @Override
+                public Map<Integer, RESTTranslatedTopicV1> call() {
+                    final Map<Integer, RESTTranslatedTopicV1> batchTopics = new HashMap<Integer, RESTTranslatedTopicV1>();
+                    for (final Integer translatedTopicId : batchIds) {
+                        // Check if the app should be shutdown
+                        if (isShuttingDown.get()) {
+                            break;
+                        }
+
+                        batchTopics.put(translatedTopicId, restManager.getReader().getTranslatedTopicById(translatedTopicId));
+                    }
+                    return batchTopics;
+                }
+            });
+        }
+
+        try {
+            final Map<Integer, RESTTranslatedTopicV1> translatedTopics = new HashMap<Integer, RESTTranslatedTopicV1>();
+            for (final Map<Integer, RESTTranslatedTopicV1> batchTopics : ThreadingUtilities.invokeAll(tasks, getThreadCount())) {
+                translatedTopics.putAll(batchTopics);
+            }
+            return translatedTopics;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BuildProcessingException("Interrupted while downloading the translated topics");
+        } catch (final ExecutionException e) {
+            ThreadingUtilities.rethrowUncheckedCause(e);
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to download the translated topics");
+        }
+    }
+
+    /**
+     * Fetches a set of topic revisions from the REST Interface. The REST API doesn't offer a way to fetch multiple topic
+     * revisions in one request, so the revisions are fetched concurrently using the number of threads specified by the
+     * building options. Topic revisions never change, so revisions without their translations are also stored in the REST
+     * entity cache. Translations can be added to an old revision at any time, so they are always downloaded.
+     * 
+     * @param topicRevisions The topic id and revision pairs to fetch.
+     * @param expandTranslations Whether the translations for the topic revisions should be expanded.
+     * @return The topic revisions, in the same order as the topicRevisions collection. A topic revision will be null if it
+     *         couldn't be found.
+     * @throws BuildProcessingException
+     */
+    protected List<RESTTopicV1> getTopicRevisions(final Collection<Pair<Integer, Integer>> topicRevisions,
+            final boolean expandTranslations) throws BuildProcessingException {
+        final List<Callable<RESTTopicV1>> tasks = new ArrayList<Callable<RESTTopicV1>>();
+        for (final Pair<Integer, Integer> topicToRevision : topicRevisions) {
+            tasks.add(new Callable<RESTTopicV1>() {
+                @Override
+                public RESTTopicV1 call() {
+                    // Check if the app should be shutdown
+                    if (isShuttingDown.get()) {
+                        return null;
+                    }
+
+                    return getTopicRevision(topicToRevision.getFirst(), topicToRevision.getSecond(), expandTranslations);
+                }
+            });
+        }
+
+        try {
+            return ThreadingUtilities.invokeAll(tasks, getThreadCount());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BuildProcessingException("Interrupted while downloading the revision topics");
+        } catch (final ExecutionException e) {
+            ThreadingUtilities.rethrowUncheckedCause(e);
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to download the revision topics");
+        }
+    }
+
+    /**
+     * Fetches a single topic revision from the topic source, the REST entity cache, or from the REST Interface if it hasn't
+     * been downloaded before. Translations can be added to an old revision at any time, so revisions with translations are
+     * never taken from the REST entity cache.
+     * 
+     * @param topicId The ID of the topic.
+     * @param revision The revision of the topic.
+     * @param expandTranslations Whether the translations for the topic revision should be expanded.
+     * @return The topic revision, or null if it couldn't be found.
+     */
+    protected RESTTopicV1 getTopicRevision(final Integer topicId, final Integer revision, final boolean expandTranslations) {
+        if (topicSource != null) {
+            final RESTTopicV1 topic = topicSource.getTopic(topicId, revision, expandTranslations);
+            if (topic != null) {
+                return topic;
+            }
+        }
+
+        if (expandTranslations || revision == null) {
+            return restManager.getReader().getTopicById(topicId, revision, expandTranslations);
+        }
+
+        RESTTopicV1 topic = restEntityCache.get(TOPIC_CACHE_TYPE, topicId, revision, RESTTopicV1.class);
+        if (topic == null) {
+            topic = restManager.getReader().getTopicById(topicId, revision, false);
+            restEntityCache.put(TOPIC_CACHE_TYPE, topicId, revision, topic);
+        }
+        return topic;
+    }
+
+    /**
+     * Gets the latest revision of a set of topics. Any topics held by the topic source are used as is, and the rest are
+     * downloaded from the REST Interface in a single request.
+     * 
+     * @param topicIds The IDs of the topics.
+     * @param expandTranslations Whether the translations for the topics should be expanded.
+     * @return The topics that exist.
+     */
+    protected RESTTopicCollectionV1 getLatestTopics(final List<Integer> topicIds, final boolean expandTranslations) {
+        final RESTTopicCollectionV1 topics = new RESTTopicCollectionV1();
+        final List<Integer> missingTopicIds = new ArrayList<Integer>();
+        for (final Integer topicId : topicIds) {
+            final RESTTopicV1 topic = topicSource == null ? null : topicSource.getTopic(topicId, null, expandTranslations);
+            if (topic == null) {
+                missingTopicIds.add(topicId);
+            } else {
+                topics.addItem(topic);
+            }
+        }
+
+        if (!missingTopicIds.isEmpty()) {
+            final RESTTopicCollectionV1 downloadedTopics = restManager.getReader().getTopicsByIds(missingTopicIds,
+                    expandTranslations);
+            if (downloadedTopics != null && downloadedTopics.getItems() != null) {
+                final List<RESTTopicV1> downloadedTopicItems = downloadedTopics.returnItems();
+                for (final RESTTopicV1 topic : downloadedTopicItems) {
+                    topics.addItem(topic);
+                }
+            }
+        }
+
+        return topics;
+    }
+
+    /**
+     * Downloads the latest topics and the topic revisions, and parses the XML for each topic as soon as it has been
+     * downloaded. The downloads and the parsing each use the number of threads specified by the building options, so the
+     * time taken is close to the longer of the two instead of their sum. When only one thread is used the latest topics are
+     * downloaded in a single request, otherwise they are split into batches that are downloaded concurrently.
+     * <p/>
+     * The topic ID attributes are not set while parsing, as the Fixed URL Pass can only be run once all the latest topics
+     * have been downloaded.
+     * 
+     * @param topicIds The IDs of the topics to download the latest revision of.
+     * @param topicRevisions The topic id and revision pairs to download.
+     * @return The downloaded topics, with the parse results in the same order as the topics.
+     * @throws BuildProcessingException
+     */
+    @SuppressWarnings("unchecked")
+    private DownloadedTopics downloadAndParseTopics(final Set<Integer> topicIds,
+            final Set<Pair<Integer, Integer>> topicRevisions) throws BuildProcessingException {
+        final ExecutorService downloadExecutor = ThreadingUtilities.newExecutor(getThreadCount());
+        final ExecutorService parseExecutor = ThreadingUtilities.newExecutor(getThreadCount());
+
+        try {
+            /* Each download submits the parsing for its topics, and returns the topics with their parse results */
+            final List<Future<List<Pair<RESTTopicV1, Future<TopicPassResult>>>>> latestDownloads =
+                    new ArrayList<Future<List<Pair<RESTTopicV1, Future<TopicPassResult>>>>>();
+            final List<Integer> topicIdList = CollectionUtilities.toArrayList(topicIds);
+            final int batchSize = getThreadCount() <= 1 ? Math.max(topicIdList.size(), 1) : TOPIC_DOWNLOAD_BATCH_SIZE;
+            for (int i = 0; i < topicIdList.size(); i += batchSize) {
+                final List<Integer> batchIds = new ArrayList<Integer>(topicIdList.subList(i,
+                        Math.min(i + batchSize, topicIdList.size())));
+                latestDownloads.add(ThreadingUtilities.submit(downloadExecutor,
+                        new Callable<List<Pair<RESTTopicV1, Future<TopicPassResult>>>>() {
+                            @Override
+                            public List<Pair<RESTTopicV1, Future<TopicPassResult>>> call() {
+                                // Check if the app should be shutdown
+                                if (isShuttingDown.get()) {
+                                    return new ArrayList<Pair<RESTTopicV1, Future<TopicPassResult>>>();
+                                }
+
+                                final RESTTopicCollectionV1 batchTopics = getLatestTopics(batchIds, false);
+                                return submitTopicParsing(parseExecutor, batchTopics.returnItems());
+                            }
+                        }));
+            }
+
+            /*
+             * Fetch the topics that are revisions. This functionality isn't offered in bulk by the REST API, so each revision
+             * is downloaded separately.
+             */
+            final List<Future<List<Pair<RESTTopicV1, Future<TopicPassResult>>>>> revisionDownloads =
+                    new ArrayList<Future<List<Pair<RESTTopicV1, Future<TopicPassResult>>>>>();
+            for (final Pair<Integer, Integer> topicToRevision : topicRevisions) {
+                revisionDownloads.add(ThreadingUtilities.submit(downloadExecutor,
+                        new Callable<List<Pair<RESTTopicV1, Future<TopicPassResult>>>>() {
+                            @Override
+                            public List<Pair<RESTTopicV1, Future<TopicPassResult>>> call() {
+                                // Check if the app should be shutdown
+                                if (isShuttingDown.get()) {
+                                    return new ArrayList<Pair<RESTTopicV1, Future<TopicPassResult>>>();
+                                }
+
+                                final RESTTopicV1 topicRevision = getTopicRevision(topicToRevision.getFirst(),
+                                        topicToRevision.getSecond(), false);
+                                return submitTopicParsing(parseExecutor,
+                                        topicRevision == null ? null : CollectionUtilities.toArrayList(topicRevision));
+                            }
+                        }));
+            }
+
+            /* Collect the results in the order they were requested, so the topic order is the same for every build */
+            final DownloadedTopics downloadedTopics = new DownloadedTopics();
+            final List<Future<TopicPassResult>> parseResults = new ArrayList<Future<TopicPassResult>>();
+            for (final Future<List<Pair<RESTTopicV1, Future<TopicPassResult>>>> download : latestDownloads) {
+                for (final Pair<RESTTopicV1, Future<TopicPassResult>> topic : download.get()) {
+                    downloadedTopics.getLatestTopics().addItem(topic.getFirst());
+                    downloadedTopics.getAllTopics().addItem(topic.getFirst());
+                    parseResults.add(topic.getSecond());
+                }
+            }
+            for (final Future<List<Pair<RESTTopicV1, Future<TopicPassResult>>>> download : revisionDownloads) {
+                for (final Pair<RESTTopicV1, Future<TopicPassResult>> topic : download.get()) {
+                    downloadedTopics.getAllTopics().addItem(topic.getFirst());
+                    parseResults.add(topic.getSecond());
+                }
+            }
+
+            for (final Future<TopicPassResult> parseResult : parseResults) {
+                downloadedTopics.getParsedTopics().add(parseResult.get());
+            }
+
+            return downloadedTopics;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BuildProcessingException("Interrupted while downloading the topics");
+        } catch (final ExecutionException e) {
+            ThreadingUtilities.rethrowUncheckedCause(e);
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to download the topics");
+        } finally {
+            ThreadingUtilities.shutdown(downloadExecutor);
+            ThreadingUtilities.shutdown(parseExecutor);
+        }
+    }
+
+    /**
+     * Submits the XML for each downloaded topic to be parsed.
+     * 
+     * @param parseExecutor The pool of threads to parse the topics on, or null to parse them on the calling thread.
+     * @param topics The downloaded topics, or null if no topics were downloaded.
+     * @return Each topic paired with the result of parsing its XML.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Pair<RESTTopicV1, Future<TopicPassResult>>> submitTopicParsing(final ExecutorService parseExecutor,
+            final List<RESTTopicV1> topics) {
+        final List<Pair<RESTTopicV1, Future<TopicPassResult>>> parseResults =
+                new ArrayList<Pair<RESTTopicV1, Future<TopicPassResult>>>();
+        if (topics != null) {
+            for (final RESTTopicV1 topic : topics) {
+                parseResults.add(new Pair<RESTTopicV1, Future<TopicPassResult>>(topic, ThreadingUtilities.submit(
+                        parseExecutor, createTopicParseTask((T) topic))));
+            }
+        }
+        return parseResults;
+    }
+
+    /**
+     * Gets a blob constant from the REST entity cache, or downloads it from the REST Interface if it hasn't been cached.
+     * 
+     * @param id The ID of the blob constant.
+     * @return The blob constant.
+     * @throws InvalidParameterException If an error occurred during a REST API call.
+     * @throws InternalProcessingException If an error occurred during a REST API call.
+     */
+    protected RESTBlobConstantV1 getBlobConstant(final Integer id) throws InvalidParameterException,
+            InternalProcessingException {
+        RESTBlobConstantV1 blobConstant = restEntityCache.get(BLOB_CONSTANT_CACHE_TYPE, id, null, RESTBlobConstantV1.class);
+        if (blobConstant == null) {
+            blobConstant = restManager.getRESTClient().getJSONBlobConstant(id, "");
+            restEntityCache.put(BLOB_CONSTANT_CACHE_TYPE, id, null, blobConstant);
+        }
+        return blobConstant;
+    }
+
+    /**
+     * Downloads a set of string constants from the REST Interface, so that they are available when they are needed later in
+     * the build. The REST API doesn't offer a way to fetch multiple string constants in one request, so the constants are
+     * downloaded concurrently using the number of threads specified by the building options.
+     * 
+     * @param ids The IDs of the string constants.
+     * @throws BuildProcessingException
+     */
+    protected void fetchStringConstants(final Collection<Integer> ids) throws BuildProcessingException {
+        final List<Callable<RESTStringConstantV1>> tasks = new ArrayList<Callable<RESTStringConstantV1>>();
+        for (final Integer id : new HashSet<Integer>(ids)) {
+            if (stringConstants.containsKey(id)) continue;
+
+            tasks.add(new Callable<RESTStringConstantV1>() {
+                @Override
+                public RESTStringConstantV1 call() throws InvalidParameterException, InternalProcessingException {
+                    return getStringConstant(id);
+                }
+            });
+        }
+
+        try {
+            ThreadingUtilities.invokeAll(tasks, getThreadCount());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BuildProcessingException("Interrupted while downloading the string constants");
+        } catch (final ExecutionException e) {
+            ThreadingUtilities.rethrowUncheckedCause(e);
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to download the string constants");
+        }
+    }
+
+    /**
+     * Gets a string constant that has already been downloaded for the build, or downloads it from the REST Interface.
+     * 
+     * @param id The ID of the string constant.
+     * @return The string constant.
+     * @throws InvalidParameterException If an error occurred during a REST API call.
+     * @throws InternalProcessingException If an error occurred during a REST API call.
+     */
+    protected RESTStringConstantV1 getStringConstant(final Integer id) throws InvalidParameterException,
+            InternalProcessingException {
+        RESTStringConstantV1 stringConstant = stringConstants.get(id);
+        if (stringConstant == null) {
+            stringConstant = restManager.getRESTClient().getJSONStringConstant(id, "");
+            stringConstants.put(id, stringConstant);
+        }
+        return stringConstant;
+    }
+
+    /**
+     * Gets the compiled template for a string constant. Templates are only compiled once for each revision of a string
+     * constant.
+     * 
+     * @param id The ID of the string constant that holds the template.
+     * @param placeholderRegexes The regular expressions that match the placeholders in the template.
+     * @return The compiled template.
+     * @throws InvalidParameterException If an error occurred during a REST API call.
+     * @throws InternalProcessingException If an error occurred during a REST API call.
+     */
+    protected BookTemplate getBookTemplate(final Integer id, final String... placeholderRegexes)
+            throws InvalidParameterException, InternalProcessingException {
+        final RESTStringConstantV1 stringConstant = getStringConstant(id);
+        final String template = stringConstant.getValue();
+
+        // Use the content of the template if the revision isn't known, so a changed template is never missed
+        final String key = id + "-" + (stringConstant.getRevision() == null ? template.hashCode() : stringConstant.getRevision())
+                + "-" + Arrays.asList(placeholderRegexes);
+        BookTemplate bookTemplate = compiledTemplates.get(key);
+        if (bookTemplate == null) {
+            bookTemplate = BookTemplate.compile(template, placeholderRegexes);
+            compiledTemplates.put(key, bookTemplate);
+        }
+        return bookTemplate;
+    }
+
     /**
      * Find the latest pushed and translated topics for a topic. We need to do this since translations are only added when some
      * content is added in Zanata. So if the latest translated topic doesn't match the topic revision of the latest pushed then
@@ -830,14 +1368,16 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * @param topics The set of topics to add the dummy translated topics to.
      * @param dummyTopicIds The list of topics to be added as dummy translated topics.
      * @param dummyRevisionTopicIds
+     * @throws BuildProcessingException
      */
     private void populateDummyTranslatedTopicsPass(final RESTTranslatedTopicCollectionV1 topics,
-            final Set<Integer> dummyTopicIds, Set<Pair<Integer, Integer>> dummyRevisionTopicIds) {
+            final Set<Integer> dummyTopicIds, Set<Pair<Integer, Integer>> dummyRevisionTopicIds)
+            throws BuildProcessingException {
         log.info("\tDoing dummy Translated Topic pass");
 
         final RESTTopicCollectionV1 dummyTopics;
 
-        RESTTopicCollectionV1 tempCollection = reader.getTopicsByIds(CollectionUtilities.toArrayList(dummyTopicIds), true);
+        RESTTopicCollectionV1 tempCollection = getLatestTopics(CollectionUtilities.toArrayList(dummyTopicIds), true);
         if (tempCollection == null) {
             dummyTopics = new RESTTopicCollectionV1();
         } else {
@@ -845,8 +1385,8 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         }
 
         /* Add any revision topics */
-        for (final Pair<Integer, Integer> topicToRevision : dummyRevisionTopicIds) {
-            final RESTTopicV1 topic = reader.getTopicById(topicToRevision.getFirst(), topicToRevision.getSecond(), true);
+        final List<RESTTopicV1> revisionTopics = getTopicRevisions(dummyRevisionTopicIds, true);
+        for (final RESTTopicV1 topic : revisionTopics) {
             if (topic != null) {
                 dummyTopics.addItem(topic);
             }
@@ -872,8 +1412,33 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
             }
         }
 
-        /* create and add the dummy topics */
+        /*
+         * Download the default locale translations that the dummy topics, and the topics they are related to, will be created
+         * from in one go, instead of downloading them one at a time as each dummy topic is created.
+         */
         final List<RESTTopicV1> topicItems = dummyTopics.returnItems();
+        final Set<Integer> pushedTranslatedTopicIds = new HashSet<Integer>();
+        for (final RESTTopicV1 topic : topicItems) {
+            if (!translatedTopicsMap.containsKey(topic.getId())) {
+                addPushedTranslatedTopicId(pushedTranslatedTopicIds, translatedTopicsMap, topic);
+
+                if (topic.getOutgoingRelationships() != null && topic.getOutgoingRelationships().getItems() != null) {
+                    for (final RESTTopicV1 relatedTopic : topic.getOutgoingRelationships().returnItems()) {
+                        addPushedTranslatedTopicId(pushedTranslatedTopicIds, translatedTopicsMap, relatedTopic);
+                    }
+                }
+
+                if (topic.getIncomingRelationships() != null && topic.getIncomingRelationships().getItems() != null) {
+                    for (final RESTTopicV1 relatedTopic : topic.getIncomingRelationships().returnItems()) {
+                        addPushedTranslatedTopicId(pushedTranslatedTopicIds, translatedTopicsMap, relatedTopic);
+                    }
+                }
+            }
+        }
+        final Map<Integer, RESTTranslatedTopicV1> pushedTranslatedTopics = getTranslatedTopicsByIds(pushedTranslatedTopicIds);
+
+        /* create and add the dummy topics */
+        final Map<String, RESTTranslatedTopicV1> dummyTranslatedTopics = new HashMap<String, RESTTranslatedTopicV1>();
         for (final RESTTopicV1 topic : topicItems) {
             // Check if the app should be shutdown
             if (isShuttingDown.get()) {
@@ -881,7 +1446,8 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
             }
 
             if (!translatedTopicsMap.containsKey(topic.getId())) {
-                final RESTTranslatedTopicV1 dummyTopic = createDummyTranslatedTopic(translatedTopicsMap, topic, true, locale);
+                final RESTTranslatedTopicV1 dummyTopic = createDummyTranslatedTopic(translatedTopicsMap, pushedTranslatedTopics,
+                        dummyTranslatedTopics, topic, true, locale);
 
                 topics.addItem(dummyTopic);
             }
@@ -889,16 +1455,48 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     }
 
     /**
-     * Creates a dummy translated topic so that a book can be built using the same relationships as a normal build.
+     * Adds the ID of the translated topic that was pushed for translation for a topic, if a dummy translated topic will need
+     * to be created for the topic.
      * 
+     * @param pushedTranslatedTopicIds The set of pushed translated topic IDs to add to.
      * @param translatedTopicsMap A map of topic ids to translated topics.
-     * @param topic The topic to create the dummy topic from.
-     * @param expandRelationships Whether the relationships should be expanded for the dummy topic.
-     * @param locale The locale to build the dummy translations for.
-     * @return The dummy translated topic.
+     * @param topic The topic that may need a dummy translated topic.
+     */
+    private void addPushedTranslatedTopicId(final Set<Integer> pushedTranslatedTopicIds,
+            final Map<Integer, RESTTranslatedTopicV1> translatedTopicsMap, final RESTTopicV1 topic) {
+        if (translatedTopicsMap.containsKey(topic.getId())) return;
+
+        final RESTTranslatedTopicV1 translatedTopic = new RESTTranslatedTopicV1();
+        translatedTopic.setTopic(topic);
+
+        final RESTTranslatedTopicV1 pushedTranslatedTopic = ComponentTranslatedTopicV1
+                .returnPushedTranslatedTopic(translatedTopic);
+        if (pushedTranslatedTopic != null) {
+            pushedTranslatedTopicIds.add(pushedTranslatedTopic.getId());
+        }
+    }
+
+    /**
+     * Creates a dummy translated topic so that a book can be built using the same relationships as a normal build. Each dummy
+     * translated topic is only created once, so topics that are related to many other topics share the same dummy topic.
+     * 
+     * @param translatedTopicsMap A map of topic ids to translated topics.
+     * @param pushedTranslatedTopics A map of the translated topics that have already been downloaded, to their IDs.
+     * @param dummyTranslatedTopics The dummy translated topics that have already been created.
+     * @param topic The topic to create the dummy topic from.
+     * @param expandRelationships Whether the relationships should be expanded for the dummy topic.
+     * @param locale The locale to build the dummy translations for.
+     * @return The dummy translated topic.
      */
     private RESTTranslatedTopicV1 createDummyTranslatedTopic(final Map<Integer, RESTTranslatedTopicV1> translatedTopicsMap,
-            final RESTTopicV1 topic, final boolean expandRelationships, final String locale) {
+            final Map<Integer, RESTTranslatedTopicV1> pushedTranslatedTopics,
+            final Map<String, RESTTranslatedTopicV1> dummyTranslatedTopics, final RESTTopicV1 topic,
+            final boolean expandRelationships, final String locale) {
+        final String dummyTopicKey = topic.getId() + (expandRelationships ? "-expanded" : "");
+        if (dummyTranslatedTopics.containsKey(dummyTopicKey)) {
+            return dummyTranslatedTopics.get(dummyTopicKey);
+        }
+
         final RESTTranslatedTopicV1 translatedTopic = new RESTTranslatedTopicV1();
         translatedTopic.setTopic(topic);
         translatedTopic.setId(topic.getId() * -1);
@@ -911,21 +1509,34 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
          * create a dummy topic from the passed RESTTopicV1.
          */
         if (pushedTranslatedTopic != null) {
-            final RESTTranslatedTopicV1 defaultLocaleTranslatedTopic = reader.getTranslatedTopicById(pushedTranslatedTopic
-                    .getId());
+            final RESTTranslatedTopicV1 defaultLocaleTranslatedTopic;
+            if (pushedTranslatedTopics.containsKey(pushedTranslatedTopic.getId())) {
+                defaultLocaleTranslatedTopic = pushedTranslatedTopics.get(pushedTranslatedTopic.getId());
+            } else {
+                defaultLocaleTranslatedTopic = restManager.getReader().getTranslatedTopicById(pushedTranslatedTopic.getId());
+            }
 
             if (defaultLocaleTranslatedTopic != null) {
+                /*
+                 * Work on a copy, as the downloaded translated topic may be handed to the builder for another locale by the
+                 * REST reader's cache.
+                 */
+                final RESTTranslatedTopicV1 dummyTopic = defaultLocaleTranslatedTopic.clone(true);
+
                 /* Negate the ID to show it isn't a proper translated topic */
-                defaultLocaleTranslatedTopic.setId(topic.getId() * -1);
+                dummyTopic.setId(topic.getId() * -1);
 
                 /* prefix the locale to show that it is missing the related translated topic */
-                defaultLocaleTranslatedTopic.setTitle("[" + defaultLocaleTranslatedTopic.getLocale() + "] "
-                        + defaultLocaleTranslatedTopic.getTitle());
+                dummyTopic.setTitle("[" + dummyTopic.getLocale() + "] " + dummyTopic.getTitle());
 
                 /* Change the locale since the default locale translation is being transformed into a dummy translation */
-                defaultLocaleTranslatedTopic.setLocale(locale);
+                dummyTopic.setLocale(locale);
 
-                return defaultLocaleTranslatedTopic;
+                /* The relationships aren't changed, so the dummy topic can be used whether or not they should be expanded */
+                dummyTranslatedTopics.put(topic.getId().toString(), dummyTopic);
+                dummyTranslatedTopics.put(topic.getId() + "-expanded", dummyTopic);
+
+                return dummyTopic;
             }
         }
 
@@ -945,6 +1556,9 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         /* prefix the locale to show that it is missing the related translated topic */
         translatedTopic.setTitle("[" + topic.getLocale() + "] " + topic.getTitle());
 
+        /* Store the dummy topic before adding its relationships, so it isn't created again by a related topic */
+        dummyTranslatedTopics.put(dummyTopicKey, translatedTopic);
+
         /* Add the dummy outgoing relationships */
         if (topic.getOutgoingRelationships() != null && topic.getOutgoingRelationships().getItems() != null) {
             final RESTTranslatedTopicCollectionV1 outgoingRelationships = new RESTTranslatedTopicCollectionV1();
@@ -959,7 +1573,8 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 if (translatedTopicsMap.containsKey(relatedTopic.getId())) {
                     outgoingRelationships.addItem(translatedTopicsMap.get(relatedTopic.getId()));
                 } else {
-                    outgoingRelationships.addItem(createDummyTranslatedTopic(translatedTopicsMap, relatedTopic, false, locale));
+                    outgoingRelationships.addItem(createDummyTranslatedTopic(translatedTopicsMap, pushedTranslatedTopics,
+                            dummyTranslatedTopics, relatedTopic, false, locale));
                 }
             }
             translatedTopic.setOutgoingRelationships(outgoingRelationships);
@@ -979,7 +1594,8 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 if (translatedTopicsMap.containsKey(relatedTopic.getId())) {
                     incomingRelationships.addItem(translatedTopicsMap.get(relatedTopic.getId()));
                 } else {
-                    incomingRelationships.addItem(createDummyTranslatedTopic(translatedTopicsMap, relatedTopic, false, locale));
+                    incomingRelationships.addItem(createDummyTranslatedTopic(translatedTopicsMap, pushedTranslatedTopics,
+                            dummyTranslatedTopics, relatedTopic, false, locale));
                 }
             }
             translatedTopic.setIncomingRelationships(incomingRelationships);
@@ -993,14 +1609,18 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * topic. Also collect the ID Attributes that are used within the topics.
      * 
      * @param topics The list of topics to be checked and added to the database.
+     * @param parsedTopics The results of parsing the XML for each topic, in the same order as the topics, or null if the
+     *            topics haven't been parsed yet.
      * @param useFixedUrls Whether the Fixed URL Properties should be used for the topic ID attributes.
-     * @param usedIdAttributes The set of Used ID Attributes that should be added to.
+     * @param usedIdAttributes The registry of Used ID Attributes that should be added to.
      * @throws BuildProcessingException
      */
-    private void doTopicPass(final U topics, final boolean useFixedUrls, final Map<Integer, Set<String>> usedIdAttributes)
-            throws BuildProcessingException {
+    private void doTopicPass(final U topics, final List<TopicPassResult> parsedTopics, final boolean useFixedUrls,
+            final IdAttributeRegistry usedIdAttributes) throws BuildProcessingException {
         log.info("Doing " + locale + " First topic pass");
 
+        sharedTopicDocuments = new HashMap<Integer, SharedTopicDocument>();
+
         /* Check that we have some topics to process */
         if (topics != null && topics.getItems() != null) {
             log.info("\tProcessing " + topics.getItems().size() + " Topics");
@@ -1010,9 +1630,25 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
             float current = 0;
             int lastPercent = 0;
 
-            /* Process each topic */
             final List<T> topicItems = topics.returnItems();
-            for (final T topic : topicItems) {
+
+            /*
+             * Parse the XML for each topic, if it wasn't parsed as the topics were downloaded. Each topic is independent of the
+             * others, so the parsing can be spread over the worker threads. The results are then merged in the original topic
+             * order, so that the output and the error database are identical to a serial build.
+             */
+            final List<TopicPassResult> topicPassResults = parsedTopics == null ? parseTopicsXML(topicItems) : parsedTopics;
+
+            // Check if the app should be shutdown
+            if (isShuttingDown.get()) {
+                return;
+            }
+
+            /* Process each topic */
+            for (int i = 0; i < topicItems.size(); i++) {
+                final T topic = topicItems.get(i);
+                final TopicPassResult parsedTopic = topicPassResults.get(i);
+
                 ++current;
                 final int percent = Math.round(current / total * 100);
                 if (percent - lastPercent >= showPercent) {
@@ -1021,78 +1657,67 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 }
 
                 /* Find the Topic ID */
-                final Integer topicId;
-                if (topic instanceof RESTTranslatedTopicV1) {
-                    topicId = ((RESTTranslatedTopicV1) topic).getTopicId();
-                } else {
-                    topicId = topic.getId();
-                }
+                final Integer topicId = getTopicId(topic);
 
                 Document topicDoc = null;
-                final String topicXML = topic == null ? null : topic.getXml();
 
                 // Check if the app should be shutdown
                 if (isShuttingDown.get()) {
                     return;
                 }
 
-                boolean xmlValid = true;
-
                 // Check that the Topic XML exists and isn't empty
-                if (topicXML == null || topicXML.equals("")) {
+                if (parsedTopic == null) {
                     // Create an empty topic with the topic title from the resource file
                     final String topicXMLErrorTemplate = DocbookBuildUtilities.buildTopicErrorTemplate(topic,
                             errorEmptyTopic.getValue(), docbookBuildingOptions);
 
                     errorDatabase.addWarning(topic, ErrorType.NO_CONTENT, BuilderConstants.WARNING_EMPTY_TOPIC_XML);
                     topicDoc = setTopicXMLForError(topic, topicXMLErrorTemplate, useFixedUrls);
-                    xmlValid = false;
-                }
+                } else if (parsedTopic.getException() != null) {
+                    final String topicXMLErrorTemplate = DocbookBuildUtilities.buildTopicErrorTemplate(topic,
+                            errorInvalidValidationTopic.getValue(), docbookBuildingOptions);
 
-                // Check if the app should be shutdown
-                if (isShuttingDown.get()) {
-                    return;
+                    errorDatabase.addError(topic, ErrorType.INVALID_CONTENT, BuilderConstants.ERROR_BAD_XML_STRUCTURE + " "
+                            + StringUtilities.escapeForXML(parsedTopic.getException().getMessage()));
+                    topicDoc = setTopicXMLForError(topic, topicXMLErrorTemplate, useFixedUrls);
+                } else if (parsedTopic.getDocument() == null) {
+                    final String topicXMLErrorTemplate = DocbookBuildUtilities.buildTopicErrorTemplate(topic,
+                            errorInvalidValidationTopic.getValue(), docbookBuildingOptions);
+
+                    errorDatabase.addError(topic, ErrorType.INVALID_CONTENT, BuilderConstants.ERROR_INVALID_XML_CONTENT);
+                    topicDoc = setTopicXMLForError(topic, topicXMLErrorTemplate, useFixedUrls);
+                } else {
+                    topicDoc = parsedTopic.getDocument();
                 }
 
-                /* make sure we have valid XML */
-                if (xmlValid) {
-                    try {
-                        topicDoc = XMLUtilities.convertStringToDocument(topic.getXml());
+                if (parsedTopic != null && parsedTopic.getDocument() != null) {
+                    /* The id attributes were already collected when the XML was parsed, so merge them in */
+                    usedIdAttributes.addIdAttributes(topicId, parsedTopic.getIdAttributes());
 
-                        if (topicDoc != null) {
-                            /* Ensure the topic is wrapped in a section and the title matches the topic */
-                            DocBookUtilities.wrapDocumentInSection(topicDoc);
-                            DocBookUtilities.setSectionTitle(topic.getTitle(), topicDoc);
-                        } else {
-                            final String topicXMLErrorTemplate = DocbookBuildUtilities.buildTopicErrorTemplate(topic,
-                                    errorInvalidValidationTopic.getValue(), docbookBuildingOptions);
+                    processTopicID(topic, topicDoc, useFixedUrls);
+                } else {
+                    /*
+                     * Extract the id attributes used in this topic. We'll use this data in the second pass to make sure that
+                     * individual topics don't repeat id attributes.
+                     */
+                    final Set<String> idAttributes = new HashSet<String>();
+                    DocbookBuildUtilities.collectIdAttributes(topicDoc, idAttributes);
+                    usedIdAttributes.addIdAttributes(topicId, idAttributes);
 
-                            errorDatabase
-                                    .addError(topic, ErrorType.INVALID_CONTENT, BuilderConstants.ERROR_INVALID_XML_CONTENT);
-                            topicDoc = setTopicXMLForError(topic, topicXMLErrorTemplate, useFixedUrls);
-                        }
-                    } catch (SAXException ex) {
-                        final String topicXMLErrorTemplate = DocbookBuildUtilities.buildTopicErrorTemplate(topic,
-                                errorInvalidValidationTopic.getValue(), docbookBuildingOptions);
+                    processTopicSectionInfo(topic, topicDoc);
 
-                        errorDatabase.addError(topic, ErrorType.INVALID_CONTENT, BuilderConstants.ERROR_BAD_XML_STRUCTURE + " "
-                                + StringUtilities.escapeForXML(ex.getMessage()));
-                        topicDoc = setTopicXMLForError(topic, topicXMLErrorTemplate, useFixedUrls);
-                    }
+                    processTopicID(topic, topicDoc, useFixedUrls);
                 }
 
                 /*
-                 * Extract the id attributes used in this topic. We'll use this data in the second pass to make sure that
-                 * individual topics don't repeat id attributes.
+                 * Add the document & topic to the database spec topics. The spec topics share the parsed document until they are
+                 * processed, so that a copy of the document is only made when a spec topic is about to modify it.
                  */
-                collectIdAttributes(topicId, topicDoc, usedIdAttributes);
-
-                processTopicSectionInfo(topic, topicDoc);
-
-                processTopicID(topic, topicDoc, useFixedUrls);
-
-                /* Add the document & topic to the database spec topics */
                 final List<SpecTopic> specTopics = specDatabase.getSpecTopicsForTopicID(topicId);
+                final String topicXML = topic.getXml();
+                sharedTopicDocuments.put(topicId, new SharedTopicDocument(topicDoc, topicXML == null ? 0 : topicXML.length(),
+                        specTopics.size()));
                 for (final SpecTopic specTopic : specTopics) {
                     // Check if the app should be shutdown
                     if (isShuttingDown.get()) {
@@ -1100,7 +1725,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                     }
 
                     specTopic.setTopic(topic.clone(false));
-                    specTopic.setXmlDocument((Document) topicDoc.cloneNode(true));
+                    specTopic.setXmlDocument(topicDoc);
                 }
 
             }
@@ -1109,20 +1734,163 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         }
     }
 
+    /**
+     * Parses the XML for a list of topics, using the number of threads specified by the building options.
+     * 
+     * @param topics The topics to parse the XML for.
+     * @return A list of the parse results, in the same order as the topics. A result will be null if the topic has no XML.
+     * @throws BuildProcessingException
+     */
+    private List<TopicPassResult> parseTopicsXML(final List<T> topics) throws BuildProcessingException {
+        final List<Callable<TopicPassResult>> tasks = new ArrayList<Callable<TopicPassResult>>();
+        for (final T topic : topics) {
+            tasks.add(createTopicParseTask(topic));
+        }
+
+        try {
+            return ThreadingUtilities.invokeAll(tasks, getThreadCount());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BuildProcessingException("Interrupted while parsing the Topic XML");
+        } catch (final ExecutionException e) {
+            ThreadingUtilities.rethrowUncheckedCause(e);
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to parse the Topic XML");
+        }
+    }
+
+    /**
+     * Creates a task that parses the XML for a topic.
+     * 
+     * @param topic The topic to parse the XML for.
+     * @return The task, which returns null if the topic has no XML.
+     */
+    private Callable<TopicPassResult> createTopicParseTask(final T topic) {
+        return new Callable<TopicPassResult>() {
+            @Override
+            public TopicPassResult call() {
+                final String topicXML = topic == null ? null : topic.getXml();
+
+                // Check if the app should be shutdown or if the topic has no content
+                if (isShuttingDown.get() || topicXML == null || topicXML.equals("")) {
+                    return null;
+                }
+
+                return parseTopicXML(topic);
+            }
+        };
+    }
+
+    /**
+     * Parses the XML for a topic using {@link DocbookBuildUtilities#parseTopicXML(String, String, Set)} and adds the keywords
+     * for the topics tags to its section info. This method doesn't modify any of the builders shared state, so it is safe to
+     * be called from a worker thread. The ID attribute for the topic is set later, once it is known if Fixed URLs can be used.
+     * 
+     * @param topic The topic whose XML should be parsed.
+     * @return The result of parsing the topic XML.
+     */
+    protected TopicPassResult parseTopicXML(final T topic) {
+        final TopicPassResult result = new TopicPassResult();
+        try {
+            final Document topicDoc = DocbookBuildUtilities.parseTopicXML(topic.getXml(), topic.getTitle(),
+                    result.getIdAttributes());
+            processTopicSectionInfo(topic, topicDoc);
+
+            result.setDocument(topicDoc);
+        } catch (SAXException ex) {
+            result.setException(ex);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the number of threads that should be used to process topics.
+     * 
+     * @return The number of threads specified in the building options, or 1 if none was specified.
+     */
+    protected int getThreadCount() {
+        final Integer threadCount = docbookBuildingOptions.getThreadCount();
+        return threadCount == null || threadCount < 1 ? 1 : threadCount;
+    }
+
+    /**
+     * Gets the ID of the topic that a topic or translated topic represents.
+     * 
+     * @param topic The topic to get the ID for.
+     * @return The topics ID, or the ID of the original topic for translated topics.
+     */
+    protected Integer getTopicId(final RESTBaseTopicV1<?, ?, ?> topic) {
+        if (topic instanceof RESTTranslatedTopicV1) {
+            return ((RESTTranslatedTopicV1) topic).getTopicId();
+        } else {
+            return topic.getId();
+        }
+    }
+
+    /**
+     * The topics downloaded for the default locale, along with the results of parsing their XML.
+     */
+    protected static class DownloadedTopics {
+        private final RESTTopicCollectionV1 latestTopics = new RESTTopicCollectionV1();
+        private final RESTTopicCollectionV1 allTopics = new RESTTopicCollectionV1();
+        private final List<TopicPassResult> parsedTopics = new ArrayList<TopicPassResult>();
+
+        public RESTTopicCollectionV1 getLatestTopics() {
+            return latestTopics;
+        }
+
+        public RESTTopicCollectionV1 getAllTopics() {
+            return allTopics;
+        }
+
+        public List<TopicPassResult> getParsedTopics() {
+            return parsedTopics;
+        }
+    }
+
+    /**
+     * The result of parsing a topics XML during the first topic pass.
+     */
+    protected static class TopicPassResult {
+        private final Set<String> idAttributes = new HashSet<String>();
+        private Document document = null;
+        private SAXException exception = null;
+
+        public Set<String> getIdAttributes() {
+            return idAttributes;
+        }
+
+        public Document getDocument() {
+            return document;
+        }
+
+        public void setDocument(final Document document) {
+            this.document = document;
+        }
+
+        public SAXException getException() {
+            return exception;
+        }
+
+        public void setException(final SAXException exception) {
+            this.exception = exception;
+        }
+    }
+
     /**
      * Loops through each of the spec topics in the database and sets the injections and unique ids for each id attribute in the
      * Topics XML.
      * 
      * @param contentSpec The content specification used to build the book.
      * @param searchTagsUrl The URL for the search to list the topics in the book.
-     * @param usedIdAttributes The set of ids that have been used in the set of topics in the content spec.
+     * @param usedIdAttributes The registry of ids that have been used in the set of topics in the content spec.
      * @param useFixedUrls If during processing the fixed urls should be used.
      * @param buildName A specific name for the build to be used in bug links.
      * @throws BuildProcessingException
      */
-    @SuppressWarnings("unchecked")
     private void doSpecTopicPass(final ContentSpec contentSpec, final String searchTagsUrl,
-            final Map<Integer, Set<String>> usedIdAttributes, final boolean useFixedUrls, final String buildName)
+            final IdAttributeRegistry usedIdAttributes, final boolean useFixedUrls, final String buildName)
             throws BuildProcessingException {
         log.info("Doing " + locale + " Spec Topic Pass");
         final List<SpecTopic> specTopics = specDatabase.getAllSpecTopics();
@@ -1131,117 +1899,365 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
 
         final int showPercent = 5;
         final float total = specTopics.size();
-        float current = 0;
-        int lastPercent = 0;
+        final AtomicInteger current = new AtomicInteger(0);
 
         /* Create the related topics database to be used for CSP builds */
         final TocTopicDatabase<T> relatedTopicsDatabase = new TocTopicDatabase<T>();
         final List<T> topics = specDatabase.getAllTopics();
         relatedTopicsDatabase.setTopics(topics);
 
+        if (buildManifest != null) {
+            buildManifestContextHash = generateBuildManifestContextHash(contentSpec, specTopics, searchTagsUrl, useFixedUrls,
+                    buildName);
+        }
+
+        /*
+         * Each spec topic has its own XML Document, so the spec topics can be processed concurrently. Any errors are buffered
+         * by each worker and then added to the error database in the spec topic order, so the output matches a serial build.
+         */
+        final List<Callable<List<BufferedMessage<T>>>> tasks = new ArrayList<Callable<List<BufferedMessage<T>>>>();
         for (final SpecTopic specTopic : specTopics) {
-            // Check if the app should be shutdown
-            if (isShuttingDown.get()) {
-                return;
+            tasks.add(new Callable<List<BufferedMessage<T>>>() {
+                @Override
+                public List<BufferedMessage<T>> call() throws BuildProcessingException {
+                    // Check if the app should be shutdown
+                    if (isShuttingDown.get()) {
+                        return null;
+                    }
+
+                    final List<BufferedMessage<T>> messages;
+                    errorDatabase.startBuffering();
+                    try {
+                        processSpecTopic(contentSpec, specTopic, searchTagsUrl, relatedTopicsDatabase, usedIdAttributes,
+                                useFixedUrls, buildName);
+                    } finally {
+                        messages = errorDatabase.stopBuffering();
+                    }
+
+                    final int count = current.incrementAndGet();
+                    final int percent = Math.round(count / total * 100);
+                    final int lastPercent = Math.round((count - 1) / total * 100);
+                    if (percent / showPercent != lastPercent / showPercent) {
+                        log.info("\tProcessing Pass " + percent + "% Done");
+                    }
+
+                    return messages;
+                }
+            });
+        }
+
+        final List<List<BufferedMessage<T>>> results;
+        try {
+            results = ThreadingUtilities.invokeAll(tasks, getThreadCount());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BuildProcessingException("Interrupted while processing the Spec Topics");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof BuildProcessingException) {
+                throw (BuildProcessingException) e.getCause();
             }
+            ThreadingUtilities.rethrowUncheckedCause(e);
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to process the Spec Topics");
+        }
+
+        // Check if the app should be shutdown
+        if (isShuttingDown.get()) {
+            return;
+        }
+
+        /* Add the errors to the database in the same order as the spec topics */
+        for (final List<BufferedMessage<T>> messages : results) {
+            errorDatabase.addBufferedMessages(messages);
+        }
 
-            ++current;
-            final int percent = Math.round(current / total * 100);
-            if (percent - lastPercent >= showPercent) {
-                lastPercent = percent;
-                log.info("\tProcessing Pass " + percent + "% Done");
+        /* Report how many document copies were saved by sharing the topic documents */
+        if (sharedTopicDocuments != null) {
+            long copiesAvoided = 0;
+            long xmlLengthAvoided = 0;
+            for (final SharedTopicDocument sharedTopicDocument : sharedTopicDocuments.values()) {
+                copiesAvoided += sharedTopicDocument.getCopiesAvoided();
+                xmlLengthAvoided += sharedTopicDocument.getCopiesAvoided() * sharedTopicDocument.getXmlLength();
             }
+            log.info("\tAvoided " + copiesAvoided + " topic document copies, saving at least " + (xmlLengthAvoided * 2 / 1024)
+                    + " KB of memory");
 
-            final T topic = (T) specTopic.getTopic();
-            final Document doc = specTopic.getXmlDocument();
+            // The spec topics have their own documents now, so release the shared documents
+            sharedTopicDocuments = null;
+        }
+    }
 
-            final XMLPreProcessor xmlPreProcessor = new XMLPreProcessor();
+    /**
+     * Gets a copy of a spec topic's XML document that can be modified, and sets it as the spec topic's document. If the spec
+     * topic is no longer using the shared topic document, then its current document is returned. The shared document isn't
+     * thread safe, so it must only be read through this method once the spec topics are being processed concurrently.
+     * 
+     * @param specTopic The spec topic to get the document for.
+     * @return The document that the spec topic can modify.
+     */
+    protected Document claimXmlDocument(final SpecTopic specTopic) {
+        final SharedTopicDocument sharedTopicDocument = sharedTopicDocuments == null ? null : sharedTopicDocuments.get(specTopic
+                .getDBId());
+        if (sharedTopicDocument == null) {
+            return specTopic.getXmlDocument();
+        } else if (specTopic.getXmlDocument() != sharedTopicDocument.getDocument()) {
+            sharedTopicDocument.release();
+            return specTopic.getXmlDocument();
+        } else {
+            final Document doc = sharedTopicDocument.claim();
+            specTopic.setXmlDocument(doc);
+            return doc;
+        }
+    }
 
-            if (doc != null) {
-                /* process the conditional statements */
-                final String condition = specTopic.getConditionStatement(true);
-                DocbookBuildUtilities.processConditionalStatements(condition, doc);
+    /**
+     * Processes a single spec topic by processing its conditions and injections, adding the standard boilerplate XML,
+     * validating the result and then ensuring that its id attributes are unique. This method only modifies the spec topic
+     * passed to it, so that multiple spec topics can be processed at the same time.
+     * 
+     * @param contentSpec The content specification used to build the book.
+     * @param specTopic The spec topic to be processed.
+     * @param searchTagsUrl The URL for the search to list the topics in the book.
+     * @param relatedTopicsDatabase The Database of Related Topics.
+     * @param usedIdAttributes The registry of ids that have been used in the set of topics in the content spec.
+     * @param useFixedUrls If during processing the fixed urls should be used.
+     * @param buildName A specific name for the build to be used in bug links.
+     * @throws BuildProcessingException
+     */
+    @SuppressWarnings("unchecked")
+    protected void processSpecTopic(final ContentSpec contentSpec, final SpecTopic specTopic, final String searchTagsUrl,
+            final TocTopicDatabase<T> relatedTopicsDatabase, final IdAttributeRegistry usedIdAttributes,
+            final boolean useFixedUrls, final String buildName) throws BuildProcessingException {
+        final T topic = (T) specTopic.getTopic();
+        // Get a copy of the topic document that this spec topic can modify
+        final Document doc = claimXmlDocument(specTopic);
 
-                final boolean valid = processSpecTopicInjections(contentSpec, specTopic, xmlPreProcessor,
-                        relatedTopicsDatabase, useFixedUrls);
+        final XMLPreProcessor xmlPreProcessor = new XMLPreProcessor();
 
-                /*
-                 * If the topic is a translated topic then check to see if the translated topic hasn't been pushed for
-                 * translation, is untranslated, has incomplete translations or contains fuzzy text.
-                 */
-                if (topic instanceof RESTTranslatedTopicV1) {
-                    /* Check the topic itself isn't a dummy topic */
-                    if (ComponentTranslatedTopicV1.returnIsDummyTopic(topic)
-                            && ComponentTranslatedTopicV1.hasBeenPushedForTranslation((RESTTranslatedTopicV1) topic)) {
-                        errorDatabase.addWarning(topic, ErrorType.UNTRANSLATED, BuilderConstants.WARNING_UNTRANSLATED_TOPIC);
-                    } else if (ComponentTranslatedTopicV1.returnIsDummyTopic(topic)) {
-                        errorDatabase.addWarning(topic, ErrorType.NOT_PUSHED_FOR_TRANSLATION,
-                                BuilderConstants.WARNING_NONPUSHED_TOPIC);
-                    } else {
-                        /* Check if the topic's content isn't fully translated */
-                        if (((RESTTranslatedTopicV1) topic).getTranslationPercentage() < 100) {
-                            errorDatabase.addWarning(topic, ErrorType.INCOMPLETE_TRANSLATION,
-                                    BuilderConstants.WARNING_INCOMPLETE_TRANSLATION);
-                        }
+        if (doc != null) {
+            /*
+             * Check if the topic was processed in the last incremental build with the same inputs, in which case the processed
+             * XML can be reused instead of processing the conditions and injections and validating the topic again.
+             */
+            final String manifestKey = specTopic.getUniqueLinkId(useFixedUrls);
+            final String inputHash = generateBuildManifestInputHash(specTopic, doc);
+            final String cachedXML = inputHash == null ? null : buildManifest.getProcessedXML(manifestKey, getTopicId(topic),
+                    topic.getRevision(), inputHash);
+            final int existingMessageCount = errorDatabase.getBufferedMessageCount();
+            if (cachedXML != null) {
+                processCachedSpecTopic(contentSpec, specTopic, cachedXML, xmlPreProcessor, searchTagsUrl, usedIdAttributes,
+                        buildName);
+                return;
+            }
 
-                        if (((RESTTranslatedTopicV1) topic).getContainsFuzzyTranslation()) {
-                            errorDatabase.addWarning(topic, ErrorType.FUZZY_TRANSLATION,
-                                    BuilderConstants.WARNING_FUZZY_TRANSLATION);
-                        }
+            /* process the conditional statements */
+            final String condition = specTopic.getConditionStatement(true);
+            DocbookBuildUtilities.processConditionalStatements(condition, doc);
+
+            final boolean valid = processSpecTopicInjections(contentSpec, specTopic, xmlPreProcessor,
+                    relatedTopicsDatabase, useFixedUrls);
+
+            /*
+             * If the topic is a translated topic then check to see if the translated topic hasn't been pushed for
+             * translation, is untranslated, has incomplete translations or contains fuzzy text.
+             */
+            if (topic instanceof RESTTranslatedTopicV1) {
+                /* Check the topic itself isn't a dummy topic */
+                if (ComponentTranslatedTopicV1.returnIsDummyTopic(topic)
+                        && ComponentTranslatedTopicV1.hasBeenPushedForTranslation((RESTTranslatedTopicV1) topic)) {
+                    errorDatabase.addWarning(topic, ErrorType.UNTRANSLATED, BuilderConstants.WARNING_UNTRANSLATED_TOPIC);
+                } else if (ComponentTranslatedTopicV1.returnIsDummyTopic(topic)) {
+                    errorDatabase.addWarning(topic, ErrorType.NOT_PUSHED_FOR_TRANSLATION,
+                            BuilderConstants.WARNING_NONPUSHED_TOPIC);
+                } else {
+                    /* Check if the topic's content isn't fully translated */
+                    if (((RESTTranslatedTopicV1) topic).getTranslationPercentage() < 100) {
+                        errorDatabase.addWarning(topic, ErrorType.INCOMPLETE_TRANSLATION,
+                                BuilderConstants.WARNING_INCOMPLETE_TRANSLATION);
                     }
-                }
 
-                // Check if the app should be shutdown
-                if (isShuttingDown.get()) {
-                    return;
+                    if (((RESTTranslatedTopicV1) topic).getContainsFuzzyTranslation()) {
+                        errorDatabase.addWarning(topic, ErrorType.FUZZY_TRANSLATION,
+                                BuilderConstants.WARNING_FUZZY_TRANSLATION);
+                    }
                 }
+            }
 
-                if (!valid) {
-                    final String topicXMLErrorTemplate = DocbookBuildUtilities.buildTopicErrorTemplate(topic,
-                            errorInvalidInjectionTopic.getValue(), docbookBuildingOptions);
+            // Check if the app should be shutdown
+            if (isShuttingDown.get()) {
+                return;
+            }
 
-                    final String xmlStringInCDATA = XMLUtilities.wrapStringInCDATA(XMLUtilities.convertNodeToString(doc,
-                            verbatimElements, inlineElements, contentsInlineElements, true));
-                    errorDatabase.addError(topic, BuilderConstants.ERROR_INVALID_INJECTIONS
-                            + " The processed XML is <programlisting>" + xmlStringInCDATA + "</programlisting>");
+            String processedXML = null;
+            if (!valid) {
+                final String topicXMLErrorTemplate = DocbookBuildUtilities.buildTopicErrorTemplate(topic,
+                        errorInvalidInjectionTopic.getValue(), docbookBuildingOptions);
 
-                    setSpecTopicXMLForError(specTopic, topicXMLErrorTemplate, useFixedUrls);
-                } else {
-                    /* add the standard boilerplate xml */
-                    xmlPreProcessor.processTopicAdditionalInfo(specTopic, doc, contentSpec.getBugzillaOptions(),
-                            docbookBuildingOptions, buildName, searchTagsUrl, buildDate, zanataDetails);
+                final String xmlStringInCDATA = XMLUtilities.wrapStringInCDATA(XMLUtilities.convertNodeToString(doc,
+                        verbatimElements, inlineElements, contentsInlineElements, true));
+                errorDatabase.addError(topic, BuilderConstants.ERROR_INVALID_INJECTIONS
+                        + " The processed XML is <programlisting>" + xmlStringInCDATA + "</programlisting>");
 
-                    /*
-                     * make sure the XML is valid docbook after the standard processing has been done
-                     */
-                    validateTopicXML(specTopic, doc, useFixedUrls);
+                setSpecTopicXMLForError(specTopic, topicXMLErrorTemplate, useFixedUrls);
+            } else {
+                if (inputHash != null) {
+                    processedXML = XMLUtilities.convertNodeToString(doc, verbatimElements, inlineElements,
+                            contentsInlineElements, true);
                 }
 
+                /* add the standard boilerplate xml */
+                xmlPreProcessor.processTopicAdditionalInfo(specTopic, doc, contentSpec.getBugzillaOptions(),
+                        docbookBuildingOptions, buildName, searchTagsUrl, buildDate, zanataDetails);
+
                 /*
-                 * Check to see if the translated topic revision is an older topic than the topic revision specified in the map
+                 * make sure the XML is valid docbook after the standard processing has been done
                  */
-                if (topic instanceof RESTTranslatedTopicV1) {
-                    final RESTTranslatedTopicV1 pushedTranslatedTopic = ComponentTranslatedTopicV1
-                            .returnPushedTranslatedTopic((RESTTranslatedTopicV1) topic);
-                    if (pushedTranslatedTopic != null && specTopic.getRevision() != null
-                            && !pushedTranslatedTopic.getTopicRevision().equals(specTopic.getRevision())) {
-                        if (ComponentTranslatedTopicV1.returnIsDummyTopic(topic)) {
-                            errorDatabase.addWarning((T) topic, ErrorType.OLD_UNTRANSLATED,
-                                    BuilderConstants.WARNING_OLD_UNTRANSLATED_TOPIC);
-                        } else {
-                            errorDatabase.addWarning((T) topic, ErrorType.OLD_TRANSLATION,
-                                    BuilderConstants.WARNING_OLD_TRANSLATED_TOPIC);
-                        }
+                validateTopicXML(specTopic, doc, useFixedUrls);
+            }
+
+            /*
+             * Check to see if the translated topic revision is an older topic than the topic revision specified in the map
+             */
+            if (topic instanceof RESTTranslatedTopicV1) {
+                final RESTTranslatedTopicV1 pushedTranslatedTopic = ComponentTranslatedTopicV1
+                        .returnPushedTranslatedTopic((RESTTranslatedTopicV1) topic);
+                if (pushedTranslatedTopic != null && specTopic.getRevision() != null
+                        && !pushedTranslatedTopic.getTopicRevision().equals(specTopic.getRevision())) {
+                    if (ComponentTranslatedTopicV1.returnIsDummyTopic(topic)) {
+                        errorDatabase.addWarning((T) topic, ErrorType.OLD_UNTRANSLATED,
+                                BuilderConstants.WARNING_OLD_UNTRANSLATED_TOPIC);
+                    } else {
+                        errorDatabase.addWarning((T) topic, ErrorType.OLD_TRANSLATION,
+                                BuilderConstants.WARNING_OLD_TRANSLATED_TOPIC);
                     }
                 }
+            }
 
-                /*
-                 * Ensure that all of the id attributes are valid by setting any duplicates with a post fixed number.
-                 */
-                DocbookBuildUtilities.setUniqueIds(specTopic, specTopic.getXmlDocument(), specTopic.getXmlDocument(),
-                        usedIdAttributes);
+            /*
+             * Only record topics that were processed without any errors or warnings in the build manifest, so that the errors
+             * and warnings will always be reported by the next build as well.
+             */
+            if (processedXML != null && existingMessageCount >= 0
+                    && errorDatabase.getBufferedMessageCount() == existingMessageCount) {
+                buildManifest.addProcessedXML(manifestKey, getTopicId(topic), topic.getRevision(), inputHash, processedXML);
+            }
+
+            /*
+             * Ensure that all of the id attributes are valid by setting any duplicates with a post fixed number.
+             */
+            DocbookBuildUtilities.setUniqueIds(specTopic, specTopic.getXmlDocument(), specTopic.getXmlDocument(),
+                    usedIdAttributes);
+        }
+    }
+
+    /**
+     * Processes a spec topic using the processed XML from the previous incremental build. Only the parts of the processing
+     * that can change between builds, like the build date in the bug links and the unique id attributes, are done again.
+     * 
+     * @param contentSpec The content specification used to build the book.
+     * @param specTopic The spec topic to be processed.
+     * @param cachedXML The processed XML from the build manifest.
+     * @param xmlPreProcessor The XML Processor to use to add the standard boilerplate XML.
+     * @param searchTagsUrl The URL for the search to list the topics in the book.
+     * @param usedIdAttributes The registry of ids that have been used in the set of topics in the content spec.
+     * @param buildName A specific name for the build to be used in bug links.
+     * @throws BuildProcessingException
+     */
+    protected void processCachedSpecTopic(final ContentSpec contentSpec, final SpecTopic specTopic, final String cachedXML,
+            final XMLPreProcessor xmlPreProcessor, final String searchTagsUrl, final IdAttributeRegistry usedIdAttributes,
+            final String buildName) throws BuildProcessingException {
+        final Document doc;
+        try {
+            doc = XMLUtilities.convertStringToDocument(cachedXML);
+        } catch (SAXException e) {
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to convert the cached XML for Topic " + specTopic.getDBId()
+                    + " into a DOM document");
+        }
+        specTopic.setXmlDocument(doc);
+
+        /*
+         * The validation result is reused along with the XML, since the only input of the boilerplate that isn't part of the
+         * input hash is the build date, which can't affect whether the topic is valid.
+         */
+        xmlPreProcessor.processTopicAdditionalInfo(specTopic, doc, contentSpec.getBugzillaOptions(), docbookBuildingOptions,
+                buildName, searchTagsUrl, buildDate, zanataDetails);
+
+        DocbookBuildUtilities.setUniqueIds(specTopic, doc, doc, usedIdAttributes);
+    }
+
+    /**
+     * Generates a hash of the inputs that affect how every spec topic in the book is processed. This includes the options
+     * used for the build and the content spec itself, as well as the details of every topic that may be linked to by an
+     * injection. Any change to these inputs means that none of the topics from the previous build can be reused.
+     * 
+     * @param contentSpec The content specification used to build the book.
+     * @param specTopics The spec topics in the book.
+     * @param searchTagsUrl The URL for the search to list the topics in the book.
+     * @param useFixedUrls If during processing the fixed urls should be used.
+     * @param buildName A specific name for the build to be used in bug links.
+     * @return The hash of the book wide inputs.
+     */
+    protected String generateBuildManifestContextHash(final ContentSpec contentSpec, final List<SpecTopic> specTopics,
+            final String searchTagsUrl, final boolean useFixedUrls, final String buildName) {
+        final StringBuilder hashBase = new StringBuilder();
+
+        // The build details
+        hashBase.append(locale).append("\n");
+        hashBase.append(useFixedUrls).append("\n");
+        hashBase.append(buildName).append("\n");
+        hashBase.append(searchTagsUrl).append("\n");
+
+        // The options that affect injections and the standard boilerplate
+        hashBase.append(docbookBuildingOptions.getInjection()).append("\n");
+        hashBase.append(docbookBuildingOptions.getInjectionTypes()).append("\n");
+        hashBase.append(docbookBuildingOptions.getIgnoreMissingCustomInjections()).append("\n");
+        hashBase.append(docbookBuildingOptions.getProcessRelatedTopics()).append("\n");
+        hashBase.append(docbookBuildingOptions.getTaskAndOverviewOnly()).append("\n");
+        hashBase.append(docbookBuildingOptions.getInsertBugzillaLinks()).append("\n");
+        hashBase.append(docbookBuildingOptions.getInsertSurveyLink()).append("\n");
+        hashBase.append(docbookBuildingOptions.getInsertEditorLinks()).append("\n");
+        hashBase.append(docbookBuildingOptions.getBuildName()).append("\n");
+        if (zanataDetails != null) {
+            hashBase.append(zanataDetails.getServer()).append(" ").append(zanataDetails.getProject()).append(" ")
+                    .append(zanataDetails.getVersion());
+        }
+        hashBase.append("\n");
+
+        // The content spec holds the structure, relationships and conditions used to process each topic
+        hashBase.append(contentSpec.toString()).append("\n");
+
+        // The details of each topic that can be used as the target of an injection
+        for (final SpecTopic specTopic : specTopics) {
+            final RESTBaseTopicV1<?, ?, ?> topic = specTopic.getTopic();
+            hashBase.append(specTopic.getUniqueLinkId(useFixedUrls)).append(" ");
+            if (topic != null) {
+                hashBase.append(getTopicId(topic)).append(" ").append(topic.getTitle()).append(" ");
+                if (topic.getTags() != null && topic.getTags().getItems() != null) {
+                    for (final RESTTagV1 tag : topic.getTags().returnItems()) {
+                        hashBase.append(tag.getId()).append(",");
+                    }
+                }
             }
+            hashBase.append("\n");
         }
+
+        return HashUtilities.generateMD5(hashBase.toString());
+    }
+
+    /**
+     * Generates a hash of all the inputs used to process a spec topic, so that it can be checked against the build manifest.
+     * 
+     * @param specTopic The spec topic to be processed.
+     * @param doc The unprocessed XML for the spec topic.
+     * @return The hash of the inputs, or null if the build isn't incremental.
+     */
+    protected String generateBuildManifestInputHash(final SpecTopic specTopic, final Document doc) {
+        if (buildManifest == null || buildManifestContextHash == null) return null;
+
+        final String xml = XMLUtilities.convertNodeToString(doc, verbatimElements, inlineElements, contentsInlineElements, true);
+        final String condition = specTopic.getConditionStatement(true);
+        return DocbookBuildUtilities.generateBuildManifestInputHash(buildManifestContextHash, condition, xml);
     }
 
     /**
@@ -1388,57 +2404,24 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     }
 
     /**
-     * This function scans the supplied XML node and it's children for id attributes, collecting them in the usedIdAttributes
-     * parameter.
-     * 
-     * @param node The current node being processed (will be the document root to start with, and then all the children as this
-     *        function is recursively called)
-     * @param topicId The ID of the topic that we are collecting attribute ID's for.
-     * @param usedIdAttributes The set of Used ID Attributes that should be added to.
-     */
-    private void collectIdAttributes(final Integer topicId, final Node node, final Map<Integer, Set<String>> usedIdAttributes) {
-        // Check if the app should be shutdown
-        if (isShuttingDown.get()) {
-            return;
-        }
-
-        final NamedNodeMap attributes = node.getAttributes();
-        if (attributes != null) {
-            final Node idAttribute = attributes.getNamedItem("id");
-            if (idAttribute != null) {
-                final String idAttibuteValue = idAttribute.getNodeValue();
-                if (!usedIdAttributes.containsKey(topicId)) {
-                    usedIdAttributes.put(topicId, new HashSet<String>());
-                }
-                usedIdAttributes.get(topicId).add(idAttibuteValue);
-            }
-        }
-
-        final NodeList elements = node.getChildNodes();
-        for (int i = 0; i < elements.getLength(); ++i) {
-            collectIdAttributes(topicId, elements.item(i), usedIdAttributes);
-        }
-    }
-
-    /**
-     * TODO
+     * Builds the book files from the processed topics and writes them to the output sink.
      * 
-     * @param contentSpec TODO
-     * @param requester TODO
-     * @param useFixedUrls TODO
-     * @return TODO
-     * @throws InvalidParameterException TODO
-     * @throws InternalProcessingException TODO
+     * @param contentSpec The content specification used to build the book.
+     * @param requester The user who requested the build.
+     * @param useFixedUrls If Fixed URL Properties should be used for topic ID attributes.
+     * @param files The output sink that the book files should be written to.
+     * @return True if all the files were written, or false if a shutdown was requested.
+     * @throws InvalidParameterException If an error occurred during a REST API call.
+     * @throws InternalProcessingException If an error occurred during a REST API call.
      * @throws BuildProcessingException
      */
-    private HashMap<String, byte[]> doBuildZipPass(final ContentSpec contentSpec, final RESTUserV1 requester,
-            final boolean useFixedUrls) throws InvalidParameterException, InternalProcessingException, BuildProcessingException {
+    private boolean doBuildZipPass(final ContentSpec contentSpec, final RESTUserV1 requester, final boolean useFixedUrls,
+            final BookOutputSink files) throws InvalidParameterException, InternalProcessingException, BuildProcessingException {
         log.info("Building the ZIP file");
 
         final StringBuffer bookXIncludes = new StringBuffer();
 
         /* Add the base book information */
-        final HashMap<String, byte[]> files = new HashMap<String, byte[]>();
         final String bookBase = buildBookBase(contentSpec, requester, files);
 
         /* add the images to the book */
@@ -1450,7 +2433,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         for (final org.jboss.pressgang.ccms.contentspec.Node node : levelData) {
             // Check if the app should be shutdown
             if (isShuttingDown.get()) {
-                return null;
+                return false;
             }
 
             if (node instanceof Level) {
@@ -1475,7 +2458,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         if (docbookBuildingOptions.getInsertEditorLinks() && clazz == RESTTranslatedTopicV1.class) {
             final String translateLinkChapter = DocBookUtilities.addXMLBoilerplate(
                     buildTranslateCSChapter(contentSpec, locale), this.escapedTitle + ".ent", "chapter");
-            files.put(BOOK_LOCALE_FOLDER + "Translate.xml", StringUtilities.getStringBytes(StringUtilities
+            addFileToBook(files, BOOK_LOCALE_FOLDER + "Translate.xml", StringUtilities.getStringBytes(StringUtilities
                     .cleanTextForXML(translateLinkChapter == null ? "" : translateLinkChapter)));
             bookXIncludes.append("  <xi:include href=\"Translate.xml\" xmlns:xi=\"http://www.w3.org/2001/XInclude\" />\n");
         }
@@ -1484,7 +2467,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         if (!docbookBuildingOptions.getSuppressErrorsPage() && errorDatabase.hasItems(locale)) {
             final String compilerOutput = DocBookUtilities.addXMLBoilerplate(buildErrorChapter(locale), this.escapedTitle
                     + ".ent", "chapter");
-            files.put(BOOK_LOCALE_FOLDER + "Errors.xml", StringUtilities.getStringBytes(StringUtilities
+            addFileToBook(files, BOOK_LOCALE_FOLDER + "Errors.xml", StringUtilities.getStringBytes(StringUtilities
                     .cleanTextForXML(compilerOutput == null ? "" : compilerOutput)));
             bookXIncludes.append("	<xi:include href=\"Errors.xml\" xmlns:xi=\"http://www.w3.org/2001/XInclude\" />\n");
         }
@@ -1493,7 +2476,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         if (docbookBuildingOptions.getShowReportPage()) {
             final String compilerOutput = DocBookUtilities.addXMLBoilerplate(buildReportChapter(locale), this.escapedTitle
                     + ".ent", "chapter");
-            files.put(BOOK_LOCALE_FOLDER + "Report.xml", StringUtilities.getStringBytes(StringUtilities
+            addFileToBook(files, BOOK_LOCALE_FOLDER + "Report.xml", StringUtilities.getStringBytes(StringUtilities
                     .cleanTextForXML(compilerOutput == null ? "" : compilerOutput)));
             bookXIncludes.append("	<xi:include href=\"Report.xml\" xmlns:xi=\"http://www.w3.org/2001/XInclude\" />\n");
         }
@@ -1501,7 +2484,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         /* build the content specification page */
         if (!docbookBuildingOptions.getSuppressContentSpecPage()) {
             try {
-                files.put(
+                addFileToBook(files, 
                         BOOK_LOCALE_FOLDER + "Build_Content_Specification.xml",
                         DocBookUtilities.buildAppendix(
                                 DocBookUtilities.wrapInPara("<programlisting>"
@@ -1517,7 +2500,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
 
         final String book = bookBase.replace(BuilderConstants.XIINCLUDES_INJECTION_STRING, bookXIncludes);
         try {
-            files.put(BOOK_LOCALE_FOLDER + escapedTitle + ".xml", book.getBytes("UTF-8"));
+            addFileToBook(files, BOOK_LOCALE_FOLDER + escapedTitle + ".xml", book.getBytes("UTF-8"));
         } catch (UnsupportedEncodingException e) {
             /* UTF-8 is a valid format so this should exception should never get thrown */
             log.error(e.getMessage());
@@ -1525,10 +2508,28 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
 
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
-            return null;
+            return false;
         }
 
-        return files;
+        return true;
+    }
+
+    /**
+     * Writes a file to the book output sink.
+     * 
+     * @param files The output sink that the book files should be written to.
+     * @param path The path of the file in the book.
+     * @param data The contents of the file.
+     * @throws BuildProcessingException Thrown if the file couldn't be written to the output sink.
+     */
+    protected void addFileToBook(final BookOutputSink files, final String path, final byte[] data)
+            throws BuildProcessingException {
+        try {
+            files.addFile(path, data);
+        } catch (final IOException e) {
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to write " + path + " to the book output");
+        }
     }
 
     /**
@@ -1536,42 +2537,66 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * 
      * @param contentSpec The content specification object to be built.
      * @param requester The User who requested the book be built.
-     * @param files The mapping of file names/locations to files that will be packaged into the ZIP archive.
+     * @param files The output sink that the book files should be written to.
      * @return A Document object to be used in generating the book.xml
      * @throws InternalProcessingException If an error occurred during the REST API call.
      * @throws InvalidParameterException If an error occurred during the REST API call.
      * @throws BuildProcessingException
      */
-    private String buildBookBase(final ContentSpec contentSpec, final RESTUserV1 requester, final Map<String, byte[]> files)
+    private String buildBookBase(final ContentSpec contentSpec, final RESTUserV1 requester, final BookOutputSink files)
             throws InvalidParameterException, InternalProcessingException, BuildProcessingException {
         log.info("\tAdding standard files to Publican ZIP file");
 
         final Map<String, String> overrides = docbookBuildingOptions.getOverrides();
-
-        final String publicanCfg = restManager.getRESTClient()
-                .getJSONStringConstant(DocbookBuilderConstants.PUBLICAN_CFG_ID, "").getValue();
-        final String bookEnt = restManager.getRESTClient().getJSONStringConstant(DocbookBuilderConstants.BOOK_ENT_ID, "")
-                .getValue();
-        final String prefaceXml = restManager.getRESTClient()
-                .getJSONStringConstant(DocbookBuilderConstants.CSP_PREFACE_XML_ID, "").getValue();
+        final boolean isArticle = contentSpec.getBookType() == BookType.ARTICLE
+                || contentSpec.getBookType() == BookType.ARTICLE_DRAFT;
+        final boolean isSkynetOutput = contentSpec.getOutputStyle() != null
+                && contentSpec.getOutputStyle().equals(CSConstants.SKYNET_OUTPUT_FORMAT);
+
+        // Download all of the string constants used to build the standard book files at once
+        final List<Integer> stringConstantIds = new ArrayList<Integer>(Arrays.asList(DocbookBuilderConstants.PUBLICAN_CFG_ID,
+                DocbookBuilderConstants.BOOK_ENT_ID, DocbookBuilderConstants.CSP_PREFACE_XML_ID,
+                DocbookBuilderConstants.REVISION_HISTORY_XML_ID, DocbookBuilderConstants.AUTHOR_GROUP_XML_ID,
+                DocbookBuilderConstants.ICON_SVG_ID));
+        if (isArticle) {
+            stringConstantIds.add(DocbookBuilderConstants.ARTICLE_XML_ID);
+            stringConstantIds.add(DocbookBuilderConstants.ARTICLE_INFO_XML_ID);
+        } else {
+            stringConstantIds.add(DocbookBuilderConstants.BOOK_XML_ID);
+            stringConstantIds.add(DocbookBuilderConstants.BOOK_INFO_XML_ID);
+        }
+        if (isSkynetOutput) {
+            stringConstantIds.add(DocbookBuilderConstants.JBOSS_SVG_ID);
+            stringConstantIds.add(DocbookBuilderConstants.YAHOO_DOM_EVENT_JS_ID);
+            stringConstantIds.add(DocbookBuilderConstants.TREEVIEW_MIN_JS_ID);
+            stringConstantIds.add(DocbookBuilderConstants.TREEVIEW_CSS_ID);
+            stringConstantIds.add(DocbookBuilderConstants.JQUERY_MIN_JS_ID);
+        }
+        fetchStringConstants(stringConstantIds);
 
         final String brand = contentSpec.getBrand() == null ? BuilderConstants.DEFAULT_BRAND : contentSpec.getBrand();
 
         // Setup the basic book.xml
-        final String bookXml;
-        if (contentSpec.getBookType() == BookType.ARTICLE || contentSpec.getBookType() == BookType.ARTICLE_DRAFT) {
-            bookXml = restManager.getRESTClient().getJSONStringConstant(DocbookBuilderConstants.ARTICLE_XML_ID, "").getValue();
-        } else {
-            bookXml = restManager.getRESTClient().getJSONStringConstant(DocbookBuilderConstants.BOOK_XML_ID, "").getValue();
+        final Map<String, String> bookValues = new HashMap<String, String>();
+        bookValues.put(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle);
+        bookValues.put(BuilderConstants.PRODUCT_REGEX, contentSpec.getProduct());
+        bookValues.put(BuilderConstants.VERSION_REGEX, contentSpec.getVersion());
+        bookValues.put(BuilderConstants.DRAFT_REGEX, docbookBuildingOptions.getDraft() ? "status=\"draft\"" : "");
+        if (!contentSpec.getOutputStyle().equals(CSConstants.SKYNET_OUTPUT_FORMAT)) {
+            // Add the preface and revision history to the book.xml
+            bookValues.put(BuilderConstants.PREFACE_REGEX,
+                    "<xi:include href=\"Preface.xml\" xmlns:xi=\"http://www.w3.org/2001/XInclude\" />");
+            bookValues.put(BuilderConstants.REV_HISTORY_REGEX,
+                    "<xi:include href=\"Revision_History.xml\" xmlns:xi=\"http://www.w3.org/2001/XInclude\" />");
         }
-        String basicBook = bookXml.replaceAll(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle);
-        basicBook = basicBook.replaceAll(BuilderConstants.PRODUCT_REGEX, contentSpec.getProduct());
-        basicBook = basicBook.replaceAll(BuilderConstants.VERSION_REGEX, contentSpec.getVersion());
-        basicBook = basicBook.replaceAll(BuilderConstants.DRAFT_REGEX, docbookBuildingOptions.getDraft() ? "status=\"draft\""
-                : "");
+        final String basicBook = getBookTemplate(isArticle ? DocbookBuilderConstants.ARTICLE_XML_ID
+                : DocbookBuilderConstants.BOOK_XML_ID, BuilderConstants.ESCAPED_TITLE_REGEX, BuilderConstants.PRODUCT_REGEX,
+                BuilderConstants.VERSION_REGEX, BuilderConstants.DRAFT_REGEX, BuilderConstants.PREFACE_REGEX,
+                BuilderConstants.REV_HISTORY_REGEX).render(bookValues);
 
         // Setup publican.cfg
-        String fixedPublicanCfg = publicanCfg.replaceAll(BuilderConstants.BRAND_REGEX, brand);
+        String fixedPublicanCfg = getBookTemplate(DocbookBuilderConstants.PUBLICAN_CFG_ID, BuilderConstants.BRAND_REGEX).render(
+                Collections.singletonMap(BuilderConstants.BRAND_REGEX, brand));
         fixedPublicanCfg = fixedPublicanCfg.replaceFirst("type\\:\\s*.*($|\\r\\n|\\n)", "type: "
                 + contentSpec.getBookType().toString().replaceAll("-Draft", "") + "\n");
         fixedPublicanCfg = fixedPublicanCfg.replaceAll("xml_lang\\:\\s*.*?($|\\r\\n|\\n)", "xml_lang: " + locale + "\n");
@@ -1613,43 +2638,41 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         }
 
         try {
-            files.put(BOOK_FOLDER + "publican.cfg", fixedPublicanCfg.getBytes("UTF-8"));
+            addFileToBook(files, BOOK_FOLDER + "publican.cfg", fixedPublicanCfg.getBytes("UTF-8"));
         } catch (UnsupportedEncodingException e) {
             /* UTF-8 is a valid format so this should exception should never get thrown */
             log.error(e.getMessage());
         }
 
-        final String bookInfo;
-        if (contentSpec.getBookType() == BookType.ARTICLE || contentSpec.getBookType() == BookType.ARTICLE_DRAFT) {
-            bookInfo = restManager.getRESTClient().getJSONStringConstant(DocbookBuilderConstants.ARTICLE_INFO_XML_ID, "")
-                    .getValue();
-        } else {
-            bookInfo = restManager.getRESTClient().getJSONStringConstant(DocbookBuilderConstants.BOOK_INFO_XML_ID, "")
-                    .getValue();
-        }
-
         // Setup Book_Info.xml
-        String fixedBookInfo = bookInfo.replaceAll(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle);
-        fixedBookInfo = fixedBookInfo.replaceAll(BuilderConstants.TITLE_REGEX, contentSpec.getTitle());
-        fixedBookInfo = fixedBookInfo.replaceAll(BuilderConstants.SUBTITLE_REGEX,
+        final Map<String, String> bookInfoValues = new HashMap<String, String>();
+        bookInfoValues.put(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle);
+        bookInfoValues.put(BuilderConstants.TITLE_REGEX, contentSpec.getTitle());
+        bookInfoValues.put(BuilderConstants.SUBTITLE_REGEX,
                 contentSpec.getSubtitle() == null ? BuilderConstants.SUBTITLE_DEFAULT : contentSpec.getSubtitle());
-        fixedBookInfo = fixedBookInfo.replaceAll(BuilderConstants.PRODUCT_REGEX, contentSpec.getProduct());
-        fixedBookInfo = fixedBookInfo.replaceAll(BuilderConstants.VERSION_REGEX, contentSpec.getVersion());
-        fixedBookInfo = fixedBookInfo.replaceAll(BuilderConstants.EDITION_REGEX,
+        bookInfoValues.put(BuilderConstants.PRODUCT_REGEX, contentSpec.getProduct());
+        bookInfoValues.put(BuilderConstants.VERSION_REGEX, contentSpec.getVersion());
+        bookInfoValues.put(BuilderConstants.EDITION_REGEX,
                 contentSpec.getEdition() == null ? BuilderConstants.DEFAULT_EDITION : contentSpec.getEdition());
 
         if (!contentSpec.getOutputStyle().equals(CSConstants.SKYNET_OUTPUT_FORMAT)) {
-            fixedBookInfo = fixedBookInfo.replaceAll(BuilderConstants.ABSTRACT_REGEX,
+            bookInfoValues.put(BuilderConstants.ABSTRACT_REGEX,
                     contentSpec.getAbstract() == null ? BuilderConstants.DEFAULT_ABSTRACT : ("<abstract>\n\t\t<para>\n\t\t\t"
                             + contentSpec.getAbstract() + "\n\t\t</para>\n\t</abstract>\n"));
-            fixedBookInfo = fixedBookInfo.replaceAll(BuilderConstants.LEGAL_NOTICE_REGEX, BuilderConstants.LEGAL_NOTICE_XML);
+            bookInfoValues.put(BuilderConstants.LEGAL_NOTICE_REGEX, BuilderConstants.LEGAL_NOTICE_XML);
         }
 
+        final String fixedBookInfo = getBookTemplate(isArticle ? DocbookBuilderConstants.ARTICLE_INFO_XML_ID
+                : DocbookBuilderConstants.BOOK_INFO_XML_ID, BuilderConstants.ESCAPED_TITLE_REGEX, BuilderConstants.TITLE_REGEX,
+                BuilderConstants.SUBTITLE_REGEX, BuilderConstants.PRODUCT_REGEX, BuilderConstants.VERSION_REGEX,
+                BuilderConstants.EDITION_REGEX, BuilderConstants.ABSTRACT_REGEX, BuilderConstants.LEGAL_NOTICE_REGEX).render(
+                bookInfoValues);
+
         try {
-            if (contentSpec.getBookType() == BookType.ARTICLE || contentSpec.getBookType() == BookType.ARTICLE_DRAFT) {
-                files.put(BOOK_LOCALE_FOLDER + "Article_Info.xml", fixedBookInfo.getBytes("UTF-8"));
+            if (isArticle) {
+                addFileToBook(files, BOOK_LOCALE_FOLDER + "Article_Info.xml", fixedBookInfo.getBytes("UTF-8"));
             } else {
-                files.put(BOOK_LOCALE_FOLDER + "Book_Info.xml", fixedBookInfo.getBytes("UTF-8"));
+                addFileToBook(files, BOOK_LOCALE_FOLDER + "Book_Info.xml", fixedBookInfo.getBytes("UTF-8"));
             }
         } catch (UnsupportedEncodingException e) {
             /* UTF-8 is a valid format so this should exception should never get thrown */
@@ -1660,6 +2683,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         if (overrides.containsKey(CSConstants.AUTHOR_GROUP_OVERRIDE)) {
             final File authorGrp = new File(overrides.get(CSConstants.AUTHOR_GROUP_OVERRIDE));
             if (authorGrp.exists() && authorGrp.isFile()) {
+                byte[] authorGroupXml = null;
                 try {
                     final FileInputStream fis = new FileInputStream(authorGrp);
                     final BufferedReader reader = new BufferedReader(new InputStreamReader(fis));
@@ -1668,11 +2692,18 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                     while ((line = reader.readLine()) != null) {
                         buffer.append(line + "\n");
                     }
-
-                    // Add the parsed file to the book
-                    files.put(BOOK_LOCALE_FOLDER + "Author_Group.xml", buffer.toString().getBytes("UTF-8"));
+                    authorGroupXml = buffer.toString().getBytes("UTF-8");
                 } catch (Exception e) {
                     log.error(e.getMessage());
+                }
+
+                /*
+                 * Add the parsed file to the book. This is done outside of the try block, so that a failure to write the file
+                 * doesn't lead to the default Author_Group.xml being written to the same path.
+                 */
+                if (authorGroupXml != null) {
+                    addFileToBook(files, BOOK_LOCALE_FOLDER + "Author_Group.xml", authorGroupXml);
+                } else {
                     buildAuthorGroup(contentSpec, files);
                 }
             } else {
@@ -1685,21 +2716,15 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
 
         if (!contentSpec.getOutputStyle().equals(CSConstants.SKYNET_OUTPUT_FORMAT)) {
             // Setup Preface.xml
-            String fixedPrefaceXml = prefaceXml.replaceAll(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle);
+            final String fixedPrefaceXml = getBookTemplate(DocbookBuilderConstants.CSP_PREFACE_XML_ID,
+                    BuilderConstants.ESCAPED_TITLE_REGEX).render(
+                    Collections.singletonMap(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle));
             try {
-                files.put(BOOK_LOCALE_FOLDER + "Preface.xml", fixedPrefaceXml.getBytes("UTF-8"));
+                addFileToBook(files, BOOK_LOCALE_FOLDER + "Preface.xml", fixedPrefaceXml.getBytes("UTF-8"));
             } catch (UnsupportedEncodingException e) {
                 /* UTF-8 is a valid format so this should exception should never get thrown */
                 log.error(e.getMessage());
             }
-
-            // Add the preface to the book.xml
-            basicBook = basicBook.replaceAll(BuilderConstants.PREFACE_REGEX,
-                    "<xi:include href=\"Preface.xml\" xmlns:xi=\"http://www.w3.org/2001/XInclude\" />");
-
-            // Add the revision history to the book.xml
-            basicBook = basicBook.replaceAll(BuilderConstants.REV_HISTORY_REGEX,
-                    "<xi:include href=\"Revision_History.xml\" xmlns:xi=\"http://www.w3.org/2001/XInclude\" />");
         }
 
         // Add any common content files that need to be included locally
@@ -1710,11 +2735,12 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         }
 
         // Replace the basic injection data inside the revision history
-        final String revisionHistoryXml = restManager.getRESTClient()
-                .getJSONStringConstant(DocbookBuilderConstants.REVISION_HISTORY_XML_ID, "").getValue();
-        String fixedRevisionHistoryXml = revisionHistoryXml.replaceAll(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle);
+        final String fixedRevisionHistoryXml = getBookTemplate(DocbookBuilderConstants.REVISION_HISTORY_XML_ID,
+                BuilderConstants.ESCAPED_TITLE_REGEX).render(
+                Collections.singletonMap(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle));
 
         // Setup Revision_History.xml
+        String revisionHistoryXml = null;
         if (overrides.containsKey(CSConstants.REVISION_HISTORY_OVERRIDE)) {
             final File revHistory = new File(overrides.get(CSConstants.REVISION_HISTORY_OVERRIDE));
             if (revHistory.exists() && revHistory.isFile()) {
@@ -1733,98 +2759,99 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                         final String revHistoryOverride = buffer.toString();
                         final String docType = XMLUtilities.findDocumentType(revHistoryOverride);
                         if (docType != null) {
-                            buildRevisionHistory(contentSpec, revHistoryOverride.replace(docType, ""), requester, files);
+                            revisionHistoryXml = buildRevisionHistory(contentSpec, revHistoryOverride.replace(docType, ""),
+                                    requester);
                         } else {
-                            buildRevisionHistory(contentSpec, revHistoryOverride, requester, files);
+                            revisionHistoryXml = buildRevisionHistory(contentSpec, revHistoryOverride, requester);
                         }
                     } else {
                         // Add the revision history directly to the book
-                        try {
-                            files.put(BOOK_LOCALE_FOLDER + "Revision_History.xml", buffer.toString().getBytes("UTF-8"));
-                        } catch (UnsupportedEncodingException e) {
-                            /* UTF-8 is a valid format so this should exception should never get thrown */
-                            log.error(e.getMessage());
-                        }
+                        revisionHistoryXml = buffer.toString();
                     }
                 } catch (Exception e) {
                     log.error(e.getMessage());
-                    buildRevisionHistory(contentSpec, fixedRevisionHistoryXml, requester, files);
                 }
             } else {
                 log.error("Revision_History.xml override is an invalid file. Using the default Revision_History.xml instead.");
-                buildRevisionHistory(contentSpec, fixedRevisionHistoryXml, requester, files);
             }
-        } else {
-            buildRevisionHistory(contentSpec, fixedRevisionHistoryXml, requester, files);
+        }
+
+        /*
+         * Use the default Revision_History.xml if there isn't a valid override. The file is only added to the book once, so that
+         * a failure to write the override doesn't lead to the default being written to the same path.
+         */
+        if (revisionHistoryXml == null) {
+            revisionHistoryXml = buildRevisionHistory(contentSpec, fixedRevisionHistoryXml, requester);
+        }
+        if (revisionHistoryXml != null) {
+            try {
+                addFileToBook(files, BOOK_LOCALE_FOLDER + "Revision_History.xml", revisionHistoryXml.getBytes("UTF-8"));
+            } catch (UnsupportedEncodingException e) {
+                /* UTF-8 is a valid format so this should exception should never get thrown */
+                log.error(e.getMessage());
+            }
         }
 
         // Setup the <<contentSpec.title>>.ent file
-        String entFile = bookEnt.replaceAll(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle);
-        entFile = entFile.replaceAll(BuilderConstants.PRODUCT_REGEX, contentSpec.getProduct());
-        entFile = entFile.replaceAll(BuilderConstants.TITLE_REGEX, originalTitle);
-        entFile = entFile.replaceAll(BuilderConstants.YEAR_FORMAT_REGEX,
-                Integer.toString(Calendar.getInstance().get(Calendar.YEAR)));
-        entFile = entFile.replaceAll(BuilderConstants.CONTENT_SPEC_COPYRIGHT_REGEX, contentSpec.getCopyrightHolder());
-        entFile = entFile.replaceAll(BuilderConstants.BZPRODUCT_REGEX,
+        final Map<String, String> entValues = new HashMap<String, String>();
+        entValues.put(BuilderConstants.ESCAPED_TITLE_REGEX, escapedTitle);
+        entValues.put(BuilderConstants.PRODUCT_REGEX, contentSpec.getProduct());
+        entValues.put(BuilderConstants.TITLE_REGEX, originalTitle);
+        entValues.put(BuilderConstants.YEAR_FORMAT_REGEX, Integer.toString(Calendar.getInstance().get(Calendar.YEAR)));
+        entValues.put(BuilderConstants.CONTENT_SPEC_COPYRIGHT_REGEX, contentSpec.getCopyrightHolder());
+        entValues.put(BuilderConstants.BZPRODUCT_REGEX,
                 contentSpec.getBugzillaProduct() == null ? originalProduct : contentSpec.getBugzillaProduct());
-        entFile = entFile.replaceAll(
-                BuilderConstants.BZCOMPONENT_REGEX,
+        entValues.put(BuilderConstants.BZCOMPONENT_REGEX,
                 contentSpec.getBugzillaComponent() == null ? BuilderConstants.DEFAULT_BZCOMPONENT : contentSpec
                         .getBugzillaComponent());
-        entFile = entFile.replaceAll(BuilderConstants.CONTENT_SPEC_BUGZILLA_URL_REGEX,
+        entValues.put(BuilderConstants.CONTENT_SPEC_BUGZILLA_URL_REGEX,
                 contentSpec.getBugzillaURL() == null ? BuilderConstants.DEFAULT_BUGZILLA_URL : contentSpec.getBugzillaURL());
+        final String entFile = getBookTemplate(DocbookBuilderConstants.BOOK_ENT_ID, BuilderConstants.ESCAPED_TITLE_REGEX,
+                BuilderConstants.PRODUCT_REGEX, BuilderConstants.TITLE_REGEX, BuilderConstants.YEAR_FORMAT_REGEX,
+                BuilderConstants.CONTENT_SPEC_COPYRIGHT_REGEX, BuilderConstants.BZPRODUCT_REGEX,
+                BuilderConstants.BZCOMPONENT_REGEX, BuilderConstants.CONTENT_SPEC_BUGZILLA_URL_REGEX).render(entValues);
         try {
-            files.put(BOOK_LOCALE_FOLDER + escapedTitle + ".ent", entFile.getBytes("UTF-8"));
+            addFileToBook(files, BOOK_LOCALE_FOLDER + escapedTitle + ".ent", entFile.getBytes("UTF-8"));
         } catch (UnsupportedEncodingException e) {
             /* UTF-8 is a valid format so this should exception should never get thrown */
             log.error(e.getMessage());
         }
 
         // Setup the images and files folders
-        final String iconSvg = restManager.getRESTClient().getJSONStringConstant(DocbookBuilderConstants.ICON_SVG_ID, "")
-                .getValue();
+        final String iconSvg = getStringConstant(DocbookBuilderConstants.ICON_SVG_ID).getValue();
         try {
-            files.put(BOOK_IMAGES_FOLDER + "icon.svg", iconSvg.getBytes("UTF-8"));
+            addFileToBook(files, BOOK_IMAGES_FOLDER + "icon.svg", iconSvg.getBytes("UTF-8"));
         } catch (UnsupportedEncodingException e) {
             /* UTF-8 is a valid format so this should exception should never get thrown */
             log.error(e.getMessage());
         }
 
         if (contentSpec.getOutputStyle() != null && contentSpec.getOutputStyle().equals(CSConstants.SKYNET_OUTPUT_FORMAT)) {
-            final String jbossSvg = restManager.getRESTClient().getJSONStringConstant(DocbookBuilderConstants.JBOSS_SVG_ID, "")
-                    .getValue();
-
-            final String yahooDomEventJs = restManager.getRESTClient()
-                    .getJSONStringConstant(DocbookBuilderConstants.YAHOO_DOM_EVENT_JS_ID, "").getValue();
-            final String treeviewMinJs = restManager.getRESTClient()
-                    .getJSONStringConstant(DocbookBuilderConstants.TREEVIEW_MIN_JS_ID, "").getValue();
-            final String treeviewCss = restManager.getRESTClient()
-                    .getJSONStringConstant(DocbookBuilderConstants.TREEVIEW_CSS_ID, "").getValue();
-            final String jqueryMinJs = restManager.getRESTClient()
-                    .getJSONStringConstant(DocbookBuilderConstants.JQUERY_MIN_JS_ID, "").getValue();
-
-            final byte[] treeviewSpriteGif = restManager.getRESTClient()
-                    .getJSONBlobConstant(DocbookBuilderConstants.TREEVIEW_SPRITE_GIF_ID, "").getValue();
-            final byte[] treeviewLoadingGif = restManager.getRESTClient()
-                    .getJSONBlobConstant(DocbookBuilderConstants.TREEVIEW_LOADING_GIF_ID, "").getValue();
-            final byte[] check1Gif = restManager.getRESTClient().getJSONBlobConstant(DocbookBuilderConstants.CHECK1_GIF_ID, "")
-                    .getValue();
-            final byte[] check2Gif = restManager.getRESTClient().getJSONBlobConstant(DocbookBuilderConstants.CHECK2_GIF_ID, "")
-                    .getValue();
+            final String jbossSvg = getStringConstant(DocbookBuilderConstants.JBOSS_SVG_ID).getValue();
+
+            final String yahooDomEventJs = getStringConstant(DocbookBuilderConstants.YAHOO_DOM_EVENT_JS_ID).getValue();
+            final String treeviewMinJs = getStringConstant(DocbookBuilderConstants.TREEVIEW_MIN_JS_ID).getValue();
+            final String treeviewCss = getStringConstant(DocbookBuilderConstants.TREEVIEW_CSS_ID).getValue();
+            final String jqueryMinJs = getStringConstant(DocbookBuilderConstants.JQUERY_MIN_JS_ID).getValue();
+
+            final byte[] treeviewSpriteGif = getBlobConstant(DocbookBuilderConstants.TREEVIEW_SPRITE_GIF_ID).getValue();
+            final byte[] treeviewLoadingGif = getBlobConstant(DocbookBuilderConstants.TREEVIEW_LOADING_GIF_ID).getValue();
+            final byte[] check1Gif = getBlobConstant(DocbookBuilderConstants.CHECK1_GIF_ID).getValue();
+            final byte[] check2Gif = getBlobConstant(DocbookBuilderConstants.CHECK2_GIF_ID).getValue();
 
             // these files are used by the YUI treeview
-            files.put(BOOK_FILES_FOLDER + "yahoo-dom-event.js", StringUtilities.getStringBytes(yahooDomEventJs));
-            files.put(BOOK_FILES_FOLDER + "treeview-min.js", StringUtilities.getStringBytes(treeviewMinJs));
-            files.put(BOOK_FILES_FOLDER + "treeview.css", StringUtilities.getStringBytes(treeviewCss));
-            files.put(BOOK_FILES_FOLDER + "jquery.min.js", StringUtilities.getStringBytes(jqueryMinJs));
+            addFileToBook(files, BOOK_FILES_FOLDER + "yahoo-dom-event.js", StringUtilities.getStringBytes(yahooDomEventJs));
+            addFileToBook(files, BOOK_FILES_FOLDER + "treeview-min.js", StringUtilities.getStringBytes(treeviewMinJs));
+            addFileToBook(files, BOOK_FILES_FOLDER + "treeview.css", StringUtilities.getStringBytes(treeviewCss));
+            addFileToBook(files, BOOK_FILES_FOLDER + "jquery.min.js", StringUtilities.getStringBytes(jqueryMinJs));
 
             // these are the images that are referenced in the treeview.css file
-            files.put(BOOK_FILES_FOLDER + "treeview-sprite.gif", treeviewSpriteGif);
-            files.put(BOOK_FILES_FOLDER + "treeview-loading.gif", treeviewLoadingGif);
-            files.put(BOOK_FILES_FOLDER + "check1.gif", check1Gif);
-            files.put(BOOK_FILES_FOLDER + "check2.gif", check2Gif);
+            addFileToBook(files, BOOK_FILES_FOLDER + "treeview-sprite.gif", treeviewSpriteGif);
+            addFileToBook(files, BOOK_FILES_FOLDER + "treeview-loading.gif", treeviewLoadingGif);
+            addFileToBook(files, BOOK_FILES_FOLDER + "check1.gif", check1Gif);
+            addFileToBook(files, BOOK_FILES_FOLDER + "check2.gif", check2Gif);
 
-            files.put(BOOK_IMAGES_FOLDER + "jboss.svg", StringUtilities.getStringBytes(jbossSvg));
+            addFileToBook(files, BOOK_IMAGES_FOLDER + "jboss.svg", StringUtilities.getStringBytes(jbossSvg));
         }
 
         return basicBook;
@@ -1838,10 +2865,11 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * @param contentSpec The Content Spec that is used to build the book.
      * @param commonContentLocale The Common_Content Locale to be used.
      * @param commonContentDirectory The Common_Content directory.
-     * @param files The Mapping of file names to file contents to be used to build the ZIP archive.
+     * @param files The output sink that the book files should be written to.
+     * @throws BuildProcessingException
      */
     protected void addPublicanCommonContentToBook(final ContentSpec contentSpec, final String commonContentLocale,
-            final String commonContentDirectory, final Map<String, byte[]> files) {
+            final String commonContentDirectory, final BookOutputSink files) throws BuildProcessingException {
         final String brand = contentSpec.getBrand() == null ? BuilderConstants.DEFAULT_BRAND : contentSpec.getBrand();
 
         final String brandDir = commonContentDirectory + (commonContentDirectory.endsWith("/") ? "" : "/") + brand
@@ -1861,14 +2889,14 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 if (brandFile.exists() && brandFile.isFile()) {
                     final String file = FileUtilities.readFileContents(brandFile);
                     if (file != null) {
-                        files.put(BOOK_LOCALE_FOLDER + fileName, file.getBytes("UTF-8"));
+                        addFileToBook(files, BOOK_LOCALE_FOLDER + fileName, file.getBytes("UTF-8"));
                     }
                 } else {
                     final File commonBrandFile = new File(commonBrandDir + fileName);
                     if (commonBrandFile.exists() && commonBrandFile.isFile()) {
                         final String file = FileUtilities.readFileContents(commonBrandFile);
                         if (file != null) {
-                            files.put(BOOK_LOCALE_FOLDER + fileName, file.getBytes("UTF-8"));
+                            addFileToBook(files, BOOK_LOCALE_FOLDER + fileName, file.getBytes("UTF-8"));
                         }
                     }
                 }
@@ -1882,13 +2910,13 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     /**
      * Creates all the chapters/appendixes for a book and generates the section/topic data inside of each chapter.
      * 
-     * @param files The mapping of File Names/Locations to actual file content.
+     * @param files The output sink that the book files should be written to.
      * @param bookXIncludes The string based list of XIncludes to be used in the book.xml
      * @param level The level to build the chapter from.
      * @param useFixedUrls If Fixed URL Properties should be used for topic ID attributes.
      * @throws BuildProcessingException
      */
-    protected void createRootElementXML(final Map<String, byte[]> files, final StringBuffer bookXIncludes, final Level level,
+    protected void createRootElementXML(final BookOutputSink files, final StringBuffer bookXIncludes, final Level level,
             final boolean useFixedUrls) throws BuildProcessingException {
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
@@ -1928,7 +2956,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 XMLUtilities.convertNodeToString(chapter, verbatimElements, inlineElements, contentsInlineElements, true),
                 this.escapedTitle + ".ent", elementName);
         try {
-            files.put(BOOK_LOCALE_FOLDER + chapterName, chapterString.getBytes("UTF-8"));
+            addFileToBook(files, BOOK_LOCALE_FOLDER + chapterName, chapterString.getBytes("UTF-8"));
         } catch (UnsupportedEncodingException e) {
             /* UTF-8 is a valid format so this should exception should never get thrown */
             log.error(e.getMessage());
@@ -1939,14 +2967,14 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * Creates all the chapters/appendixes for a book that are contained within another part/chapter/appendix and generates the
      * section/topic data inside of each chapter.
      * 
-     * @param files The mapping of File Names/Locations to actual file content.
+     * @param files The output sink that the book files should be written to.
      * @param doc The document object to add the child level content to.
      * @param level The level to build the chapter from.
      * @param useFixedUrls If Fixed URL Properties should be used for topic ID attributes.
      * @return The Element that specifies the XiInclude for the chapter/appendix in the files.
      * @throws BuildProcessingException
      */
-    protected Element createSubRootElementXML(final Map<String, byte[]> files, final Document doc, final Level level,
+    protected Element createSubRootElementXML(final BookOutputSink files, final Document doc, final Level level,
             final boolean useFixedUrls) throws BuildProcessingException {
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
@@ -1983,7 +3011,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 XMLUtilities.convertNodeToString(chapter, verbatimElements, inlineElements, contentsInlineElements, true),
                 this.escapedTitle + ".ent", elementName);
         try {
-            files.put(BOOK_LOCALE_FOLDER + chapterName, chapterString.getBytes("UTF-8"));
+            addFileToBook(files, BOOK_LOCALE_FOLDER + chapterName, chapterString.getBytes("UTF-8"));
         } catch (UnsupportedEncodingException e) {
             /* UTF-8 is a valid format so this should exception should never get thrown */
             log.error(e.getMessage());
@@ -2000,7 +3028,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     /**
      * Creates the section component of a chapter.xml for a specific ContentLevel.
      * 
-     * @param files The mapping of File Names/Locations to actual file content.
+     * @param files The output sink that the book files should be written to.
      * @param level The section level object to get content from.
      * @param chapter The chapter document object that this section is to be added to.
      * @param parentNode The parent XML node of this section.
@@ -2008,7 +3036,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * @param rootElementName The root element name for this section (ie chapter, section, appendix).
      * @throws BuildProcessingException
      */
-    protected void createSectionXML(final Map<String, byte[]> files, final Level level, final Document chapter,
+    protected void createSectionXML(final BookOutputSink files, final Level level, final Document chapter,
             final Element parentNode, final boolean useFixedUrls) throws BuildProcessingException {
         final LinkedList<org.jboss.pressgang.ccms.contentspec.Node> levelData = level.getChildNodes();
 
@@ -2098,12 +3126,14 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     /**
      * Creates the Topic component of a chapter.xml for a specific SpecTopic.
      * 
-     * @param files The mapping of File Names/Locations to actual file content.
+     * @param files The output sink that the book files should be written to.
      * @param specTopic The SpecTopic object to get content from.
      * @param useFixedUrls If Fixed URL Properties should be used for topic ID attributes.
      * @return The filename of the new topic XML file.
+     * @throws BuildProcessingException
      */
-    protected String createTopicXMLFile(final Map<String, byte[]> files, final SpecTopic specTopic, final boolean useFixedUrls) {
+    protected String createTopicXMLFile(final BookOutputSink files, final SpecTopic specTopic, final boolean useFixedUrls)
+            throws BuildProcessingException {
         String topicFileName;
         final RESTBaseTopicV1<?, ?, ?> topic = specTopic.getTopic();
 
@@ -2134,7 +3164,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                     specTopic.getXmlDocument(), verbatimElements, inlineElements, contentsInlineElements, true),
                     this.escapedTitle + ".ent", DocBookUtilities.TOPIC_ROOT_NODE_NAME);
             try {
-                files.put(BOOK_TOPICS_FOLDER + topicFileName, topicXML.getBytes("UTF-8"));
+                addFileToBook(files, BOOK_TOPICS_FOLDER + topicFileName, topicXML.getBytes("UTF-8"));
             } catch (UnsupportedEncodingException e) {
                 /* UTF-8 is a valid format so this should exception should never get thrown */
                 log.error(e.getMessage());
@@ -2147,25 +3177,71 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
     }
 
     /**
-     * Adds all the images found using the {@link #processImageLocations()} method to the files map that will alter be turned
-     * into a ZIP archive.
+     * Adds all the images found using the {@link #processImageLocations()} method to the book output sink. Each image is only downloaded once, no matter how many topics reference it, and the downloads are
+     * done concurrently. If an image cache directory has been specified, then the image data is also stored on disk so that
+     * later builds don't need to download it again.
      * 
-     * @param files The mapping of File Names/Locations to actual file content.
+     * @param files The output sink that the book files should be written to.
      * @param locale The locale for the book.
      * @throws InvalidParameterException If an error occurred during a REST API call.
      * @throws InternalProcessingException If an error occurred during a REST API call.
+     * @throws BuildProcessingException
      */
-    private void addImagesToBook(final HashMap<String, byte[]> files, final String locale) throws InvalidParameterException,
-            InternalProcessingException {
+    private void addImagesToBook(final BookOutputSink files, final String locale) throws InvalidParameterException,
+            InternalProcessingException, BuildProcessingException {
         /* Load the database constants */
-        final byte[] failpenguinPng = restManager.getRESTClient()
-                .getJSONBlobConstant(DocbookBuilderConstants.FAILPENGUIN_PNG_ID, "").getValue();
+        final byte[] failpenguinPng = getBlobConstant(DocbookBuilderConstants.FAILPENGUIN_PNG_ID).getValue();
+
+        final ImageCache imageCache = new ImageCache(docbookBuildingOptions.getImageCacheDirectory());
+
+        /* Find the unique image ids, so that each image is only downloaded once */
+        final Map<String, Integer> imageIdIndexes = new LinkedHashMap<String, Integer>();
+        final List<Callable<ImageDownloadResult>> tasks = new ArrayList<Callable<ImageDownloadResult>>();
+        final AtomicInteger imageProgress = new AtomicInteger(0);
+        for (final TopicImageData<T> imageLocation : this.imageLocations) {
+            final String imageID = getImageID(imageLocation.getImageName());
+            if (imageID != null && !imageID.equals("failpenguinPng") && !imageIdIndexes.containsKey(imageID)) {
+                imageIdIndexes.put(imageID, tasks.size());
+                tasks.add(new Callable<ImageDownloadResult>() {
+                    @Override
+                    public ImageDownloadResult call() {
+                        // Check if the app should be shutdown
+                        if (isShuttingDown.get()) {
+                            return null;
+                        }
+
+                        final ImageDownloadResult result = new ImageDownloadResult();
+                        try {
+                            result.setData(downloadImage(Integer.parseInt(imageID), locale, imageCache));
+                        } catch (final Exception ex) {
+                            result.setException(ex);
+                        }
+
+                        final int count = imageProgress.incrementAndGet();
+                        final int progress = Math.round(count / (float) imageIdIndexes.size() * 100);
+                        final int lastProgress = Math.round((count - 1) / (float) imageIdIndexes.size() * 100);
+                        if (progress / 5 != lastProgress / 5) {
+                            log.info("\tDownloading Images " + progress + "% done");
+                        }
+
+                        return result;
+                    }
+                });
+            }
+        }
 
         /* download the image files that were identified in the processing stage */
-        float imageProgress = 0;
-        final float imageTotal = this.imageLocations.size();
-        final int showPercent = 5;
-        int lastPercent = 0;
+        final List<ImageDownloadResult> results;
+        try {
+            results = ThreadingUtilities.invokeAll(tasks, getThreadCount());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BuildProcessingException("Interrupted while downloading the images");
+        } catch (final ExecutionException e) {
+            ThreadingUtilities.rethrowUncheckedCause(e);
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to download the images");
+        }
 
         for (final TopicImageData<T> imageLocation : this.imageLocations) {
             // Check if the app should be shutdown
@@ -2175,112 +3251,177 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
 
             boolean success = false;
 
-            final int extensionIndex = imageLocation.getImageName().lastIndexOf(".");
-            final int pathIndex = imageLocation.getImageName().lastIndexOf("/");
-            final int hypenIndex = imageLocation.getImageName().lastIndexOf("-");
-
-            if (/* characters were found */
-            extensionIndex != -1 && pathIndex != -1
-            /* the path character was found before the extension */
-            && extensionIndex > pathIndex) {
-                try {
-                    /*
-                     * The file name minus the extension should be an integer that references an ImageFile record ID.
-                     */
-                    final String imageID;
-                    if (hypenIndex != -1) {
-                        imageID = imageLocation.getImageName().substring(pathIndex + 1, Math.min(extensionIndex, hypenIndex));
+            final String imageID = getImageID(imageLocation.getImageName());
+            if (imageID != null) {
+                /*
+                 * If the image is the failpenguin the that means that an error has already occurred most likely from not
+                 * specifying an image file at all.
+                 */
+                if (imageID.equals("failpenguinPng")) {
+                    success = false;
+                    errorDatabase.addError(imageLocation.getTopic(), ErrorType.INVALID_IMAGES,
+                            "No image filename specified. Must be in the format [ImageFileID].extension e.g. 123.png, or images/321.jpg");
+                } else {
+                    final ImageDownloadResult result = results.get(imageIdIndexes.get(imageID));
+                    if (result == null) {
+                        // The app is shutting down
+                        return;
+                    } else if (result.getException() != null) {
+                        success = false;
+                        errorDatabase.addError(imageLocation.getTopic(), ErrorType.INVALID_IMAGES, imageLocation.getImageName()
+                                + " is not a valid image. Must be in the format [ImageFileID].extension e.g. 123.png, or images/321.jpg");
+                        log.debug(ExceptionUtilities.getStackTrace(result.getException()));
+                    } else if (result.getData() != null) {
+                        success = true;
+                        addFileToBook(files, BOOK_LOCALE_FOLDER + imageLocation.getImageName(), result.getData());
                     } else {
-                        imageID = imageLocation.getImageName().substring(pathIndex + 1, extensionIndex);
+                        errorDatabase.addError(imageLocation.getTopic(), ErrorType.INVALID_IMAGES, "ImageFile ID " + imageID
+                                + " from image location " + imageLocation.getImageName() + " was not found!");
+                        log.error("ImageFile ID " + imageID + " from image location " + imageLocation.getImageName()
+                                + " was not found!");
                     }
+                }
+            }
 
-                    /*
-                     * If the image is the failpenguin the that means that an error has already occurred most likely from not
-                     * specifying an image file at all.
-                     */
-                    if (imageID.equals("failpenguinPng")) {
-                        success = false;
-                        errorDatabase
-                                .addError(imageLocation.getTopic(), ErrorType.INVALID_IMAGES,
-                                        "No image filename specified. Must be in the format [ImageFileID].extension e.g. 123.png, or images/321.jpg");
-                    } else {
-                        /* Expand the Language Images */
-                        final ExpandDataTrunk expand = new ExpandDataTrunk();
-                        final ExpandDataTrunk expandLanguages = new ExpandDataTrunk(new ExpandDataDetails(
-                                RESTImageV1.LANGUAGEIMAGES_NAME));
+            /* put in a place holder */
+            if (!success) {
+                addFileToBook(files, BOOK_LOCALE_FOLDER + imageLocation.getImageName(), failpenguinPng);
+            }
+        }
 
-                        expandLanguages.setBranches(CollectionUtilities.toArrayList(new ExpandDataTrunk(new ExpandDataDetails(
-                                RESTLanguageImageV1.IMAGEDATA_NAME))));
-                        expand.setBranches(CollectionUtilities.toArrayList(expandLanguages));
+        if (imageCache.isEnabled()) {
+            log.info("\tImage cache: " + imageCache.getHits() + " hits, " + imageCache.getMisses() + " misses");
+        }
+    }
 
-                        final String expandString = mapper.writeValueAsString(expand);
+    /**
+     * Gets the Image ID from an image file name. The file name minus the extension, and any revision after a hyphen, should be
+     * an integer that references an ImageFile record ID.
+     * 
+     * @param imageName The image file name, including the path. eg. images/123.png
+     * @return The image id from the image name, or null if the name isn't in a valid format.
+     */
+    protected String getImageID(final String imageName) {
+        final int extensionIndex = imageName.lastIndexOf(".");
+        final int pathIndex = imageName.lastIndexOf("/");
+        final int hypenIndex = imageName.lastIndexOf("-");
+
+        if (/* characters were found */
+        extensionIndex != -1 && pathIndex != -1
+        /* the path character was found before the extension */
+        && extensionIndex > pathIndex) {
+            if (hypenIndex != -1) {
+                return imageName.substring(pathIndex + 1, Math.min(extensionIndex, hypenIndex));
+            } else {
+                return imageName.substring(pathIndex + 1, extensionIndex);
+            }
+        }
 
-                        final RESTImageV1 imageFile;
-                        imageFile = restManager.getRESTClient().getJSONImage(Integer.parseInt(imageID), expandString);
-                        // TODO Uncomment this once Image Revisions are fixed.
-                        /*
-                         * if (imageLocation.getRevision() == null) { imageFile =
-                         * restManager.getRESTClient().getJSONImage(Integer.parseInt(imageID), expandString); } else { imageFile
-                         * = restManager.getRESTClient().getJSONImageRevision(Integer.parseInt(imageID),
-                         * imageLocation.getRevision(), expandString); }
-                         */
+        return null;
+    }
 
-                        /* Find the image that matches this locale. If the locale isn't found then use the default locale */
-                        RESTLanguageImageV1 langaugeImageFile = null;
-                        if (imageFile.getLanguageImages_OTM() != null && imageFile.getLanguageImages_OTM().getItems() != null) {
-                            final List<RESTLanguageImageV1> languageImages = imageFile.getLanguageImages_OTM().returnItems();
-                            for (final RESTLanguageImageV1 image : languageImages) {
-                                if (image.getLocale().equals(locale)) {
-                                    langaugeImageFile = image;
-                                } else if (image.getLocale().equals(defaultLocale) && langaugeImageFile == null) {
-                                    langaugeImageFile = image;
-                                }
-                            }
-                        }
+    /**
+     * Downloads the image data for an image in the specified locale. If the image doesn't exist in the locale then the default
+     * locale image will be used. If an image cache is enabled, then the image data will be retrieved from the cache if the
+     * image hasn't been modified since it was cached.
+     * 
+     * @param imageID The ID of the image to download.
+     * @param locale The locale of the image to download.
+     * @param imageCache The cache to use for image data.
+     * @return The image data, or null if no image could be found.
+     * @throws Exception Thrown if an error occurred during a REST API call.
+     */
+    protected byte[] downloadImage(final Integer imageID, final String locale, final ImageCache imageCache) throws Exception {
+        /* Expand the Language Images */
+        final ExpandDataTrunk expand = new ExpandDataTrunk();
+        final ExpandDataTrunk expandLanguages = new ExpandDataTrunk(new ExpandDataDetails(RESTImageV1.LANGUAGEIMAGES_NAME));
+        expand.setBranches(CollectionUtilities.toArrayList(expandLanguages));
 
-                        if (langaugeImageFile != null && langaugeImageFile.getImageData() != null) {
-                            success = true;
-                            files.put(BOOK_LOCALE_FOLDER + imageLocation.getImageName(), langaugeImageFile.getImageData());
-                        } else {
-                            errorDatabase.addError(imageLocation.getTopic(), ErrorType.INVALID_IMAGES, "ImageFile ID "
-                                    + imageID + " from image location " + imageLocation.getImageName() + " was not found!");
-                            log.error("ImageFile ID " + imageID + " from image location " + imageLocation.getImageName()
-                                    + " was not found!");
-                        }
-                    }
-                } catch (final NumberFormatException ex) {
-                    success = false;
-                    errorDatabase
-                            .addError(
-                                    imageLocation.getTopic(),
-                                    ErrorType.INVALID_IMAGES,
-                                    imageLocation.getImageName()
-                                            + " is not a valid image. Must be in the format [ImageFileID].extension e.g. 123.png, or images/321.jpg");
-                    log.debug(ExceptionUtilities.getStackTrace(ex));
-                } catch (final Exception ex) {
-                    success = false;
-                    errorDatabase
-                            .addError(
-                                    imageLocation.getTopic(),
-                                    ErrorType.INVALID_IMAGES,
-                                    imageLocation.getImageName()
-                                            + " is not a valid image. Must be in the format [ImageFileID].extension e.g. 123.png, or images/321.jpg");
-                    log.debug(ExceptionUtilities.getStackTrace(ex));
-                }
+        /*
+         * Images that were cached by a previous build are checked against the language image revision, without downloading the
+         * image data. Any other image is fetched with its data straight away, so that it is only requested once.
+         */
+        if (imageCache.isEnabled() && imageCache.containsImage(imageID)) {
+            /* Find the language image revision, without downloading the image data, and check if it has been cached */
+            final RESTImageV1 imageFile = restManager.getRESTClient().getJSONImage(imageID, mapper.writeValueAsString(expand));
+            final RESTLanguageImageV1 languageImageFile = findLanguageImage(imageFile, locale);
+            if (languageImageFile == null) {
+                return null;
             }
 
-            /* put in a place holder */
-            if (!success) {
-                files.put(BOOK_LOCALE_FOLDER + imageLocation.getImageName(), failpenguinPng);
+            final byte[] cachedData = imageCache.get(imageID, languageImageFile.getLocale(), languageImageFile.getRevision());
+            if (cachedData != null) {
+                return cachedData;
             }
+        }
+
+        expandLanguages.setBranches(CollectionUtilities.toArrayList(new ExpandDataTrunk(new ExpandDataDetails(
+                RESTLanguageImageV1.IMAGEDATA_NAME))));
+
+        final String expandString = mapper.writeValueAsString(expand);
+
+        final RESTImageV1 imageFile = restManager.getRESTClient().getJSONImage(imageID, expandString);
+        // TODO Uncomment this once Image Revisions are fixed.
+        /*
+         * if (imageLocation.getRevision() == null) { imageFile = restManager.getRESTClient().getJSONImage(imageID,
+         * expandString); } else { imageFile = restManager.getRESTClient().getJSONImageRevision(imageID,
+         * imageLocation.getRevision(), expandString); }
+         */
+
+        final RESTLanguageImageV1 languageImageFile = findLanguageImage(imageFile, locale);
+        if (languageImageFile != null && languageImageFile.getImageData() != null) {
+            imageCache.put(imageID, languageImageFile.getLocale(), languageImageFile.getRevision(),
+                    languageImageFile.getImageData());
+            return languageImageFile.getImageData();
+        }
 
-            final int progress = Math.round(imageProgress / imageTotal * 100);
-            if (progress - lastPercent >= showPercent) {
-                lastPercent = progress;
-                log.info("\tDownloading Images " + progress + "% done");
+        return null;
+    }
+
+    /**
+     * Find the language image that matches a locale. If the locale isn't found then the default locale is used.
+     * 
+     * @param imageFile The image to find the language image from.
+     * @param locale The locale of the language image.
+     * @return The matching language image, or null if one couldn't be found.
+     */
+    protected RESTLanguageImageV1 findLanguageImage(final RESTImageV1 imageFile, final String locale) {
+        RESTLanguageImageV1 langaugeImageFile = null;
+        if (imageFile != null && imageFile.getLanguageImages_OTM() != null
+                && imageFile.getLanguageImages_OTM().getItems() != null) {
+            final List<RESTLanguageImageV1> languageImages = imageFile.getLanguageImages_OTM().returnItems();
+            for (final RESTLanguageImageV1 image : languageImages) {
+                if (image.getLocale().equals(locale)) {
+                    langaugeImageFile = image;
+                } else if (image.getLocale().equals(defaultLocale) && langaugeImageFile == null) {
+                    langaugeImageFile = image;
+                }
             }
+        }
+        return langaugeImageFile;
+    }
+
+    /**
+     * The result of downloading the data for an image.
+     */
+    protected static class ImageDownloadResult {
+        private byte[] data = null;
+        private Exception exception = null;
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public void setData(final byte[] data) {
+            this.data = data;
+        }
 
-            ++imageProgress;
+        public Exception getException() {
+            return exception;
+        }
+
+        public void setException(final Exception exception) {
+            this.exception = exception;
         }
     }
 
@@ -2288,18 +3429,17 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * Builds the Author_Group.xml using the assigned writers for topics inside of the content specification.
      * 
      * @param contentSpec The content spec used to build the book.
-     * @param files The mapping of File Names/Locations to actual file content.
+     * @param files The output sink that the book files should be written to.
      * @throws InvalidParameterException If an error occurred during a REST API call.
      * @throws InternalProcessingException If an error occurred during a REST API call.
      * @throws BuildProcessingException
      */
-    private void buildAuthorGroup(final ContentSpec contentSpec, final Map<String, byte[]> files)
+    private void buildAuthorGroup(final ContentSpec contentSpec, final BookOutputSink files)
             throws InvalidParameterException, InternalProcessingException, BuildProcessingException {
         log.info("\tBuilding Author_Group.xml");
 
         // Setup Author_Group.xml
-        final String authorGroupXml = restManager.getRESTClient()
-                .getJSONStringConstant(DocbookBuilderConstants.AUTHOR_GROUP_XML_ID, "").getValue();
+        final String authorGroupXml = getStringConstant(DocbookBuilderConstants.AUTHOR_GROUP_XML_ID).getValue();
         String fixedAuthorGroupXml = authorGroupXml;
         Document authorDoc = null;
         try {
@@ -2309,14 +3449,13 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
             log.debug(ExceptionUtilities.getStackTrace(ex));
             throw new BuildProcessingException("Failed to convert the Author_Group.xml template into a DOM document");
         }
-        final LinkedHashMap<Integer, AuthorInformation> authorIDtoAuthor = new LinkedHashMap<Integer, AuthorInformation>();
-
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
             return;
         }
 
-        // Get the mapping of authors using the topics inside the content spec
+        // Get the authors using the topics inside the content spec
+        final Set<Integer> authorIds = new LinkedHashSet<Integer>();
         for (final Integer topicId : specDatabase.getTopicIds()) {
             final RESTBaseTopicV1<?, ?, ?> topic = specDatabase.getSpecTopicsForTopicID(topicId).get(0).getTopic();
             final List<RESTTagV1> authorTags;
@@ -2327,18 +3466,24 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 authorTags = ComponentTopicV1.returnTagsInCategoriesByID(topic,
                         CollectionUtilities.toArrayList(CSConstants.WRITER_CATEGORY_ID));
             }
-            if (authorTags.size() > 0) {
-                for (final RESTTagV1 author : authorTags) {
-                    if (!authorIDtoAuthor.containsKey(author.getId())) {
-                        final AuthorInformation authorInfo = reader.getAuthorInformation(author.getId());
-                        if (authorInfo != null) {
-                            authorIDtoAuthor.put(author.getId(), authorInfo);
-                        }
-                    }
-                }
+            for (final RESTTagV1 author : authorTags) {
+                authorIds.add(author.getId());
             }
         }
 
+        // Look up the information for all of the authors at once
+        final Map<Integer, AuthorInformation> authorIDtoAuthor;
+        try {
+            authorIDtoAuthor = authorInformationCache.getAuthorInformation(authorIds, getThreadCount());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BuildProcessingException("Interrupted while downloading the author information");
+        } catch (final ExecutionException e) {
+            ThreadingUtilities.rethrowUncheckedCause(e);
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            throw new BuildProcessingException("Failed to download the author information");
+        }
+
         /* Sort and make sure duplicate authors don't exist */
         final Set<AuthorInformation> authors = new TreeSet<AuthorInformation>(new AuthorInformationComparator());
         for (final Entry<Integer, AuthorInformation> authorEntry : authorIDtoAuthor.entrySet()) {
@@ -2439,7 +3584,7 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 XMLUtilities.convertNodeToString(authorDoc, verbatimElements, inlineElements, contentsInlineElements, true),
                 this.escapedTitle + ".ent", "authorgroup");
         try {
-            files.put(BOOK_LOCALE_FOLDER + "Author_Group.xml", fixedAuthorGroupXml.getBytes("UTF-8"));
+            addFileToBook(files, BOOK_LOCALE_FOLDER + "Author_Group.xml", fixedAuthorGroupXml.getBytes("UTF-8"));
         } catch (UnsupportedEncodingException e) {
             /* UTF-8 is a valid format so this should exception should never get thrown */
             log.error(e.getMessage());
@@ -2452,14 +3597,14 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * @param requester The user who requested the build action.
      * @param revisionHistoryXml The Revision_History.xml file/template to add revision information to.
      * @param contentSpec The content spec object used to build the book.
-     * @param files The mapping of File Names/Locations to actual file content.
+     * @return The Revision_History.xml file to add to the book, or null if the build is shutting down.
      * @throws InternalProcessingException If an error occurred during a REST API call.
      * @throws InvalidParameterException If an error occurred during a REST API call.
      * @throws BuildProcessingException
      */
-    protected void buildRevisionHistory(final ContentSpec contentSpec, final String revisionHistoryXml,
-            final RESTUserV1 requester, final Map<String, byte[]> files) throws InvalidParameterException,
-            InternalProcessingException, BuildProcessingException {
+    protected String buildRevisionHistory(final ContentSpec contentSpec, final String revisionHistoryXml,
+            final RESTUserV1 requester) throws InvalidParameterException, InternalProcessingException,
+            BuildProcessingException {
         log.info("\tBuilding Revision_History.xml");
 
         Document revHistoryDoc;
@@ -2487,17 +3632,21 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
             throw new BuildProcessingException("Revision_History.xml Template has no revhistory block to add revisions to.");
         }
 
-        final List<RESTTagV1> authorList = requester == null ? new ArrayList<RESTTagV1>() : reader.getTagsByName(requester
-                .getName());
+        final List<RESTTagV1> authorList;
+        if (requester == null) {
+            authorList = new ArrayList<RESTTagV1>();
+        } else {
+            authorList = restManager.getReader().getTagsByName(requester.getName());
+        }
 
         // Check if the app should be shutdown
         if (isShuttingDown.get()) {
-            return;
+            return null;
         }
 
         // An assigned writer tag exists for the User so check if there is an AuthorInformation tuple for that writer
         if (authorList.size() == 1) {
-            AuthorInformation authorInfo = reader.getAuthorInformation(authorList.get(0).getId());
+            AuthorInformation authorInfo = authorInformationCache.getAuthorInformation(authorList.get(0).getId());
             if (authorInfo != null) {
                 final Element revision = generateRevision(contentSpec, revHistoryDoc, authorInfo, requester);
 
@@ -2520,16 +3669,8 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
             addRevisionToRevHistory(revHistory, revision);
         }
 
-        // Add the revision history to the book
-        final String fixedRevisionHistoryXml = DocBookUtilities
-                .addXMLBoilerplate(XMLUtilities.convertNodeToString(revHistoryDoc, verbatimElements, inlineElements,
-                        contentsInlineElements, true), this.escapedTitle + ".ent", "appendix");
-        try {
-            files.put(BOOK_LOCALE_FOLDER + "Revision_History.xml", fixedRevisionHistoryXml.getBytes("UTF-8"));
-        } catch (UnsupportedEncodingException e) {
-            /* UTF-8 is a valid format so this should exception should never get thrown */
-            log.error(e.getMessage());
-        }
+        return DocBookUtilities.addXMLBoilerplate(XMLUtilities.convertNodeToString(revHistoryDoc, verbatimElements,
+                inlineElements, contentsInlineElements, true), this.escapedTitle + ".ent", "appendix");
     }
 
     /**
@@ -2629,8 +3770,8 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
 
         if (contentSpec.getId() > 0) {
             if (contentSpec.getRevision() == null) {
-                listMemberEle.setTextContent(String.format(BuilderConstants.BUILT_MSG, contentSpec.getId(),
-                        reader.getLatestCSRevById(contentSpec.getId()))
+                final Integer latestRevision = restManager.getReader().getLatestCSRevById(contentSpec.getId());
+                listMemberEle.setTextContent(String.format(BuilderConstants.BUILT_MSG, contentSpec.getId(), latestRevision)
                         + (authorInfo.getAuthorId() > 0 ? (" by " + requester.getName()) : ""));
             } else {
                 listMemberEle.setTextContent(String.format(BuilderConstants.BUILT_MSG, contentSpec.getId(),
@@ -2653,8 +3794,10 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
      * @param contentSpec The content spec that was used to build the book.
      * @param locale The locale the book was built in.
      * @return The Chapter represented as Docbook markup.
+     * @throws BuildProcessingException
      */
-    private String buildTranslateCSChapter(final ContentSpec contentSpec, final String locale) {
+    private String buildTranslateCSChapter(final ContentSpec contentSpec, final String locale)
+            throws BuildProcessingException {
 
         final RESTTranslatedTopicCollectionV1 translatedTopics = this.getTranslatedTopics(contentSpec, new HashSet<Integer>(
                 CollectionUtilities.toArrayList(contentSpec.getId())), null);
@@ -3223,10 +4366,15 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         try {
             final ExpandDataTrunk expand = new ExpandDataTrunk();
             final ExpandDataTrunk expandTopics = new ExpandDataTrunk(new ExpandDataDetails("topics"));
+            expandTopics.setBranches(CollectionUtilities.toArrayList(new ExpandDataTrunk(new ExpandDataDetails(
+                    RESTTopicV1.PROPERTIES_NAME))));
             expand.setBranches(CollectionUtilities.toArrayList(expandTopics));
 
             final String expandString = mapper.writeValueAsString(expand);
 
+            /* Remember the fixed urls used on the server for each base url, so each base url is only queried once */
+            final Map<String, Set<String>> serverFixedURLs = new ConcurrentHashMap<String, Set<String>>();
+
             /* This first pass will update or correct the fixed url property tags on the current revision */
             while (tries < BuilderConstants.MAXIMUM_SET_PROP_TAGS_RETRY && !success) {
                 ++tries;
@@ -3235,6 +4383,10 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                 final Set<String> processedFileNames = new HashSet<String>();
 
                 final List<RESTTopicV1> topicItems = topics.returnItems();
+                final List<RESTTopicV1> latestTopics = new ArrayList<RESTTopicV1>();
+                final List<RESTAssignedPropertyTagCollectionV1> latestTopicsUpdatePropertyTags =
+                        new ArrayList<RESTAssignedPropertyTagCollectionV1>();
+                final List<RESTTopicV1> newFixedURLTopics = new ArrayList<RESTTopicV1>();
                 for (final RESTTopicV1 topic : topicItems) {
 
                     // Check if the app should be shutdown
@@ -3276,69 +4428,65 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
                         }
                     }
                     
-                    if (existingUniqueURL == null || !existingUniqueURL.getValid()) {
-                        /*
-                         * generate the base url
-                         */
-                        String baseUrlName = DocbookBuildUtilities.createURLTitle(topic.getTitle());
+                    /*
+                     * Topics without a valid fixed url need a new one, as long as we are not looking at a landing page topic
+                     */
+                    if ((existingUniqueURL == null || !existingUniqueURL.getValid()) && topic.getId() >= 0) {
+                        newFixedURLTopics.add(topic);
+                    }
 
-                        /* generate a unique fixed url */
-                        String postFix = "";
+                    latestTopics.add(topic);
+                    latestTopicsUpdatePropertyTags.add(updatePropertyTags);
+                }
 
-                        for (int uniqueCount = 1; uniqueCount <= BuilderConstants.MAXIMUM_SET_PROP_TAG_NAME_RETRY; ++uniqueCount) {
-                            final String query = "query;propertyTag" + CommonConstants.FIXED_URL_PROP_TAG_ID + "="
-                                    + URLEncoder.encode(baseUrlName + postFix, "UTF-8");
-                            final RESTTopicCollectionV1 queryTopics = restManager.getRESTClient().getJSONTopicsWithQuery(
-                                    new PathSegmentImpl(query, false), expandString);
+                /* Generate a unique fixed url for all the topics that need one at once */
+                final Map<RESTTopicV1, String> newFixedURLs = allocateFixedURLs(newFixedURLTopics, processedFileNames,
+                        serverFixedURLs, expandString);
 
-                            if (queryTopics.getSize() != 0) {
-                                postFix = uniqueCount + "";
-                            } else {
-                                break;
-                            }
-                        }
+                // Check if the app should be shutdown
+                if (isShuttingDown.get()) {
+                    return false;
+                }
 
-                        // Check if the app should be shutdown
-                        if (isShuttingDown.get()) {
-                            return false;
-                        }
+                for (int i = 0; i < latestTopics.size(); i++) {
+                    final RESTTopicV1 topic = latestTopics.get(i);
+                    final RESTAssignedPropertyTagCollectionV1 updatePropertyTags = latestTopicsUpdatePropertyTags.get(i);
 
-                        /*
-                         * persist the new fixed url, as long as we are not looking at a landing page topic
-                         */
-                        if (topic.getId() >= 0) {
-
-                            /* update any old fixed url property tags */
-                            boolean found = false;
-                            if (topic.getProperties() != null && topic.getProperties().getItems() != null) {
-                                final List<RESTAssignedPropertyTagV1> propertyTags = topic.getProperties().returnItems();
-                                for (final RESTAssignedPropertyTagV1 existing : propertyTags) {
-                                    if (existing.getId().equals(CommonConstants.FIXED_URL_PROP_TAG_ID)) {
-                                        if (found)
-                                        {
-                                            /* If we've already found one then we need to remove any duplicates */
-                                            updatePropertyTags.addRemoveItem(existing);
-                                        }
-                                        else
-                                        {
-                                            found = true;
-                                            existing.explicitSetValue(baseUrlName + postFix);
-                                            
-                                            updatePropertyTags.addUpdateItem(existing);
-                                        }
+                    /*
+                     * persist the new fixed url
+                     */
+                    final String newFixedURL = newFixedURLs.get(topic);
+                    if (newFixedURL != null) {
+
+                        /* update any old fixed url property tags */
+                        boolean found = false;
+                        if (topic.getProperties() != null && topic.getProperties().getItems() != null) {
+                            final List<RESTAssignedPropertyTagV1> propertyTags = topic.getProperties().returnItems();
+                            for (final RESTAssignedPropertyTagV1 existing : propertyTags) {
+                                if (existing.getId().equals(CommonConstants.FIXED_URL_PROP_TAG_ID)) {
+                                    if (found)
+                                    {
+                                        /* If we've already found one then we need to remove any duplicates */
+                                        updatePropertyTags.addRemoveItem(existing);
+                                    }
+                                    else
+                                    {
+                                        found = true;
+                                        existing.explicitSetValue(newFixedURL);
+                                        
+                                        updatePropertyTags.addUpdateItem(existing);
                                     }
                                 }
                             }
+                        }
 
-                            /* If we didn't find any tags then add a new one */
-                            if (!found) {
-                                final RESTAssignedPropertyTagV1 propertyTag = new RESTAssignedPropertyTagV1();
-                                propertyTag.setId(CommonConstants.FIXED_URL_PROP_TAG_ID);
-                                propertyTag.explicitSetValue(baseUrlName + postFix);
+                        /* If we didn't find any tags then add a new one */
+                        if (!found) {
+                            final RESTAssignedPropertyTagV1 propertyTag = new RESTAssignedPropertyTagV1();
+                            propertyTag.setId(CommonConstants.FIXED_URL_PROP_TAG_ID);
+                            propertyTag.explicitSetValue(newFixedURL);
 
-                                updatePropertyTags.addNewItem(propertyTag);
-                            }
-                            processedFileNames.add(baseUrlName + postFix);
+                            updatePropertyTags.addNewItem(propertyTag);
                         }
                     }
                     
@@ -3420,6 +4568,115 @@ public class DocbookBuilder<T extends RESTBaseTopicV1<T, U, V>, U extends RESTBa
         return success;
     }
 
+    /**
+     * Generates a unique Fixed URL for each topic in a set of topics. The candidate names are generated from the topic
+     * titles, and the Fixed URLs used on the server are looked up once for each distinct title, concurrently using the
+     * number of threads specified by the building options. The names are then assigned in the topic order, so topics
+     * with the same title are given different Fixed URLs.
+     * 
+     * @param topics The topics that need a new Fixed URL.
+     * @param usedFixedURLs The Fixed URLs that have already been assigned during this pass. The new Fixed URLs are added to it.
+     * @param serverFixedURLs A cache of the Fixed URLs used on the server, keyed by the base url name they start with.
+     * @param expandString The expand string to use when querying for topics that use a Fixed URL.
+     * @return A mapping of each topic to its new Fixed URL.
+     * @throws Exception Thrown if an error occurs while querying the REST Interface.
+     */
+    private Map<RESTTopicV1, String> allocateFixedURLs(final List<RESTTopicV1> topics, final Set<String> usedFixedURLs,
+            final Map<String, Set<String>> serverFixedURLs, final String expandString) throws Exception {
+        /* Find the base urls that haven't been looked up on the server yet */
+        final Set<String> baseUrlNames = new LinkedHashSet<String>();
+        for (final RESTTopicV1 topic : topics) {
+            final String baseUrlName = DocbookBuildUtilities.createURLTitle(topic.getTitle());
+            if (!serverFixedURLs.containsKey(baseUrlName)) {
+                baseUrlNames.add(baseUrlName);
+            }
+        }
+
+        /* Look up the fixed urls used on the server for each base url concurrently */
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (final String baseUrlName : baseUrlNames) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    // Check if the app should be shutdown
+                    if (isShuttingDown.get()) {
+                        return null;
+                    }
+
+                    serverFixedURLs.put(baseUrlName, findServerFixedURLs(baseUrlName, expandString));
+                    return null;
+                }
+            });
+        }
+
+        try {
+            ThreadingUtilities.invokeAll(tasks, getThreadCount());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (final ExecutionException e) {
+            ThreadingUtilities.rethrowUncheckedCause(e);
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+
+        /* Assign the fixed urls in order. Every candidate can be checked locally, so this doesn't need the server */
+        final Map<RESTTopicV1, String> fixedURLs = new IdentityHashMap<RESTTopicV1, String>();
+        for (final RESTTopicV1 topic : topics) {
+            // Check if the app should be shutdown
+            if (isShuttingDown.get()) {
+                break;
+            }
+
+            final String baseUrlName = DocbookBuildUtilities.createURLTitle(topic.getTitle());
+            final Set<String> existingFixedURLs = serverFixedURLs.get(baseUrlName);
+            String postFix = "";
+            for (int uniqueCount = 1; uniqueCount <= BuilderConstants.MAXIMUM_SET_PROP_TAG_NAME_RETRY; ++uniqueCount) {
+                final String fixedURL = baseUrlName + postFix;
+                if (!usedFixedURLs.contains(fixedURL) && !existingFixedURLs.contains(fixedURL)) {
+                    break;
+                }
+                postFix = uniqueCount + "";
+            }
+
+            usedFixedURLs.add(baseUrlName + postFix);
+            fixedURLs.put(topic, baseUrlName + postFix);
+        }
+
+        return fixedURLs;
+    }
+
+    /**
+     * Finds the Fixed URLs used by topics on the server that start with a base url name. The REST Interface matches
+     * property tag values that contain the queried value, so a single query finds the base url name and all of its
+     * numbered variants.
+     * 
+     * @param baseUrlName The base url name generated from a topic title.
+     * @param expandString The expand string to use when querying for topics, which must expand the topic properties.
+     * @return The Fixed URLs on the server that start with the base url name.
+     * @throws Exception Thrown if an error occurs while querying the REST Interface.
+     */
+    private Set<String> findServerFixedURLs(final String baseUrlName, final String expandString) throws Exception {
+        final String query = "query;propertyTag" + CommonConstants.FIXED_URL_PROP_TAG_ID + "="
+                + URLEncoder.encode(baseUrlName, "UTF-8");
+        final RESTTopicCollectionV1 queryTopics = restManager.getRESTClient().getJSONTopicsWithQuery(
+                new PathSegmentImpl(query, false), expandString);
+
+        final Set<String> fixedURLs = new HashSet<String>();
+        if (queryTopics != null && queryTopics.getItems() != null) {
+            for (final RESTTopicV1 topic : queryTopics.returnItems()) {
+                final List<RESTAssignedPropertyTagCollectionItemV1> propertyTags = ComponentTopicV1.returnPropertyItems(
+                        topic, CommonConstants.FIXED_URL_PROP_TAG_ID);
+                for (final RESTAssignedPropertyTagCollectionItemV1 propertyTag : propertyTags) {
+                    final String fixedURL = propertyTag.getItem() == null ? null : propertyTag.getItem().getValue();
+                    if (fixedURL != null && fixedURL.startsWith(baseUrlName)) {
+                        fixedURLs.add(fixedURL);
+                    }
+                }
+            }
+        }
+        return fixedURLs;
+    }
+
     /**
      * Update the Fixed URL Property Tags from a collection of updated topics.
      * 
@@ -0,0 +1,35 @@
+package com.redhat.contentspec.builder.output;
+
+import java.io.IOException;
+
+/**
+ * A destination for the files that make up a built book. Files are written to the sink as soon as the builder has produced
+ * them, so that the whole book doesn't have to be held in memory before it is saved.
+ */
+public interface BookOutputSink {
+    /**
+     * Add a file to the book. If a file has already been added with the same path, then the new file replaces it. Sinks that
+     * can't replace a file once it has been written ignore a new file with the same contents, and throw an IOException for a
+     * new file with different contents.
+     *
+     * @param path The path of the file, relative to the root of the book.
+     * @param data The contents of the file.
+     * @throws IOException Thrown if the file couldn't be written.
+     */
+    void addFile(String path, byte[] data) throws IOException;
+
+    /**
+     * Checks if a file has already been added to the book.
+     *
+     * @param path The path of the file, relative to the root of the book.
+     * @return True if the file has been added, otherwise false.
+     */
+    boolean hasFile(String path);
+
+    /**
+     * Finishes writing the book and releases any resources held by the sink.
+     *
+     * @throws IOException Thrown if the book couldn't be finished.
+     */
+    void close() throws IOException;
+}
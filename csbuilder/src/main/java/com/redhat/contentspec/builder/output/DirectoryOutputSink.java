@@ -0,0 +1,50 @@
+package com.redhat.contentspec.builder.output;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A BookOutputSink that writes each file directly into a directory on disk.
+ */
+public class DirectoryOutputSink implements BookOutputSink {
+    private final File rootDirectory;
+    private final Set<String> paths = new HashSet<String>();
+
+    /**
+     * @param rootDirectory The directory that the book should be written to.
+     */
+    public DirectoryOutputSink(final File rootDirectory) {
+        this.rootDirectory = rootDirectory;
+    }
+
+    @Override
+    public synchronized void addFile(final String path, final byte[] data) throws IOException {
+        paths.add(path);
+
+        final File file = new File(rootDirectory, path);
+        if (file.getParentFile() != null && !file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+            throw new IOException("Unable to create the " + file.getParentFile().getAbsolutePath() + " directory");
+        }
+
+        final FileOutputStream fos = new FileOutputStream(file);
+        try {
+            fos.write(data);
+            fos.flush();
+        } finally {
+            fos.close();
+        }
+    }
+
+    @Override
+    public synchronized boolean hasFile(final String path) {
+        return paths.contains(path);
+    }
+
+    @Override
+    public void close() {
+        // Each file is closed once it has been written, so there is nothing to do
+    }
+}
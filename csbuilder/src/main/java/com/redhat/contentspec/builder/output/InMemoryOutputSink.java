@@ -0,0 +1,32 @@
+package com.redhat.contentspec.builder.output;
+
+import java.util.HashMap;
+
+/**
+ * A BookOutputSink that holds the whole book in memory, as a mapping of file paths to file contents.
+ */
+public class InMemoryOutputSink implements BookOutputSink {
+    private final HashMap<String, byte[]> files = new HashMap<String, byte[]>();
+
+    @Override
+    public synchronized void addFile(final String path, final byte[] data) {
+        files.put(path, data);
+    }
+
+    @Override
+    public synchronized boolean hasFile(final String path) {
+        return files.containsKey(path);
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+    /**
+     * @return The mapping of file paths to file contents for the book.
+     */
+    public HashMap<String, byte[]> getFiles() {
+        return files;
+    }
+}
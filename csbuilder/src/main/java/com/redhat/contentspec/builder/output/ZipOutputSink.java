@@ -0,0 +1,60 @@
+package com.redhat.contentspec.builder.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A BookOutputSink that streams each file straight into a ZIP archive. A file can't be replaced once it has been streamed,
+ * so only a digest of each file is kept to check that any file added again with the same path has the same contents.
+ */
+public class ZipOutputSink implements BookOutputSink {
+    private final ZipOutputStream zipStream;
+    private final Map<String, byte[]> digests = new HashMap<String, byte[]>();
+
+    /**
+     * @param outputStream The stream to write the ZIP archive to. The stream is closed when the sink is closed.
+     */
+    public ZipOutputSink(final OutputStream outputStream) {
+        zipStream = new ZipOutputStream(outputStream);
+    }
+
+    @Override
+    public synchronized void addFile(final String path, final byte[] data) throws IOException {
+        final byte[] digest = generateDigest(data);
+        if (digests.containsKey(path)) {
+            if (Arrays.equals(digests.get(path), digest)) return;
+
+            throw new IOException("Unable to replace " + path + " as it has already been written to the ZIP archive");
+        }
+
+        zipStream.putNextEntry(new ZipEntry(path));
+        zipStream.write(data);
+        zipStream.closeEntry();
+        digests.put(path, digest);
+    }
+
+    @Override
+    public synchronized boolean hasFile(final String path) {
+        return digests.containsKey(path);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        zipStream.close();
+    }
+
+    private static byte[] generateDigest(final byte[] data) throws IOException {
+        try {
+            return MessageDigest.getInstance("MD5").digest(data);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IOException("Unable to generate a digest for the ZIP archive entry: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.redhat.contentspec.builder.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.jboss.pressgang.ccms.contentspec.entities.AuthorInformation;
+import org.jboss.pressgang.ccms.contentspec.rest.RESTManager;
+
+/**
+ * A cache for the author information of the writers assigned to topics. The same writers are used by most books, so the
+ * author information is held in memory for the build and in the persistent REST entity cache between builds. Author
+ * information can change, so entries in the persistent cache are only used until they reach a maximum age.
+ */
+public class AuthorInformationCache {
+    /** The default maximum age of the author information in the persistent cache, which is one day. */
+    public static final long DEFAULT_MAX_AGE = 24L * 60 * 60 * 1000;
+
+    private static final String AUTHOR_INFORMATION_CACHE_TYPE = "authorinformation";
+
+    private final RESTManager restManager;
+    private final RESTEntityCache restEntityCache;
+    private final long maxAge;
+    private final Map<Integer, AuthorInformation> authors = new ConcurrentHashMap<Integer, AuthorInformation>();
+    private final Map<Integer, Boolean> missingAuthors = new ConcurrentHashMap<Integer, Boolean>();
+
+    /**
+     * @param restManager The manager used to download author information from the REST Interface.
+     * @param restEntityCache The persistent cache to store the author information in between builds.
+     */
+    public AuthorInformationCache(final RESTManager restManager, final RESTEntityCache restEntityCache) {
+        this(restManager, restEntityCache, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * @param restManager The manager used to download author information from the REST Interface.
+     * @param restEntityCache The persistent cache to store the author information in between builds.
+     * @param maxAge The maximum age in milliseconds of the author information in the persistent cache.
+     */
+    public AuthorInformationCache(final RESTManager restManager, final RESTEntityCache restEntityCache, final long maxAge) {
+        this.restManager = restManager;
+        this.restEntityCache = restEntityCache;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Get the author information for a single author tag.
+     *
+     * @param authorId The ID of the author tag.
+     * @return The author information, or null if none exists for the author.
+     */
+    public AuthorInformation getAuthorInformation(final Integer authorId) {
+        if (authorId == null || missingAuthors.containsKey(authorId)) return null;
+
+        AuthorInformation authorInfo = authors.get(authorId);
+        if (authorInfo == null) {
+            authorInfo = getCachedAuthorInformation(authorId);
+            if (authorInfo == null) {
+                authorInfo = loadAuthorInformation(authorId);
+                if (authorInfo != null) {
+                    restEntityCache.put(AUTHOR_INFORMATION_CACHE_TYPE, authorId, null, new CachedAuthorInformation(authorInfo,
+                            System.currentTimeMillis()));
+                }
+            }
+
+            if (authorInfo == null) {
+                missingAuthors.put(authorId, true);
+            } else {
+                authors.put(authorId, authorInfo);
+            }
+        }
+        return authorInfo;
+    }
+
+    /**
+     * Get the author information for a set of author tags. Any authors that aren't cached are downloaded concurrently.
+     *
+     * @param authorIds The IDs of the author tags.
+     * @param numThreads The number of threads to download the author information with.
+     * @return A map of the author tag IDs to their author information. Authors that don't have any author information are
+     *         not included.
+     * @throws InterruptedException Thrown if the thread was interrupted while waiting for the downloads.
+     * @throws ExecutionException Thrown if downloading the author information failed.
+     */
+    public Map<Integer, AuthorInformation> getAuthorInformation(final Collection<Integer> authorIds, final int numThreads)
+            throws InterruptedException, ExecutionException {
+        final List<Integer> authorIdList = new ArrayList<Integer>(new LinkedHashSet<Integer>(authorIds));
+        final List<Callable<AuthorInformation>> tasks = new ArrayList<Callable<AuthorInformation>>();
+        for (final Integer authorId : authorIdList) {
+            tasks.add(new Callable<AuthorInformation>() {
+                @Override
+                public AuthorInformation call() {
+                    return getAuthorInformation(authorId);
+                }
+            });
+        }
+
+        final List<AuthorInformation> results = ThreadingUtilities.invokeAll(tasks, numThreads);
+        final Map<Integer, AuthorInformation> authorInfos = new HashMap<Integer, AuthorInformation>();
+        for (int i = 0; i < authorIdList.size(); i++) {
+            if (results.get(i) != null) {
+                authorInfos.put(authorIdList.get(i), results.get(i));
+            }
+        }
+        return authorInfos;
+    }
+
+    /**
+     * Download the author information for an author tag from the REST Interface.
+     *
+     * @param authorId The ID of the author tag.
+     * @return The author information, or null if none exists for the author.
+     */
+    protected AuthorInformation loadAuthorInformation(final Integer authorId) {
+        return restManager.getReader().getAuthorInformation(authorId);
+    }
+
+    private AuthorInformation getCachedAuthorInformation(final Integer authorId) {
+        final CachedAuthorInformation cachedAuthorInfo = restEntityCache.get(AUTHOR_INFORMATION_CACHE_TYPE, authorId, null,
+                CachedAuthorInformation.class);
+        if (cachedAuthorInfo == null || System.currentTimeMillis() - cachedAuthorInfo.getCachedTime() > maxAge) {
+            return null;
+        }
+
+        return cachedAuthorInfo.toAuthorInformation();
+    }
+
+    /**
+     * The author information that is stored in the persistent cache, along with the time it was downloaded.
+     */
+    public static class CachedAuthorInformation {
+        private Integer authorId;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private String organization;
+        private String orgDivision;
+        private long cachedTime;
+
+        public CachedAuthorInformation() {
+        }
+
+        public CachedAuthorInformation(final AuthorInformation authorInfo, final long cachedTime) {
+            authorId = authorInfo.getAuthorId();
+            firstName = authorInfo.getFirstName();
+            lastName = authorInfo.getLastName();
+            email = authorInfo.getEmail();
+            organization = authorInfo.getOrganization();
+            orgDivision = authorInfo.getOrgDivision();
+            this.cachedTime = cachedTime;
+        }
+
+        public AuthorInformation toAuthorInformation() {
+            final AuthorInformation authorInfo = new AuthorInformation(authorId, firstName, lastName, email);
+            authorInfo.setOrganization(organization);
+            authorInfo.setOrgDivision(orgDivision);
+            return authorInfo;
+        }
+
+        public Integer getAuthorId() {
+            return authorId;
+        }
+
+        public void setAuthorId(final Integer authorId) {
+            this.authorId = authorId;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName(final String firstName) {
+            this.firstName = firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public void setLastName(final String lastName) {
+            this.lastName = lastName;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(final String email) {
+            this.email = email;
+        }
+
+        public String getOrganization() {
+            return organization;
+        }
+
+        public void setOrganization(final String organization) {
+            this.organization = organization;
+        }
+
+        public String getOrgDivision() {
+            return orgDivision;
+        }
+
+        public void setOrgDivision(final String orgDivision) {
+            this.orgDivision = orgDivision;
+        }
+
+        public long getCachedTime() {
+            return cachedTime;
+        }
+
+        public void setCachedTime(final long cachedTime) {
+            this.cachedTime = cachedTime;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.redhat.contentspec.builder.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A template for one of the standard book files, such as Book_Info.xml or the .ent file, that has been compiled into the
+ * text between its placeholders. A compiled template can then be rendered in a single pass, instead of running a regular
+ * expression over the whole template for each placeholder.
+ * <p/>
+ * The placeholders are the regular expressions from BuilderConstants, such as {@code BuilderConstants.TITLE_REGEX}, and
+ * the same constants are used as the keys when rendering. A compiled template never changes, so it can be shared between
+ * threads and builds.
+ */
+public class BookTemplate {
+    private final List<String> text = new ArrayList<String>();
+    private final List<String> placeholders = new ArrayList<String>();
+    private final List<String> placeholderText = new ArrayList<String>();
+
+    private BookTemplate() {
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param template The template to compile.
+     * @param placeholderRegexes The regular expressions that match the placeholders in the template.
+     * @return The compiled template.
+     */
+    public static BookTemplate compile(final String template, final String... placeholderRegexes) {
+        final BookTemplate bookTemplate = new BookTemplate();
+        if (placeholderRegexes.length == 0) {
+            bookTemplate.text.add(template);
+            return bookTemplate;
+        }
+
+        // Wrap each placeholder in its own group, so the placeholder that matched can be found from the group number
+        final StringBuilder regex = new StringBuilder();
+        for (final String placeholderRegex : placeholderRegexes) {
+            if (regex.length() > 0) {
+                regex.append("|");
+            }
+            regex.append("(").append(placeholderRegex).append(")");
+        }
+
+        final Matcher matcher = Pattern.compile(regex.toString()).matcher(template);
+        int start = 0;
+        while (matcher.find()) {
+            for (int i = 1; i <= matcher.groupCount(); i++) {
+                if (matcher.group(i) != null) {
+                    bookTemplate.text.add(template.substring(start, matcher.start()));
+                    bookTemplate.placeholders.add(placeholderRegexes[i - 1]);
+                    bookTemplate.placeholderText.add(matcher.group());
+                    break;
+                }
+            }
+            start = matcher.end();
+        }
+        bookTemplate.text.add(template.substring(start));
+
+        return bookTemplate;
+    }
+
+    /**
+     * Renders the template. Placeholders that don't have a value are left as they are, and null values are rendered as an
+     * empty string. The values are inserted as is, so they aren't searched for any further placeholders.
+     *
+     * @param values A map of the placeholder regular expressions to the values that should replace them.
+     * @return The rendered template.
+     */
+    public String render(final Map<String, String> values) {
+        final StringBuilder output = new StringBuilder();
+        for (int i = 0; i < placeholders.size(); i++) {
+            output.append(text.get(i));
+
+            final String placeholder = placeholders.get(i);
+            if (values.containsKey(placeholder)) {
+                final String value = values.get(placeholder);
+                if (value != null) {
+                    output.append(value);
+                }
+            } else {
+                output.append(placeholderText.get(i));
+            }
+        }
+        output.append(text.get(text.size() - 1));
+
+        return output.toString();
+    }
+
+    /**
+     * @return The regular expressions of the placeholders found in the template, in the order they appear.
+     */
+    public List<String> getPlaceholders() {
+        return Collections.unmodifiableList(placeholders);
+    }
+}
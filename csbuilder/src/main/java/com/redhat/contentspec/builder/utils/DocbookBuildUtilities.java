@@ -15,11 +15,14 @@ import org.jboss.pressgang.ccms.rest.v1.entities.RESTTopicV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.RESTTranslatedTopicV1;
 import org.jboss.pressgang.ccms.rest.v1.entities.base.RESTBaseTopicV1;
 import org.jboss.pressgang.ccms.utils.common.DocBookUtilities;
+import org.jboss.pressgang.ccms.utils.common.HashUtilities;
+import org.jboss.pressgang.ccms.utils.common.XMLUtilities;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
 
 import com.google.code.regexp.NamedMatcher;
 import com.google.code.regexp.NamedPattern;
@@ -27,6 +30,7 @@ import com.ibm.icu.text.NumberFormat;
 import com.ibm.icu.text.RuleBasedNumberFormat;
 import com.redhat.contentspec.builder.constants.BuilderConstants;
 import com.redhat.contentspec.structures.CSDocbookBuildingOptions;
+import com.redhat.contentspec.structures.IdAttributeRegistry;
 
 /**
  * A Utilities class that holds methods useful in the Docbook Builder.
@@ -45,9 +49,35 @@ public class DocbookBuildUtilities {
      *
      * @param specTopic The topic the node belongs to.
      * @param node The node to process for id attributes.
-     * @param usedIdAttributes The list of usedIdAttributes.
+     * @param doc The document that the node belongs to.
+     * @param usedIdAttributes The registry of id attributes used by the topics in the book.
      */
-    public static void setUniqueIds(final SpecTopic specTopic, final Node node, final Document doc, final Map<Integer, Set<String>> usedIdAttributes)
+    public static void setUniqueIds(final SpecTopic specTopic, final Node node, final Document doc, final IdAttributeRegistry usedIdAttributes)
+    {
+        /*
+         * Work out the new value for every id attribute first, so that the attributes that reference the ids can all be
+         * updated in a single pass over the document.
+         */
+        final Map<String, String> fixedIds = new HashMap<String, String>();
+        collectUniqueIds(specTopic, node, usedIdAttributes, fixedIds);
+
+        if (!fixedIds.isEmpty())
+        {
+            setUniqueIdReferences(doc.getDocumentElement(), fixedIds);
+        }
+    }
+
+    /**
+     * Finds the "id" attributes in the supplied XML node and works out the value
+     * that each id needs to be changed to, so that it will be unique within the book.
+     *
+     * @param specTopic The topic the node belongs to.
+     * @param node The node to process for id attributes.
+     * @param usedIdAttributes The registry of id attributes used by the topics in the book.
+     * @param fixedIds The mapping of original ids to unique ids, that any ids that need to be changed are added to.
+     */
+    private static void collectUniqueIds(final SpecTopic specTopic, final Node node, final IdAttributeRegistry usedIdAttributes,
+            final Map<String, String> fixedIds)
     {
         final NamedNodeMap attributes = node.getAttributes();
         if (attributes != null)
@@ -63,45 +93,44 @@ public class DocbookBuildUtilities {
                     fixedIdAttributeValue += "-" + specTopic.getDuplicateId();
                 }
                 
-                if (!DocbookBuildUtilities.isUniqueAttributeId(fixedIdAttributeValue, specTopic.getDBId(), usedIdAttributes))
+                if (!usedIdAttributes.isUniqueAttributeId(fixedIdAttributeValue, specTopic.getDBId()))
                 {
                     fixedIdAttributeValue += "-" + specTopic.getStep();
                 }
 
-                setUniqueIdReferences(doc.getDocumentElement(), idAttributeValue, fixedIdAttributeValue);
-
-                idAttribute.setNodeValue(fixedIdAttributeValue);
+                if (!fixedIdAttributeValue.equals(idAttributeValue) && !fixedIds.containsKey(idAttributeValue))
+                {
+                    fixedIds.put(idAttributeValue, fixedIdAttributeValue);
+                }
             }
         }
 
         final NodeList elements = node.getChildNodes();
         for (int i = 0; i < elements.getLength(); ++i)
         {
-            setUniqueIds(specTopic, elements.item(i), doc, usedIdAttributes);
+            collectUniqueIds(specTopic, elements.item(i), usedIdAttributes, fixedIds);
         }
     }
     
     /**
      * ID attributes modified in the setUniqueIds() method may have been referenced
-     * locally in the XML. When an ID is updated, and attribute that referenced
-     * that ID is also updated.
+     * locally in the XML. Any attribute whose value matches an ID that was changed
+     * (including the id attribute itself) is updated to the new ID.
      *
      * @param node
      *            The node to check for attributes
-     * @param id
-     *            The old ID attribute value
-     * @param fixedId
-     *            The new ID attribute
+     * @param fixedIds
+     *            The mapping of the old ID attribute values to the new ID attribute values
      */
-    private static void setUniqueIdReferences(final Node node, final String id, final String fixedId)
+    public static void setUniqueIdReferences(final Node node, final Map<String, String> fixedIds)
     {
         final NamedNodeMap attributes = node.getAttributes();
         if (attributes != null)
         {
             for (int i = 0; i < attributes.getLength(); ++i)
             {
-                final String attibuteValue = attributes.item(i).getNodeValue();
-                if (attibuteValue.equals(id))
+                final String fixedId = fixedIds.get(attributes.item(i).getNodeValue());
+                if (fixedId != null)
                 {
                     attributes.item(i).setNodeValue(fixedId);
                 }
@@ -111,43 +140,8 @@ public class DocbookBuildUtilities {
         final NodeList elements = node.getChildNodes();
         for (int i = 0; i < elements.getLength(); ++i)
         {
-            setUniqueIdReferences(elements.item(i), id, fixedId);
-        }
-    }
-    
-    /**
-     * Checks to see if a supplied attribute id is unique within this book, based
-     * upon the used id attributes that were calculated earlier.
-     *
-     * @param id The Attribute id to be checked
-     * @param topicId The id of the topic the attribute id was found in
-     * @param usedIdAttributes The set of used ids calculated earlier
-     * @return True if the id is unique otherwise false.
-     */
-    public static boolean isUniqueAttributeId(final String id, final Integer topicId, final Map<Integer, Set<String>> usedIdAttributes)
-    {
-        boolean retValue = true;
-
-        if (usedIdAttributes.containsKey(topicId))
-        {
-            for (final Entry<Integer, Set<String>> entry : usedIdAttributes.entrySet())
-            {
-                final Integer topicId2 = entry.getKey();
-                if (topicId2.equals(topicId))
-                {
-                    continue;
-                }
-
-                final Set<String> ids2 = entry.getValue();
-
-                if (ids2.contains(id))
-                {
-                    retValue = false;
-                }
-            }
+            setUniqueIdReferences(elements.item(i), fixedIds);
         }
-
-        return retValue;
     }
     
     /**
@@ -187,6 +181,54 @@ public class DocbookBuildUtilities {
         }
     }
 
+    /**
+     * Converts the XML for a topic into a DOM Document that is wrapped in a section using the topics title, and collects the
+     * id attributes used in the XML. Only the arguments are modified, so topics can be parsed concurrently.
+     *
+     * @param xml The XML for the topic.
+     * @param title The title of the topic.
+     * @param idAttributes The set to add the id attributes used in the XML to.
+     * @return The DOM Document for the topic, or null if the XML couldn't be converted.
+     * @throws SAXException Thrown if the XML isn't well formed.
+     */
+    public static Document parseTopicXML(final String xml, final String title, final Set<String> idAttributes)
+            throws SAXException
+    {
+        final Document doc = XMLUtilities.convertStringToDocument(xml);
+        if (doc != null)
+        {
+            DocBookUtilities.wrapDocumentInSection(doc);
+            DocBookUtilities.setSectionTitle(title, doc);
+            collectIdAttributes(doc, idAttributes);
+        }
+        return doc;
+    }
+
+    /**
+     * Collects the values of the "id" attributes used in a node and its children.
+     *
+     * @param node The DOM XML node to collect the id attributes from.
+     * @param idAttributes The set to add the id attributes to.
+     */
+    public static void collectIdAttributes(final Node node, final Set<String> idAttributes)
+    {
+        final NamedNodeMap attributes = node.getAttributes();
+        if (attributes != null)
+        {
+            final Node idAttribute = attributes.getNamedItem("id");
+            if (idAttribute != null)
+            {
+                idAttributes.add(idAttribute.getNodeValue());
+            }
+        }
+
+        final NodeList elements = node.getChildNodes();
+        for (int i = 0; i < elements.getLength(); ++i)
+        {
+            collectIdAttributes(elements.item(i), idAttributes);
+        }
+    }
+
     /**
      * Creates the URL specific title for a topic or level.
      *
@@ -372,6 +414,20 @@ public class DocbookBuildUtilities {
         }
     }
     
+    /**
+     * Generates the hash of the inputs used to process a topic, which is stored in the build manifest so that an incremental
+     * build can tell if the processed XML from the previous build can be reused.
+     *
+     * @param contextHash The hash of the book wide inputs for the build.
+     * @param condition The condition that applies to the topic.
+     * @param xml The unprocessed XML of the topic.
+     * @return The hash of the inputs.
+     */
+    public static String generateBuildManifestInputHash(final String contextHash, final String condition, final String xml)
+    {
+        return HashUtilities.generateMD5(contextHash + "\n" + condition + "\n" + xml);
+    }
+    
     public static boolean validateTopicTables(final Document doc)
     {
         final NodeList tables = doc.getElementsByTagName("table");
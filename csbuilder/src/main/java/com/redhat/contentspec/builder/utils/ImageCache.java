@@ -0,0 +1,189 @@
+package com.redhat.contentspec.builder.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+import org.jboss.pressgang.ccms.utils.common.ExceptionUtilities;
+
+/**
+ * A persistent on-disk cache for the image data downloaded during a build. Images are stored using their image ID, locale and
+ * revision, so a cached image is only used while the image on the server hasn't been modified.
+ */
+public class ImageCache {
+    private static final Logger log = Logger.getLogger(ImageCache.class);
+
+    private final File cacheDir;
+    private final AtomicInteger hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+    private Set<Integer> cachedImageIds = null;
+
+    /**
+     * @param cacheDir The directory to store the cached images in. If null, then nothing will be cached.
+     */
+    public ImageCache(final String cacheDir) {
+        this.cacheDir = cacheDir == null || cacheDir.isEmpty() ? null : new File(cacheDir);
+    }
+
+    /**
+     * @return True if images can be stored in the cache, otherwise false.
+     */
+    public boolean isEnabled() {
+        return cacheDir != null;
+    }
+
+    /**
+     * Checks if any revision of an image has been cached, so that images which have never been downloaded can be
+     * downloaded straight away instead of being checked against the cache. An image that hasn't been cached is counted as a
+     * miss, as it won't be looked up.
+     *
+     * @param imageId The ID of the image.
+     * @return True if the cache holds a revision of the image, otherwise false.
+     */
+    public synchronized boolean containsImage(final Integer imageId) {
+        if (cachedImageIds == null) {
+            // Find the images that were cached by previous builds
+            cachedImageIds = new HashSet<Integer>();
+            final String[] fileNames = isEnabled() ? cacheDir.list() : null;
+            if (fileNames != null) {
+                for (final String fileName : fileNames) {
+                    final int index = fileName.indexOf('_');
+                    if (index > 0 && !fileName.endsWith(".tmp")) {
+                        try {
+                            cachedImageIds.add(Integer.parseInt(fileName.substring(0, index)));
+                        } catch (final NumberFormatException e) {
+                            // Not a cached image, so ignore it
+                        }
+                    }
+                }
+            }
+        }
+
+        if (cachedImageIds.contains(imageId)) {
+            return true;
+        } else {
+            misses.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Get the data for an image from the cache.
+     *
+     * @param imageId The ID of the image.
+     * @param locale The locale of the language image.
+     * @param revision The revision of the language image.
+     * @return The image data if it is in the cache, otherwise null.
+     */
+    public byte[] get(final Integer imageId, final String locale, final Integer revision) {
+        if (!isEnabled() || revision == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        final File file = getFile(imageId, locale, revision);
+        if (file.isFile()) {
+            try {
+                final byte[] data = readFile(file);
+                hits.incrementAndGet();
+                return data;
+            } catch (final IOException e) {
+                log.debug(ExceptionUtilities.getStackTrace(e));
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Store the data for an image in the cache. Any failure to write to the cache is ignored, as the cache is only an
+     * optimisation.
+     *
+     * @param imageId The ID of the image.
+     * @param locale The locale of the language image.
+     * @param revision The revision of the language image.
+     * @param data The image data.
+     */
+    public void put(final Integer imageId, final String locale, final Integer revision, final byte[] data) {
+        if (!isEnabled() || revision == null || data == null) return;
+
+        final File file = getFile(imageId, locale, revision);
+        final File tempFile = new File(cacheDir, file.getName() + "." + Thread.currentThread().getId() + ".tmp");
+        FileOutputStream fos = null;
+        try {
+            if (!cacheDir.exists() && !cacheDir.mkdirs() && !cacheDir.exists()) return;
+
+            // Write to a temp file first, so that other builds never see a partially written image
+            fos = new FileOutputStream(tempFile);
+            fos.write(data);
+            fos.flush();
+            fos.close();
+            fos = null;
+
+            if (tempFile.renameTo(file)) {
+                addCachedImageId(imageId);
+            } else {
+                tempFile.delete();
+            }
+        } catch (final IOException e) {
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            tempFile.delete();
+        } finally {
+            if (fos != null) {
+                try {
+                    fos.close();
+                } catch (final IOException e) {
+                    log.debug(ExceptionUtilities.getStackTrace(e));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The number of images that were found in the cache.
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of images that weren't found in the cache.
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private synchronized void addCachedImageId(final Integer imageId) {
+        if (cachedImageIds != null) {
+            cachedImageIds.add(imageId);
+        }
+    }
+
+    protected File getFile(final Integer imageId, final String locale, final Integer revision) {
+        return new File(cacheDir, imageId + "_" + locale + "_" + revision);
+    }
+
+    private static byte[] readFile(final File file) throws IOException {
+        final byte[] data = new byte[(int) file.length()];
+        final FileInputStream fis = new FileInputStream(file);
+        try {
+            int offset = 0;
+            while (offset < data.length) {
+                final int read = fis.read(data, offset, data.length - offset);
+                if (read == -1) {
+                    throw new IOException("Unexpected end of file " + file.getAbsolutePath());
+                }
+                offset += read;
+            }
+        } finally {
+            fis.close();
+        }
+        return data;
+    }
+}
@@ -0,0 +1,197 @@
+package com.redhat.contentspec.builder.utils;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+import org.codehaus.jackson.map.DeserializationConfig;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.jboss.pressgang.ccms.utils.common.ExceptionUtilities;
+
+/**
+ * A persistent on-disk cache for entities downloaded from the REST Interface, so that separate runs of the client don't
+ * need to download the same entities again. Entities are stored as JSON using their type, ID and revision. Entities
+ * stored with a revision never change, so they can be used for as long as they are in the cache. Entities stored without
+ * a revision are used until they are evicted, so they should only be used for entities that rarely change.
+ * <p/>
+ * The total size of the cache is bounded. When the cache grows beyond its maximum size, the least recently used entities
+ * are removed.
+ */
+public class RESTEntityCache {
+    private static final Logger log = Logger.getLogger(RESTEntityCache.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    static {
+        // Entities may have read only properties, which can't be set when the entity is read back in
+        mapper.configure(DeserializationConfig.Feature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    private final File cacheDir;
+    private final long maxSize;
+    private long currentSize = -1;
+    private final AtomicInteger hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+
+    /**
+     * @param cacheDir The directory to store the cached entities in. If null, then nothing will be cached.
+     * @param maxSize The maximum size of the cache in bytes.
+     */
+    public RESTEntityCache(final String cacheDir, final long maxSize) {
+        this.cacheDir = cacheDir == null || cacheDir.isEmpty() || maxSize <= 0 ? null : new File(cacheDir);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return True if entities can be stored in the cache, otherwise false.
+     */
+    public boolean isEnabled() {
+        return cacheDir != null;
+    }
+
+    /**
+     * Get an entity from the cache.
+     *
+     * @param type The type of the entity, which is used to separate different entities and expansions with the same ID.
+     * @param id The ID of the entity.
+     * @param revision The revision of the entity, or null if the entity was stored without a revision.
+     * @param clazz The class of the entity.
+     * @return The entity if it is in the cache, otherwise null.
+     */
+    public <T> T get(final String type, final Integer id, final Integer revision, final Class<T> clazz) {
+        if (!isEnabled()) return null;
+        if (id == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        final File file = getFile(type, id, revision);
+        if (file.isFile()) {
+            try {
+                final T entity = mapper.readValue(file, clazz);
+                // Mark the entity as recently used, so it is the last to be evicted
+                file.setLastModified(System.currentTimeMillis());
+                hits.incrementAndGet();
+                return entity;
+            } catch (final IOException e) {
+                // The entity is corrupt or from an incompatible version, so remove it
+                log.debug(ExceptionUtilities.getStackTrace(e));
+                file.delete();
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Store an entity in the cache. Any failure to write to the cache is ignored, as the cache is only an optimisation.
+     *
+     * @param type The type of the entity, which is used to separate different entities and expansions with the same ID.
+     * @param id The ID of the entity.
+     * @param revision The revision of the entity, or null if the entity should be stored without a revision.
+     * @param entity The entity to store.
+     */
+    public void put(final String type, final Integer id, final Integer revision, final Object entity) {
+        if (!isEnabled() || id == null || entity == null) return;
+
+        final File file = getFile(type, id, revision);
+        File tempFile = null;
+        try {
+            if (!cacheDir.exists() && !cacheDir.mkdirs() && !cacheDir.exists()) return;
+
+            // Write to a unique temp file first, so other threads and processes never see a partially written entity
+            tempFile = File.createTempFile(file.getName() + ".", ".tmp", cacheDir);
+            mapper.writeValue(tempFile, entity);
+            final long size = tempFile.length();
+            if (!tempFile.renameTo(file)) {
+                tempFile.delete();
+                return;
+            }
+
+            addToCacheSize(size);
+        } catch (final IOException e) {
+            log.debug(ExceptionUtilities.getStackTrace(e));
+            if (tempFile != null) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * @return The number of entities that were found in the cache.
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of entities that weren't found in the cache.
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    protected File getFile(final String type, final Integer id, final Integer revision) {
+        return new File(cacheDir, type + "_" + id + (revision == null ? "" : ("_" + revision)) + ".json");
+    }
+
+    /**
+     * Adds the size of a new entity to the size of the cache, and removes the least recently used entities if the cache has
+     * grown too large.
+     *
+     * @param size The size of the new entity in bytes.
+     */
+    private synchronized void addToCacheSize(final long size) {
+        if (currentSize < 0) {
+            // Find the size of the cache from the files that already exist, which includes the new entity
+            currentSize = 0;
+            for (final File file : getCacheFiles()) {
+                currentSize += file.length();
+            }
+        } else {
+            currentSize += size;
+        }
+
+        if (currentSize <= maxSize) return;
+
+        // Remove the least recently used entities until the cache is back under three quarters of its maximum size
+        final File[] files = getCacheFiles();
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(final File file1, final File file2) {
+                final long lastModified1 = file1.lastModified();
+                final long lastModified2 = file2.lastModified();
+                return lastModified1 < lastModified2 ? -1 : (lastModified1 == lastModified2 ? 0 : 1);
+            }
+        });
+
+        currentSize = 0;
+        for (final File file : files) {
+            currentSize += file.length();
+        }
+
+        final long targetSize = maxSize / 4 * 3;
+        for (final File file : files) {
+            if (currentSize <= targetSize) break;
+
+            final long fileSize = file.length();
+            if (file.delete()) {
+                currentSize -= fileSize;
+            }
+        }
+    }
+
+    private File[] getCacheFiles() {
+        final File[] files = cacheDir.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.endsWith(".json");
+            }
+        });
+        return files == null ? new File[0] : files;
+    }
+}
@@ -1,11 +1,29 @@
 package com.redhat.contentspec.builder.utils;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
 
+import org.apache.xerces.parsers.SAXParser;
+import org.apache.xerces.parsers.XMLGrammarPreparser;
+import org.apache.xerces.util.SymbolTable;
+import org.apache.xerces.util.SynchronizedSymbolTable;
+import org.apache.xerces.util.XMLGrammarPoolImpl;
+import org.apache.xerces.xni.grammars.Grammar;
+import org.apache.xerces.xni.grammars.XMLGrammarDescription;
+import org.apache.xerces.xni.grammars.XMLGrammarPool;
+import org.apache.xerces.xni.parser.XMLInputSource;
 import org.jboss.pressgang.ccms.utils.common.XMLUtilities;
 import org.w3c.dom.Document;
 import org.xml.sax.EntityResolver;
@@ -13,7 +31,6 @@ import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
-import org.xml.sax.XMLReader;
 
 import com.google.code.regexp.NamedMatcher;
 import com.google.code.regexp.NamedPattern;
@@ -21,12 +38,20 @@ import com.google.code.regexp.NamedPattern;
 /**
  * An XML Validator Utility to validate XML using SAX. SAX is significantly faster then DOM so if you aren't required to check elements in
  * the xml then this should be a lot faster then a DOM Validator.
+ * <p>
+ * DTDs are only parsed once and are then held in a shared grammar pool, so that validating a large number of documents against
+ * the same DTD doesn't require the DTD to be re-read for each document. Each thread also reuses its own parser for each DTD.
  * 
  * @author lnewson
  *
  */
 public class SAXXMLValidator implements ErrorHandler, EntityResolver
 {
+	private static final String VALIDATION_FEATURE = "http://xml.org/sax/features/validation";
+	private static final int SYMBOL_TABLE_SIZE = 2039;
+	private static final Map<String, CachedGrammar> GRAMMAR_CACHE = new HashMap<String, CachedGrammar>();
+	private static final ThreadLocal<Transformer> TRANSFORMER = new ThreadLocal<Transformer>();
+	
 	protected boolean errorsDetected;
 	private String errorText;
 	private String dtdFileName;
@@ -43,9 +68,36 @@ public class SAXXMLValidator implements ErrorHandler, EntityResolver
 		this.showErrors = false;
 	}
 	
+	/**
+	 * Validates a DOM Document to ensure that it is valid. The Document is serialized with the DOCTYPE pointing at the
+	 * specified DTD, so there is no need to find and replace any existing DOCTYPE in the XML.
+	 * 
+	 * @param doc The DOM Document to be validated.
+	 * @param dtdFileName The filename of the DTD data.
+	 * @param dtdData The DTD data to be used to validate against.
+	 * @return True if the document is valid, otherwise false.
+	 */
 	public boolean validateXML(final Document doc, final String dtdFileName, final byte[] dtdData)
 	{
-		return doc == null || doc.getDocumentElement() == null ? false : validateXML(XMLUtilities.convertDocumentToString(doc), dtdFileName, dtdData, doc.getDocumentElement().getNodeName());
+		if (doc == null || doc.getDocumentElement() == null || dtdFileName == null || dtdData == null) return false;
+		
+		this.dtdData = dtdData;
+		this.dtdFileName = dtdFileName;
+		
+		try
+		{
+			final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			final Transformer transformer = getTransformer();
+			transformer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, dtdFileName);
+			transformer.transform(new DOMSource(doc), new StreamResult(bos));
+			
+			return parse(new InputSource(new ByteArrayInputStream(bos.toByteArray())), dtdFileName, dtdData);
+		}
+		catch (TransformerException e)
+		{
+			e.printStackTrace();
+			return false;
+		}
 	}
 	
 	/**
@@ -68,17 +120,42 @@ public class SAXXMLValidator implements ErrorHandler, EntityResolver
 		if (encoding == null)
 			encoding = "UTF-8";
 		
-		final SAXParserFactory factory = SAXParserFactory.newInstance();
 		try
 		{
-			factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-			factory.setValidating(true);
-			factory.setNamespaceAware(false);
-			final SAXParser parser = factory.newSAXParser();
-			final XMLReader reader = parser.getXMLReader();
-			reader.setEntityResolver(this);
-			reader.setErrorHandler(this);
-			reader.parse(new InputSource(new ByteArrayInputStream(setXmlDtd(xml, dtdFileName, rootEleName).getBytes(encoding))));
+			return parse(new InputSource(new ByteArrayInputStream(setXmlDtd(xml, dtdFileName, rootEleName).getBytes(encoding))), dtdFileName, dtdData);
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+			return false;
+		}
+	}
+	
+	/**
+	 * Parses some XML using the current threads parser for the DTD, so that any validation errors are found.
+	 * 
+	 * @param source The XML source to be parsed. The source must have a DOCTYPE that references the DTD file name.
+	 * @param dtdFileName The filename of the DTD data.
+	 * @param dtdData The DTD data to be used to validate against.
+	 * @return True if the XML is valid, otherwise false.
+	 */
+	private boolean parse(final InputSource source, final String dtdFileName, final byte[] dtdData)
+	{
+		try
+		{
+			final SAXParser parser = getCachedGrammar(dtdFileName, dtdData).getParser();
+			parser.setEntityResolver(this);
+			parser.setErrorHandler(this);
+			try
+			{
+				parser.parse(source);
+			}
+			finally
+			{
+				// Don't hold onto this validator, as the parser will be reused
+				parser.setEntityResolver(null);
+				parser.setErrorHandler(null);
+			}
 		}
 		catch (SAXParseException e)
 		{
@@ -92,6 +169,48 @@ public class SAXXMLValidator implements ErrorHandler, EntityResolver
 		}
 		return true;
 	}
+	
+	/**
+	 * Gets the cached grammar for a DTD, parsing and caching the DTD if it hasn't been used before.
+	 * 
+	 * @param dtdFileName The filename of the DTD data.
+	 * @param dtdData The DTD data.
+	 * @return The cached grammar for the DTD.
+	 * @throws IOException Thrown if the DTD data can't be parsed.
+	 */
+	private static CachedGrammar getCachedGrammar(final String dtdFileName, final byte[] dtdData) throws IOException
+	{
+		synchronized (GRAMMAR_CACHE)
+		{
+			CachedGrammar cachedGrammar = GRAMMAR_CACHE.get(dtdFileName);
+			if (cachedGrammar == null || !cachedGrammar.isFor(dtdData))
+			{
+				cachedGrammar = new CachedGrammar(dtdFileName, dtdData);
+				GRAMMAR_CACHE.put(dtdFileName, cachedGrammar);
+			}
+			
+			return cachedGrammar;
+		}
+	}
+	
+	/**
+	 * Gets the current threads identity transformer, that is used to serialize DOM Documents for validation.
+	 * 
+	 * @return The transformer for the current thread.
+	 * @throws TransformerConfigurationException
+	 */
+	private static Transformer getTransformer() throws TransformerConfigurationException
+	{
+		Transformer transformer = TRANSFORMER.get();
+		if (transformer == null)
+		{
+			transformer = TransformerFactory.newInstance().newTransformer();
+			transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+			TRANSFORMER.set(transformer);
+		}
+		
+		return transformer;
+	}
 
 	/**
 	 * A function that will resolve the dtd file location to the dtd byte[] data specified.
@@ -183,4 +302,46 @@ public class SAXXMLValidator implements ErrorHandler, EntityResolver
 		
 		return output;
 	}
+	
+	/**
+	 * A DTD that has been parsed into a grammar pool, along with the parsers for each thread that use the pool.
+	 */
+	private static class CachedGrammar
+	{
+		private final byte[] dtdData;
+		private final SymbolTable symbolTable = new SynchronizedSymbolTable(new SymbolTable(SYMBOL_TABLE_SIZE));
+		private final XMLGrammarPool grammarPool = new XMLGrammarPoolImpl();
+		private final ThreadLocal<SAXParser> parsers = new ThreadLocal<SAXParser>();
+		
+		public CachedGrammar(final String dtdFileName, final byte[] dtdData) throws IOException
+		{
+			this.dtdData = dtdData;
+			
+			final XMLGrammarPreparser preparser = new XMLGrammarPreparser(symbolTable);
+			preparser.registerPreparser(XMLGrammarDescription.XML_DTD, null);
+			final Grammar grammar = preparser.preparseGrammar(XMLGrammarDescription.XML_DTD,
+					new XMLInputSource(null, dtdFileName, null, new ByteArrayInputStream(dtdData), null));
+			
+			grammarPool.cacheGrammars(XMLGrammarDescription.XML_DTD, new Grammar[] {grammar});
+			grammarPool.lockPool();
+		}
+		
+		public boolean isFor(final byte[] dtdData)
+		{
+			return this.dtdData == dtdData || Arrays.equals(this.dtdData, dtdData);
+		}
+		
+		public SAXParser getParser() throws SAXException
+		{
+			SAXParser parser = parsers.get();
+			if (parser == null)
+			{
+				parser = new SAXParser(symbolTable, grammarPool);
+				parser.setFeature(VALIDATION_FEATURE, true);
+				parsers.set(parser);
+			}
+			
+			return parser;
+		}
+	}
 }
@@ -0,0 +1,112 @@
+package com.redhat.contentspec.builder.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A Utilities class that holds methods useful for running independent pieces of build work on a pool of threads.
+ * <p/>
+ * Tasks that call the REST Interface should get the RESTReader or REST client from the RESTManager inside of the task,
+ * rather than holding on to one that was created by another thread, so that a manager that gives each thread its own
+ * connection can be used.
+ */
+public class ThreadingUtilities {
+
+    /**
+     * Runs a list of tasks on a bounded pool of worker threads and returns the results in the same order as the tasks were
+     * supplied. If only one thread is requested then the tasks are run sequentially on the calling thread, so that serial
+     * builds don't pay for creating a thread pool.
+     *
+     * @param tasks The tasks to be run.
+     * @param numThreads The maximum number of threads to use to run the tasks.
+     * @return The results of each task, in the same order as the tasks list.
+     * @throws InterruptedException Thrown if the calling thread is interrupted while waiting for the tasks to complete.
+     * @throws ExecutionException Thrown if any of the tasks threw an exception. The cause holds the original exception.
+     */
+    public static <T> List<T> invokeAll(final List<? extends Callable<T>> tasks, final int numThreads)
+            throws InterruptedException, ExecutionException {
+        final List<T> results = new ArrayList<T>(tasks.size());
+
+        if (numThreads <= 1 || tasks.size() <= 1) {
+            for (final Callable<T> task : tasks) {
+                try {
+                    results.add(task.call());
+                } catch (final Exception e) {
+                    throw new ExecutionException(e);
+                }
+            }
+        } else {
+            final ExecutorService executor = Executors.newFixedThreadPool(Math.min(numThreads, tasks.size()));
+            try {
+                final List<Future<T>> futures = executor.invokeAll(tasks);
+                for (final Future<T> future : futures) {
+                    results.add(future.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Creates a pool of worker threads that tasks can be submitted to using {@link #submit(ExecutorService, Callable)}.
+     *
+     * @param numThreads The number of threads in the pool.
+     * @return The pool of threads, or null if only one thread was requested, in which case tasks should be run on the
+     *         calling thread.
+     */
+    public static ExecutorService newExecutor(final int numThreads) {
+        return numThreads <= 1 ? null : Executors.newFixedThreadPool(numThreads);
+    }
+
+    /**
+     * Submits a task to a pool of worker threads. If no pool is supplied then the task is run immediately on the calling
+     * thread, so that serial builds don't pay for creating a thread pool.
+     *
+     * @param executor The pool of threads created by {@link #newExecutor(int)}, or null.
+     * @param task The task to be run.
+     * @return A future holding the result of the task.
+     */
+    public static <T> Future<T> submit(final ExecutorService executor, final Callable<T> task) {
+        if (executor == null) {
+            final FutureTask<T> future = new FutureTask<T>(task);
+            future.run();
+            return future;
+        } else {
+            return executor.submit(task);
+        }
+    }
+
+    /**
+     * Stops a pool of worker threads created by {@link #newExecutor(int)}.
+     *
+     * @param executor The pool of threads, or null.
+     */
+    public static void shutdown(final ExecutorService executor) {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Rethrows the cause of an ExecutionException if it is an unchecked exception, so that failures inside of worker threads
+     * behave the same as they would if the work was done on the calling thread.
+     *
+     * @param e The ExecutionException thrown by a task.
+     */
+    public static void rethrowUncheckedCause(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+        } else if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.redhat.contentspec.structures;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.type.TypeReference;
+import org.jboss.pressgang.ccms.utils.common.ExceptionUtilities;
+
+/**
+ * A record of the processed topics from a previous build, that is stored locally so that later builds can reuse the
+ * processed XML for any topics whose inputs haven't changed.
+ */
+public class BuildManifest
+{
+	private static final Logger log = Logger.getLogger(BuildManifest.class);
+	private static final ObjectMapper mapper = new ObjectMapper();
+
+	private final File manifestFile;
+	private final Map<String, Entry> previousEntries;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+	private final AtomicInteger hits = new AtomicInteger(0);
+	private final AtomicInteger misses = new AtomicInteger(0);
+
+	/**
+	 * Loads the manifest from a previous build. If the manifest doesn't exist or can't be read, then the manifest will be
+	 * empty and every topic will be processed.
+	 *
+	 * @param manifestFile The file the manifest is stored in.
+	 */
+	public BuildManifest(final File manifestFile)
+	{
+		this.manifestFile = manifestFile;
+		previousEntries = readEntries(manifestFile);
+	}
+
+	/**
+	 * Get the processed XML for a spec topic from the previous build, if the topic and its inputs haven't changed.
+	 *
+	 * @param key The key that uniquely identifies the spec topic in the book.
+	 * @param topicId The ID of the topic.
+	 * @param topicRevision The revision of the topic.
+	 * @param inputHash The hash of the inputs used to process the topic.
+	 * @return The processed XML from the previous build, or null if the topic has to be processed again.
+	 */
+	public String getProcessedXML(final String key, final Integer topicId, final Integer topicRevision, final String inputHash)
+	{
+		final Entry entry = previousEntries.get(key);
+		if (entry != null && entry.matches(topicId, topicRevision, inputHash))
+		{
+			hits.incrementAndGet();
+			entries.put(key, entry);
+			return entry.getXml();
+		}
+
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Record the processed XML for a spec topic, so that it can be reused by the next build.
+	 *
+	 * @param key The key that uniquely identifies the spec topic in the book.
+	 * @param topicId The ID of the topic.
+	 * @param topicRevision The revision of the topic.
+	 * @param inputHash The hash of the inputs used to process the topic.
+	 * @param xml The processed XML.
+	 */
+	public void addProcessedXML(final String key, final Integer topicId, final Integer topicRevision, final String inputHash,
+			final String xml)
+	{
+		entries.put(key, new Entry(topicId, topicRevision, inputHash, xml));
+	}
+
+	/**
+	 * Saves the topics recorded during this build, replacing the manifest from the previous build. Any topics that weren't
+	 * part of this build are dropped from the manifest.
+	 *
+	 * @throws IOException Thrown if the manifest couldn't be written.
+	 */
+	public void save() throws IOException
+	{
+		final File parent = manifestFile.getAbsoluteFile().getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs())
+		{
+			throw new IOException("Unable to create the " + parent.getAbsolutePath() + " directory");
+		}
+
+		// Write to a temp file first, so that an interrupted save doesn't corrupt the previous manifest
+		final File tempFile = new File(manifestFile.getAbsolutePath() + ".tmp");
+		mapper.writeValue(tempFile, new TreeMap<String, Entry>(entries));
+		if (manifestFile.exists() && !manifestFile.delete())
+		{
+			tempFile.delete();
+			throw new IOException("Unable to replace the " + manifestFile.getAbsolutePath() + " build manifest");
+		}
+		if (!tempFile.renameTo(manifestFile))
+		{
+			tempFile.delete();
+			throw new IOException("Unable to save the " + manifestFile.getAbsolutePath() + " build manifest");
+		}
+	}
+
+	/**
+	 * @return The number of topics that were reused from the previous build.
+	 */
+	public int getHits()
+	{
+		return hits.get();
+	}
+
+	/**
+	 * @return The number of topics that had to be processed again.
+	 */
+	public int getMisses()
+	{
+		return misses.get();
+	}
+
+	private static Map<String, Entry> readEntries(final File manifestFile)
+	{
+		if (manifestFile.isFile())
+		{
+			try
+			{
+				final Map<String, Entry> entries = mapper.readValue(manifestFile, new TypeReference<Map<String, Entry>>() {});
+				if (entries != null)
+					return entries;
+			}
+			catch (final IOException e)
+			{
+				log.debug(ExceptionUtilities.getStackTrace(e));
+			}
+		}
+
+		return new TreeMap<String, Entry>();
+	}
+
+	/**
+	 * The details of a processed spec topic.
+	 */
+	public static class Entry
+	{
+		private Integer topicId;
+		private Integer topicRevision;
+		private String inputHash;
+		private String xml;
+
+		public Entry()
+		{
+
+		}
+
+		public Entry(final Integer topicId, final Integer topicRevision, final String inputHash, final String xml)
+		{
+			this.topicId = topicId;
+			this.topicRevision = topicRevision;
+			this.inputHash = inputHash;
+			this.xml = xml;
+		}
+
+		public Integer getTopicId()
+		{
+			return topicId;
+		}
+
+		public void setTopicId(final Integer topicId)
+		{
+			this.topicId = topicId;
+		}
+
+		public Integer getTopicRevision()
+		{
+			return topicRevision;
+		}
+
+		public void setTopicRevision(final Integer topicRevision)
+		{
+			this.topicRevision = topicRevision;
+		}
+
+		public String getInputHash()
+		{
+			return inputHash;
+		}
+
+		public void setInputHash(final String inputHash)
+		{
+			this.inputHash = inputHash;
+		}
+
+		public String getXml()
+		{
+			return xml;
+		}
+
+		public void setXml(final String xml)
+		{
+			this.xml = xml;
+		}
+
+		protected boolean matches(final Integer topicId, final Integer topicRevision, final String inputHash)
+		{
+			return xml != null && this.inputHash != null && this.inputHash.equals(inputHash)
+					&& this.topicId != null && this.topicId.equals(topicId)
+					&& this.topicRevision != null && this.topicRevision.equals(topicRevision);
+		}
+	}
+}
@@ -18,6 +18,11 @@ public class CSDocbookBuildingOptions extends DocbookBuildingOptions
 	private String commonContentDirectory = null;
 	private Boolean draft = false;
 	private List<String> revisionMessages = null;
+	private Integer threadCount = 1;
+	private String imageCacheDirectory = null;
+	private String restCacheDirectory = null;
+	private Long restCacheMaxSize = null;
+	private String buildManifestFile = null;
 
 	public CSDocbookBuildingOptions()
 	{
@@ -139,4 +144,88 @@ public class CSDocbookBuildingOptions extends DocbookBuildingOptions
     {
         this.revisionMessages = revisionMessage;
     }
+
+    public Integer getThreadCount()
+    {
+        return threadCount;
+    }
+
+    /**
+     * Sets the number of worker threads that the builder can use to process topics. A value of 1 (the default) or less
+     * means that topics will be processed serially.
+     *
+     * @param threadCount The number of threads to use when processing topics.
+     */
+    public void setThreadCount(final Integer threadCount)
+    {
+        this.threadCount = threadCount;
+    }
+
+    public String getImageCacheDirectory()
+    {
+        return imageCacheDirectory;
+    }
+
+    /**
+     * Sets the directory that downloaded images should be cached in. If null then images won't be cached.
+     *
+     * @param imageCacheDirectory The image cache directory.
+     */
+    public void setImageCacheDirectory(final String imageCacheDirectory)
+    {
+        this.imageCacheDirectory = imageCacheDirectory;
+    }
+
+    public String getRESTCacheDirectory()
+    {
+        return restCacheDirectory;
+    }
+
+    /**
+     * Sets the directory that immutable entities downloaded from the REST Interface should be cached in, so that later
+     * builds don't need to download them again. If null then the entities won't be cached.
+     *
+     * @param restCacheDirectory The REST entity cache directory.
+     */
+    public void setRESTCacheDirectory(final String restCacheDirectory)
+    {
+        this.restCacheDirectory = restCacheDirectory;
+    }
+
+    public Long getRESTCacheMaxSize()
+    {
+        return restCacheMaxSize;
+    }
+
+    /**
+     * Sets the maximum size of the REST entity cache. The least recently used entities are removed once the cache grows
+     * beyond this size.
+     *
+     * @param restCacheMaxSize The maximum size of the REST entity cache in bytes.
+     */
+    public void setRESTCacheMaxSize(final Long restCacheMaxSize)
+    {
+        this.restCacheMaxSize = restCacheMaxSize;
+    }
+
+    /**
+     * Gets the file that the build manifest is stored in, for incremental builds.
+     *
+     * @return The build manifest file, or null if the build isn't incremental.
+     */
+    public String getBuildManifestFile()
+    {
+        return buildManifestFile;
+    }
+
+    /**
+     * Sets the file that the build manifest should be stored in. Topics that haven't changed since the build that wrote
+     * the manifest will be reused instead of being processed again. If null then every topic will be processed.
+     *
+     * @param buildManifestFile The build manifest file.
+     */
+    public void setBuildManifestFile(final String buildManifestFile)
+    {
+        this.buildManifestFile = buildManifestFile;
+    }
 }
@@ -0,0 +1,155 @@
+package com.redhat.contentspec.structures;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.pressgang.ccms.docbook.structures.TopicErrorDatabase;
+import org.jboss.pressgang.ccms.rest.v1.entities.base.RESTBaseTopicV1;
+
+/**
+ * A TopicErrorDatabase that can be safely added to from multiple threads. Threads that are processing topics concurrently can
+ * buffer their errors and warnings, so that the calling thread can add them to the database in a deterministic order once the
+ * work has finished.
+ */
+public class ConcurrentTopicErrorDatabase<T extends RESTBaseTopicV1<T, ?, ?>> extends TopicErrorDatabase<T>
+{
+	private final ThreadLocal<List<BufferedMessage<T>>> buffer = new ThreadLocal<List<BufferedMessage<T>>>();
+
+	/**
+	 * Start buffering any errors or warnings added by the current thread, instead of adding them directly to the database.
+	 */
+	public void startBuffering()
+	{
+		buffer.set(new ArrayList<BufferedMessage<T>>());
+	}
+
+	/**
+	 * Stop buffering errors and warnings for the current thread.
+	 *
+	 * @return The errors and warnings that were added by the current thread since buffering was started.
+	 */
+	public List<BufferedMessage<T>> stopBuffering()
+	{
+		final List<BufferedMessage<T>> messages = buffer.get();
+		buffer.remove();
+		return messages == null ? new ArrayList<BufferedMessage<T>>() : messages;
+	}
+
+	/**
+	 * @return The number of errors and warnings buffered by the current thread, or -1 if the thread isn't buffering.
+	 */
+	public int getBufferedMessageCount()
+	{
+		final List<BufferedMessage<T>> messages = buffer.get();
+		return messages == null ? -1 : messages.size();
+	}
+
+	/**
+	 * Add a list of buffered errors and warnings to the database, in the order they were originally added.
+	 *
+	 * @param messages The buffered messages to be added.
+	 */
+	public synchronized void addBufferedMessages(final List<BufferedMessage<T>> messages)
+	{
+		if (messages == null) return;
+
+		for (final BufferedMessage<T> message : messages)
+		{
+			if (message.isError())
+			{
+				if (message.getErrorType() == null)
+					addError(message.getTopic(), message.getMessage());
+				else
+					addError(message.getTopic(), message.getErrorType(), message.getMessage());
+			}
+			else
+			{
+				if (message.getErrorType() == null)
+					addWarning(message.getTopic(), message.getMessage());
+				else
+					addWarning(message.getTopic(), message.getErrorType(), message.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public synchronized void addError(final T topic, final String error)
+	{
+		if (!bufferMessage(topic, null, error, true))
+			super.addError(topic, error);
+	}
+
+	@Override
+	public synchronized void addError(final T topic, final ErrorType errorType, final String error)
+	{
+		if (!bufferMessage(topic, errorType, error, true))
+			super.addError(topic, errorType, error);
+	}
+
+	@Override
+	public synchronized void addWarning(final T topic, final String warning)
+	{
+		if (!bufferMessage(topic, null, warning, false))
+			super.addWarning(topic, warning);
+	}
+
+	@Override
+	public synchronized void addWarning(final T topic, final ErrorType errorType, final String warning)
+	{
+		if (!bufferMessage(topic, errorType, warning, false))
+			super.addWarning(topic, errorType, warning);
+	}
+
+	/**
+	 * Adds a message to the current threads buffer, if the thread is buffering messages.
+	 *
+	 * @return True if the message was buffered, otherwise false.
+	 */
+	private boolean bufferMessage(final T topic, final ErrorType errorType, final String message, final boolean error)
+	{
+		final List<BufferedMessage<T>> messages = buffer.get();
+		if (messages == null) return false;
+
+		messages.add(new BufferedMessage<T>(topic, errorType, message, error));
+		return true;
+	}
+
+	/**
+	 * An error or warning that has been buffered by a thread and not yet added to the database.
+	 */
+	public static class BufferedMessage<T>
+	{
+		private final T topic;
+		private final ErrorType errorType;
+		private final String message;
+		private final boolean error;
+
+		public BufferedMessage(final T topic, final ErrorType errorType, final String message, final boolean error)
+		{
+			this.topic = topic;
+			this.errorType = errorType;
+			this.message = message;
+			this.error = error;
+		}
+
+		public T getTopic()
+		{
+			return topic;
+		}
+
+		public ErrorType getErrorType()
+		{
+			return errorType;
+		}
+
+		public String getMessage()
+		{
+			return message;
+		}
+
+		public boolean isError()
+		{
+			return error;
+		}
+	}
+}
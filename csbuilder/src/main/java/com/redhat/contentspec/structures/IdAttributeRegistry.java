@@ -0,0 +1,110 @@
+package com.redhat.contentspec.structures;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the id attributes that are used by each topic in a book, along with an index of which topics use each id attribute,
+ * so that checking if an id attribute is unique within the book doesn't require looking through every topic.
+ * <p/>
+ * The registry is populated during the first topic pass and is only read once the topics are being processed, so it can be
+ * shared between the threads that process the spec topics.
+ */
+public class IdAttributeRegistry
+{
+	/** The id attributes used by each topic. */
+	private final Map<Integer, Set<String>> topicIdAttributes = new HashMap<Integer, Set<String>>();
+	/** The topics that use each id attribute. */
+	private final Map<String, Set<Integer>> idAttributeTopics = new HashMap<String, Set<Integer>>();
+
+	/**
+	 * Adds an id attribute that is used by a topic.
+	 *
+	 * @param topicId The ID of the topic that the id attribute is used in.
+	 * @param idAttribute The id attribute value.
+	 */
+	public void addIdAttribute(final Integer topicId, final String idAttribute)
+	{
+		if (!topicIdAttributes.containsKey(topicId))
+			topicIdAttributes.put(topicId, new HashSet<String>());
+		topicIdAttributes.get(topicId).add(idAttribute);
+
+		if (!idAttributeTopics.containsKey(idAttribute))
+			idAttributeTopics.put(idAttribute, new HashSet<Integer>());
+		idAttributeTopics.get(idAttribute).add(topicId);
+	}
+
+	/**
+	 * Adds a set of id attributes that are used by a topic.
+	 *
+	 * @param topicId The ID of the topic that the id attributes are used in.
+	 * @param idAttributes The id attribute values.
+	 */
+	public void addIdAttributes(final Integer topicId, final Collection<String> idAttributes)
+	{
+		if (idAttributes == null) return;
+
+		for (final String idAttribute : idAttributes)
+		{
+			addIdAttribute(topicId, idAttribute);
+		}
+	}
+
+	/**
+	 * Checks to see if a topic has any id attributes in the registry.
+	 *
+	 * @param topicId The ID of the topic.
+	 * @return True if the topic has at least one id attribute, otherwise false.
+	 */
+	public boolean hasTopic(final Integer topicId)
+	{
+		return topicIdAttributes.containsKey(topicId);
+	}
+
+	/**
+	 * Get the id attributes that are used by a topic.
+	 *
+	 * @param topicId The ID of the topic.
+	 * @return The set of id attributes used by the topic. The set will be empty if the topic has no id attributes.
+	 */
+	public Set<String> getIdAttributes(final Integer topicId)
+	{
+		final Set<String> idAttributes = topicIdAttributes.get(topicId);
+		return idAttributes == null ? Collections.<String>emptySet() : Collections.unmodifiableSet(idAttributes);
+	}
+
+	/**
+	 * @return The set of every id attribute used by the topics in the registry.
+	 */
+	public Set<String> getAllIdAttributes()
+	{
+		return Collections.unmodifiableSet(idAttributeTopics.keySet());
+	}
+
+	/**
+	 * Checks to see if a supplied attribute id is unique within the book. An id is unique if no other topic uses the same
+	 * id. Topics that have no id attributes in the registry are always treated as being unique.
+	 *
+	 * @param id The Attribute id to be checked
+	 * @param topicId The id of the topic the attribute id was found in
+	 * @return True if the id is unique otherwise false.
+	 */
+	public boolean isUniqueAttributeId(final String id, final Integer topicId)
+	{
+		if (!topicIdAttributes.containsKey(topicId)) return true;
+
+		final Set<Integer> topicIds = idAttributeTopics.get(id);
+		if (topicIds == null || topicIds.isEmpty())
+		{
+			return true;
+		}
+		else
+		{
+			return topicIds.size() == 1 && topicIds.contains(topicId);
+		}
+	}
+}
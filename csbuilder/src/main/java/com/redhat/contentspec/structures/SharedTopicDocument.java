@@ -0,0 +1,84 @@
+package com.redhat.contentspec.structures;
+
+import org.w3c.dom.Document;
+
+/**
+ * A parsed topic XML document that is shared by every spec topic that uses the same topic. The shared document must not be
+ * modified, so each spec topic claims its own copy of the document before it is processed. The copies are only made when
+ * they are claimed, and the last spec topic to claim the document is given the original instead of a copy.
+ */
+public class SharedTopicDocument
+{
+	private final Document document;
+	private final long xmlLength;
+	private int remainingClaims;
+	private int copies = 0;
+	private int claims = 0;
+
+	/**
+	 * @param document The parsed topic XML document.
+	 * @param xmlLength The length of the topic XML that the document was parsed from.
+	 * @param claims The number of spec topics that will claim the document.
+	 */
+	public SharedTopicDocument(final Document document, final long xmlLength, final int claims)
+	{
+		this.document = document;
+		this.xmlLength = xmlLength;
+		this.remainingClaims = claims;
+	}
+
+	/**
+	 * @return The shared document, which must only be read.
+	 */
+	public Document getDocument()
+	{
+		return document;
+	}
+
+	/**
+	 * Claims a copy of the document that can be modified. If this is the last claim then the original document is returned,
+	 * since nothing else will need to read it.
+	 *
+	 * @return A document that can be modified by the caller.
+	 */
+	public synchronized Document claim()
+	{
+		claims++;
+		remainingClaims--;
+		if (remainingClaims <= 0)
+		{
+			return document;
+		}
+		else
+		{
+			copies++;
+			return (Document) document.cloneNode(true);
+		}
+	}
+
+	/**
+	 * Gives up a claim on the document without making a copy, for spec topics that no longer need the shared document.
+	 */
+	public synchronized void release()
+	{
+		claims++;
+		remainingClaims--;
+	}
+
+	/**
+	 * @return The number of copies of the document that didn't need to be made, compared to copying the document for every
+	 *         spec topic.
+	 */
+	public synchronized int getCopiesAvoided()
+	{
+		return claims - copies;
+	}
+
+	/**
+	 * @return The length of the topic XML that the document was parsed from.
+	 */
+	public long getXmlLength()
+	{
+		return xmlLength;
+	}
+}
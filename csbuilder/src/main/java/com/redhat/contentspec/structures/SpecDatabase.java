@@ -13,8 +13,6 @@ import org.jboss.pressgang.ccms.contentspec.SpecTopic;
 import org.jboss.pressgang.ccms.rest.v1.entities.base.RESTBaseTopicV1;
 import org.jboss.pressgang.ccms.utils.common.CollectionUtilities;
 
-import com.redhat.contentspec.builder.utils.DocbookBuildUtilities;
-
 public class SpecDatabase
 {
 	private Map<Integer, List<SpecTopic>> specTopics = new HashMap<Integer, List<SpecTopic>>();
@@ -54,7 +52,7 @@ public class SpecDatabase
 		specLevels.get(escapedTitle).add(level);
 	}
 	
-	public void setDatabaseDulicateIds(final Map<Integer, Set<String>> usedIdAttributes)
+	public void setDatabaseDulicateIds(final IdAttributeRegistry usedIdAttributes)
 	{
 		/* Topics */
 		for (final String topicTitle: specTopicsTitles.keySet())
@@ -70,7 +68,7 @@ public class SpecDatabase
 			        fixedIdAttributeValue = Integer.toString(i);
 			    }
 
-			    if (!DocbookBuildUtilities.isUniqueAttributeId(topicTitle, specTopic.getDBId(), usedIdAttributes))
+			    if (!usedIdAttributes.isUniqueAttributeId(topicTitle, specTopic.getDBId()))
                 {
 			        if (fixedIdAttributeValue == null)
 			        {
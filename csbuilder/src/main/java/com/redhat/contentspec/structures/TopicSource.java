@@ -0,0 +1,21 @@
+package com.redhat.contentspec.structures;
+
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTTopicV1;
+
+/**
+ * A source of topics that have already been downloaded from the REST Interface, such as the topics downloaded while a
+ * content specification was validated. The builder uses the source before downloading any topics itself, so that a topic
+ * is only downloaded once.
+ */
+public interface TopicSource
+{
+	/**
+	 * Gets a topic that has already been downloaded.
+	 *
+	 * @param topicId The ID of the topic.
+	 * @param revision The revision of the topic, or null for the latest revision.
+	 * @param expandTranslations Whether the topic needs its translations expanded.
+	 * @return The topic, or null if it hasn't been downloaded.
+	 */
+	RESTTopicV1 getTopic(Integer topicId, Integer revision, boolean expandTranslations);
+}
@@ -0,0 +1,115 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.pressgang.ccms.contentspec.entities.AuthorInformation;
+import org.junit.Test;
+
+import com.redhat.contentspec.builder.utils.AuthorInformationCache;
+import com.redhat.contentspec.builder.utils.RESTEntityCache;
+
+public class AuthorInformationCacheTestCase {
+
+	@Test
+	public void testBatchedLookup() throws InterruptedException, ExecutionException
+	{
+		final TestAuthorInformationCache cache = new TestAuthorInformationCache(new RESTEntityCache(null, 0),
+				AuthorInformationCache.DEFAULT_MAX_AGE);
+
+		/* Authors without any information should be left out of the results */
+		final Map<Integer, AuthorInformation> authors = cache.getAuthorInformation(Arrays.asList(1, 2, 1, 99), 2);
+		assertEquals(2, authors.size());
+		assertEquals("First1", authors.get(1).getFirstName());
+		assertEquals("Last2", authors.get(2).getLastName());
+		assertFalse(authors.containsKey(99));
+		assertEquals(3, cache.getLoads());
+
+		/* Looking the same authors up again shouldn't need to download anything */
+		assertEquals(2, cache.getAuthorInformation(Arrays.asList(1, 2, 99), 2).size());
+		assertNotNull(cache.getAuthorInformation(1));
+		assertEquals(3, cache.getLoads());
+	}
+
+	@Test
+	public void testPersistentCache() throws IOException
+	{
+		final File cacheDir = createCacheDir();
+
+		final TestAuthorInformationCache cache = new TestAuthorInformationCache(new RESTEntityCache(cacheDir.getAbsolutePath(),
+				1024 * 1024), AuthorInformationCache.DEFAULT_MAX_AGE);
+		assertNotNull(cache.getAuthorInformation(1));
+		assertEquals(1, cache.getLoads());
+
+		/* A new cache should use the author information stored by the previous build */
+		final TestAuthorInformationCache newCache = new TestAuthorInformationCache(new RESTEntityCache(cacheDir.getAbsolutePath(),
+				1024 * 1024), AuthorInformationCache.DEFAULT_MAX_AGE);
+		final AuthorInformation authorInfo = newCache.getAuthorInformation(1);
+		assertNotNull(authorInfo);
+		assertEquals("First1", authorInfo.getFirstName());
+		assertEquals("Org1", authorInfo.getOrganization());
+		assertEquals(0, newCache.getLoads());
+
+		/* Author information that is too old should be downloaded again */
+		final TestAuthorInformationCache expiredCache = new TestAuthorInformationCache(new RESTEntityCache(
+				cacheDir.getAbsolutePath(), 1024 * 1024), -1);
+		assertNotNull(expiredCache.getAuthorInformation(1));
+		assertEquals(1, expiredCache.getLoads());
+
+		deleteCacheDir(cacheDir);
+	}
+
+	private File createCacheDir() throws IOException
+	{
+		final File cacheDir = File.createTempFile("authorcache", "");
+		assertTrue(cacheDir.delete());
+		cacheDir.deleteOnExit();
+		return cacheDir;
+	}
+
+	private void deleteCacheDir(final File cacheDir)
+	{
+		final File[] files = cacheDir.listFiles();
+		if (files != null)
+		{
+			for (final File file : files)
+			{
+				file.delete();
+			}
+		}
+		cacheDir.delete();
+	}
+
+	private static class TestAuthorInformationCache extends AuthorInformationCache
+	{
+		private final AtomicInteger loads = new AtomicInteger(0);
+
+		public TestAuthorInformationCache(final RESTEntityCache restEntityCache, final long maxAge)
+		{
+			super(null, restEntityCache, maxAge);
+		}
+
+		@Override
+		protected AuthorInformation loadAuthorInformation(final Integer authorId)
+		{
+			loads.incrementAndGet();
+			if (authorId > 10) return null;
+
+			final AuthorInformation authorInfo = new AuthorInformation(authorId, "First" + authorId, "Last" + authorId,
+					"author" + authorId + "@example.com");
+			authorInfo.setOrganization("Org" + authorId);
+			return authorInfo;
+		}
+
+		public int getLoads()
+		{
+			return loads.get();
+		}
+	}
+}
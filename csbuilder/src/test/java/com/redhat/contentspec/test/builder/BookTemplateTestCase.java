@@ -0,0 +1,64 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.redhat.contentspec.builder.constants.BuilderConstants;
+import com.redhat.contentspec.builder.utils.BookTemplate;
+
+public class BookTemplateTestCase {
+
+	@Test
+	public void testRender()
+	{
+		final BookTemplate template = BookTemplate.compile("<title><<contentSpec.title>></title><product><<contentSpec.product>></product>"
+				+ "<!-- Inject Abstract --><copyright>YYYY <<contentSpec.product>></copyright>", BuilderConstants.TITLE_REGEX,
+				BuilderConstants.PRODUCT_REGEX, BuilderConstants.ABSTRACT_REGEX, BuilderConstants.YEAR_FORMAT_REGEX);
+
+		final Map<String, String> values = new HashMap<String, String>();
+		values.put(BuilderConstants.TITLE_REGEX, "Guide");
+		values.put(BuilderConstants.PRODUCT_REGEX, "Product");
+		values.put(BuilderConstants.ABSTRACT_REGEX, null);
+		values.put(BuilderConstants.YEAR_FORMAT_REGEX, "2012");
+
+		assertEquals("<title>Guide</title><product>Product</product><copyright>2012 Product</copyright>", template.render(values));
+		assertEquals(5, template.getPlaceholders().size());
+	}
+
+	@Test
+	public void testMissingValuesAreLeftInPlace()
+	{
+		final BookTemplate template = BookTemplate.compile("<<contentSpec.title>> <<contentSpec.version>>",
+				BuilderConstants.TITLE_REGEX, BuilderConstants.VERSION_REGEX);
+
+		final Map<String, String> values = new HashMap<String, String>();
+		values.put(BuilderConstants.TITLE_REGEX, "Guide");
+
+		assertEquals("Guide <<contentSpec.version>>", template.render(values));
+	}
+
+	@Test
+	public void testValuesAreInsertedLiterally()
+	{
+		final BookTemplate template = BookTemplate.compile("<<contentSpec.title>>: <<contentSpec.product>>",
+				BuilderConstants.TITLE_REGEX, BuilderConstants.PRODUCT_REGEX);
+
+		final Map<String, String> values = new HashMap<String, String>();
+		values.put(BuilderConstants.TITLE_REGEX, "Costs in $1 \\ <<contentSpec.product>>");
+		values.put(BuilderConstants.PRODUCT_REGEX, "Product");
+
+		assertEquals("Costs in $1 \\ <<contentSpec.product>>: Product", template.render(values));
+	}
+
+	@Test
+	public void testTemplateWithoutPlaceholders()
+	{
+		final BookTemplate template = BookTemplate.compile("<book/>");
+		assertEquals("<book/>", template.render(new HashMap<String, String>()));
+		assertTrue(template.getPlaceholders().isEmpty());
+	}
+}
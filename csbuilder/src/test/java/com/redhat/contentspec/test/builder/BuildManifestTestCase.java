@@ -0,0 +1,142 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.jboss.pressgang.ccms.contentspec.ContentSpec;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTTopicV1;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.redhat.contentspec.structures.BuildManifest;
+
+public class BuildManifestTestCase {
+	private static final String CONDITION = "beta";
+	private static final String[] TITLES = new String[] {"First", "Second", "Empty", "Broken", "Fifth"};
+
+	private File manifestFile;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		manifestFile = File.createTempFile("build", ".manifest");
+		assertTrue(manifestFile.delete());
+	}
+
+	@After
+	public void tearDown()
+	{
+		manifestFile.delete();
+	}
+
+	@Test
+	public void testIncrementalBuildMatchesFullBuild() throws Exception
+	{
+		final String[] topicXMLs = new String[] {
+				"<section id=\"TopicID1\">\n\t<title>First</title>\n\t<para condition=\"beta\">Beta &amp; <literal>code</literal></para>\n\t<para condition=\"ga\">GA only</para>\n\t<para id=\"first-para\">Text</para>\n</section>",
+				"<section id=\"TopicID2\">\n\t<title>Second</title>\n\t<programlisting>int i = 0;\n\ti++;</programlisting>\n</section>",
+				"",
+				"<section>\n\t<title>Broken</para>\n</section>",
+				"<section>\n\t<title>Fifth</title>\n\t<para><unknown>Not Docbook</unknown></para>\n</section>"};
+		final int[] revisions = new int[] {1, 1, 1, 1, 1};
+		final String manifest = manifestFile.getAbsolutePath();
+
+		/* Building with no previous manifest should give the same book as a full build */
+		final Map<String, byte[]> fullBook = build(topicXMLs, revisions, null, 0);
+		OfflineDocbookBuilder.assertSameBook(fullBook, build(topicXMLs, revisions, manifest, 0));
+		assertTrue(manifestFile.exists());
+
+		/*
+		 * Build again using the manifest. The first topic is in the book twice and the second topic once, and the other topics
+		 * have errors so they are never reused.
+		 */
+		OfflineDocbookBuilder.assertSameBook(fullBook, build(topicXMLs, revisions, manifest, 3));
+
+		/* Change the second topic, so only the first topic can be reused */
+		topicXMLs[1] = "<section id=\"TopicID2\">\n\t<title>Second</title>\n\t<para condition=\"beta\">Changed</para>\n</section>";
+		revisions[1] = 2;
+		final Map<String, byte[]> changedFullBook = build(topicXMLs, revisions, null, 0);
+		final Map<String, byte[]> changedBook = build(topicXMLs, revisions, manifest, 2);
+		OfflineDocbookBuilder.assertSameBook(changedFullBook, changedBook);
+
+		boolean containsChange = false;
+		for (final byte[] file : changedBook.values())
+		{
+			containsChange |= new String(file, "UTF-8").contains("Changed");
+		}
+		assertTrue(containsChange);
+
+		/* The unchanged topics should still be reused by the next build */
+		OfflineDocbookBuilder.assertSameBook(changedFullBook, build(topicXMLs, revisions, manifest, 3));
+	}
+
+	@Test
+	public void testChangedTopicsAreNotReused() throws IOException
+	{
+		final BuildManifest manifest = new BuildManifest(manifestFile);
+		manifest.addProcessedXML("TopicID1", 1, 5, "hash1", "<section><title>One</title></section>");
+		manifest.addProcessedXML("TopicID2", 2, 7, "hash2", "<section><title>Two</title></section>");
+		manifest.save();
+
+		final BuildManifest newManifest = new BuildManifest(manifestFile);
+		/* A new revision, different inputs or a different topic shouldn't be reused */
+		assertNull(newManifest.getProcessedXML("TopicID1", 1, 6, "hash1"));
+		assertNull(newManifest.getProcessedXML("TopicID1", 1, 5, "changed"));
+		assertNull(newManifest.getProcessedXML("TopicID1", 3, 5, "hash1"));
+		assertEquals(3, newManifest.getMisses());
+
+		/* Only the topics that were part of the latest build should be kept */
+		assertEquals("<section><title>Two</title></section>", newManifest.getProcessedXML("TopicID2", 2, 7, "hash2"));
+		newManifest.save();
+
+		final BuildManifest latestManifest = new BuildManifest(manifestFile);
+		assertNull(latestManifest.getProcessedXML("TopicID1", 1, 5, "hash1"));
+		assertNotNull(latestManifest.getProcessedXML("TopicID2", 2, 7, "hash2"));
+	}
+
+	@Test
+	public void testMissingOrCorruptManifest() throws IOException
+	{
+		assertNull(new BuildManifest(manifestFile).getProcessedXML("TopicID1", 1, 1, "hash"));
+
+		final FileWriter writer = new FileWriter(manifestFile);
+		writer.write("This isn't a manifest");
+		writer.close();
+
+		assertNull(new BuildManifest(manifestFile).getProcessedXML("TopicID1", 1, 1, "hash"));
+	}
+
+	/**
+	 * Builds a book through the DocbookBuilder from a new copy of the topics, since a build modifies the topics it uses.
+	 *
+	 * @param topicXMLs The XML for each topic.
+	 * @param revisions The revision of each topic.
+	 * @param manifest The build manifest to use, or null for a full build.
+	 * @param cachedSpecTopics The number of spec topics that should be reused from the build manifest.
+	 * @return The files in the book.
+	 */
+	private Map<String, byte[]> build(final String[] topicXMLs, final int[] revisions, final String manifest,
+			final int cachedSpecTopics) throws Exception
+	{
+		final RESTTopicV1[] topics = new RESTTopicV1[topicXMLs.length];
+		for (int i = 0; i < topicXMLs.length; i++)
+		{
+			topics[i] = OfflineDocbookBuilder.createTopic(i + 1, revisions[i], TITLES[i], topicXMLs[i]);
+		}
+
+		/* Include the first topic twice, so that the duplicate id attributes are checked as well */
+		final ContentSpec contentSpec = OfflineDocbookBuilder.createContentSpec(CONDITION, topics[0], topics[1], topics[2],
+				topics[0], topics[3], topics[4]);
+
+		final OfflineDocbookBuilder builder = new OfflineDocbookBuilder(Arrays.asList(topics));
+		final Map<String, byte[]> book = builder.build(contentSpec, OfflineDocbookBuilder.createBuildingOptions(1, manifest));
+		assertEquals(cachedSpecTopics, builder.getCachedSpecTopics());
+		return book;
+	}
+}
@@ -0,0 +1,57 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.pressgang.ccms.contentspec.SpecTopic;
+import org.jboss.pressgang.ccms.utils.common.XMLUtilities;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+import com.redhat.contentspec.builder.utils.DocbookBuildUtilities;
+import com.redhat.contentspec.structures.IdAttributeRegistry;
+
+public class DocbookBuildUtilitiesTestCase {
+
+	@Test
+	public void testSetUniqueIdsUpdatesReferences() throws SAXException
+	{
+		final String xml = "<section id=\"TopicID1\"><title>Title</title>"
+				+ "<para id=\"para1\">Text <xref linkend=\"para2\" /></para>"
+				+ "<para id=\"para2\"><link linkend=\"TopicID1\">Link</link> <xref linkend=\"External\" /></para></section>";
+		final Document doc = XMLUtilities.convertStringToDocument(xml);
+
+		final SpecTopic specTopic = new SpecTopic(1, "Title");
+		specTopic.setDuplicateId("1");
+
+		DocbookBuildUtilities.setUniqueIds(specTopic, doc, doc, new IdAttributeRegistry());
+
+		final Element section = doc.getDocumentElement();
+		assertEquals("TopicID1-1", section.getAttribute("id"));
+		assertEquals("para1-1", ((Element) doc.getElementsByTagName("para").item(0)).getAttribute("id"));
+		assertEquals("para2-1", ((Element) doc.getElementsByTagName("para").item(1)).getAttribute("id"));
+
+		/* References to ids in the topic should be updated, but references to other topics shouldn't */
+		assertEquals("para2-1", ((Element) doc.getElementsByTagName("xref").item(0)).getAttribute("linkend"));
+		assertEquals("External", ((Element) doc.getElementsByTagName("xref").item(1)).getAttribute("linkend"));
+		assertEquals("TopicID1-1", ((Element) doc.getElementsByTagName("link").item(0)).getAttribute("linkend"));
+	}
+
+	@Test
+	public void testSetUniqueIdReferences() throws SAXException
+	{
+		final Document doc = XMLUtilities.convertStringToDocument("<section><para id=\"a\" /><xref linkend=\"a\" /><xref linkend=\"b\" /></section>");
+
+		final Map<String, String> fixedIds = new HashMap<String, String>();
+		fixedIds.put("a", "a-2");
+		DocbookBuildUtilities.setUniqueIdReferences(doc.getDocumentElement(), fixedIds);
+
+		assertEquals("a-2", ((Element) doc.getElementsByTagName("para").item(0)).getAttribute("id"));
+		assertEquals("a-2", ((Element) doc.getElementsByTagName("xref").item(0)).getAttribute("linkend"));
+		assertEquals("b", ((Element) doc.getElementsByTagName("xref").item(1)).getAttribute("linkend"));
+	}
+}
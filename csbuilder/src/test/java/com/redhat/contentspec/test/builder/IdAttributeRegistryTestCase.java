@@ -0,0 +1,105 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.redhat.contentspec.structures.IdAttributeRegistry;
+
+public class IdAttributeRegistryTestCase {
+	private static final int SYNTHETIC_TOPICS = 5000;
+	private static final int SYNTHETIC_IDS_PER_TOPIC = 10;
+
+	@Test
+	public void testUniqueAttributeIds()
+	{
+		final IdAttributeRegistry registry = new IdAttributeRegistry();
+		registry.addIdAttributes(1, Arrays.asList("Intro", "Shared", "TopicID1"));
+		registry.addIdAttributes(2, Arrays.asList("Shared", "TopicID2"));
+		registry.addIdAttributes(3, new HashSet<String>());
+
+		/* Ids only used by the topic itself are unique */
+		assertTrue(registry.isUniqueAttributeId("Intro", 1));
+		assertTrue(registry.isUniqueAttributeId("TopicID2", 2));
+		assertTrue(registry.isUniqueAttributeId("Unused", 1));
+
+		/* Ids used by other topics aren't unique */
+		assertFalse(registry.isUniqueAttributeId("Shared", 1));
+		assertFalse(registry.isUniqueAttributeId("Shared", 2));
+		assertFalse(registry.isUniqueAttributeId("TopicID1", 2));
+
+		/* Topics without any ids are always unique */
+		assertFalse(registry.hasTopic(3));
+		assertTrue(registry.isUniqueAttributeId("Shared", 3));
+
+		assertEquals(new HashSet<String>(Arrays.asList("Intro", "Shared", "TopicID1", "TopicID2")), registry.getAllIdAttributes());
+		assertEquals(new HashSet<String>(Arrays.asList("Shared", "TopicID2")), registry.getIdAttributes(2));
+		assertTrue(registry.getIdAttributes(3).isEmpty());
+	}
+
+	/**
+	 * Checks the registry against the previous approach of searching every topic's ids, using a synthetic book with 5,000
+	 * topics.
+	 */
+	@Test
+	public void testSyntheticBookMatchesScanning()
+	{
+		final IdAttributeRegistry registry = new IdAttributeRegistry();
+		final Map<Integer, Set<String>> usedIdAttributes = new HashMap<Integer, Set<String>>();
+		for (int topicId = 0; topicId < SYNTHETIC_TOPICS; topicId++)
+		{
+			final Set<String> ids = new HashSet<String>();
+			ids.add("TopicID" + topicId);
+			for (int i = 1; i < SYNTHETIC_IDS_PER_TOPIC; i++)
+			{
+				// Every 100th topic reuses some common ids, so that some ids aren't unique
+				ids.add(topicId % 100 == 0 ? "Common-" + i : "Topic" + topicId + "-" + i);
+			}
+			registry.addIdAttributes(topicId, ids);
+			usedIdAttributes.put(topicId, ids);
+		}
+
+		int registryDuplicates = 0;
+		for (final Entry<Integer, Set<String>> entry : usedIdAttributes.entrySet())
+		{
+			for (final String id : entry.getValue())
+			{
+				if (!registry.isUniqueAttributeId(id, entry.getKey()))
+					registryDuplicates++;
+			}
+		}
+		assertEquals((SYNTHETIC_TOPICS / 100) * (SYNTHETIC_IDS_PER_TOPIC - 1), registryDuplicates);
+
+		/* Only check a sample of the topics with the previous approach, as checking them all takes too long */
+		for (int topicId = 0; topicId < SYNTHETIC_TOPICS; topicId += 50)
+		{
+			for (final String id : usedIdAttributes.get(topicId))
+			{
+				assertEquals(isUniqueAttributeIdByScanning(id, topicId, usedIdAttributes), registry.isUniqueAttributeId(id, topicId));
+			}
+		}
+	}
+
+	/**
+	 * The previous implementation, which looked through the ids of every other topic.
+	 */
+	private boolean isUniqueAttributeIdByScanning(final String id, final Integer topicId, final Map<Integer, Set<String>> usedIdAttributes)
+	{
+		if (!usedIdAttributes.containsKey(topicId)) return true;
+
+		for (final Entry<Integer, Set<String>> entry : usedIdAttributes.entrySet())
+		{
+			if (!entry.getKey().equals(topicId) && entry.getValue().contains(id))
+				return false;
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,65 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.redhat.contentspec.builder.utils.ImageCache;
+
+public class ImageCacheTestCase {
+
+	@Test
+	public void testCacheHitsAndMisses() throws IOException
+	{
+		final File cacheDir = File.createTempFile("imagecache", "");
+		assertTrue(cacheDir.delete());
+		cacheDir.deleteOnExit();
+
+		final byte[] data = new byte[] {1, 2, 3, 4};
+		final ImageCache cache = new ImageCache(cacheDir.getAbsolutePath());
+		assertTrue(cache.isEnabled());
+
+		/* Nothing should be found before the image has been stored */
+		assertNull(cache.get(12, "en-US", 3));
+		cache.put(12, "en-US", 3, data);
+
+		/* The same image revision should be found, but not a different revision or locale */
+		assertArrayEquals(data, cache.get(12, "en-US", 3));
+		assertNull(cache.get(12, "en-US", 4));
+		assertNull(cache.get(12, "ja-JP", 3));
+
+		assertEquals(1, cache.getHits());
+		assertEquals(3, cache.getMisses());
+
+		/* A new cache should be able to read the data stored by a previous build */
+		final ImageCache newCache = new ImageCache(cacheDir.getAbsolutePath());
+		assertArrayEquals(data, newCache.get(12, "en-US", 3));
+
+		/* Only images that were stored by a previous build should be looked up, and any others count as misses */
+		assertTrue(newCache.containsImage(12));
+		assertFalse(newCache.containsImage(13));
+		assertEquals(1, newCache.getMisses());
+		newCache.put(13, "en-US", 1, data);
+		assertTrue(newCache.containsImage(13));
+
+		for (final File file : cacheDir.listFiles())
+		{
+			file.delete();
+		}
+		cacheDir.delete();
+	}
+
+	@Test
+	public void testDisabledCache()
+	{
+		final ImageCache cache = new ImageCache(null);
+		assertFalse(cache.isEnabled());
+
+		cache.put(12, "en-US", 3, new byte[] {1});
+		assertNull(cache.get(12, "en-US", 3));
+		assertEquals(0, cache.getHits());
+	}
+}
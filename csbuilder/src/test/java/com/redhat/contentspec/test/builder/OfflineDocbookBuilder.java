@@ -0,0 +1,294 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.pressgang.ccms.contentspec.Chapter;
+import org.jboss.pressgang.ccms.contentspec.ContentSpec;
+import org.jboss.pressgang.ccms.contentspec.SpecTopic;
+import org.jboss.pressgang.ccms.contentspec.entities.AuthorInformation;
+import org.jboss.pressgang.ccms.contentspec.enums.BookType;
+import org.jboss.pressgang.ccms.docbook.constants.DocbookBuilderConstants;
+import org.jboss.pressgang.ccms.docbook.processing.XMLPreProcessor;
+import org.jboss.pressgang.ccms.rest.v1.collections.RESTTagCollectionV1;
+import org.jboss.pressgang.ccms.rest.v1.collections.RESTTopicCollectionV1;
+import org.jboss.pressgang.ccms.rest.v1.collections.items.RESTTopicCollectionItemV1;
+import org.jboss.pressgang.ccms.rest.v1.collections.join.RESTAssignedPropertyTagCollectionV1;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTBlobConstantV1;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTStringConstantV1;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTTopicV1;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTUserV1;
+import org.jboss.pressgang.ccms.utils.constants.CommonConstants;
+import org.jboss.pressgang.ccms.zanata.ZanataDetails;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import com.redhat.contentspec.builder.DocbookBuilder;
+import com.redhat.contentspec.builder.constants.BuilderConstants;
+import com.redhat.contentspec.builder.exception.BuildProcessingException;
+import com.redhat.contentspec.builder.exception.BuilderCreationException;
+import com.redhat.contentspec.builder.output.InMemoryOutputSink;
+import com.redhat.contentspec.structures.CSDocbookBuildingOptions;
+import com.redhat.contentspec.structures.IdAttributeRegistry;
+import com.redhat.contentspec.structures.TopicSource;
+
+/**
+ * A DocbookBuilder that builds a book from topics held in memory, using simple templates in place of the constants that are
+ * normally downloaded from the REST Interface. This lets the tests run complete builds and compare the books that they
+ * produce. The topics are modified by a build, so a new builder and new topics should be used for each build.
+ */
+public class OfflineDocbookBuilder extends DocbookBuilder<RESTTopicV1, RESTTopicCollectionV1, RESTTopicCollectionItemV1> {
+	private static final String LOCALE = "en-US";
+	/** The build date changes with each build, so the revision history uses a fixed date instead. */
+	private static final String REVISION_DATE = "Mon Jan 01 2001";
+	private static final Map<Integer, String> STRING_CONSTANTS = new HashMap<Integer, String>();
+
+	static
+	{
+		STRING_CONSTANTS.put(DocbookBuilderConstants.BOOK_XML_ID, "<book>\n" + BuilderConstants.XIINCLUDES_INJECTION_STRING
+				+ "\n</book>\n");
+		STRING_CONSTANTS.put(DocbookBuilderConstants.BOOK_INFO_XML_ID, "<bookinfo>\n\t<title>Book</title>\n</bookinfo>\n");
+		STRING_CONSTANTS.put(DocbookBuilderConstants.PUBLICAN_CFG_ID, "xml_lang: en-US\ntype: Book\nbrand: common\n");
+		STRING_CONSTANTS.put(DocbookBuilderConstants.BOOK_ENT_ID, "<!ENTITY PRODUCT \"Product\">\n");
+		STRING_CONSTANTS.put(DocbookBuilderConstants.CSP_PREFACE_XML_ID, "<preface>\n\t<title>Preface</title>\n</preface>\n");
+		STRING_CONSTANTS.put(DocbookBuilderConstants.REVISION_HISTORY_XML_ID,
+				"<appendix>\n\t<title>Revision History</title>\n\t<simpara>\n\t\t<revhistory></revhistory>\n\t</simpara>\n</appendix>\n");
+		STRING_CONSTANTS.put(DocbookBuilderConstants.AUTHOR_GROUP_XML_ID,
+				"<authorgroup>\n\t<author>\n\t\t<firstname>Writer</firstname>\n\t\t<surname>Name</surname>\n\t</author>\n</authorgroup>\n");
+		STRING_CONSTANTS.put(DocbookBuilderConstants.ICON_SVG_ID, "<svg></svg>");
+	}
+
+	private final AtomicInteger cachedSpecTopics = new AtomicInteger(0);
+
+	/**
+	 * @param topics The topics that the book can be built from.
+	 * @throws BuilderCreationException
+	 */
+	public OfflineDocbookBuilder(final List<RESTTopicV1> topics) throws BuilderCreationException
+	{
+		super(null, createBlobConstant(DocbookBuilderConstants.ROCBOOK_DTD_BLOB_ID, loadResource(BuilderConstants.ROCBOOK_45_DTD)),
+				createStringConstant(DocbookBuilderConstants.CSP_EMPTY_TOPIC_ERROR_XML_ID, createErrorTemplate("Empty")),
+				createStringConstant(DocbookBuilderConstants.CSP_INVALID_INJECTION_TOPIC_ERROR_XML_ID,
+						createErrorTemplate("Invalid Injection")),
+				createStringConstant(DocbookBuilderConstants.CSP_INVALID_VALIDATION_TOPIC_ERROR_XML_ID,
+						createErrorTemplate("Invalid")),
+				createStringConstant(CommonConstants.XML_ELEMENTS_STRING_CONSTANT_ID,
+						CommonConstants.VERBATIM_XML_ELEMENTS_PROPERTY_KEY + "=screen,programlisting,literallayout\n"
+								+ CommonConstants.INLINE_XML_ELEMENTS_PROPERTY_KEY + "=literal,emphasis\n"
+								+ CommonConstants.CONTENTS_INLINE_XML_ELEMENTS_PROPERTY_KEY + "=title,para\n"),
+				LOCALE, null);
+
+		final Map<Integer, RESTTopicV1> topicsById = new HashMap<Integer, RESTTopicV1>();
+		for (final RESTTopicV1 topic : topics)
+		{
+			topicsById.put(topic.getId(), topic);
+		}
+
+		/* Only the latest revisions are held in memory, so that the builder never needs to call the REST Interface */
+		setTopicSource(new TopicSource() {
+			@Override
+			public RESTTopicV1 getTopic(final Integer topicId, final Integer revision, final boolean expandTranslations)
+			{
+				return revision == null ? topicsById.get(topicId) : null;
+			}
+		});
+	}
+
+	/**
+	 * Builds a book into memory.
+	 *
+	 * @param contentSpec The content specification to build from.
+	 * @param buildingOptions The options to be used when building.
+	 * @return The mapping of file paths to file contents for the book.
+	 * @throws Exception
+	 */
+	public Map<String, byte[]> build(final ContentSpec contentSpec, final CSDocbookBuildingOptions buildingOptions)
+			throws Exception
+	{
+		final InMemoryOutputSink files = new InMemoryOutputSink();
+		assertTrue(buildBook(contentSpec, null, buildingOptions, null, new ZanataDetails(), files));
+		return files.getFiles();
+	}
+
+	/**
+	 * @return The number of spec topics that were built from the processed XML in the build manifest.
+	 */
+	public int getCachedSpecTopics()
+	{
+		return cachedSpecTopics.get();
+	}
+
+	@Override
+	protected RESTStringConstantV1 getStringConstant(final Integer id)
+	{
+		final String value = STRING_CONSTANTS.get(id);
+		if (value == null)
+		{
+			throw new IllegalArgumentException("No test template exists for String Constant " + id);
+		}
+		return createStringConstant(id, value);
+	}
+
+	@Override
+	protected RESTBlobConstantV1 getBlobConstant(final Integer id)
+	{
+		return createBlobConstant(id, new byte[] {1, 2, 3});
+	}
+
+	@Override
+	protected Element generateRevision(final ContentSpec contentSpec, final Document xmlDoc, final AuthorInformation authorInfo,
+			final RESTUserV1 requester) throws BuildProcessingException
+	{
+		final Element revision = super.generateRevision(contentSpec, xmlDoc, authorInfo, requester);
+		revision.getElementsByTagName("date").item(0).setTextContent(REVISION_DATE);
+		return revision;
+	}
+
+	@Override
+	protected void processCachedSpecTopic(final ContentSpec contentSpec, final SpecTopic specTopic, final String cachedXML,
+			final XMLPreProcessor xmlPreProcessor, final String searchTagsUrl, final IdAttributeRegistry usedIdAttributes,
+			final String buildName) throws BuildProcessingException
+	{
+		cachedSpecTopics.incrementAndGet();
+		super.processCachedSpecTopic(contentSpec, specTopic, cachedXML, xmlPreProcessor, searchTagsUrl, usedIdAttributes,
+				buildName);
+	}
+
+	/**
+	 * Creates the latest revision of a topic, with no tags or property tags.
+	 */
+	public static RESTTopicV1 createTopic(final int id, final int revision, final String title, final String xml)
+	{
+		final RESTTopicV1 topic = new RESTTopicV1();
+		topic.setId(id);
+		topic.setRevision(revision);
+		topic.setTitle(title);
+		topic.setLocale(LOCALE);
+		topic.setXml(xml);
+		topic.setTags(new RESTTagCollectionV1());
+		topic.setProperties(new RESTAssignedPropertyTagCollectionV1());
+		return topic;
+	}
+
+	/**
+	 * Creates a book with a single chapter that contains a spec topic for each topic. A topic can be listed more than once
+	 * to include it in the book multiple times.
+	 *
+	 * @param condition The condition for the chapter, or null if the chapter has no condition.
+	 * @param topics The topics to include in the chapter.
+	 * @return The content specification for the book.
+	 */
+	public static ContentSpec createContentSpec(final String condition, final RESTTopicV1... topics)
+	{
+		final ContentSpec contentSpec = new ContentSpec();
+		contentSpec.setTitle("Test Book");
+		contentSpec.setProduct("Product");
+		contentSpec.setVersion("1");
+		contentSpec.setCopyrightHolder("Red Hat, Inc");
+		contentSpec.setBookType(BookType.BOOK);
+		contentSpec.setOutputStyle("csp");
+
+		final Chapter chapter = new Chapter("Test Chapter", 2, "Chapter: Test Chapter");
+		if (condition != null)
+		{
+			chapter.setConditionStatement(condition);
+		}
+		contentSpec.getBaseLevel().appendChild(chapter);
+
+		for (int i = 0; i < topics.length; i++)
+		{
+			final SpecTopic specTopic = new SpecTopic(topics[i].getId(), topics[i].getTitle());
+			specTopic.setUniqueId((i + 3) + "-" + topics[i].getId());
+			chapter.appendSpecTopic(specTopic);
+		}
+
+		return contentSpec;
+	}
+
+	/**
+	 * Creates the building options for an offline build. The links to external services are turned off, and the report page
+	 * is shown so that the error database is part of the book.
+	 *
+	 * @param threadCount The number of threads to use for the build.
+	 * @param buildManifestFile The build manifest to use for an incremental build, or null for a full build.
+	 * @return The building options.
+	 */
+	public static CSDocbookBuildingOptions createBuildingOptions(final int threadCount, final String buildManifestFile)
+	{
+		final CSDocbookBuildingOptions buildingOptions = new CSDocbookBuildingOptions();
+		buildingOptions.setInsertBugzillaLinks(false);
+		buildingOptions.setInsertSurveyLink(false);
+		buildingOptions.setInsertEditorLinks(false);
+		buildingOptions.setSuppressErrorsPage(false);
+		buildingOptions.setSuppressContentSpecPage(false);
+		buildingOptions.setShowReportPage(true);
+		buildingOptions.setThreadCount(threadCount);
+		buildingOptions.setBuildManifestFile(buildManifestFile);
+		return buildingOptions;
+	}
+
+	/**
+	 * Checks that two books contain the same files, and that each file has exactly the same content.
+	 */
+	public static void assertSameBook(final Map<String, byte[]> expected, final Map<String, byte[]> actual)
+	{
+		assertEquals(expected.keySet(), actual.keySet());
+		for (final Map.Entry<String, byte[]> file : expected.entrySet())
+		{
+			assertTrue(file.getKey() + " is different", Arrays.equals(file.getValue(), actual.get(file.getKey())));
+		}
+	}
+
+	private static String createErrorTemplate(final String title)
+	{
+		return "<section>\n\t<title>" + title + "</title>\n\t<para>The topic could not be built.</para>\n</section>";
+	}
+
+	private static RESTStringConstantV1 createStringConstant(final Integer id, final String value)
+	{
+		final RESTStringConstantV1 stringConstant = new RESTStringConstantV1();
+		stringConstant.setId(id);
+		stringConstant.setValue(value);
+		return stringConstant;
+	}
+
+	private static RESTBlobConstantV1 createBlobConstant(final Integer id, final byte[] value)
+	{
+		final RESTBlobConstantV1 blobConstant = new RESTBlobConstantV1();
+		blobConstant.setId(id);
+		blobConstant.setValue(value);
+		return blobConstant;
+	}
+
+	private static byte[] loadResource(final String name)
+	{
+		final InputStream is = ClassLoader.getSystemResourceAsStream(name);
+		assertNotNull("Unable to load " + name, is);
+
+		final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[1000];
+		int length = 0;
+		try
+		{
+			while ((length = is.read(buffer, 0, 1000)) != -1)
+			{
+				bos.write(buffer, 0, length);
+			}
+			is.close();
+		}
+		catch (IOException e)
+		{
+			fail(e.getMessage());
+		}
+
+		return bos.toByteArray();
+	}
+}
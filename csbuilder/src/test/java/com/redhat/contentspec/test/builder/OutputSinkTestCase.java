@@ -0,0 +1,63 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Test;
+
+import com.redhat.contentspec.builder.output.InMemoryOutputSink;
+import com.redhat.contentspec.builder.output.ZipOutputSink;
+
+public class OutputSinkTestCase {
+
+	@Test
+	public void testInMemoryLastWriteWins() throws IOException
+	{
+		final InMemoryOutputSink sink = new InMemoryOutputSink();
+		sink.addFile("en-US/Revision_History.xml", "override".getBytes("UTF-8"));
+		sink.addFile("en-US/Revision_History.xml", "default".getBytes("UTF-8"));
+
+		assertTrue(sink.hasFile("en-US/Revision_History.xml"));
+		assertEquals("default", new String(sink.getFiles().get("en-US/Revision_History.xml"), "UTF-8"));
+	}
+
+	@Test
+	public void testZipDuplicatePaths() throws IOException
+	{
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		final ZipOutputSink sink = new ZipOutputSink(output);
+		sink.addFile("en-US/images/12.png", new byte[] {1, 2, 3});
+
+		/* The same image referenced by another topic should only be written once */
+		sink.addFile("en-US/images/12.png", new byte[] {1, 2, 3});
+		assertTrue(sink.hasFile("en-US/images/12.png"));
+
+		/* A file that has already been streamed can't be replaced, so different contents should fail */
+		try
+		{
+			sink.addFile("en-US/images/12.png", new byte[] {4, 5, 6});
+			fail("Replacing a file in the ZIP archive should fail");
+		}
+		catch (final IOException e)
+		{
+			// Expected
+		}
+		sink.close();
+
+		final ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()));
+		int entries = 0;
+		ZipEntry entry;
+		while ((entry = zis.getNextEntry()) != null)
+		{
+			assertEquals("en-US/images/12.png", entry.getName());
+			entries++;
+		}
+		zis.close();
+		assertEquals(1, entries);
+	}
+}
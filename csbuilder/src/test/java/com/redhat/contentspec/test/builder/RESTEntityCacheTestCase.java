@@ -0,0 +1,139 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.redhat.contentspec.builder.utils.RESTEntityCache;
+
+public class RESTEntityCacheTestCase {
+
+	@Test
+	public void testCacheHitsAndMisses() throws IOException
+	{
+		final File cacheDir = createCacheDir();
+
+		final RESTEntityCache cache = new RESTEntityCache(cacheDir.getAbsolutePath(), 1024 * 1024);
+		assertTrue(cache.isEnabled());
+
+		/* Nothing should be found before the entity has been stored */
+		assertNull(cache.get("topic", 12, 3, TestEntity.class));
+		cache.put("topic", 12, 3, new TestEntity(12, "Title"));
+		/* The temp file used to write the entity shouldn't be left behind */
+		assertEquals(1, cacheDir.listFiles().length);
+
+		/* The same entity revision should be found, but not a different revision or type */
+		final TestEntity entity = cache.get("topic", 12, 3, TestEntity.class);
+		assertNotNull(entity);
+		assertEquals(Integer.valueOf(12), entity.getId());
+		assertEquals("Title", entity.getTitle());
+		assertNull(cache.get("topic", 12, 4, TestEntity.class));
+		assertNull(cache.get("blobconstant", 12, 3, TestEntity.class));
+
+		assertEquals(1, cache.getHits());
+		assertEquals(3, cache.getMisses());
+
+		/* A new cache should be able to read the entities stored by a previous run */
+		final RESTEntityCache newCache = new RESTEntityCache(cacheDir.getAbsolutePath(), 1024 * 1024);
+		assertNotNull(newCache.get("topic", 12, 3, TestEntity.class));
+
+		deleteCacheDir(cacheDir);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() throws IOException
+	{
+		final File cacheDir = createCacheDir();
+
+		/* Find the size of a single entity, so the cache can be sized to hold two of them */
+		final RESTEntityCache sizingCache = new RESTEntityCache(cacheDir.getAbsolutePath(), 1024 * 1024);
+		sizingCache.put("topic", 1, 1, new TestEntity(1, "Title"));
+		final long entitySize = cacheDir.listFiles()[0].length();
+		deleteCacheDir(cacheDir);
+
+		final RESTEntityCache cache = new RESTEntityCache(cacheDir.getAbsolutePath(), entitySize * 2);
+		cache.put("topic", 1, 1, new TestEntity(1, "Title"));
+		cache.put("topic", 2, 1, new TestEntity(2, "Title"));
+		new File(cacheDir, "topic_1_1.json").setLastModified(1000);
+		new File(cacheDir, "topic_2_1.json").setLastModified(2000);
+
+		/* Adding a third entity should remove the least recently used entities */
+		cache.put("topic", 3, 1, new TestEntity(3, "Title"));
+		assertNull(cache.get("topic", 1, 1, TestEntity.class));
+		assertNotNull(cache.get("topic", 3, 1, TestEntity.class));
+
+		deleteCacheDir(cacheDir);
+	}
+
+	@Test
+	public void testDisabledCache()
+	{
+		final RESTEntityCache cache = new RESTEntityCache(null, 1024);
+		assertFalse(cache.isEnabled());
+
+		cache.put("topic", 12, 3, new TestEntity(12, "Title"));
+		assertNull(cache.get("topic", 12, 3, TestEntity.class));
+		assertEquals(0, cache.getHits());
+		assertEquals(0, cache.getMisses());
+	}
+
+	private File createCacheDir() throws IOException
+	{
+		final File cacheDir = File.createTempFile("restcache", "");
+		assertTrue(cacheDir.delete());
+		cacheDir.deleteOnExit();
+		return cacheDir;
+	}
+
+	private void deleteCacheDir(final File cacheDir)
+	{
+		final File[] files = cacheDir.listFiles();
+		if (files != null)
+		{
+			for (final File file : files)
+			{
+				file.delete();
+			}
+		}
+		cacheDir.delete();
+	}
+
+	public static class TestEntity
+	{
+		private Integer id;
+		private String title;
+
+		public TestEntity()
+		{
+		}
+
+		public TestEntity(final Integer id, final String title)
+		{
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId()
+		{
+			return id;
+		}
+
+		public void setId(final Integer id)
+		{
+			this.id = id;
+		}
+
+		public String getTitle()
+		{
+			return title;
+		}
+
+		public void setTitle(final String title)
+		{
+			this.title = title;
+		}
+	}
+}
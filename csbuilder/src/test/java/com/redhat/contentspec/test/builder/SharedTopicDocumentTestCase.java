@@ -0,0 +1,44 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import org.jboss.pressgang.ccms.utils.common.XMLUtilities;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import com.redhat.contentspec.structures.SharedTopicDocument;
+
+public class SharedTopicDocumentTestCase {
+
+	@Test
+	public void testOnlyCopiesWhenClaimed() throws SAXException
+	{
+		final String xml = "<section><title>Shared</title><para>Text</para></section>";
+		final Document document = XMLUtilities.convertStringToDocument(xml);
+		final SharedTopicDocument sharedDocument = new SharedTopicDocument(document, xml.length(), 3);
+
+		/* The first claims should get copies that can be modified without affecting the shared document */
+		final Document firstCopy = sharedDocument.claim();
+		assertNotSame(document, firstCopy);
+		firstCopy.getDocumentElement().setAttribute("id", "Changed");
+		assertEquals("", document.getDocumentElement().getAttribute("id"));
+
+		/* Released claims don't need a copy, and the last claim gets the original document */
+		sharedDocument.release();
+		assertSame(document, sharedDocument.claim());
+
+		assertEquals(2, sharedDocument.getCopiesAvoided());
+		assertEquals(xml.length(), sharedDocument.getXmlLength());
+	}
+
+	@Test
+	public void testSingleClaimUsesOriginal() throws SAXException
+	{
+		final Document document = XMLUtilities.convertStringToDocument("<section><title>Single</title></section>");
+		final SharedTopicDocument sharedDocument = new SharedTopicDocument(document, 0, 1);
+
+		assertSame(document, sharedDocument.claim());
+		assertEquals(1, sharedDocument.getCopiesAvoided());
+	}
+}
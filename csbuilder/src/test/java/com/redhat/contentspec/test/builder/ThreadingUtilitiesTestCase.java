@@ -0,0 +1,189 @@
+package com.redhat.contentspec.test.builder;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.jboss.pressgang.ccms.contentspec.ContentSpec;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTTopicV1;
+import org.junit.Test;
+
+import com.redhat.contentspec.builder.exception.BuilderCreationException;
+import com.redhat.contentspec.builder.utils.ThreadingUtilities;
+
+public class ThreadingUtilitiesTestCase {
+	private static final int NUM_TOPICS = 50;
+
+	@Test
+	public void testInvokeAllKeepsTaskOrder() throws InterruptedException, ExecutionException
+	{
+		final List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+		for (int i = 0; i < 100; i++)
+		{
+			final int value = i;
+			tasks.add(new Callable<Integer>() {
+				@Override
+				public Integer call() throws Exception
+				{
+					// Make the earlier tasks finish last
+					Thread.sleep((100 - value) % 5);
+					return value;
+				}
+			});
+		}
+
+		final List<Integer> serialResults = ThreadingUtilities.invokeAll(tasks, 1);
+		final List<Integer> threadedResults = ThreadingUtilities.invokeAll(tasks, 8);
+
+		assertEquals(100, serialResults.size());
+		for (int i = 0; i < 100; i++)
+		{
+			assertEquals(Integer.valueOf(i), serialResults.get(i));
+		}
+		assertEquals(serialResults, threadedResults);
+	}
+
+	@Test
+	public void testInvokeAllWrapsExceptions() throws InterruptedException
+	{
+		final List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+		tasks.add(new Callable<Integer>() {
+			@Override
+			public Integer call() throws Exception
+			{
+				throw new IllegalStateException("Test Failure");
+			}
+		});
+
+		for (final int numThreads : new int[] {1, 4})
+		{
+			try
+			{
+				ThreadingUtilities.invokeAll(tasks, numThreads);
+				fail("An ExecutionException should have been thrown");
+			}
+			catch (ExecutionException e)
+			{
+				assertTrue(e.getCause() instanceof IllegalStateException);
+			}
+		}
+	}
+
+	@Test
+	public void testParallelBuildMatchesSerial() throws Exception
+	{
+		final OfflineDocbookBuilder serialBuilder = createBuilder();
+		final Map<String, byte[]> serialBook = serialBuilder.build(createContentSpec(),
+				OfflineDocbookBuilder.createBuildingOptions(1, null));
+		final OfflineDocbookBuilder threadedBuilder = createBuilder();
+		final Map<String, byte[]> threadedBook = threadedBuilder.build(createContentSpec(),
+				OfflineDocbookBuilder.createBuildingOptions(8, null));
+
+		/* Every file, including the error and report chapters built from the error database, should be identical */
+		OfflineDocbookBuilder.assertSameBook(serialBook, threadedBook);
+		assertEquals(serialBuilder.getNumErrors(), threadedBuilder.getNumErrors());
+		assertEquals(serialBuilder.getNumWarnings(), threadedBuilder.getNumWarnings());
+
+		/* Check that the book had errors and warnings to compare */
+		assertTrue(serialBuilder.getNumErrors() > 0);
+		assertTrue(serialBuilder.getNumWarnings() > 0);
+	}
+
+	@Test
+	public void testSubmitRunsInlineWithoutExecutor() throws InterruptedException, ExecutionException
+	{
+		final ExecutorService executor = ThreadingUtilities.newExecutor(1);
+		assertNull(executor);
+
+		final Thread callingThread = Thread.currentThread();
+		final Future<Boolean> future = ThreadingUtilities.submit(executor, new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws Exception
+			{
+				return Thread.currentThread() == callingThread;
+			}
+		});
+
+		/* The task should have already been run on the calling thread */
+		assertTrue(future.isDone());
+		assertTrue(future.get());
+		ThreadingUtilities.shutdown(executor);
+	}
+
+	@Test
+	public void testSubmitUsesExecutor() throws InterruptedException, ExecutionException
+	{
+		final ExecutorService executor = ThreadingUtilities.newExecutor(2);
+		assertNotNull(executor);
+
+		try
+		{
+			final Thread callingThread = Thread.currentThread();
+			final Future<Boolean> future = ThreadingUtilities.submit(executor, new Callable<Boolean>() {
+				@Override
+				public Boolean call() throws Exception
+				{
+					return Thread.currentThread() == callingThread;
+				}
+			});
+
+			assertFalse(future.get());
+		}
+		finally
+		{
+			ThreadingUtilities.shutdown(executor);
+		}
+	}
+
+	/**
+	 * Creates a builder for a new copy of the topics, since a build modifies the topics it uses. Every fifth topic has no
+	 * content and every seventh topic isn't valid XML, so that the build has warnings and errors.
+	 */
+	private OfflineDocbookBuilder createBuilder() throws BuilderCreationException
+	{
+		return new OfflineDocbookBuilder(Arrays.asList(createTopics()));
+	}
+
+	private RESTTopicV1[] createTopics()
+	{
+		final RESTTopicV1[] topics = new RESTTopicV1[NUM_TOPICS];
+		for (int i = 0; i < NUM_TOPICS; i++)
+		{
+			final int topicId = i + 1;
+			final String xml;
+			if (topicId % 5 == 0)
+			{
+				xml = "";
+			}
+			else if (topicId % 7 == 0)
+			{
+				xml = "<section>\n\t<title>Topic " + topicId + "</para>\n</section>";
+			}
+			else
+			{
+				xml = "<section>\n\t<title>Topic " + topicId + "</title>\n\t<para id=\"para-" + topicId + "\">Topic " + topicId
+						+ " <literal>content</literal>.</para>\n\t<para condition=\"ga\">GA only</para>\n</section>";
+			}
+			topics[i] = OfflineDocbookBuilder.createTopic(topicId, 1, "Topic " + topicId, xml);
+		}
+		return topics;
+	}
+
+	/**
+	 * Creates a book that contains every topic, with the first few topics included twice.
+	 */
+	private ContentSpec createContentSpec()
+	{
+		final RESTTopicV1[] topics = createTopics();
+		final RESTTopicV1[] specTopics = Arrays.copyOf(topics, topics.length + 3);
+		System.arraycopy(topics, 0, specTopics, topics.length, 3);
+		return OfflineDocbookBuilder.createContentSpec("beta", specTopics);
+	}
+}
@@ -4,8 +4,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.jboss.pressgang.ccms.utils.common.XMLUtilities;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
 import static org.junit.Assert.*;
 
 import com.redhat.contentspec.builder.utils.SAXXMLValidator;
@@ -113,4 +117,38 @@ public class ValidatorTestCase
 		
 		assertFalse(result);
 	}
+
+	@Test
+	public void testDocumentData() throws SAXException
+	{
+		/* Check a valid DOM Document */
+		final Document validDoc = XMLUtilities.convertStringToDocument("<section>\n" +
+				"\t<title>This is a test case</title>\n" +
+				"\t<para>Test paragraph</para>\n" +
+				"</section>");
+		
+		assertTrue(validator.getErrorText(), validator.validateXML(validDoc, "rocbookx.dtd", dtdFile));
+		
+		/* Check a DOM Document that has an existing DOCTYPE */
+		final Document doctypeDoc = XMLUtilities.convertStringToDocument("<?xml version='1.0' encoding='UTF-8' ?>\n" +
+				"<!DOCTYPE section PUBLIC \"-//OASIS//DTD DocBook XML V4.5//EN\" \"http://www.oasis-open.org/docbook/xml/4.5/docbookx.dtd\">\n" +
+				"<section>\n" +
+				"\t<title>This is a test case</title>\n" +
+				"\t<para>Test paragraph</para>\n" +
+				"</section>");
+		
+		assertTrue(validator.getErrorText(), validator.validateXML(doctypeDoc, "rocbookx.dtd", dtdFile));
+		
+		/* Check an invalid DOM Document, using the cached DTD grammar */
+		final Document invalidDoc = XMLUtilities.convertStringToDocument("<section>\n" +
+				"\t<title>This is a test case</title>\n" +
+				"\t<para>Test paragraph</para>\n" +
+				"\t<formalpara></formalpara>\n" +
+				"</section>");
+		
+		assertFalse(validator.validateXML(invalidDoc, "rocbookx.dtd", dtdFile));
+		
+		/* Check the valid document is still valid after a failure */
+		assertTrue(validator.getErrorText(), validator.validateXML(validDoc, "rocbookx.dtd", dtdFile));
+	}
 }
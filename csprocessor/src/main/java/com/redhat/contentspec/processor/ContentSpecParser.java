@@ -2,12 +2,12 @@ package com.redhat.contentspec.processor;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -46,6 +46,7 @@ import org.jboss.pressgang.ccms.utils.structures.Pair;
 import com.google.code.regexp.NamedMatcher;
 import com.google.code.regexp.NamedPattern;
 import com.redhat.contentspec.processor.constants.ProcessorConstants;
+import com.redhat.contentspec.processor.structures.LookaheadLineReader;
 import com.redhat.contentspec.processor.structures.VariableSet;
 import com.redhat.contentspec.processor.utils.ProcessorUtilities;
 
@@ -63,7 +64,97 @@ public class ContentSpecParser
 	 * An Enumerator used to specify the parsing mode of the Parser.
 	 */
 	public static enum ParsingMode {NEW, EDITED, EITHER};
-	
+
+	/**
+	 * The keywords that can start a line in a Content Specification. Each keyword holds a precompiled pattern that the
+	 * whole line must match for the line to be treated as that keyword.
+	 */
+	private static enum LineKeyword
+	{
+		SPEC_REVISION("SPECREVISION", "^SPECREVISION[ ]*((=.*)|$)"),
+		CHECKSUM("CHECKSUM", "^CHECKSUM[ ]*((=.*)|$)"),
+		SUBTITLE("SUBTITLE", "^SUBTITLE[ ]*((=.*)|$)"),
+		EDITION("EDITION", "^EDITION[ ]*((=.*)|$)"),
+		BOOK_VERSION("BOOK", "^BOOK VERSION[ ]*((=.*)|$)"),
+		PUBSNUMBER("PUBSNUMBER", "^PUBSNUMBER[ ]*((=.*)|$)"),
+		PRODUCT("PRODUCT", "^PRODUCT[ ]*((=.*)|$)"),
+		ABSTRACT(new String[] {"DESCRIPTION", "ABSTRACT"}, "^(DESCRIPTION|ABSTRACT)[ ]*((=.*)|$)", false),
+		COPYRIGHT_HOLDER("COPYRIGHT", "^COPYRIGHT HOLDER[ ]*((=.*)|$)"),
+		DEBUG("DEBUG", "^DEBUG[ ]*((=.*)|$)"),
+		VERSION("VERSION", "^VERSION[ ]*((=.*)|$)"),
+		BRAND("BRAND", "^BRAND[ ]*((=.*)|$)"),
+		BUG_LINKS(new String[] {"BUG", "BUGLINKS"}, "^BUG[ ]*LINKS[ ]*((=.*)|$)", false),
+		BZPRODUCT("BZPRODUCT", "^BZPRODUCT[ ]*((=.*)|$)"),
+		BZCOMPONENT("BZCOMPONENT", "^BZCOMPONENT[ ]*((=.*)|$)"),
+		BZVERSION("BZVERSION", "^BZVERSION[ ]*((=.*)|$)"),
+		SURVEY_LINKS(new String[] {"SURVEY", "SURVEYLINKS"}, "^SURVEY[ ]*LINKS[ ]*((=.*)|$)", false),
+		TRANSLATION_LOCALE("TRANSLATION", "^TRANSLATION LOCALE[ ]*((=.*)|$)"),
+		TYPE("TYPE", "^TYPE[ ]*((=.*)|$)"),
+		OUTPUT_STYLE("OUTPUT", "^OUTPUT STYLE[ ]*((=.*)|$)"),
+		PUBLICAN_CFG("PUBLICAN.CFG", "^PUBLICAN\\.CFG[ ]*((=.*)|$)"),
+		INLINE_INJECTION("INLINE", "^INLINE INJECTION[ ]*((=.*)|$)"),
+		SPACES("SPACES", "^SPACES[ ]*((=.*)|$)"),
+		CHAPTER(new String[] {"CHAPTER"}, "^CHAPTER[ ]*((:.*)|$)", true),
+		SECTION(new String[] {"SECTION"}, "^SECTION[ ]*((:.*)|$)", true),
+		APPENDIX(new String[] {"APPENDIX"}, "^APPENDIX[ ]*((:.*)|$)", true),
+		PART(new String[] {"PART"}, "^PART[ ]*((:.*)|$)", true),
+		PROCESS(new String[] {"PROCESS"}, "^PROCESS[ ]*((:.*)|$)", true),
+		ARTICLE(new String[] {"ARTICLE"}, "^ARTICLE[ ]*((:.*)|$)", true),
+		EXTERNAL_LEVEL("CS", "^CS[ ]*:.*"),
+		DTD("DTD", "^DTD[ ]*((=.*)|$)");
+
+		private final String[] firstTokens;
+		private final Pattern pattern;
+		private final boolean level;
+
+		private LineKeyword(final String firstToken, final String regex)
+		{
+			this(new String[] {firstToken}, regex, false);
+		}
+
+		private LineKeyword(final String[] firstTokens, final String regex, final boolean level)
+		{
+			this.firstTokens = firstTokens;
+			this.pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+			this.level = level;
+		}
+
+		/**
+		 * @return True if the keyword starts a new level (eg Chapter, Section, etc...)
+		 */
+		public boolean isLevel()
+		{
+			return level;
+		}
+
+		/**
+		 * Checks if a trimmed line of input matches the keyword.
+		 *
+		 * @param input The trimmed line of input.
+		 * @return True if the whole line matches the keywords pattern, otherwise false.
+		 */
+		public boolean matches(final String input)
+		{
+			return pattern.matcher(input).matches();
+		}
+	}
+
+	/**
+	 * A lookup of the uppercase first token of a line to the keyword that the line may be. Each first token maps to a
+	 * single keyword, so at most one pattern has to be checked for each line.
+	 */
+	private static final HashMap<String, LineKeyword> LINE_KEYWORDS = new HashMap<String, LineKeyword>();
+	static
+	{
+		for (final LineKeyword keyword : LineKeyword.values())
+		{
+			for (final String firstToken : keyword.firstTokens)
+			{
+				LINE_KEYWORDS.put(firstToken, keyword);
+			}
+		}
+	}
+
 	private final ErrorLogger log;
 	private final ErrorLoggerManager elm;
 	private final RESTManager restManager;
@@ -80,7 +171,7 @@ public class ContentSpecParser
 	private Level lvl = null;
 	private int lineCounter = 0;
 	private boolean error = false;
-	private LinkedList<String> lines = new LinkedList<String>();
+	private LookaheadLineReader lines = null;
 	private boolean processProcesses;
 	
 	/**
@@ -166,6 +257,24 @@ public class ContentSpecParser
 	 * @throws Exception Any unexpected exception that occurred when parsing.
 	 */
 	public boolean parse(final String contentSpec, final RESTUserV1 user, final ParsingMode mode, final boolean processProcesses) throws Exception
+	{
+		return parse(new StringReader(contentSpec), user, mode, processProcesses);
+	}
+	
+	/**
+	 * Parse a Content Specification as it is read from a Reader. The Content Specification is processed one line at a time,
+	 * so the Reader doesn't need to be read in full before parsing starts.
+	 * 
+	 * Note: Relationships in Processes won't be added as they require access to a TopicIndex REST Interface.
+	 * 
+	 * @param contentSpec A Reader that supplies the Content Specification.
+	 * @param user The user who requested the parse.
+	 * @param mode The mode in which the Content Specification should be parsed.
+	 * @param processProcesses If processes should be processed to populate the relationships.
+	 * @return True if everything was parsed successfully otherwise false.
+	 * @throws Exception Any unexpected exception that occurred when parsing, including any error reading from the Reader.
+	 */
+	public boolean parse(final Reader contentSpec, final RESTUserV1 user, final ParsingMode mode, final boolean processProcesses) throws Exception
 	{
 		// Reset the variables
 		spaces = 2;
@@ -177,14 +286,20 @@ public class ContentSpecParser
 		targetTopics = new HashMap<String, SpecTopic>();
 		relationships = new HashMap<String, List<Relationship>>();
 		processes = new ArrayList<Process>();
-		lines = new LinkedList<String>();
 		lvl = null;
 		lineCounter = 0;
 		error = false;
 		this.processProcesses = processProcesses;
 		
-		final BufferedReader br = new BufferedReader(new StringReader(contentSpec));
-		return readFileData(br, user, mode);
+		final BufferedReader br = new BufferedReader(contentSpec);
+		final boolean result = readFileData(br, user, mode);
+		
+		// Any errors reading the content spec will have been treated as the end of the spec, so make sure they aren't lost
+		if (lines.getIOException() != null)
+		{
+			throw lines.getIOException();
+		}
+		return result;
 	}
 	
 	/**
@@ -317,12 +432,8 @@ public class ContentSpecParser
 	@SuppressWarnings("deprecation")
 	protected boolean readFileData(final BufferedReader br, final RESTUserV1 user, final ParsingMode mode) throws Exception
 	{
-		// Read in the entire file so we can peek ahead later on
-		String line = null;
-		while ((line = br.readLine()) != null)
-		{
-			lines.add(line);
-		}
+		// Read the file a line at a time, while still being able to peek ahead later on
+		lines = new LookaheadLineReader(br);
 		
 		boolean editing = false;
 		while (lines.peek() != null)
@@ -547,6 +658,36 @@ public class ContentSpecParser
 		return !error;
 	}
 	
+	/**
+	 * Finds the keyword that a line of the content specification starts with. The first token of the line (ie the
+	 * letters, digits and periods before any whitespace, '=' or ':' character) is used to look up the only keyword the line
+	 * could be, and then the line is checked against that keywords precompiled pattern.
+	 *
+	 * @param input The trimmed line of input.
+	 * @return The keyword for the line, or null if the line doesn't start with a keyword.
+	 */
+	private static LineKeyword getLineKeyword(final String input)
+	{
+		int tokenEnd = 0;
+		while (tokenEnd < input.length())
+		{
+			final char c = input.charAt(tokenEnd);
+			if (Character.isLetterOrDigit(c) || c == '.')
+			{
+				tokenEnd++;
+			}
+			else
+			{
+				break;
+			}
+		}
+
+		if (tokenEnd == 0) return null;
+
+		final LineKeyword keyword = LINE_KEYWORDS.get(input.substring(0, tokenEnd).toUpperCase());
+		return keyword != null && keyword.matches(input) ? keyword : null;
+	}
+
 	/**
 	 * Processes a line of the content specification and stores it in objects
 	 * 
@@ -621,17 +762,18 @@ public class ContentSpecParser
 		}
 		
 		// Process the input depending on what is parsed
-		if (input.toUpperCase().matches("^SPECREVISION[ ]*((=.*)|$)"))
+		final LineKeyword keyword = getLineKeyword(input);
+		if (keyword == LineKeyword.SPEC_REVISION)
 		{
 			log.error(String.format(ProcessorConstants.ERROR_CS_INVALID_SPEC_REVISION_MSG, lineCounter));
 			return false;
 		}
-		else if (input.toUpperCase().matches("^CHECKSUM[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.CHECKSUM)
 		{
 			log.error(String.format(ProcessorConstants.ERROR_CS_INVALID_CHECKSUM_MSG, lineCounter));
 			return false;
 		}
-		else if (input.toUpperCase().matches("^SUBTITLE[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.SUBTITLE)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -646,7 +788,7 @@ public class ContentSpecParser
 				return false;
 			}			
 		}
-		else if (input.toUpperCase().matches("^EDITION[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.EDITION)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -670,7 +812,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^BOOK VERSION[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.BOOK_VERSION)
         {
             String tempInput[] = StringUtilities.split(input, '=');
             // Remove the whitespace from each value in the split array
@@ -694,7 +836,7 @@ public class ContentSpecParser
                 return false;
             }
         }
-		else if (input.toUpperCase().matches("^PUBSNUMBER[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.PUBSNUMBER)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -717,7 +859,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^PRODUCT[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.PRODUCT)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -732,7 +874,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^(DESCRIPTION|ABSTRACT)[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.ABSTRACT)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -747,7 +889,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^COPYRIGHT HOLDER[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.COPYRIGHT_HOLDER)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -762,7 +904,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^DEBUG[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.DEBUG)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			tempInput = CollectionUtilities.trimStringArray(tempInput);
@@ -782,7 +924,7 @@ public class ContentSpecParser
 				}
 			} 
 		}
-		else if (input.toUpperCase().matches("^VERSION[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.VERSION)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -806,7 +948,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^BRAND[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.BRAND)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -821,7 +963,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^BUG[ ]*LINKS[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.BUG_LINKS)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -844,7 +986,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^BZPRODUCT[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.BZPRODUCT)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -859,7 +1001,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^BZCOMPONENT[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.BZCOMPONENT)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -874,7 +1016,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^BZVERSION[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.BZVERSION)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -889,7 +1031,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^SURVEY[ ]*LINKS[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.SURVEY_LINKS)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -912,7 +1054,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^TRANSLATION LOCALE[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.TRANSLATION_LOCALE)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -927,7 +1069,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^TYPE[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.TYPE)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -951,7 +1093,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^OUTPUT STYLE[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.OUTPUT_STYLE)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -1004,7 +1146,7 @@ public class ContentSpecParser
 				return false;
 			}*/
 		}
-		else if (input.toUpperCase().matches("^PUBLICAN\\.CFG[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.PUBLICAN_CFG)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -1065,7 +1207,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^INLINE INJECTION[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.INLINE_INJECTION)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -1127,7 +1269,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toLowerCase().matches("^spaces[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.SPACES)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -1152,8 +1294,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^CHAPTER[ ]*((:.*)|$)") || input.toUpperCase().matches("^SECTION[ ]*((:.*)|$)") || input.toUpperCase().matches("^APPENDIX[ ]*((:.*)|$)") 
-				|| input.toUpperCase().matches("^PART[ ]*((:.*)|$)") || input.toUpperCase().matches("^PROCESS[ ]*((:.*)|$)")  || input.toUpperCase().matches("^ARTICLE[ ]*((:.*)|$)"))
+		else if (keyword != null && keyword.isLevel())
 		{
 			String tempInput[] = StringUtilities.split(input, ':', 2);
 			// Remove the whitespace from each value in the split array
@@ -1269,7 +1410,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^CS[ ]*:.*"))
+		else if (keyword == LineKeyword.EXTERNAL_LEVEL)
 		{
 			String splitVars[] = StringUtilities.split(input, ':', 2);
 			// Remove the whitespace from each value in the split array
@@ -1289,7 +1430,7 @@ public class ContentSpecParser
 				return false;
 			}
 		}
-		else if (input.toUpperCase().matches("^DTD[ ]*((=.*)|$)"))
+		else if (keyword == LineKeyword.DTD)
 		{
 			String tempInput[] = StringUtilities.split(input, '=');
 			// Remove the whitespace from each value in the split array
@@ -1832,10 +1973,67 @@ public class ContentSpecParser
 		return getLineVariables(input, startDelim, endDelim, separator, ignoreTypes, false);
 	}
 	
+	/**
+	 * Reads in any lines that continue on from a line of input. The next line is a continuation if the variables in the input
+	 * haven't been closed, if the input ends with a separator, or if the next line starts a new relationship.
+	 * 
+	 * @param line The line of input that may be continued on the following lines.
+	 * @param startDelim The starting delimiter of the variables.
+	 * @param endDelim The ending delimiter of the variables.
+	 * @param separator The separator used to separate the variables.
+	 * @return The line of input with any continuation lines appended, separated by new line characters.
+	 */
+	protected String readContinuationLines(final String line, final char startDelim, final char endDelim, final char separator)
+	{
+		final Pattern relationshipLinePattern = Pattern.compile("^\\" + startDelim + "[ ]*(R|L|P|T|B).*");
+		final StringBuilder input = new StringBuilder(line);
+		
+		while (true)
+		{
+			final String currentInput = input.toString();
+			final int lastStartDelimPos = StringUtilities.lastIndexOf(currentInput, startDelim);
+			final int lastEndDelimPos = StringUtilities.lastIndexOf(currentInput, endDelim);
+			final String nextLine = lines.peek();
+			
+			/*
+			 * Check to see if the line doesn't match the regex even once. Also check to see if the next 
+			 * line is a continuation of the current line. If not then the line is complete.
+			 */
+			if (!(lastEndDelimPos < lastStartDelimPos || (nextLine != null && relationshipLinePattern.matcher(nextLine.trim().toUpperCase()).matches())
+					|| endsWithUnescapedChar(currentInput.trim(), separator)))
+			{
+				break;
+			}
+			
+			// Read in a new line and increment relevant counters
+			final String temp = lines.poll();
+			if (temp == null) break;
+			
+			lineCounter++;
+			spec.appendPreProcessedLine(temp);
+			input.append("\n").append(temp);
+		}
+		
+		return input.toString();
+	}
+	
+	/**
+	 * Checks if a string ends with a character that hasn't been escaped with a backslash.
+	 * 
+	 * @param input The string to be checked.
+	 * @param c The character to check for.
+	 * @return True if the last character of the string is the character and it isn't escaped, otherwise false.
+	 */
+	private static boolean endsWithUnescapedChar(final String input, final char c)
+	{
+		final int length = input.length();
+		return length > 0 && input.charAt(length - 1) == c && (length == 1 || input.charAt(length - 2) != '\\');
+	}
+	
 	/**
 	 * Gets the variables from a string. The variables are inside of the starting and ending delimiter and are separated by the separator.
 	 * 
-	 * @param input The line of input to get the variables for.
+	 * @param line The line of input to get the variables for.
 	 * @param startDelim The starting delimiter of the variables.
 	 * @param endDelim The ending delimiter of the variables.
 	 * @param separator The separator used to separate the variables.
@@ -1844,36 +2042,15 @@ public class ContentSpecParser
 	 * @return A Map of String arrays for different relationship. Inside each string array is the singular variables.
 	 * @throws ParsingException Thrown if the line can't be successfully parsed.
 	 */
-	public HashMap<RelationshipType, String[]> getLineVariables(final String input, final char startDelim, final char endDelim, final char separator, final boolean ignoreTypes, final boolean groupTypes) throws ParsingException
+	public HashMap<RelationshipType, String[]> getLineVariables(final String line, final char startDelim, final char endDelim, final char separator, final boolean ignoreTypes, final boolean groupTypes) throws ParsingException
 	{
 		final HashMap<RelationshipType, String[]> output = new HashMap<RelationshipType, String[]>();
-
-		final int lastStartDelimPos = StringUtilities.lastIndexOf(input, startDelim);
-		final int lastEndDelimPos = StringUtilities.lastIndexOf(input, endDelim);
 		
 		// Check that we have variables to process
-		if (lastStartDelimPos == -1) return output;
+		if (StringUtilities.lastIndexOf(line, startDelim) == -1) return output;
 		
-		String temp = "";
-		int initialCount = lineCounter;
-		final String nextLine = lines.peek();
-		
-		/*
-		 * Check to see if the line doesn't match the regex even once. Also check to see if the next 
-		 * line is a continuation of the current line. If so then attempt to read the next line.
-		 */
-		if (lastEndDelimPos < lastStartDelimPos || (nextLine != null && nextLine.trim().toUpperCase().matches("^\\" + startDelim + "[ ]*(R|L|P|T|B).*")) || input.trim().matches("(.|\n|\r\n)*(?<!\\\\)" + separator + "$"))
-		{
-			// Read in a new line and increment relevant counters
-			temp = lines.poll();
-			if (temp != null)
-			{
-				lineCounter++;
-				spec.appendPreProcessedLine(temp);
-				
-				return getLineVariables(input + "\n" + temp, startDelim, endDelim, separator, ignoreTypes, groupTypes);
-			}
-		}
+		final String input = readContinuationLines(line, startDelim, endDelim, separator);
+		final int initialCount = lineCounter;
 		
 		/* Get the variables from the line */
 		final List<VariableSet> varSets = findVariableSets(input, startDelim, endDelim);
@@ -2190,11 +2367,55 @@ public class ContentSpecParser
 		return input == null || input.equals("") ? null : StringUtilities.split(input, startDelim)[0].trim();
 	}
 	
+	/**
+	 * Builds an index of the spec topics that have a line number prefixed unique id (ie "<line>-<id>"), using the id
+	 * that was specified in the content specification as the key.
+	 * 
+	 * @return A mapping of the specified topic ids to the spec topics that use them.
+	 */
+	protected HashMap<String, List<SpecTopic>> getSpecTopicsBySpecifiedId()
+	{
+		final HashMap<String, List<SpecTopic>> specTopicsById = new HashMap<String, List<SpecTopic>>();
+		for (final String specTopicId: specTopics.keySet())
+		{
+			final int dashPos = StringUtilities.indexOf(specTopicId, '-');
+			if (dashPos <= 0 || !isDigits(specTopicId, dashPos)) continue;
+
+			final String id = specTopicId.substring(dashPos + 1);
+			if (!specTopicsById.containsKey(id))
+			{
+				specTopicsById.put(id, new ArrayList<SpecTopic>());
+			}
+			specTopicsById.get(id).add(specTopics.get(specTopicId));
+		}
+		return specTopicsById;
+	}
+
+	/**
+	 * Checks that the start of a string only contains digits.
+	 * 
+	 * @param input The string to be checked.
+	 * @param length The number of characters to check.
+	 * @return True if the first length characters are all digits, otherwise false.
+	 */
+	private static boolean isDigits(final String input, final int length)
+	{
+		for (int i = 0; i < length; i++)
+		{
+			final char c = input.charAt(i);
+			if (c < '0' || c > '9') return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Process the relationships without logging any errors.
 	 */
 	protected void processRelationships()
 	{
+		// Index the duplicated topics once, so that related topics can be looked up instead of searching every spec topic
+		final HashMap<String, List<SpecTopic>> specTopicsById = getSpecTopicsBySpecifiedId();
+
 		for(final String topicId: relationships.keySet())
 		{
 		    final SpecTopic specTopic = specTopics.get(topicId);
@@ -2228,18 +2449,10 @@ public class ContentSpecParser
 						// The relationship isn't a unique new topic so it will contain the line number in front of the topic ID
 						if (!relatedId.startsWith("X"))
 						{
-							int count = 0;
-							SpecTopic relatedTopic = null;
-							
 							// Get the related topic and count if more then one is found
-							for (final String specTopicId: specTopics.keySet())
-							{
-								if (specTopicId.matches("^[0-9]+-" + relatedId + "$"))
-								{
-									relatedTopic = specTopics.get(specTopicId);
-									count++;
-								}
-							}
+							final List<SpecTopic> relatedTopics = specTopicsById.get(relatedId);
+							final int count = relatedTopics == null ? 0 : relatedTopics.size();
+							final SpecTopic relatedTopic = count == 0 ? null : relatedTopics.get(count - 1);
 							
 							/* 
 							 * Add the relationship to the topic even if the relationship isn't duplicated
@@ -2271,16 +2484,8 @@ public class ContentSpecParser
 						    final SpecTopic relatedSpecTopic = specTopics.get(relatedId);
 						    
 							// Check that a duplicate doesn't exist, because if it does the new topic isn't unique
-							String duplicatedId = "X" + relatedId.substring(1);
-							boolean duplicateExists = false;
-							for (String specTopicId: specTopics.keySet())
-							{
-								if (specTopicId.matches("^[0-9]+-" + duplicatedId + "$"))
-								{
-									duplicateExists = true;
-									break;
-								}
-							}
+							final String duplicatedId = "X" + relatedId.substring(1);
+							final boolean duplicateExists = specTopicsById.containsKey(duplicatedId);
 							
 							if (relatedSpecTopic != specTopic)
 							{
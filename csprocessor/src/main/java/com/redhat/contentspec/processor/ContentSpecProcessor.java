@@ -4,7 +4,10 @@ import static org.jboss.pressgang.ccms.rest.v1.collections.base.RESTBaseCollecti
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,6 +42,8 @@ import org.jboss.pressgang.ccms.utils.structures.Pair;
 import com.redhat.contentspec.processor.constants.ProcessorConstants;
 import com.redhat.contentspec.processor.exceptions.ProcessingException;
 import com.redhat.contentspec.processor.structures.ProcessingOptions;
+import com.redhat.contentspec.processor.structures.TagCatalogue;
+import com.redhat.contentspec.processor.structures.TopicRepository;
 import com.redhat.contentspec.processor.utils.ProcessorUtilities;
 
 /**
@@ -64,6 +69,8 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 	private final ContentSpecParser csp;
 	private ContentSpecValidator validator;
 	private final TopicPool topics;
+	private final TagCatalogue tagCatalogue;
+	private final TopicRepository topicRepository;
 	private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
 	private final AtomicBoolean shutdown = new AtomicBoolean(false);
 	
@@ -75,6 +82,21 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 	 * @param processingOptions The set of options to use when processing.
 	 */
 	public ContentSpecProcessor(final RESTManager restManager, final ErrorLoggerManager elm, final ProcessingOptions processingOptions)
+	{
+		this(restManager, elm, processingOptions, new TagCatalogue(restManager), new TopicRepository(restManager));
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param restManager A DBManager object that manages the REST connection and the functions to read/write to the REST Interface.
+	 * @param elm An Error Logger Manager that will be used to store all the log messages in case they need to be accessed at a later stage.
+	 * @param processingOptions The set of options to use when processing.
+	 * @param tagCatalogue The catalogue of tags, types and categories to use, which can be shared with other processors.
+	 * @param topicRepository The repository of downloaded topics to use, which can be shared with other processors.
+	 */
+	public ContentSpecProcessor(final RESTManager restManager, final ErrorLoggerManager elm, final ProcessingOptions processingOptions,
+			final TagCatalogue tagCatalogue, final TopicRepository topicRepository)
 	{
 		reader = restManager.getReader();
 		writer = restManager.getWriter();
@@ -83,6 +105,8 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 		this.dbManager = restManager;
 		this.csp = new ContentSpecParser(elm, restManager);
 		this.topics = new TopicPool(restManager.getRESTClient());
+		this.tagCatalogue = tagCatalogue;
+		this.topicRepository = topicRepository;
 		this.processingOptions = processingOptions;
 	}
 	
@@ -106,6 +130,27 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 		return csp.getSpecTopics();
 	}
 	
+	/**
+	 * Gets the tags, types and categories that were looked up while processing the content specification.
+	 * 
+	 * @return The catalogue of tags, types and categories.
+	 */
+	public TagCatalogue getTagCatalogue()
+	{
+		return tagCatalogue;
+	}
+	
+	/**
+	 * Gets the topics that were downloaded while processing the content specification, so that they can be reused
+	 * without downloading them again.
+	 * 
+	 * @return The repository of downloaded topics.
+	 */
+	public TopicRepository getTopicRepository()
+	{
+		return topicRepository;
+	}
+	
 	/**
 	 * Process a content specification so that it is parsed, validated and saved.
 	 * 
@@ -180,7 +225,8 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 		}
 		
 		// Validate the relationships
-		validator = new ContentSpecValidator<RESTTopicV1>(RESTTopicV1.class, elm, dbManager, processingOptions);
+		validator = new ContentSpecValidator<RESTTopicV1>(RESTTopicV1.class, elm, dbManager, processingOptions, tagCatalogue,
+				topicRepository);
 		
 		if (!validator.validateRelationships(csp.getProcessedRelationships(), csp.getSpecTopics(), csp.getTargetLevels(), csp.getTargetTopics()))
 		{
@@ -196,7 +242,15 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 		}
 		
 		// Download all of the latest and/or revision topics
-		downloadAllTopics();
+		try
+		{
+			downloadAllTopics();
+		}
+		catch (ProcessingException e)
+		{
+			log.error(String.format("%s\n%7s%s", ProcessorConstants.ERROR_PROCESSING_ERROR_MSG, "", e.getMessage()));
+			return false;
+		}
 		
 		// Check if the app should be shutdown
 		if (isShuttingDown.get())
@@ -244,8 +298,10 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 	/**
 	 * Download all the topics that are to be used during processing from the
 	 * parsed Content Specification.
+	 *
+	 * @throws ProcessingException Thrown if the topics couldn't be downloaded.
 	 */
-	protected void downloadAllTopics()
+	protected void downloadAllTopics() throws ProcessingException
 	{
 	    /* If we are updating the revisions and no processing revision is passed then
 	     * we can just get the latest version for all of the topics. Other wise we need to
@@ -256,7 +312,7 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 	        // Download the list of topics in one go to reduce I/O overhead
             LOG.info("Attempting to download all the latest topics...");
             final List<Integer> topicIds = csp.getReferencedTopicIds();
-            reader.getTopicsByIds(topicIds, csp.getContentSpec().getLocale() != null && !csp.getContentSpec().getLocale().equals(CommonConstants.DEFAULT_LOCALE));
+            topicRepository.fetchTopics(topicIds, csp.getContentSpec().getLocale() != null && !csp.getContentSpec().getLocale().equals(CommonConstants.DEFAULT_LOCALE));
         }
 	    else
 	    {
@@ -268,7 +324,7 @@ public class ContentSpecProcessor implements ShutdownAbleApp
             {
                 // Download the list of topics in one go to reduce I/O overhead
                 LOG.info("Attempting to download all the latest topics...");
-                reader.getTopicsByIds(topicIds, csp.getContentSpec().getLocale() != null && !csp.getContentSpec().getLocale().equals(CommonConstants.DEFAULT_LOCALE));
+                topicRepository.fetchTopics(topicIds, csp.getContentSpec().getLocale() != null && !csp.getContentSpec().getLocale().equals(CommonConstants.DEFAULT_LOCALE));
             }
             else if (!topicIds.isEmpty())
             {
@@ -287,40 +343,62 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 	}
 	
 	/**
-	 * Download the Topics from the REST API that specify a revision.
+	 * Download the Topics from the REST API that specify a revision. The REST API doesn't offer a way to download multiple
+	 * topic revisions in one request, so the revisions are downloaded using the number of threads from the processing options.
+	 * The topics are added to the topic repository, which is where the validator and the builder look them up.
 	 * 
 	 * @param referencedRevisionTopicIds The Set of topic ids and revision to download.
+	 * @throws ProcessingException Thrown if the topics couldn't be downloaded.
 	 */
-	protected void downloadRevisionTopics(final List<Pair<Integer, Integer>> referencedRevisionTopicIds)
+	protected void downloadRevisionTopics(final List<Pair<Integer, Integer>> referencedRevisionTopicIds) throws ProcessingException
 	{
 	    LOG.info("Attempting to download all the revision topics...");
 
         final int showPercent = 5;
         final float total = referencedRevisionTopicIds.size();
-        float current = 0;
-        int lastPercent = 0;
+        final AtomicInteger current = new AtomicInteger(0);
 
         final boolean expandTranslations = csp.getContentSpec().getLocale() != null && !csp.getContentSpec().getLocale().equals(CommonConstants.DEFAULT_LOCALE);
         
+        final List<Callable<RESTTopicV1>> tasks = new ArrayList<Callable<RESTTopicV1>>();
         for (final Pair<Integer, Integer> topicToRevision : referencedRevisionTopicIds)
         {
             // If we want to update the revisions then we should get the latest topic and not the revision
-            if (processingOptions.isUpdateRevisions())
-            {
-                reader.getTopicById(topicToRevision.getFirst(), processingOptions.getRevision(), expandTranslations);
-            }
-            else
+            final Integer revision = processingOptions.isUpdateRevisions() ? processingOptions.getRevision() : topicToRevision.getSecond();
+            tasks.add(new Callable<RESTTopicV1>()
             {
-                reader.getTopicById(topicToRevision.getFirst(), topicToRevision.getSecond(), expandTranslations);
-            }
+                @Override
+                public RESTTopicV1 call()
+                {
+                    final RESTTopicV1 topic = topicRepository.fetchTopic(topicToRevision.getFirst(), revision, expandTranslations);
 
-            ++current;
-            final int percent = Math.round(current / total * 100);
-            if (percent - lastPercent >= showPercent)
-            {
-                lastPercent = percent;
-                LOG.info("\tDownloading revision topics " + percent + "% Done");
-            }
+                    final int count = current.incrementAndGet();
+                    final int percent = Math.round(count / total * 100);
+                    final int lastPercent = Math.round((count - 1) / total * 100);
+                    if (percent / showPercent != lastPercent / showPercent)
+                    {
+                        LOG.info("\tDownloading revision topics " + percent + "% Done");
+                    }
+
+                    return topic;
+                }
+            });
+        }
+        
+        try
+        {
+            ProcessorUtilities.invokeAll(tasks, processingOptions.getThreadCount());
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Interrupted while downloading the revision topics.");
+        }
+        catch (ExecutionException e)
+        {
+            ProcessorUtilities.rethrowUncheckedCause(e);
+            LOG.debug(ExceptionUtilities.getStackTrace(e));
+            throw new ProcessingException("Failed to download the revision topics.");
         }
 	}
 	
@@ -360,7 +438,7 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 				topic.explicitSetXml("");
 				
 				// Write the type
-				final RESTTagV1 type = reader.getTypeByName(specTopic.getType());
+				final RESTTagV1 type = tagCatalogue.getTypeByName(specTopic.getType());
 				if (type == null)
 				{
 					log.error(String.format(ProcessorConstants.ERROR_TYPE_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
@@ -490,7 +568,7 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 			if (!specTopic.isTopicAnExistingTopic())
 			{
 				// Set the assigned writer (Tag Table)
-				final List<RESTTagV1> assignedWriterTags = reader.getTagsByName(specTopic.getAssignedWriter(true));
+				final List<RESTTagV1> assignedWriterTags = tagCatalogue.getTagsByName(specTopic.getAssignedWriter(true));
 				if (assignedWriterTags.size() != 1)
 				{
 					log.error(String.format(ProcessorConstants.ERROR_WRITER_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
@@ -512,7 +590,7 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 			final List<RESTTagV1> tags = new ArrayList<RESTTagV1>();
 			for (final String tagName: tagNames)
 			{
-				final List<RESTTagV1> tagList = reader.getTagsByName(tagName);
+				final List<RESTTagV1> tagList = tagCatalogue.getTagsByName(tagName);
 				if (tagList.size() == 1)
 				{
 					tags.add(tagList.get(0));
@@ -565,7 +643,7 @@ public class ContentSpecProcessor implements ShutdownAbleApp
 				final List<RESTTagV1> removeTags = new ArrayList<RESTTagV1>();
 				for (final String tagName: tagNames)
 				{
-					final List<RESTTagV1> tagList = reader.getTagsByName(tagName);
+					final List<RESTTagV1> tagList = tagCatalogue.getTagsByName(tagName);
 					if (tagList.size() == 1) {
 						tags.add(tagList.get(0));
 					}
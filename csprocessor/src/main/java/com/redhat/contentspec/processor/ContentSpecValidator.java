@@ -2,11 +2,14 @@ package com.redhat.contentspec.processor;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.pressgang.ccms.contentspec.Appendix;
@@ -23,7 +26,6 @@ import org.jboss.pressgang.ccms.contentspec.enums.LevelType;
 import org.jboss.pressgang.ccms.contentspec.enums.RelationshipType;
 import org.jboss.pressgang.ccms.contentspec.interfaces.ShutdownAbleApp;
 import org.jboss.pressgang.ccms.contentspec.rest.RESTManager;
-import org.jboss.pressgang.ccms.contentspec.rest.RESTReader;
 import org.jboss.pressgang.ccms.contentspec.utils.logging.ErrorLogger;
 import org.jboss.pressgang.ccms.contentspec.utils.logging.ErrorLoggerManager;
 import org.jboss.pressgang.ccms.rest.v1.components.ComponentBaseTopicV1;
@@ -37,9 +39,12 @@ import org.jboss.pressgang.ccms.rest.v1.entities.join.RESTCategoryInTagV1;
 import org.jboss.pressgang.ccms.utils.common.DocBookUtilities;
 import org.jboss.pressgang.ccms.utils.common.HashUtilities;
 import org.jboss.pressgang.ccms.utils.constants.CommonConstants;
+import org.jboss.pressgang.ccms.utils.structures.Pair;
 
 import com.redhat.contentspec.processor.constants.ProcessorConstants;
 import com.redhat.contentspec.processor.structures.ProcessingOptions;
+import com.redhat.contentspec.processor.structures.TagCatalogue;
+import com.redhat.contentspec.processor.structures.TopicRepository;
 import com.redhat.contentspec.processor.utils.ProcessorUtilities;
 
 /**
@@ -53,7 +58,9 @@ import com.redhat.contentspec.processor.utils.ProcessorUtilities;
  */
 public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements ShutdownAbleApp
 {
-	private final RESTReader reader;
+	private final RESTManager restManager;
+	private final TagCatalogue tagCatalogue;
+	private final TopicRepository topicRepository;
 	private final ErrorLogger log;
 	private final ProcessingOptions processingOptions;
 	private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
@@ -62,6 +69,29 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 
 	private String locale;
 
+	/**
+	 * The log messages for the spec topic that the current thread is validating, if the messages are being buffered. The
+	 * first value of each pair is true for an error, or false for a warning.
+	 */
+	private final ThreadLocal<List<Pair<Boolean, String>>> bufferedLogMessages = new ThreadLocal<List<Pair<Boolean, String>>>();
+	/** The results of spec topics that were validated concurrently, ahead of the level they belong to. */
+	private Map<SpecTopic, TopicValidationResult> concurrentTopicResults = null;
+
+	/**
+	 * The result of validating a spec topic on another thread, along with the log messages that were produced.
+	 */
+	private static class TopicValidationResult
+	{
+		private final boolean valid;
+		private final List<Pair<Boolean, String>> logMessages;
+
+		private TopicValidationResult(final boolean valid, final List<Pair<Boolean, String>> logMessages)
+		{
+			this.valid = valid;
+			this.logMessages = logMessages;
+		}
+	}
+
 	@Override
 	public void shutdown()
 	{
@@ -84,10 +114,43 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 	 */
 	public ContentSpecValidator(final Class<T> clazz, final ErrorLoggerManager elm, final RESTManager restManager,
 			final ProcessingOptions processingOptions)
+	{
+		this(clazz, elm, restManager, processingOptions, new TagCatalogue(restManager));
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param clazz The Topic class that the validator should validate against.
+	 * @param elm An Error Logger Manager that is used to capture log messages.
+	 * @param restManager The manager that hands the rest communication.
+	 * @param processingOptions The set of processing options to be used when validating.
+	 * @param tagCatalogue The catalogue to use when looking up tags, types and categories.
+	 */
+	public ContentSpecValidator(final Class<T> clazz, final ErrorLoggerManager elm, final RESTManager restManager,
+			final ProcessingOptions processingOptions, final TagCatalogue tagCatalogue)
+	{
+		this(clazz, elm, restManager, processingOptions, tagCatalogue, new TopicRepository(restManager));
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param clazz The Topic class that the validator should validate against.
+	 * @param elm An Error Logger Manager that is used to capture log messages.
+	 * @param restManager The manager that hands the rest communication.
+	 * @param processingOptions The set of processing options to be used when validating.
+	 * @param tagCatalogue The catalogue to use when looking up tags, types and categories.
+	 * @param topicRepository The repository to look up existing topics in, which may already hold the downloaded topics.
+	 */
+	public ContentSpecValidator(final Class<T> clazz, final ErrorLoggerManager elm, final RESTManager restManager,
+			final ProcessingOptions processingOptions, final TagCatalogue tagCatalogue, final TopicRepository topicRepository)
 	{
 		this.clazz = clazz;
 		log = elm.getLogger(ContentSpecValidator.class);
-		reader = restManager.getReader();
+		this.restManager = restManager;
+		this.tagCatalogue = tagCatalogue;
+		this.topicRepository = topicRepository;
 		this.processingOptions = processingOptions;
 		this.locale = CommonConstants.DEFAULT_LOCALE;
 	}
@@ -114,66 +177,66 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 		boolean valid = true;
 		if (contentSpec.getTitle() == null || contentSpec.getTitle().equals(""))
 		{
-			log.error(ProcessorConstants.ERROR_CS_NO_TITLE_MSG);
+			logError(ProcessorConstants.ERROR_CS_NO_TITLE_MSG);
 			valid = false;
 		}
 
 		if (contentSpec.getProduct() == null || contentSpec.getProduct().equals(""))
 		{
-			log.error(ProcessorConstants.ERROR_CS_NO_PRODUCT_MSG);
+			logError(ProcessorConstants.ERROR_CS_NO_PRODUCT_MSG);
 			valid = false;
 		}
 
 		if (contentSpec.getVersion() == null || contentSpec.getVersion().equals(""))
 		{
-			log.error(ProcessorConstants.ERROR_CS_NO_VERSION_MSG);
+			logError(ProcessorConstants.ERROR_CS_NO_VERSION_MSG);
 			valid = false;
 		}
 
 		if (contentSpec.getPreProcessedText().isEmpty())
 		{
-			log.error(ProcessorConstants.ERROR_PROCESSING_ERROR_MSG);
+			logError(ProcessorConstants.ERROR_PROCESSING_ERROR_MSG);
 			valid = false;
 		}
 
 		if (contentSpec.getDtd() == null || contentSpec.getDtd().equals(""))
 		{
-			log.error(ProcessorConstants.ERROR_CS_NO_DTD_MSG);
+			logError(ProcessorConstants.ERROR_CS_NO_DTD_MSG);
 			valid = false;
 		// Check that the DTD specified is a valid DTD format
 		}
 		else if (!contentSpec.getDtd().toLowerCase().equals("docbook 4.5"))
 		{
-			log.error(ProcessorConstants.ERROR_CS_INVALID_DTD_MSG);
+			logError(ProcessorConstants.ERROR_CS_INVALID_DTD_MSG);
 			valid = false;
 		}
 
 		if (contentSpec.getCreatedBy() == null)
 		{
-			log.error(ProcessorConstants.ERROR_PROCESSING_ERROR_MSG);
+			logError(ProcessorConstants.ERROR_PROCESSING_ERROR_MSG);
 			valid = false;
 		}
 
 		if (contentSpec.getCopyrightHolder() == null || contentSpec.getCopyrightHolder().equals(""))
 		{
-			log.error(ProcessorConstants.ERROR_CS_NO_COPYRIGHT_MSG);
+			logError(ProcessorConstants.ERROR_CS_NO_COPYRIGHT_MSG);
 			valid = false;
 		}
 
 		// Check that the content specification isn't empty
 		if (contentSpec.getBaseLevel() == null)
 		{
-			log.error(ProcessorConstants.ERROR_CS_EMPTY_MSG);
+			logError(ProcessorConstants.ERROR_CS_EMPTY_MSG);
 			valid = false;
 		}
 
 		// If editing then check that the ID exists & the CHECKSUM/SpecRevision match
 		if (contentSpec.getId() != 0)
 		{
-			final RESTTopicV1 contentSpecTopic = reader.getPostContentSpecById(contentSpec.getId(), processingOptions.getRevision());
+			final RESTTopicV1 contentSpecTopic = restManager.getReader().getPostContentSpecById(contentSpec.getId(), processingOptions.getRevision());
 			if (contentSpecTopic == null)
 			{
-				log.error(String.format(ProcessorConstants.ERROR_INVALID_CS_ID_MSG, "ID=" + contentSpec.getId()));
+				logError(String.format(ProcessorConstants.ERROR_INVALID_CS_ID_MSG, "ID=" + contentSpec.getId()));
 				valid = false;
 			}
 
@@ -188,23 +251,23 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				{
 					if (!contentSpec.getChecksum().equals(currentChecksum))
 					{
-						log.error(String.format(ProcessorConstants.ERROR_CS_NONMATCH_CHECKSUM_MSG, contentSpec.getChecksum(), currentChecksum));
+						logError(String.format(ProcessorConstants.ERROR_CS_NONMATCH_CHECKSUM_MSG, contentSpec.getChecksum(), currentChecksum));
 						valid = false;
 					}
 				}
 				else if (contentSpec.getSpecRevision() != null)
 				{
 					// Check that the revision matches
-					int latestRev = reader.getLatestCSRevById(contentSpec.getId());
+					int latestRev = restManager.getReader().getLatestCSRevById(contentSpec.getId());
 					if (contentSpec.getSpecRevision() != latestRev)
 					{
-						log.error(String.format(ProcessorConstants.ERROR_CS_NONMATCH_SPEC_REVISION_MSG, contentSpec.getSpecRevision(), latestRev));
+						logError(String.format(ProcessorConstants.ERROR_CS_NONMATCH_SPEC_REVISION_MSG, contentSpec.getSpecRevision(), latestRev));
 						valid = false;
 					}
 				}
 				else
 				{
-					log.error(String.format(ProcessorConstants.ERROR_CS_NONMATCH_CHECKSUM_MSG, null, currentChecksum));
+					logError(String.format(ProcessorConstants.ERROR_CS_NONMATCH_CHECKSUM_MSG, null, currentChecksum));
 					valid = false;
 				}
 			}
@@ -214,7 +277,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			{
 				if (!ComponentTopicV1.returnProperty(contentSpecTopic, CSConstants.CSP_READ_ONLY_PROPERTY_TAG_ID).getValue().matches("(^|.*,)" + contentSpec.getCreatedBy() + "(,.*|$)"))
 				{
-					log.error(ProcessorConstants.ERROR_CS_READ_ONLY_MSG);
+					logError(ProcessorConstants.ERROR_CS_READ_ONLY_MSG);
 					valid = false;
 				}
 			}
@@ -225,27 +288,41 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 		{
 			for (final String injectionType : contentSpec.getInjectionOptions().getStrictTopicTypes())
 			{
-				final List<RESTTagV1> tags = reader.getTagsByName(injectionType);
+				final List<RESTTagV1> tags = tagCatalogue.getTagsByName(injectionType);
 				if (tags.size() == 1)
 				{
 					if (!ComponentTagV1.containedInCategory(tags.get(0), CSConstants.TYPE_CATEGORY_ID))
 					{
-						log.error(String.format(ProcessorConstants.ERROR_INVALID_INJECTION_TYPE_MSG, injectionType));
+						logError(String.format(ProcessorConstants.ERROR_INVALID_INJECTION_TYPE_MSG, injectionType));
 						valid = false;
 					}
 				}
 				else
 				{
-					log.error(String.format(ProcessorConstants.ERROR_INVALID_INJECTION_TYPE_MSG, injectionType));
+					logError(String.format(ProcessorConstants.ERROR_INVALID_INJECTION_TYPE_MSG, injectionType));
 					valid = false;
 				}
 			}
 		}
 
+		/*
+		 * Validate the spec topics concurrently before the levels are validated. The log messages for each topic are held
+		 * until the level containing the topic is validated, so that the messages are in the same order as they would be
+		 * when validating serially.
+		 */
+		concurrentTopicResults = validateTopicsConcurrently(contentSpec.getBaseLevel(), specTopics, contentSpec.getBookType());
+
 		// Check that each level is valid
-		if (!validateLevel(contentSpec.getBaseLevel(), specTopics, contentSpec.getAllowEmptyLevels(), contentSpec.getBookType()))
+		try
 		{
-			valid = false;
+			if (!validateLevel(contentSpec.getBaseLevel(), specTopics, contentSpec.getAllowEmptyLevels(), contentSpec.getBookType()))
+			{
+				valid = false;
+			}
+		}
+		finally
+		{
+			concurrentTopicResults = null;
 		}
 
 		// reset the locale back to its default
@@ -299,7 +376,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 						{
 							if (!processingOptions.isPermissiveMode())
 							{
-								log.error(String.format(ProcessorConstants.ERROR_RELATED_TITLE_NO_MATCH_MSG, specTopics.get(topicId).getLineNumber(), relationship.getRelationshipTitle(), targetTopic.getTitle()));
+								logError(String.format(ProcessorConstants.ERROR_RELATED_TITLE_NO_MATCH_MSG, specTopics.get(topicId).getLineNumber(), relationship.getRelationshipTitle(), targetTopic.getTitle()));
 								error = true;
 							}
 						}*/
@@ -309,26 +386,26 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 						//final Level targetLevel = targetLevels.get(relatedId);
 						if (relationship.getType() == RelationshipType.NEXT)
 						{
-							log.error(String.format(ProcessorConstants.ERROR_NEXT_RELATED_LEVEL_MSG, specTopic.getLineNumber(), specTopic.getText()));
+							logError(String.format(ProcessorConstants.ERROR_NEXT_RELATED_LEVEL_MSG, specTopic.getLineNumber(), specTopic.getText()));
 							error = true;
 						}
 						else if (relationship.getType() == RelationshipType.PREVIOUS)
 						{
-							log.error(String.format(ProcessorConstants.ERROR_PREV_RELATED_LEVEL_MSG, specTopic.getLineNumber(), specTopic.getText()));
+							logError(String.format(ProcessorConstants.ERROR_PREV_RELATED_LEVEL_MSG, specTopic.getLineNumber(), specTopic.getText()));
 							error = true;
 						}
 						/*else if (relationship.getRelationshipTitle() != null && !relationship.getRelationshipTitle().equals(targetLevel.getTitle()))
 						{
 							if (!processingOptions.isPermissiveMode())
 							{
-								log.error(String.format(ProcessorConstants.ERROR_RELATED_TITLE_NO_MATCH_MSG, specTopics.get(topicId).getLineNumber(), relationship.getRelationshipTitle(), targetLevel.getTitle()));
+								logError(String.format(ProcessorConstants.ERROR_RELATED_TITLE_NO_MATCH_MSG, specTopics.get(topicId).getLineNumber(), relationship.getRelationshipTitle(), targetLevel.getTitle()));
 								error = true;
 							}
 						}*/
 					}
 					else
 					{
-						log.error(String.format(ProcessorConstants.ERROR_TARGET_NONEXIST_MSG, specTopic.getLineNumber(), relatedId, specTopic.getText()));
+						logError(String.format(ProcessorConstants.ERROR_TARGET_NONEXIST_MSG, specTopic.getLineNumber(), relatedId, specTopic.getText()));
 						error = true;
 					}
 				// The relationship isn't a target so it must point to a topic directly
@@ -341,7 +418,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 						if (relatedId.startsWith("X"))
 						{
 							// Duplicated topics are never unique so throw an error straight away.
-							log.error(String.format(ProcessorConstants.ERROR_INVALID_DUPLICATE_RELATIONSHIP_MSG, specTopic.getLineNumber(), specTopic.getText()));
+							logError(String.format(ProcessorConstants.ERROR_INVALID_DUPLICATE_RELATIONSHIP_MSG, specTopic.getLineNumber(), specTopic.getText()));
 							error = true;
 						}
 						else
@@ -378,12 +455,12 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 							        lineNumbers.append(relatedTopics.get(i).getLineNumber());
 							    }
 							    
-								log.error(String.format(ProcessorConstants.ERROR_INVALID_RELATIONSHIP_MSG, specTopic.getLineNumber(), relatedId, lineNumbers.toString(), specTopic.getText()));
+								logError(String.format(ProcessorConstants.ERROR_INVALID_RELATIONSHIP_MSG, specTopic.getLineNumber(), relatedId, lineNumbers.toString(), specTopic.getText()));
 								error = true;
 							}
 							else if (count == 0)
 							{
-								log.error(String.format(ProcessorConstants.ERROR_RELATED_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), relatedId, specTopic.getText()));
+								logError(String.format(ProcessorConstants.ERROR_RELATED_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), relatedId, specTopic.getText()));
 								error = true;
 							}
 							else
@@ -392,7 +469,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 							    final SpecTopic relatedTopic = relatedTopics.get(0);
 	                            if (relatedTopic == specTopic)
 	                            {
-	                                log.error(String.format(ProcessorConstants.ERROR_TOPIC_RELATED_TO_ITSELF_MSG, specTopic.getLineNumber(), specTopic.getText()));
+	                                logError(String.format(ProcessorConstants.ERROR_TOPIC_RELATED_TO_ITSELF_MSG, specTopic.getLineNumber(), specTopic.getText()));
 	                            }
 	                            
 	                            // Check to ensure the title matches
@@ -400,7 +477,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 	                            {
 	                                if (!processingOptions.isPermissiveMode())
 	                                {
-	                                    log.error(String.format(ProcessorConstants.ERROR_RELATED_TITLE_NO_MATCH_MSG, specTopic.getLineNumber(), relationship.getRelationshipTitle(), relatedTopic.getTitle()));
+	                                    logError(String.format(ProcessorConstants.ERROR_RELATED_TITLE_NO_MATCH_MSG, specTopic.getLineNumber(), relationship.getRelationshipTitle(), relatedTopic.getTitle()));
 	                                    error = true;
 	                                }
 	                            }*/
@@ -416,21 +493,21 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 							// Check to make sure the topic doesn't relate to itself
 							if (relatedTopic == specTopic)
 							{
-								log.error(String.format(ProcessorConstants.ERROR_TOPIC_RELATED_TO_ITSELF_MSG, specTopic.getLineNumber(), specTopic.getText()));
+								logError(String.format(ProcessorConstants.ERROR_TOPIC_RELATED_TO_ITSELF_MSG, specTopic.getLineNumber(), specTopic.getText()));
 							}
 							// Check to ensure the title matches
 							/*else if (relationship.getRelationshipTitle() != null && relationship.getRelationshipTitle().equals(relatedTopic.getTitle()))
 							{
 								if (!processingOptions.isPermissiveMode())
 								{
-									log.error(String.format(ProcessorConstants.ERROR_RELATED_TITLE_NO_MATCH_MSG, specTopic.getLineNumber(), relationship.getRelationshipTitle(), relatedTopic.getTitle()));
+									logError(String.format(ProcessorConstants.ERROR_RELATED_TITLE_NO_MATCH_MSG, specTopic.getLineNumber(), relationship.getRelationshipTitle(), relatedTopic.getTitle()));
 									error = true;
 								}
 							}*/
 						}
 						else
 						{
-							log.error(String.format(ProcessorConstants.ERROR_RELATED_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
+							logError(String.format(ProcessorConstants.ERROR_RELATED_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
 							error = true;
 						}
 					}
@@ -464,19 +541,19 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 		// Check that the level isn't empty
 		if (level.getNumberOfSpecTopics() <= 0 && level.getNumberOfChildLevels() <= 0 /*&& !allowEmptyLevels && (allowEmptyLevels && !csAllowEmptyLevels)*/)
 		{
-			log.error(String.format(ProcessorConstants.ERROR_LEVEL_NO_TOPICS_MSG, level.getLineNumber(), level.getType().getTitle(), level.getType().getTitle(), level.getText()));
+			logError(String.format(ProcessorConstants.ERROR_LEVEL_NO_TOPICS_MSG, level.getLineNumber(), level.getType().getTitle(), level.getType().getTitle(), level.getText()));
 			valid = false;
 		}
 
 		if (level.getType() == null)
 		{
-			log.error(ProcessorConstants.ERROR_PROCESSING_ERROR_MSG);
+			logError(ProcessorConstants.ERROR_PROCESSING_ERROR_MSG);
 			valid = false;
 		}
 
 		if (level.getTitle() == null || level.getTitle().equals(""))
 		{
-			log.error(String.format(ProcessorConstants.ERROR_LEVEL_NO_TITLE_MSG, level.getLineNumber(), level.getType().getTitle(), level.getText()));
+			logError(String.format(ProcessorConstants.ERROR_LEVEL_NO_TITLE_MSG, level.getLineNumber(), level.getType().getTitle(), level.getText()));
 			valid = false;
 		}
 
@@ -498,7 +575,24 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 		    }
 		    else if (childNode instanceof SpecTopic)
 		    {
-		        if (!validateTopic((SpecTopic) childNode, specTopics, bookType))
+		        final TopicValidationResult result = concurrentTopicResults == null ? null : concurrentTopicResults.get(childNode);
+		        if (result != null)
+		        {
+		            // The topic has already been validated, so just log the messages from the validation
+		            for (final Pair<Boolean, String> logMessage : result.logMessages)
+		            {
+		                if (logMessage.getFirst())
+		                    logError(logMessage.getSecond());
+		                else
+		                    logWarn(logMessage.getSecond());
+		            }
+
+		            if (!result.valid)
+		            {
+		                valid = false;
+		            }
+		        }
+		        else if (!validateTopic((SpecTopic) childNode, specTopics, bookType))
 	            {
 	                valid = false;
 	            }
@@ -513,7 +607,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			case APPENDIX:
 				if (!(level.getParent().getType() == LevelType.BASE))
 				{
-					log.error(String.format(ProcessorConstants.ERROR_ARTICLE_NESTED_APPENDIX_MSG, level.getLineNumber(), level.getText()));
+					logError(String.format(ProcessorConstants.ERROR_ARTICLE_NESTED_APPENDIX_MSG, level.getLineNumber(), level.getText()));
 					valid = false;
 				}
 				
@@ -526,27 +620,27 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 					final Node node = parentNodes.next(); 
 					if (node instanceof Level && !(node instanceof Appendix))
 					{
-						log.error(String.format(ProcessorConstants.ERROR_CS_APPENDIX_STRUCTURE_MSG, level.getLineNumber(), level.getText()));
+						logError(String.format(ProcessorConstants.ERROR_CS_APPENDIX_STRUCTURE_MSG, level.getLineNumber(), level.getText()));
 						valid = false;
 					}
 				}
 				break;
 			case CHAPTER:
-				log.error(String.format(ProcessorConstants.ERROR_ARTICLE_CHAPTER_MSG, level.getLineNumber(), level.getText()));
+				logError(String.format(ProcessorConstants.ERROR_ARTICLE_CHAPTER_MSG, level.getLineNumber(), level.getText()));
 				valid = false;
 				break;
 			case PROCESS:
-			    log.error(String.format(ProcessorConstants.ERROR_ARTICLE_PROCESS_MSG, level.getLineNumber(), level.getText()));
+			    logError(String.format(ProcessorConstants.ERROR_ARTICLE_PROCESS_MSG, level.getLineNumber(), level.getText()));
                 valid = false;
                 break;
 			case PART:
-				log.error(String.format(ProcessorConstants.ERROR_ARTICLE_PART_MSG, level.getLineNumber(), level.getText()));
+				logError(String.format(ProcessorConstants.ERROR_ARTICLE_PART_MSG, level.getLineNumber(), level.getText()));
 				valid = false;
 				break;
 			case SECTION:
 				if (!(level.getParent().getType() == LevelType.BASE || level.getParent().getType() == LevelType.SECTION))
 				{
-					log.error(String.format(ProcessorConstants.ERROR_ARTICLE_SECTION_MSG, level.getLineNumber(), level.getText()));
+					logError(String.format(ProcessorConstants.ERROR_ARTICLE_SECTION_MSG, level.getLineNumber(), level.getText()));
 					valid = false;
 				}
 				break;
@@ -562,7 +656,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			case APPENDIX:
 				if (!(level.getParent().getType() == LevelType.BASE || level.getParent().getType() == LevelType.PART))
 				{
-					log.error(String.format(ProcessorConstants.ERROR_CS_NESTED_APPENDIX_MSG, level.getLineNumber(), level.getText()));
+					logError(String.format(ProcessorConstants.ERROR_CS_NESTED_APPENDIX_MSG, level.getLineNumber(), level.getText()));
 					valid = false;
 				}
 				
@@ -575,7 +669,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 					final Node node = parentNodes.next(); 
 					if (node instanceof Level && !(node instanceof Appendix))
 					{
-						log.error(String.format(ProcessorConstants.ERROR_CS_APPENDIX_STRUCTURE_MSG, level.getLineNumber(), level.getText()));
+						logError(String.format(ProcessorConstants.ERROR_CS_APPENDIX_STRUCTURE_MSG, level.getLineNumber(), level.getText()));
 						valid = false;
 					}
 				}
@@ -584,7 +678,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			case CHAPTER:
 				if (!(level.getParent().getType() == LevelType.BASE || level.getParent().getType() == LevelType.PART))
 				{
-					log.error(String.format(ProcessorConstants.ERROR_CS_NESTED_CHAPTER_MSG, level.getLineNumber(), level.getText()));
+					logError(String.format(ProcessorConstants.ERROR_CS_NESTED_CHAPTER_MSG, level.getLineNumber(), level.getText()));
 					valid = false;
 				}
 				break;
@@ -593,14 +687,14 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				Process process = (Process) level;
 				if (process.getNumberOfChildLevels() != 0)
 				{
-					log.error(String.format(ProcessorConstants.ERROR_PROCESS_HAS_LEVELS_MSG, process.getLineNumber(), process.getText()));
+					logError(String.format(ProcessorConstants.ERROR_PROCESS_HAS_LEVELS_MSG, process.getLineNumber(), process.getText()));
 					valid = false;
 				}
 				break;
 			case PART:
 				if (level.getParent().getType() != LevelType.BASE)
 				{
-					log.error(String.format(ProcessorConstants.ERROR_CS_NESTED_PART_MSG, level.getLineNumber(), level.getText()));
+					logError(String.format(ProcessorConstants.ERROR_CS_NESTED_PART_MSG, level.getLineNumber(), level.getText()));
 					valid = false;
 				}
 				break;
@@ -608,7 +702,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				if (!(level.getParent().getType() == LevelType.APPENDIX || level.getParent().getType() == LevelType.CHAPTER
 						|| level.getParent().getType() == LevelType.SECTION))
 				{
-					log.error(String.format(ProcessorConstants.ERROR_CS_SECTION_NO_CHAPTER_MSG, level.getLineNumber(), level.getText()));
+					logError(String.format(ProcessorConstants.ERROR_CS_SECTION_NO_CHAPTER_MSG, level.getLineNumber(), level.getText()));
 					valid = false;
 				}
 				break;
@@ -620,6 +714,140 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 		return valid;
 	}
 
+	/**
+	 * Validates the spec topics in a level and its child levels concurrently, using the number of threads from the processing
+	 * options. The log messages for each topic are buffered instead of being logged.
+	 * <p/>
+	 * Duplicated topics are left to be validated with their level, as they are compared against other spec topics. Nothing is
+	 * validated concurrently in permissive mode, as the spec topic titles may be changed during validation.
+	 *
+	 * @param level The level to validate the spec topics for.
+	 * @param specTopics The list of topics that exist within the content specification.
+	 * @param bookType The type of book the topics are to be validated against.
+	 * @return The result of validating each spec topic, or null if the topics should be validated serially.
+	 */
+	private Map<SpecTopic, TopicValidationResult> validateTopicsConcurrently(final Level level, final Map<String, SpecTopic> specTopics,
+			final BookType bookType)
+	{
+		if (level == null || processingOptions.getThreadCount() <= 1 || processingOptions.isPermissiveMode()) return null;
+
+		final List<SpecTopic> levelSpecTopics = new ArrayList<SpecTopic>();
+		collectSpecTopics(level, levelSpecTopics);
+
+		final List<SpecTopic> independentSpecTopics = new ArrayList<SpecTopic>();
+		for (final SpecTopic specTopic : levelSpecTopics)
+		{
+			if (specTopic.isTopicANewTopic() || specTopic.isTopicAnExistingTopic() || specTopic.isTopicAClonedTopic())
+			{
+				independentSpecTopics.add(specTopic);
+			}
+		}
+
+		if (independentSpecTopics.size() <= 1) return null;
+
+		final List<Callable<TopicValidationResult>> tasks = new ArrayList<Callable<TopicValidationResult>>();
+		for (final SpecTopic specTopic : independentSpecTopics)
+		{
+			tasks.add(new Callable<TopicValidationResult>()
+			{
+				@Override
+				public TopicValidationResult call()
+				{
+					final List<Pair<Boolean, String>> logMessages = new ArrayList<Pair<Boolean, String>>();
+					bufferedLogMessages.set(logMessages);
+					try
+					{
+						return new TopicValidationResult(validateTopic(specTopic, specTopics, bookType), logMessages);
+					}
+					finally
+					{
+						bufferedLogMessages.remove();
+					}
+				}
+			});
+		}
+
+		try
+		{
+			final List<TopicValidationResult> topicResults = ProcessorUtilities.invokeAll(tasks, processingOptions.getThreadCount());
+
+			// Spec topics are matched by identity, as duplicated spec topics may be equal to each other
+			final Map<SpecTopic, TopicValidationResult> results = new IdentityHashMap<SpecTopic, TopicValidationResult>();
+			for (int i = 0; i < independentSpecTopics.size(); i++)
+			{
+				results.put(independentSpecTopics.get(i), topicResults.get(i));
+			}
+			return results;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return null;
+		}
+		catch (ExecutionException e)
+		{
+			ProcessorUtilities.rethrowUncheckedCause(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Gets all of the spec topics in a level and its child levels, in the order they appear in the content specification.
+	 *
+	 * @param level The level to get the spec topics from.
+	 * @param specTopics The list to add the spec topics to.
+	 */
+	private void collectSpecTopics(final Level level, final List<SpecTopic> specTopics)
+	{
+		for (final Node childNode : level.getChildNodes())
+		{
+			if (childNode instanceof Level)
+			{
+				collectSpecTopics((Level) childNode, specTopics);
+			}
+			else if (childNode instanceof SpecTopic)
+			{
+				specTopics.add((SpecTopic) childNode);
+			}
+		}
+	}
+
+	/**
+	 * Logs an error message, or buffers it if the current thread is validating a topic concurrently.
+	 *
+	 * @param message The error message.
+	 */
+	private void logError(final String message)
+	{
+		final List<Pair<Boolean, String>> logMessages = bufferedLogMessages.get();
+		if (logMessages == null)
+		{
+			log.error(message);
+		}
+		else
+		{
+			logMessages.add(new Pair<Boolean, String>(true, message));
+		}
+	}
+
+	/**
+	 * Logs a warning message, or buffers it if the current thread is validating a topic concurrently.
+	 *
+	 * @param message The warning message.
+	 */
+	private void logWarn(final String message)
+	{
+		final List<Pair<Boolean, String>> logMessages = bufferedLogMessages.get();
+		if (logMessages == null)
+		{
+			log.warn(message);
+		}
+		else
+		{
+			logMessages.add(new Pair<Boolean, String>(false, message));
+		}
+	}
+
 	/**
 	 * Validates a topic against the database and for formatting issues.
 	 *
@@ -643,14 +871,14 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 		// Check that the topic exists in the spec by checking it's step
 		if (specTopic.getStep() == 0)
 		{
-			log.error(ProcessorConstants.ERROR_PROCESSING_ERROR_MSG);
+			logError(ProcessorConstants.ERROR_PROCESSING_ERROR_MSG);
 			valid = false;
 		}
 
 		// Checks that the id isn't null and is a valid topic ID
 		if (specTopic.getId() == null || !specTopic.getId().matches(CSConstants.ALL_TOPIC_ID_REGEX))
 		{
-			log.error(String.format(ProcessorConstants.ERROR_INVALID_TOPIC_ID_MSG, specTopic.getLineNumber(), specTopic.getText()));
+			logError(String.format(ProcessorConstants.ERROR_INVALID_TOPIC_ID_MSG, specTopic.getLineNumber(), specTopic.getText()));
 			valid = false;
 		}
 
@@ -661,7 +889,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 					|| specTopic.getParent().getType() == LevelType.APPENDIX || specTopic.getParent().getType() == LevelType.PROCESS
 					|| specTopic.getParent().getType() == LevelType.SECTION || specTopic.getParent().getType() == LevelType.PART))
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_OUTSIDE_CHAPTER_MSG, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_OUTSIDE_CHAPTER_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 			
@@ -676,7 +904,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			        final Node node = parentChildren.get(i);
 			        if (node instanceof Level)
 			        {
-			            log.error(String.format(ProcessorConstants.ERROR_TOPIC_NOT_IN_PART_INTRO_MSG, specTopic.getLineNumber(), specTopic.getText()));
+			            logError(String.format(ProcessorConstants.ERROR_TOPIC_NOT_IN_PART_INTRO_MSG, specTopic.getLineNumber(), specTopic.getText()));
 		                valid = false;
 			            break;
 			        }
@@ -687,13 +915,13 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 		// Check that the title exists
 		if (specTopic.getTitle() == null || specTopic.getTitle().equals(""))
 		{
-			log.error(String.format(ProcessorConstants.ERROR_TOPIC_NO_TITLE_MSG, specTopic.getLineNumber(), specTopic.getText()));
+			logError(String.format(ProcessorConstants.ERROR_TOPIC_NO_TITLE_MSG, specTopic.getLineNumber(), specTopic.getText()));
 			valid = false;
 		}
 		// Check that it is valid when escaped
 		else if (DocBookUtilities.escapeTitle(specTopic.getTitle()).isEmpty())
 		{
-			log.error(String.format(ProcessorConstants.ERROR_INVALID_TOPIC_TITLE_MSG, specTopic.getLineNumber(), specTopic.getText()));
+			logError(String.format(ProcessorConstants.ERROR_INVALID_TOPIC_TITLE_MSG, specTopic.getLineNumber(), specTopic.getText()));
 			valid = false;
 		}
 
@@ -703,7 +931,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			// Check that we aren't processing translations
 			if (clazz == RESTTranslatedTopicV1.class)
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_NO_NEW_TRANSLATION_TOPIC, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_NO_NEW_TRANSLATION_TOPIC, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 		}
@@ -711,7 +939,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 		// Check that we are allowed to create new topics
 		if (!specTopic.isTopicAnExistingTopic() && !processingOptions.isAllowNewTopics())
 		{
-			log.error(String.format(ProcessorConstants.ERROR_TOPIC_NO_NEW_TOPIC_BUILD, specTopic.getLineNumber(), specTopic.getText()));
+			logError(String.format(ProcessorConstants.ERROR_TOPIC_NO_NEW_TOPIC_BUILD, specTopic.getLineNumber(), specTopic.getText()));
 			valid = false;
 		}
 
@@ -720,15 +948,15 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 		{
 			if (specTopic.getType() == null || specTopic.getType().equals(""))
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_NO_TYPE_MSG, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_NO_TYPE_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 
 			// Check that the type entered exists
-			final RESTTagV1 type = reader.getTypeByName(specTopic.getType());
+			final RESTTagV1 type = tagCatalogue.getTypeByName(specTopic.getType());
 			if (type == null)
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TYPE_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TYPE_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 
@@ -762,7 +990,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			final T topic;
 			if (clazz == RESTTranslatedTopicV1.class)
 			{
-				topic = (T) reader.getTranslatedTopicByTopicId(Integer.parseInt(specTopic.getId()), revision, locale);
+				topic = (T) restManager.getReader().getTranslatedTopicByTopicId(Integer.parseInt(specTopic.getId()), revision, locale);
 				if (processingOptions.isAddRevisions() && (specTopic.getRevision() == null || processingOptions.isUpdateRevisions()))
 				{
 					specTopic.setRevision(((RESTTranslatedTopicV1) topic).getTopicRevision());
@@ -770,7 +998,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			}
 			else
 			{
-				topic = (T) reader.getTopicById(Integer.parseInt(specTopic.getId()), revision);
+				topic = (T) topicRepository.fetchTopic(Integer.parseInt(specTopic.getId()), revision, false);
 				if (processingOptions.isAddRevisions() && (specTopic.getRevision() == null || processingOptions.isUpdateRevisions()))
 				{
 					specTopic.setRevision(topic.getRevision());
@@ -780,7 +1008,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			// Check that the topic actually exists
 			if (topic == null)
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_ID_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_ID_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				return false;
 			}
 			else
@@ -790,14 +1018,14 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				// Check to see if the topic contains the "Internal-Only" tag
 				if (ComponentBaseTopicV1.hasTag(topic, CSConstants.RH_INTERNAL_TAG_ID))
 				{
-					log.warn(String.format(ProcessorConstants.WARN_INTERNAL_TOPIC_MSG, specTopic.getLineNumber(), specTopic.getText()));
+					logWarn(String.format(ProcessorConstants.WARN_INTERNAL_TOPIC_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				}
 			}
 
 			// Check that the topic has a valid id
 			if (topic.getId() <= 0)
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_ID_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_ID_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 
@@ -805,7 +1033,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			if (!processingOptions.isPermissiveMode() && !specTopic.getTitle().equals(topic.getTitle()))
 			{
 				String topicTitleMsg = "Topic " + specTopic.getId() + ": " + topic.getTitle();
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_TITLES_NONMATCH_MSG, specTopic.getLineNumber(), "Specified: " + specTopic.getText(), topicTitleMsg));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_TITLES_NONMATCH_MSG, specTopic.getLineNumber(), "Specified: " + specTopic.getText(), topicTitleMsg));
 				valid = false;
 			}
 			// If we are using permissive mode then change the title to the correct title
@@ -817,21 +1045,21 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			// Check that tags aren't trying to be removed
 			if (!specTopic.getRemoveTags(false).isEmpty())
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_EXISTING_TOPIC_CANNOT_REMOVE_TAGS, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_EXISTING_TOPIC_CANNOT_REMOVE_TAGS, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 
 			// Check that the assigned writer, description and source URLS haven't been set
 			if (specTopic.getAssignedWriter(false) != null || specTopic.getDescription(false) != null || !specTopic.getSourceUrls().isEmpty())
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_EXISTING_BAD_OPTIONS, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_EXISTING_BAD_OPTIONS, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 
 			// Check that we aren't processing translations
 			if (!specTopic.getTags(true).isEmpty() && clazz == RESTTranslatedTopicV1.class)
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_NO_TAGS_TRANSLATION_TOPIC, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_NO_TAGS_TRANSLATION_TOPIC, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 			else
@@ -851,7 +1079,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			// Check that the topic exists in the content specification
 			if (!specTopics.containsKey(temp))
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 			else
@@ -860,7 +1088,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				if (!specTopic.getTitle().equals(specTopics.get(temp).getTitle()))
 				{
 					String topicTitleMsg = "Topic " + specTopic.getId() + ": " + specTopics.get(temp).getTitle();
-					log.error(String.format(ProcessorConstants.ERROR_TOPIC_TITLES_NONMATCH_MSG, specTopic.getLineNumber(), specTopic.getText(), topicTitleMsg));
+					logError(String.format(ProcessorConstants.ERROR_TOPIC_TITLES_NONMATCH_MSG, specTopic.getLineNumber(), specTopic.getText(), topicTitleMsg));
 					valid = false;
 				}
 			}
@@ -886,17 +1114,17 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 					format += String.format(ProcessorConstants.WARN_DESCRIPTION_IGNORE_MSG, specTopic.getLineNumber(), "Cloned");
 				}
 
-				log.warn(String.format("%s" + ProcessorConstants.CSLINE_MSG, format, specTopic.getText()));
+				logWarn(String.format("%s" + ProcessorConstants.CSLINE_MSG, format, specTopic.getText()));
 			}
 
 			// Get the original topic from the database
 			int temp = Integer.parseInt(specTopic.getId().substring(1));
-			final RESTTopicV1 topic = reader.getTopicById(temp, null);
+			final RESTTopicV1 topic = restManager.getReader().getTopicById(temp, null);
 
 			// Check that the original topic was found
 			if (topic == null)
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 			else
@@ -905,7 +1133,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				if (!processingOptions.isPermissiveMode() && !specTopic.getTitle().equals(topic.getTitle()))
 				{
 					String topicTitleMsg = "Topic " + topic.getId() + ": " + topic.getTitle();
-					log.error(String.format(ProcessorConstants.ERROR_TOPIC_TITLES_NONMATCH_MSG, specTopic.getLineNumber(), specTopic.getText(), topicTitleMsg));
+					logError(String.format(ProcessorConstants.ERROR_TOPIC_TITLES_NONMATCH_MSG, specTopic.getLineNumber(), specTopic.getText(), topicTitleMsg));
 					valid = false;
 				}
 				// If we are using permissive mode then change the title to the correct title
@@ -948,13 +1176,13 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 			// Check that the topic exists
 			if (count == 0)
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_NONEXIST_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 			// Check that the referenced topic is unique
 			else if (count > 1)
 			{
-				log.error(String.format(ProcessorConstants.ERROR_TOPIC_DUPLICATE_CLONES_MSG, specTopic.getLineNumber(), specTopic.getText()));
+				logError(String.format(ProcessorConstants.ERROR_TOPIC_DUPLICATE_CLONES_MSG, specTopic.getLineNumber(), specTopic.getText()));
 				valid = false;
 			}
 			else
@@ -963,7 +1191,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				if (!specTopic.getTitle().equals(clonedTopic.getTitle()))
 				{
 					String topicTitleMsg = "Topic " + specTopic.getId() + ": " + clonedTopic.getTitle();
-					log.error(String.format(ProcessorConstants.ERROR_TOPIC_TITLES_NONMATCH_MSG, specTopic.getLineNumber(), specTopic.getText(), topicTitleMsg));
+					logError(String.format(ProcessorConstants.ERROR_TOPIC_TITLES_NONMATCH_MSG, specTopic.getLineNumber(), specTopic.getText(), topicTitleMsg));
 					valid = false;
 				}
 			}
@@ -981,30 +1209,30 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 	{
 		if (topic.getAssignedWriter(true) == null)
 		{
-			log.error(String.format(ProcessorConstants.ERROR_NO_WRITER_MSG, topic.getLineNumber(), topic.getText()));
+			logError(String.format(ProcessorConstants.ERROR_NO_WRITER_MSG, topic.getLineNumber(), topic.getText()));
 			return false;
 		}
 
 		//Check Assigned Writer exists
-		final List<RESTTagV1> tagList = reader.getTagsByName(topic.getAssignedWriter(true));
+		final List<RESTTagV1> tagList = tagCatalogue.getTagsByName(topic.getAssignedWriter(true));
 		if (tagList.size() != 1)
 		{
-			log.error(String.format(ProcessorConstants.ERROR_WRITER_NONEXIST_MSG, topic.getLineNumber(), topic.getText()));
+			logError(String.format(ProcessorConstants.ERROR_WRITER_NONEXIST_MSG, topic.getLineNumber(), topic.getText()));
 			return false;
 		}
 
 		// Check that the writer tag is actually part of the Assigned Writer category
-		final RESTCategoryInTagV1 cat = reader.getCategoryByTagId(tagList.get(0).getId());
+		final RESTCategoryInTagV1 cat = tagCatalogue.getCategoryByTagId(tagList.get(0).getId());
 		if (cat == null)
 		{
-			log.error(String.format(ProcessorConstants.ERROR_INVALID_WRITER_MSG, topic.getLineNumber(), topic.getText()));
+			logError(String.format(ProcessorConstants.ERROR_INVALID_WRITER_MSG, topic.getLineNumber(), topic.getText()));
 			return false;
 		}
 
 		// Check that tag is actually in the Assigned Writer category
 		if (cat.getId() != ProcessorConstants.ASSIGNED_WRITER_CATEGORY_ID)
 		{
-			log.error(String.format(ProcessorConstants.ERROR_INVALID_WRITER_MSG, topic.getLineNumber(), topic.getText()));
+			logError(String.format(ProcessorConstants.ERROR_INVALID_WRITER_MSG, topic.getLineNumber(), topic.getText()));
 			return false;
 		}
 
@@ -1034,7 +1262,7 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				}
 
 				// Get the tag from the database
-				final List<RESTTagV1> tagList = reader.getTagsByName(tagName);
+				final List<RESTTagV1> tagList = tagCatalogue.getTagsByName(tagName);
 
 				// Check that it exists
 				if (tagList.size() == 1)
@@ -1043,12 +1271,12 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				}
 				else if (tagList.size() == 0)
 				{
-					log.error(String.format(ProcessorConstants.ERROR_TAG_NONEXIST_MSG, specNode.getLineNumber(), tagName, specNode.getText()));
+					logError(String.format(ProcessorConstants.ERROR_TAG_NONEXIST_MSG, specNode.getLineNumber(), tagName, specNode.getText()));
 					valid = false;
 				}
 				else
 				{
-					log.error(String.format(ProcessorConstants.ERROR_TOPIC_TAG_DUPLICATED_MSG, specNode.getLineNumber(), specNode.getText()));
+					logError(String.format(ProcessorConstants.ERROR_TOPIC_TAG_DUPLICATED_MSG, specNode.getLineNumber(), specNode.getText()));
 					valid = false;
 				}
 			}
@@ -1070,21 +1298,21 @@ public class ContentSpecValidator<T extends RESTBaseTopicV1<T, ?, ?>> implements
 				// Check that only one tag has been set if the category is mutually exclusive
 				if (cat.getMutuallyExclusive() && catTags.size() > 1)
 				{
-					log.error(String.format(ProcessorConstants.ERROR_TOPIC_TOO_MANY_CATS_MSG, specNode.getLineNumber(), cat.getName(), specNode.getText()));
+					logError(String.format(ProcessorConstants.ERROR_TOPIC_TOO_MANY_CATS_MSG, specNode.getLineNumber(), cat.getName(), specNode.getText()));
 					valid = false;
 				}
 
 				// Check that the tag isn't a type or writer
 				if (cat.getId().equals(CSConstants.WRITER_CATEGORY_ID))
 				{
-					log.error(String.format(ProcessorConstants.ERROR_TOPIC_WRITER_AS_TAG_MSG, specNode.getLineNumber(), specNode.getText()));
+					logError(String.format(ProcessorConstants.ERROR_TOPIC_WRITER_AS_TAG_MSG, specNode.getLineNumber(), specNode.getText()));
 					valid = false;
 				}
 
 				// Check that the tag isn't a topic type
 				if (cat.getId().equals(CSConstants.TYPE_CATEGORY_ID))
 				{
-					log.error(String.format(ProcessorConstants.ERROR_TOPIC_TYPE_AS_TAG_MSG, specNode.getLineNumber(), specNode.getText()));
+					logError(String.format(ProcessorConstants.ERROR_TOPIC_TYPE_AS_TAG_MSG, specNode.getLineNumber(), specNode.getText()));
 					valid = false;
 				}
 			}
@@ -0,0 +1,76 @@
+package com.redhat.contentspec.processor.structures;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads lines from a Reader one at a time, while allowing the next line to be looked at before it is read. Only the next
+ * line is held in memory, so the input doesn't need to be read in full before it can be processed.
+ * <p/>
+ * Any IOException thrown while reading is treated as the end of the input, and can be retrieved afterwards using
+ * {@link #getIOException()}.
+ */
+public class LookaheadLineReader
+{
+	private final BufferedReader reader;
+	private String nextLine = null;
+	private boolean nextLineRead = false;
+	private IOException ioException = null;
+
+	public LookaheadLineReader(final Reader reader)
+	{
+		this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+	}
+
+	/**
+	 * Gets the next line without removing it from the input.
+	 *
+	 * @return The next line, or null if the end of the input has been reached.
+	 */
+	public String peek()
+	{
+		if (!nextLineRead)
+		{
+			nextLine = readLine();
+			nextLineRead = true;
+		}
+		return nextLine;
+	}
+
+	/**
+	 * Gets the next line and removes it from the input.
+	 *
+	 * @return The next line, or null if the end of the input has been reached.
+	 */
+	public String poll()
+	{
+		final String line = peek();
+		nextLine = null;
+		nextLineRead = false;
+		return line;
+	}
+
+	/**
+	 * @return The exception that stopped the input from being read, or null if no error occurred.
+	 */
+	public IOException getIOException()
+	{
+		return ioException;
+	}
+
+	private String readLine()
+	{
+		if (ioException != null) return null;
+
+		try
+		{
+			return reader.readLine();
+		}
+		catch (IOException e)
+		{
+			ioException = e;
+			return null;
+		}
+	}
+}
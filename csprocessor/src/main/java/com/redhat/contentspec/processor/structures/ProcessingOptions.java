@@ -10,6 +10,7 @@ public class ProcessingOptions {
 	private boolean addRevisions = false;
 	private boolean updateRevisions = false;
 	private Integer revision = null;
+	private int threadCount = 1;
 	
 	public boolean isPermissiveMode()
 	{
@@ -83,4 +84,19 @@ public class ProcessingOptions {
     {
         this.revision = revision;
     }
+
+    public int getThreadCount()
+    {
+        return threadCount;
+    }
+
+    /**
+     * Set the number of threads to use when downloading and validating topics.
+     * 
+     * @param threadCount The number of threads, where 1 or less means the topics will be downloaded and validated serially.
+     */
+    public void setThreadCount(final int threadCount)
+    {
+        this.threadCount = threadCount;
+    }
 }
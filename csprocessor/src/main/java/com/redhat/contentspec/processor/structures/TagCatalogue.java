@@ -0,0 +1,111 @@
+package com.redhat.contentspec.processor.structures;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.pressgang.ccms.contentspec.rest.RESTManager;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTTagV1;
+import org.jboss.pressgang.ccms.rest.v1.entities.join.RESTCategoryInTagV1;
+
+/**
+ * A catalogue of the tags, types and tag categories that have been looked up from the REST Interface. The same tag names
+ * are used by most of the topics in a content specification, so each name or id is only looked up once and the result is
+ * reused by the validator and the processor.
+ * <p/>
+ * The catalogue can be shared between threads. The RESTReader is fetched from the RESTManager for each lookup, so that a
+ * manager that gives each thread its own connection can be used. Two threads looking up the same name at the same time may
+ * both query the REST Interface, but the catalogue will still hold a single result.
+ */
+public class TagCatalogue
+{
+	private final RESTManager restManager;
+
+	private final Map<String, List<RESTTagV1>> tagsByName = new ConcurrentHashMap<String, List<RESTTagV1>>();
+	private final Map<String, RESTTagV1> typesByName = new ConcurrentHashMap<String, RESTTagV1>();
+	private final Set<String> missingTypes = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+	private final Map<Integer, RESTCategoryInTagV1> categoriesByTagId = new ConcurrentHashMap<Integer, RESTCategoryInTagV1>();
+	private final Set<Integer> missingCategories = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+
+	public TagCatalogue(final RESTManager restManager)
+	{
+		this.restManager = restManager;
+	}
+
+	/**
+	 * Gets the tags that match a name.
+	 *
+	 * @param name The name of the tag.
+	 * @return The tags that have the name. The list will be empty if no tags exist with the name.
+	 */
+	public List<RESTTagV1> getTagsByName(final String name)
+	{
+		if (name == null)
+		{
+			return restManager.getReader().getTagsByName(name);
+		}
+
+		List<RESTTagV1> tags = tagsByName.get(name);
+		if (tags == null)
+		{
+			final List<RESTTagV1> tagList = restManager.getReader().getTagsByName(name);
+			tags = tagList == null ? Collections.<RESTTagV1>emptyList() : Collections.unmodifiableList(tagList);
+			tagsByName.put(name, tags);
+		}
+		return tags;
+	}
+
+	/**
+	 * Gets the type tag that matches a name.
+	 *
+	 * @param name The name of the type.
+	 * @return The type tag, or null if no type exists with the name.
+	 */
+	public RESTTagV1 getTypeByName(final String name)
+	{
+		if (name == null || missingTypes.contains(name)) return null;
+
+		RESTTagV1 type = typesByName.get(name);
+		if (type == null)
+		{
+			type = restManager.getReader().getTypeByName(name);
+			if (type == null)
+			{
+				missingTypes.add(name);
+			}
+			else
+			{
+				typesByName.put(name, type);
+			}
+		}
+		return type;
+	}
+
+	/**
+	 * Gets the category that a tag belongs to.
+	 *
+	 * @param tagId The ID of the tag.
+	 * @return The category for the tag, or null if the tag isn't in a category.
+	 */
+	public RESTCategoryInTagV1 getCategoryByTagId(final Integer tagId)
+	{
+		if (tagId == null || missingCategories.contains(tagId)) return null;
+
+		RESTCategoryInTagV1 category = categoriesByTagId.get(tagId);
+		if (category == null)
+		{
+			category = restManager.getReader().getCategoryByTagId(tagId);
+			if (category == null)
+			{
+				missingCategories.add(tagId);
+			}
+			else
+			{
+				categoriesByTagId.put(tagId, category);
+			}
+		}
+		return category;
+	}
+}
@@ -0,0 +1,138 @@
+package com.redhat.contentspec.processor.structures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.pressgang.ccms.contentspec.rest.RESTManager;
+import org.jboss.pressgang.ccms.rest.v1.collections.RESTTopicCollectionV1;
+import org.jboss.pressgang.ccms.rest.v1.entities.RESTTopicV1;
+
+/**
+ * A repository of the topics that have been downloaded from the REST Interface for a content specification. The topics are
+ * downloaded once while the content specification is processed, and can then be handed to the builder so that a build only
+ * downloads each topic once.
+ * <p/>
+ * Topics are stored using the ID and revision that they were requested with, and whether their translations were expanded. A
+ * topic that was downloaded with its translations can also be used when the translations aren't needed.
+ * <p/>
+ * The repository can be shared between threads. The RESTReader is fetched from the RESTManager for each download, so that a
+ * manager that gives each thread its own connection can be used.
+ */
+public class TopicRepository
+{
+	private final RESTManager restManager;
+	private final Map<String, RESTTopicV1> topics = new ConcurrentHashMap<String, RESTTopicV1>();
+
+	public TopicRepository(final RESTManager restManager)
+	{
+		this.restManager = restManager;
+	}
+
+	/**
+	 * Gets a topic from the repository, without downloading it.
+	 *
+	 * @param topicId The ID of the topic.
+	 * @param revision The revision of the topic, or null for the latest revision.
+	 * @param expandTranslations Whether the topic needs its translations expanded.
+	 * @return The topic, or null if it hasn't been downloaded.
+	 */
+	public RESTTopicV1 getTopic(final Integer topicId, final Integer revision, final boolean expandTranslations)
+	{
+		if (topicId == null) return null;
+
+		final RESTTopicV1 topic = topics.get(getKey(topicId, revision, true));
+		if (topic != null || expandTranslations)
+		{
+			return topic;
+		}
+		else
+		{
+			return topics.get(getKey(topicId, revision, false));
+		}
+	}
+
+	/**
+	 * Gets a topic from the repository, or downloads it from the REST Interface if it hasn't been downloaded yet.
+	 *
+	 * @param topicId The ID of the topic.
+	 * @param revision The revision of the topic, or null for the latest revision.
+	 * @param expandTranslations Whether the topic needs its translations expanded.
+	 * @return The topic, or null if it doesn't exist.
+	 */
+	public RESTTopicV1 fetchTopic(final Integer topicId, final Integer revision, final boolean expandTranslations)
+	{
+		RESTTopicV1 topic = getTopic(topicId, revision, expandTranslations);
+		if (topic == null)
+		{
+			topic = restManager.getReader().getTopicById(topicId, revision, expandTranslations);
+			addTopic(topic, revision, expandTranslations);
+		}
+		return topic;
+	}
+
+	/**
+	 * Gets the latest revision of a set of topics. Any topics that haven't been downloaded yet are downloaded from the REST
+	 * Interface in a single request.
+	 *
+	 * @param topicIds The IDs of the topics.
+	 * @param expandTranslations Whether the topics need their translations expanded.
+	 * @return The topics that exist, in the same order as the topic IDs.
+	 */
+	public RESTTopicCollectionV1 fetchTopics(final List<Integer> topicIds, final boolean expandTranslations)
+	{
+		final List<Integer> missingTopicIds = new ArrayList<Integer>();
+		for (final Integer topicId : topicIds)
+		{
+			if (getTopic(topicId, null, expandTranslations) == null)
+			{
+				missingTopicIds.add(topicId);
+			}
+		}
+
+		if (!missingTopicIds.isEmpty())
+		{
+			final RESTTopicCollectionV1 downloadedTopics = restManager.getReader().getTopicsByIds(missingTopicIds, expandTranslations);
+			if (downloadedTopics != null && downloadedTopics.getItems() != null)
+			{
+				for (final RESTTopicV1 topic : downloadedTopics.returnItems())
+				{
+					addTopic(topic, null, expandTranslations);
+				}
+			}
+		}
+
+		final RESTTopicCollectionV1 result = new RESTTopicCollectionV1();
+		for (final Integer topicId : topicIds)
+		{
+			final RESTTopicV1 topic = getTopic(topicId, null, expandTranslations);
+			if (topic != null)
+			{
+				result.addItem(topic);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return The number of topics in the repository.
+	 */
+	public int size()
+	{
+		return topics.size();
+	}
+
+	private void addTopic(final RESTTopicV1 topic, final Integer revision, final boolean expandTranslations)
+	{
+		if (topic != null && topic.getId() != null)
+		{
+			topics.put(getKey(topic.getId(), revision, expandTranslations), topic);
+		}
+	}
+
+	private String getKey(final Integer topicId, final Integer revision, final boolean expandTranslations)
+	{
+		return topicId + "-" + (revision == null ? "latest" : revision) + (expandTranslations ? "-translations" : "");
+	}
+}
@@ -5,6 +5,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.log4j.Logger;
 import org.jboss.pressgang.ccms.contentspec.ContentSpec;
@@ -22,6 +29,16 @@ import com.redhat.contentspec.processor.structures.VariableSet;
 public class ProcessorUtilities
 {
 	private static final Logger log = Logger.getLogger(ProcessorUtilities.class);
+	
+	private static final Pattern IGNORED_LINE_PATTERN = Pattern.compile("^((CHECKSUM)|(ID)|(SPECREVISION))[ ]*=.*");
+	private static final Pattern DUPLICATED_TOPIC_KEY_PATTERN = Pattern.compile("^[0-9]+-(.*)$");
+	private static final NamedPattern NEW_TOPIC_PATTERN = NamedPattern.compile("\\[[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">[0-9]+)[ ]*(,|\\])");
+	private static final NamedPattern NEW_TOPIC_PATTERN_2 = NamedPattern.compile("\\[[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">N[ ]*,.*?)\\]");
+	private static final NamedPattern NEW_TOPIC_RELATIONSHIP_PATTERN = NamedPattern.compile("(B:|P:|PREREQUISITE:|R:|RELATED-TO:|NEXT:|PREV:|,|\\[)[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">N[0-9]+)[ ]*(?=(,|\\]))");
+	private static final NamedPattern DUPLICATE_TOPIC_PATTERN = NamedPattern.compile("(B:|P:|PREREQUISITE:|R:|RELATED-TO:|NEXT:|PREV:|,|\\[)[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">X[0-9]+)[ ]*(?=(,|\\]))");
+	private static final NamedPattern CLONED_TOPIC_PATTERN = NamedPattern.compile("(B:|P:|PREREQUISITE:|R:|RELATED-TO:|NEXT:|PREV:|,|\\[)[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">C[0-9]+)[ ]*(?=(,|\\]))");
+	private static final NamedPattern CLONED_DUPLICATE_TOPIC_PATTERN = NamedPattern.compile("(B:|P:|PREREQUISITE:|R:|RELATED-TO:|NEXT:|PREV:|,|\\[)[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">XC[0-9]+)[ ]*(?=(,|\\]))");
+	private static final Pattern BRACKETED_VALUE_PATTERN = Pattern.compile("\\[[ ]*([^\\[\\]]*?)[ ]*\\]");
 
 	/**
 	 * Converts a list of tags into a mapping of categories to tags. The key is the Category and the value is a List of Tags for that category.
@@ -57,26 +74,44 @@ public class ProcessorUtilities
 	 */
 	public static String generatePostContentSpec(final ContentSpec contentSpec, final HashMap<String, SpecTopic> specTopics, final boolean editing)
 	{
-		String output = "ID=" + contentSpec.getId() + "\n";
-		final NamedPattern newTopicPattern = NamedPattern.compile("\\[[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">[0-9]+)[ ]*(,|\\])");
-		final NamedPattern newTopicPattern2 = NamedPattern.compile("\\[[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">N[ ]*,.*?)\\]");
-		final NamedPattern newTopicRelationshipPattern = NamedPattern.compile("(B:|P:|PREREQUISITE:|R:|RELATED-TO:|NEXT:|PREV:|,|\\[)[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">N[0-9]+)[ ]*(?=(,|\\]))");
-		final NamedPattern duplicateTopicPattern = NamedPattern.compile("(B:|P:|PREREQUISITE:|R:|RELATED-TO:|NEXT:|PREV:|,|\\[)[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">X[0-9]+)[ ]*(?=(,|\\]))");
-		final NamedPattern clonedTopicPattern = NamedPattern.compile("(B:|P:|PREREQUISITE:|R:|RELATED-TO:|NEXT:|PREV:|,|\\[)[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">C[0-9]+)[ ]*(?=(,|\\]))");
-		final NamedPattern clonedDuplicateTopicPattern = NamedPattern.compile("(B:|P:|PREREQUISITE:|R:|RELATED-TO:|NEXT:|PREV:|,|\\[)[ ]*(?<" + ProcessorConstants.TOPIC_ID_CONTENTS + ">XC[0-9]+)[ ]*(?=(,|\\]))");
+		final StringBuilder output = new StringBuilder("ID=" + contentSpec.getId() + "\n");
+		
+		/*
+		 * Index the spec topics by their line number, and the duplicated spec topics by the id that was specified in the
+		 * content spec, so that the topic for a line can be looked up instead of searching every spec topic. The first
+		 * spec topic found is used if more than one matches, as was the case when the spec topics were searched.
+		 */
+		final HashMap<Integer, SpecTopic> specTopicsByLineNumber = new HashMap<Integer, SpecTopic>();
+		final HashMap<String, SpecTopic> duplicatedSpecTopicsById = new HashMap<String, SpecTopic>();
+		for (final Entry<String, SpecTopic> entry : specTopics.entrySet())
+		{
+			final SpecTopic specTopic = entry.getValue();
+			if (!specTopicsByLineNumber.containsKey(specTopic.getLineNumber()))
+			{
+				specTopicsByLineNumber.put(specTopic.getLineNumber(), specTopic);
+			}
+			
+			final Matcher keyMatcher = DUPLICATED_TOPIC_KEY_PATTERN.matcher(entry.getKey());
+			if (keyMatcher.matches() && !duplicatedSpecTopicsById.containsKey(keyMatcher.group(1)))
+			{
+				duplicatedSpecTopicsById.put(keyMatcher.group(1), specTopic);
+			}
+		}
+		
 		int count = 1;
 		//if (editing) count += 2;
 		// For each line in the CS check if it matches each pattern and then do an action depending on what pattern is found
 		for (String line: contentSpec.getPreProcessedText())
 		{
-			if (line.trim().matches("^#.*"))
+			final String trimmedLine = line.trim();
+			if (trimmedLine.startsWith("#"))
 			{
 				count++;
-				output += line + "\n";
+				output.append(line).append("\n");
 				continue;
 			}
 			
-			if (line.trim().toUpperCase().matches("^((CHECKSUM)|(ID)|(SPECREVISION))[ ]*=.*"))
+			if (IGNORED_LINE_PATTERN.matcher(trimmedLine.toUpperCase()).matches())
 			{
 				count++;
 				continue;
@@ -84,44 +119,31 @@ public class ProcessorUtilities
 			
 			log.debug(line);
 			// Existing Topic
-			NamedMatcher m = newTopicPattern.matcher(line.toUpperCase());
+			NamedMatcher m = NEW_TOPIC_PATTERN.matcher(line.toUpperCase());
 			while (m.find())
 			{
 				log.debug("Existing Topic Match");
-				for (final Entry<String, SpecTopic> entry : specTopics.entrySet())
-                {
-                    final SpecTopic specTopic = entry.getValue();
-
-			    	if (specTopic.getLineNumber() == count)
-			    	{
-			    		if (m.group().startsWith("["))
-			    		{
-			    			line = stripVariables(line, specTopic, specTopic.getTitle());
-			    		}
-			    		break;
-			    	}
-			    }
+				final SpecTopic specTopic = specTopicsByLineNumber.get(count);
+				if (specTopic != null && m.group().startsWith("["))
+				{
+					line = stripVariables(line, specTopic, specTopic.getTitle());
+				}
 			}
 
 			// New Topic without an identifying number
-			m = newTopicPattern2.matcher(line.toUpperCase());
+			m = NEW_TOPIC_PATTERN_2.matcher(line.toUpperCase());
 			while (m.find())
 			{
 				log.debug("New Topic without an Identifier Match");
-			    for (final Entry<String, SpecTopic> entry : specTopics.entrySet())
-			    {
-			        final SpecTopic specTopic = entry.getValue();
-
-			    	if (specTopic.getLineNumber() == count)
-			    	{
-			    		line = stripVariables(line, specTopic, null);
-			    		break;
-			    	}
-			    }
+				final SpecTopic specTopic = specTopicsByLineNumber.get(count);
+				if (specTopic != null)
+				{
+					line = stripVariables(line, specTopic, null);
+				}
 			}
 
 			// New Topic with an identifying number
-			m = newTopicRelationshipPattern.matcher(line.toUpperCase());
+			m = NEW_TOPIC_RELATIONSHIP_PATTERN.matcher(line.toUpperCase());
 			while (m.find())
 			{
 				log.debug("New Topic with an Identifier Match");
@@ -132,7 +154,7 @@ public class ProcessorUtilities
 			    {
 			    	line = stripVariables(line, specTopic, null);
 			    	// Add the target id that was created during relationship processing if one exists
-			    	if (specTopic.getTargetId() != null && !line.matches("^.*\\[[ ]*" + specTopic.getTargetId() + "[ ]*\\].*$"))
+			    	if (specTopic.getTargetId() != null && !containsBracketedValue(line, specTopic.getTargetId()))
 			    	{
 			    		line += " [" + specTopic.getTargetId() + "]";
 			    	}
@@ -141,7 +163,7 @@ public class ProcessorUtilities
 			}
 
 			// Duplicated Topic
-			m = duplicateTopicPattern.matcher(line.toUpperCase());
+			m = DUPLICATE_TOPIC_PATTERN.matcher(line.toUpperCase());
 			while (m.find())
 			{
 				log.debug("Duplicated Topic Match");
@@ -157,58 +179,66 @@ public class ProcessorUtilities
 			}
 
 			// Cloned Topic
-			m = clonedTopicPattern.matcher(line.toUpperCase());
+			m = CLONED_TOPIC_PATTERN.matcher(line.toUpperCase());
 			while (m.find())
 			{
 				log.debug("Cloned Topic Match");
 				String s = m.group(ProcessorConstants.TOPIC_ID_CONTENTS);
-			    for (final Entry<String, SpecTopic> entry : specTopics.entrySet())
-			    {
-			        final SpecTopic specTopic = entry.getValue();
-			        
-			    	if (specTopic.getLineNumber() == count)
-			    	{
-			    		if (m.group().startsWith("["))
-			    		{
-			    			line = stripVariables(line, specTopic, specTopic.getTitle());
-			    		}
-			    		line = line.replace(s, Integer.toString(specTopic.getDBId()));
-			    		break;
-			    	}
-			    }
+				final SpecTopic specTopic = specTopicsByLineNumber.get(count);
+				if (specTopic != null)
+				{
+					if (m.group().startsWith("["))
+					{
+						line = stripVariables(line, specTopic, specTopic.getTitle());
+					}
+					line = line.replace(s, Integer.toString(specTopic.getDBId()));
+				}
 			}
 
 			// Duplicated Cloned Topic
-			m = clonedDuplicateTopicPattern.matcher(line.toUpperCase());
+			m = CLONED_DUPLICATE_TOPIC_PATTERN.matcher(line.toUpperCase());
 			while (m.find())
 			{
 				log.debug("Duplicated Cloned Topic Match");
 				String s = m.group(ProcessorConstants.TOPIC_ID_CONTENTS);
 			    // Remove the X
 			    String clonedId = s.substring(1);
-			    for (final Entry<String, SpecTopic> entry : specTopics.entrySet())
-			    {
-			        final String key = entry.getKey();
-			        
-			    	if (key.matches("^[0-9]+-" + clonedId + "$"))
-			    	{
-			    		final SpecTopic specTopic = entry.getValue();
-			    		if (m.group().startsWith("["))
-			    		{
-			    			line = stripVariables(line, specTopic, specTopic.getTitle());
-			    		}
-			    		line = line.replace(s, Integer.toString(specTopic.getDBId()));
-			    		break;
-			    	}
-			    }
+				final SpecTopic specTopic = duplicatedSpecTopicsById.get(clonedId);
+				if (specTopic != null)
+				{
+					if (m.group().startsWith("["))
+					{
+						line = stripVariables(line, specTopic, specTopic.getTitle());
+					}
+					line = line.replace(s, Integer.toString(specTopic.getDBId()));
+				}
 			}
 			count++;
 			
-			output += line + "\n";
+			output.append(line).append("\n");
 		}
-		return "CHECKSUM=" + HashUtilities.generateMD5(output) + "\n" + output;
+		
+		final String postContentSpec = output.toString();
+		return "CHECKSUM=" + HashUtilities.generateMD5(postContentSpec) + "\n" + postContentSpec;
 	}
 
+	/**
+	 * Checks if a line contains a value on its own inside of square brackets, ignoring any spaces around the value.
+	 * 
+	 * @param line The line to check.
+	 * @param value The value to look for.
+	 * @return True if the value is in a set of square brackets on the line, otherwise false.
+	 */
+	private static boolean containsBracketedValue(final String line, final String value)
+	{
+		final Matcher matcher = BRACKETED_VALUE_PATTERN.matcher(line);
+		while (matcher.find())
+		{
+			if (matcher.group(1).equals(value)) return true;
+		}
+		return false;
+	}
+	
     /**
      * Removes all the variables from a topics Content Specification line except the database ID.
      * 
@@ -306,4 +336,73 @@ public class ProcessorUtilities
 		}
 		return set;
 	}
+
+	/**
+	 * Runs a list of tasks on a bounded pool of worker threads and returns the results in the same order as the tasks were
+	 * supplied. If only one thread is requested then the tasks are run sequentially on the calling thread.
+	 * <p/>
+	 * Tasks that call the REST Interface must synchronize on the RESTManager while doing so, as the RESTReader and REST client
+	 * aren't thread safe. The builder uses the same lock.
+	 * 
+	 * @param tasks The tasks to be run.
+	 * @param numThreads The maximum number of threads to use to run the tasks.
+	 * @return The results of each task, in the same order as the tasks list.
+	 * @throws InterruptedException Thrown if the calling thread is interrupted while waiting for the tasks to complete.
+	 * @throws ExecutionException Thrown if any of the tasks threw an exception. The cause holds the original exception.
+	 */
+	public static <T> List<T> invokeAll(final List<? extends Callable<T>> tasks, final int numThreads) throws InterruptedException,
+			ExecutionException
+	{
+		final List<T> results = new ArrayList<T>(tasks.size());
+
+		if (numThreads <= 1 || tasks.size() <= 1)
+		{
+			for (final Callable<T> task : tasks)
+			{
+				try
+				{
+					results.add(task.call());
+				}
+				catch (Exception e)
+				{
+					throw new ExecutionException(e);
+				}
+			}
+		}
+		else
+		{
+			final ExecutorService executor = Executors.newFixedThreadPool(Math.min(numThreads, tasks.size()));
+			try
+			{
+				for (final Future<T> future : executor.invokeAll(tasks))
+				{
+					results.add(future.get());
+				}
+			}
+			finally
+			{
+				executor.shutdownNow();
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Rethrows the cause of an ExecutionException if it is an unchecked exception, so that failures inside of worker threads
+	 * behave the same as they would if the work was done on the calling thread.
+	 * 
+	 * @param e The ExecutionException thrown by a task.
+	 */
+	public static void rethrowUncheckedCause(final ExecutionException e)
+	{
+		if (e.getCause() instanceof RuntimeException)
+		{
+			throw (RuntimeException) e.getCause();
+		}
+		else if (e.getCause() instanceof Error)
+		{
+			throw (Error) e.getCause();
+		}
+	}
 }